@@ -5,12 +5,10 @@ package net.sf.mmm.code.api.modifier;
 import java.beans.Visibility;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -19,7 +17,9 @@ import net.sf.mmm.util.io.api.IoMode;
 import net.sf.mmm.util.io.api.RuntimeIoException;
 
 /**
- * Represents the visibility of a {@link CodeMethod}.
+ * Represents the visibility of a {@link CodeMethod}. The standard modifiers are represented as bitmask. Instances
+ * created via the static factory methods (e.g. {@link #of(int)}) are interned so all elements with the same modifiers
+ * share the same instance.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -57,70 +57,102 @@ public class CodeModifiers {
    */
   public static final String KEY_DEFAULT = "default";
 
+  /** The standard modifiers in the order of their bits in {@link #flags}. */
+  private static final String[] KEYS = { KEY_ABSTRACT, KEY_STATIC, KEY_FINAL, KEY_NATIVE, KEY_SYNCHRONIZED, KEY_TRANSIENT,
+      KEY_VOLATILE, KEY_STRICTFP, KEY_DEFAULT };
+
+  private static final int FLAG_ABSTRACT = 1;
+
+  private static final int FLAG_STATIC = 1 << 1;
+
+  private static final int FLAG_FINAL = 1 << 2;
+
+  private static final int FLAG_NATIVE = 1 << 3;
+
+  private static final int FLAG_SYNCHRONIZED = 1 << 4;
+
+  private static final int FLAG_TRANSIENT = 1 << 5;
+
+  private static final int FLAG_VOLATILE = 1 << 6;
+
+  private static final int FLAG_STRICTFP = 1 << 7;
+
+  private static final int FLAG_DEFAULT = 1 << 8;
+
+  /** Flag for a modifier that is not contained in {@link #KEYS}. Such modifiers are never interned. */
+  private static final int FLAG_OTHER = 1 << 9;
+
+  private static final CodeVisibility[] VISIBILITIES = { CodeVisibility.PUBLIC, CodeVisibility.PROTECTED,
+      CodeVisibility.DEFAULT, CodeVisibility.PRIVATE };
+
+  private static final CodeModifiers[][] INTERNED = new CodeModifiers[VISIBILITIES.length][FLAG_OTHER];
+
   /** {@link CodeModifiers} for {@code public}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC = new CodeModifiers(CodeVisibility.PUBLIC);
+  public static final CodeModifiers MODIFIERS_PUBLIC = of(CodeVisibility.PUBLIC);
 
   /** {@link CodeModifiers} for {@code public abstract}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC_ABSTRACT = new CodeModifiers(CodeVisibility.PUBLIC, KEY_ABSTRACT);
+  public static final CodeModifiers MODIFIERS_PUBLIC_ABSTRACT = of(CodeVisibility.PUBLIC, KEY_ABSTRACT);
 
   /** {@link CodeModifiers} for {@code public static}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC_STATIC = new CodeModifiers(CodeVisibility.PUBLIC, KEY_STATIC);
+  public static final CodeModifiers MODIFIERS_PUBLIC_STATIC = of(CodeVisibility.PUBLIC, KEY_STATIC);
 
   /** {@link CodeModifiers} for {@code public static final}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC_STATIC_FINAL = new CodeModifiers(CodeVisibility.PUBLIC, KEY_STATIC, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PUBLIC_STATIC_FINAL = of(CodeVisibility.PUBLIC, KEY_STATIC, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code public final}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC_FINAL = new CodeModifiers(CodeVisibility.PUBLIC, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PUBLIC_FINAL = of(CodeVisibility.PUBLIC, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code private}. */
-  public static final CodeModifiers MODIFIERS_PRIVATE = new CodeModifiers(CodeVisibility.PRIVATE);
+  public static final CodeModifiers MODIFIERS_PRIVATE = of(CodeVisibility.PRIVATE);
 
   /** {@link CodeModifiers} for {@code private abstract}. */
-  public static final CodeModifiers MODIFIERS_PRIVATE_ABSTRACT = new CodeModifiers(CodeVisibility.PRIVATE, KEY_ABSTRACT);
+  public static final CodeModifiers MODIFIERS_PRIVATE_ABSTRACT = of(CodeVisibility.PRIVATE, KEY_ABSTRACT);
 
   /** {@link CodeModifiers} for {@code private static}. */
-  public static final CodeModifiers MODIFIERS_PRIVATE_STATIC = new CodeModifiers(CodeVisibility.PRIVATE, KEY_STATIC);
+  public static final CodeModifiers MODIFIERS_PRIVATE_STATIC = of(CodeVisibility.PRIVATE, KEY_STATIC);
 
   /** {@link CodeModifiers} for {@code private static final}. */
-  public static final CodeModifiers MODIFIERS_PRIVATE_STATIC_FINAL = new CodeModifiers(CodeVisibility.PRIVATE, KEY_STATIC, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PRIVATE_STATIC_FINAL = of(CodeVisibility.PRIVATE, KEY_STATIC, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code private final}. */
-  public static final CodeModifiers MODIFIERS_PRIVATE_FINAL = new CodeModifiers(CodeVisibility.PRIVATE, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PRIVATE_FINAL = of(CodeVisibility.PRIVATE, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code protected}. */
-  public static final CodeModifiers MODIFIERS_PROTECTED = new CodeModifiers(CodeVisibility.PROTECTED);
+  public static final CodeModifiers MODIFIERS_PROTECTED = of(CodeVisibility.PROTECTED);
 
   /** {@link CodeModifiers} for {@code protected abstract}. */
-  public static final CodeModifiers MODIFIERS_PROTECTED_ABSTRACT = new CodeModifiers(CodeVisibility.PROTECTED, KEY_ABSTRACT);
+  public static final CodeModifiers MODIFIERS_PROTECTED_ABSTRACT = of(CodeVisibility.PROTECTED, KEY_ABSTRACT);
 
   /** {@link CodeModifiers} for {@code protected static}. */
-  public static final CodeModifiers MODIFIERS_PROTECTED_STATIC = new CodeModifiers(CodeVisibility.PROTECTED, KEY_STATIC);
+  public static final CodeModifiers MODIFIERS_PROTECTED_STATIC = of(CodeVisibility.PROTECTED, KEY_STATIC);
 
   /** {@link CodeModifiers} for {@code protected static final}. */
-  public static final CodeModifiers MODIFIERS_PROTECTED_STATIC_FINAL = new CodeModifiers(CodeVisibility.PROTECTED, KEY_STATIC, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PROTECTED_STATIC_FINAL = of(CodeVisibility.PROTECTED, KEY_STATIC, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code protected final}. */
-  public static final CodeModifiers MODIFIERS_PROTECTED_FINAL = new CodeModifiers(CodeVisibility.PROTECTED, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_PROTECTED_FINAL = of(CodeVisibility.PROTECTED, KEY_FINAL);
 
   /** {@link CodeModifiers} that is empty (no modifiers). */
-  public static final CodeModifiers MODIFIERS = new CodeModifiers(CodeVisibility.DEFAULT);
+  public static final CodeModifiers MODIFIERS = of(CodeVisibility.DEFAULT);
 
   /** {@link CodeModifiers} for {@code static}. */
-  public static final CodeModifiers MODIFIERS_STATIC = new CodeModifiers(CodeVisibility.DEFAULT, KEY_STATIC);
+  public static final CodeModifiers MODIFIERS_STATIC = of(CodeVisibility.DEFAULT, KEY_STATIC);
 
   /** {@link CodeModifiers} for {@code static final}. */
-  public static final CodeModifiers MODIFIERS_STATIC_FINAL = new CodeModifiers(CodeVisibility.DEFAULT, KEY_STATIC, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_STATIC_FINAL = of(CodeVisibility.DEFAULT, KEY_STATIC, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code final}. */
-  public static final CodeModifiers MODIFIERS_FINAL = new CodeModifiers(CodeVisibility.DEFAULT, KEY_FINAL);
+  public static final CodeModifiers MODIFIERS_FINAL = of(CodeVisibility.DEFAULT, KEY_FINAL);
 
   /** {@link CodeModifiers} for {@code public default}. */
-  public static final CodeModifiers MODIFIERS_PUBLIC_DEFAULT = new CodeModifiers(CodeVisibility.PUBLIC, KEY_DEFAULT);
+  public static final CodeModifiers MODIFIERS_PUBLIC_DEFAULT = of(CodeVisibility.PUBLIC, KEY_DEFAULT);
 
   private final CodeVisibility visibility;
 
   private final Set<String> modifiers;
 
+  private final int flags;
+
   /**
    * The constructor.
    *
@@ -148,6 +180,40 @@ public class CodeModifiers {
       verifyModifier(modifier);
     }
     this.modifiers = Collections.unmodifiableSet(set);
+    this.flags = getFlags(set);
+  }
+
+  private CodeModifiers(CodeVisibility visibility, int flags) {
+
+    super();
+    this.visibility = visibility;
+    Set<String> set = new HashSet<>();
+    for (int i = 0; i < KEYS.length; i++) {
+      if ((flags & (1 << i)) != 0) {
+        set.add(KEYS[i]);
+      }
+    }
+    this.modifiers = Collections.unmodifiableSet(set);
+    this.flags = flags;
+  }
+
+  private static int getFlags(Collection<String> modifiers) {
+
+    int flags = 0;
+    for (String modifier : modifiers) {
+      flags = flags | getFlag(modifier);
+    }
+    return flags;
+  }
+
+  private static int getFlag(String modifier) {
+
+    for (int i = 0; i < KEYS.length; i++) {
+      if (KEYS[i].equals(modifier)) {
+        return 1 << i;
+      }
+    }
+    return FLAG_OTHER;
   }
 
   private static void verifyModifier(String modifier) {
@@ -188,6 +254,10 @@ public class CodeModifiers {
     if (this.modifiers.contains(modifier)) {
       return this;
     }
+    int flag = getFlag(modifier);
+    if ((flag != FLAG_OTHER) && ((this.flags & FLAG_OTHER) == 0)) {
+      return of(this.visibility, this.flags | flag);
+    }
     Set<String> newModifiers = new HashSet<>(this.modifiers);
     newModifiers.add(modifier);
     return new CodeModifiers(this.visibility, newModifiers);
@@ -204,9 +274,12 @@ public class CodeModifiers {
     if (!this.modifiers.contains(modifier)) {
       return this;
     }
+    if ((this.flags & FLAG_OTHER) == 0) {
+      return of(this.visibility, this.flags & ~getFlag(modifier));
+    }
     Set<String> newModifiers = new HashSet<>(this.modifiers);
     newModifiers.remove(modifier);
-    return new CodeModifiers(this.visibility, newModifiers);
+    return of(this.visibility, newModifiers);
   }
 
   /**
@@ -219,6 +292,9 @@ public class CodeModifiers {
     if (this.visibility.equals(newVisibility)) {
       return this;
     }
+    if ((this.flags & FLAG_OTHER) == 0) {
+      return of(newVisibility, this.flags);
+    }
     return new CodeModifiers(newVisibility, this.modifiers);
   }
 
@@ -227,7 +303,7 @@ public class CodeModifiers {
    */
   public boolean isAbstract() {
 
-    return this.modifiers.contains(KEY_ABSTRACT);
+    return (this.flags & FLAG_ABSTRACT) != 0;
   }
 
   /**
@@ -235,7 +311,7 @@ public class CodeModifiers {
    */
   public boolean isStatic() {
 
-    return this.modifiers.contains(KEY_STATIC);
+    return (this.flags & FLAG_STATIC) != 0;
   }
 
   /**
@@ -243,7 +319,7 @@ public class CodeModifiers {
    */
   public boolean isFinal() {
 
-    return this.modifiers.contains(KEY_FINAL);
+    return (this.flags & FLAG_FINAL) != 0;
   }
 
   /**
@@ -252,7 +328,7 @@ public class CodeModifiers {
    */
   public boolean isDefaultModifier() {
 
-    return this.modifiers.contains(KEY_DEFAULT);
+    return (this.flags & FLAG_DEFAULT) != 0;
   }
 
   /**
@@ -379,32 +455,81 @@ public class CodeModifiers {
    */
   public static CodeModifiers of(int javaModifiers, boolean defaultMethod) {
 
-    List<String> modifiers = new ArrayList<>();
+    int flags = 0;
     if (Modifier.isAbstract(javaModifiers)) {
-      modifiers.add(KEY_ABSTRACT);
+      flags = flags | FLAG_ABSTRACT;
     }
     if (Modifier.isStatic(javaModifiers)) {
-      modifiers.add(KEY_STATIC);
+      flags = flags | FLAG_STATIC;
     }
     if (Modifier.isFinal(javaModifiers)) {
-      modifiers.add(KEY_FINAL);
+      flags = flags | FLAG_FINAL;
     }
     if (Modifier.isNative(javaModifiers)) {
-      modifiers.add(KEY_NATIVE);
+      flags = flags | FLAG_NATIVE;
     }
     if (Modifier.isSynchronized(javaModifiers)) {
-      modifiers.add(KEY_SYNCHRONIZED);
+      flags = flags | FLAG_SYNCHRONIZED;
     }
     if (Modifier.isTransient(javaModifiers)) {
-      modifiers.add(KEY_TRANSIENT);
+      flags = flags | FLAG_TRANSIENT;
     }
     if (Modifier.isVolatile(javaModifiers)) {
-      modifiers.add(KEY_VOLATILE);
+      flags = flags | FLAG_VOLATILE;
     }
     if (Modifier.isStrict(javaModifiers)) {
-      modifiers.add(KEY_STRICTFP);
+      flags = flags | FLAG_STRICTFP;
+    }
+    return of(CodeVisibility.of(javaModifiers), flags);
+  }
+
+  /**
+   * @param visibility the {@link #getVisibility() visibility}.
+   * @param modifiers the {@link #getModifiers() modifiers} excluding the {@link CodeVisibility}.
+   * @return the according {@link CodeModifiers} that is interned if only standard modifiers are given.
+   */
+  public static CodeModifiers of(CodeVisibility visibility, String... modifiers) {
+
+    return of(visibility, Arrays.asList(modifiers));
+  }
+
+  /**
+   * @param visibility the {@link #getVisibility() visibility}.
+   * @param modifiers the {@link #getModifiers() modifiers} excluding the {@link CodeVisibility}.
+   * @return the according {@link CodeModifiers} that is interned if only standard modifiers are given.
+   */
+  public static CodeModifiers of(CodeVisibility visibility, Collection<String> modifiers) {
+
+    Objects.requireNonNull(visibility, "visibility");
+    for (String modifier : modifiers) {
+      verifyModifier(modifier);
+    }
+    int flags = getFlags(modifiers);
+    if ((flags & FLAG_OTHER) != 0) {
+      return new CodeModifiers(visibility, modifiers);
+    }
+    return of(visibility, flags);
+  }
+
+  private static CodeModifiers of(CodeVisibility visibility, int flags) {
+
+    int index = -1;
+    for (int i = 0; i < VISIBILITIES.length; i++) {
+      if (VISIBILITIES[i] == visibility) {
+        index = i;
+        break;
+      }
+    }
+    if (index < 0) {
+      return new CodeModifiers(visibility, flags);
+    }
+    CodeModifiers[] interned = INTERNED[index];
+    CodeModifiers modifiers = interned[flags];
+    if (modifiers == null) {
+      // race is harmless as instances are immutable and equal
+      modifiers = new CodeModifiers(visibility, flags);
+      interned[flags] = modifiers;
     }
-    String[] modifierArray = modifiers.toArray(new String[modifiers.size()]);
-    return new CodeModifiers(CodeVisibility.of(javaModifiers), modifierArray);
+    return modifiers;
   }
 }
@@ -1,5 +1,7 @@
 package net.sf.mmm.code.api.modifier;
 
+import java.lang.reflect.Modifier;
+
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
 
@@ -172,4 +174,26 @@ public class CodeModifiersTest extends Assertions {
     assertThat(modifiers.toString()).isEqualTo("protected abstract ");
   }
 
+  /**
+   * Test that {@link CodeModifiers} with standard modifiers are interned.
+   */
+  @Test
+  public void testInterned() {
+
+    // given
+    int javaModifiers = Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL;
+
+    // when + then
+    assertThat(CodeModifiers.of(javaModifiers)).isSameAs(CodeModifiers.MODIFIERS_PRIVATE_STATIC_FINAL);
+    assertThat(CodeModifiers.of(CodeVisibility.PRIVATE, "final", "static")).isSameAs(CodeModifiers.MODIFIERS_PRIVATE_STATIC_FINAL);
+    assertThat(CodeModifiers.MODIFIERS_PUBLIC.addModifier(CodeModifiers.KEY_ABSTRACT)).isSameAs(CodeModifiers.MODIFIERS_PUBLIC_ABSTRACT);
+    assertThat(CodeModifiers.MODIFIERS_PUBLIC_STATIC_FINAL.removeModifier(CodeModifiers.KEY_STATIC))
+        .isSameAs(CodeModifiers.MODIFIERS_PUBLIC_FINAL);
+    assertThat(CodeModifiers.MODIFIERS_PUBLIC_FINAL.changeVisibility(CodeVisibility.PROTECTED)).isSameAs(CodeModifiers.MODIFIERS_PROTECTED_FINAL);
+    CodeModifiers custom = CodeModifiers.of(CodeVisibility.PUBLIC, "sealed");
+    assertThat(custom.getModifiers()).containsExactly("sealed");
+    assertThat(custom).isNotSameAs(CodeModifiers.of(CodeVisibility.PUBLIC, "sealed"));
+    assertThat(custom.addModifier(CodeModifiers.KEY_STATIC).isStatic()).isTrue();
+  }
+
 }
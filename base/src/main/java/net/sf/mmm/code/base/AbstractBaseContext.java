@@ -2,11 +2,13 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.code.base;
 
+import net.sf.mmm.code.api.CodeFile;
 import net.sf.mmm.code.api.language.CodeLanguage;
 import net.sf.mmm.code.api.type.CodeType;
 import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.source.BaseSourceImpl;
 import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeHierarchy;
 import net.sf.mmm.code.base.type.BaseTypeWildcard;
 
 /**
@@ -17,8 +19,12 @@ import net.sf.mmm.code.base.type.BaseTypeWildcard;
  */
 public abstract class AbstractBaseContext extends AbstractBaseProvider implements BaseContext {
 
+  private final Object lock;
+
   private BaseSourceImpl source;
 
+  private volatile BaseTypeHierarchy typeHierarchy;
+
   /**
    * The constructor.
    *
@@ -27,6 +33,7 @@ public abstract class AbstractBaseContext extends AbstractBaseProvider implement
   public AbstractBaseContext(BaseSourceImpl source) {
 
     super();
+    this.lock = new Object();
     this.source = source;
     this.source.setContext(this);
   }
@@ -46,6 +53,38 @@ public abstract class AbstractBaseContext extends AbstractBaseProvider implement
     return this.source;
   }
 
+  /**
+   * <b>Attention:</b> This is an internal method that shall not be used from outside.
+   *
+   * @return the monitor guarding all structural modifications of this context such as loading of types, registration
+   *         of sources and lazy {@link net.sf.mmm.code.base.item.BaseMutableItem#initialize() initialization} of the
+   *         items owned by this context. Reading from the type cache does not require this lock. If a thread holds the
+   *         lock of a child context it may acquire the lock of the {@link #getParent() parent} but never the other way
+   *         round.
+   */
+  public Object getLock() {
+
+    return this.lock;
+  }
+
+  @Override
+  public BaseTypeHierarchy getTypeHierarchy() {
+
+    if (this.typeHierarchy == null) {
+      synchronized (this.lock) {
+        if (this.typeHierarchy == null) {
+          BaseTypeHierarchy parentHierarchy = null;
+          AbstractBaseContext parent = getParent();
+          if (parent != null) {
+            parentHierarchy = parent.getTypeHierarchy();
+          }
+          this.typeHierarchy = new BaseTypeHierarchy(this.lock, parentHierarchy);
+        }
+      }
+    }
+    return this.typeHierarchy;
+  }
+
   /**
    * @param qualifiedName the {@link CodeType#getQualifiedName() qualified name} of the requested {@link CodeType}.
    * @return the requested {@link CodeType} from the cache or {@code null} if not in cache.
@@ -122,6 +161,15 @@ public abstract class AbstractBaseContext extends AbstractBaseProvider implement
     return getParent().getNonPrimitiveType(javaType);
   }
 
+  @Override
+  public String getQualifiedName(String simpleName, CodeFile file, boolean omitStandardPackages) {
+
+    if (file instanceof BaseFile) {
+      return ((BaseFile) file).getImports().getQualifiedName(simpleName, omitStandardPackages);
+    }
+    return BaseContext.super.getQualifiedName(simpleName, file, omitStandardPackages);
+  }
+
   @Override
   public String getQualifiedNameForStandardType(String simpleName, boolean omitStandardPackages) {
 
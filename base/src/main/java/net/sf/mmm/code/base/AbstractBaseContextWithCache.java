@@ -4,13 +4,16 @@ package net.sf.mmm.code.base;
 
 import java.io.File;
 import java.security.CodeSource;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import net.sf.mmm.code.api.CodeName;
-import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.cache.BaseTypeCache;
+import net.sf.mmm.code.base.cache.BaseTypeCacheMap;
+import net.sf.mmm.code.base.cache.BaseTypeCacheStatistics;
+import net.sf.mmm.code.base.cache.BaseTypeMissCache;
 import net.sf.mmm.code.base.loader.BaseLoader;
 import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.source.BaseSourceImpl;
@@ -24,7 +27,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Extends {@link AbstractBaseContext} with caching to speed up lookups.
+ * Extends {@link AbstractBaseContext} with caching to speed up lookups. Lookups from the cache are lock-free so a
+ * context can be shared by multiple threads. On a cache miss the type is loaded while holding the {@link #getLock()
+ * lock} of this context and the cache is checked again so every type is only loaded once. The same applies for the
+ * registration of {@link BaseSource}s.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -33,7 +39,9 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractBaseContextWithCache.class);
 
-  private Map<String, BaseType> typeCache;
+  private BaseTypeCache typeCache;
+
+  private final BaseTypeMissCache missCache;
 
   private Map<String, BaseSource> sourceMap;
 
@@ -57,25 +65,60 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
    */
   public AbstractBaseContextWithCache(BaseSourceImpl source, BaseSourceProvider sourceProvider) {
 
+    this(source, sourceProvider, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param source the top-level {@link #getSource() source}.
+   * @param sourceProvider the {@link BaseSourceProvider}.
+   * @param typeCache the {@link BaseTypeCache} to use or {@code null} to {@link #createCache() create} the default.
+   */
+  public AbstractBaseContextWithCache(BaseSourceImpl source, BaseSourceProvider sourceProvider, BaseTypeCache typeCache) {
+
     super(source);
-    this.typeCache = createCache();
+    if (typeCache == null) {
+      this.typeCache = createCache();
+    } else {
+      this.typeCache = typeCache;
+    }
     this.sourceProvider = sourceProvider;
     if (this.sourceProvider != null) {
       this.sourceProvider.setContext(this);
     }
-    this.sourceMap = new HashMap<>();
+    this.missCache = new BaseTypeMissCache();
+    this.sourceMap = new ConcurrentHashMap<>();
     registerSource(source);
   }
 
   /**
-   * @param <K> key type.
-   * @param <V> value type.
-   * @return a new empty {@link Map} instance to use as cache. May be a regular {@link HashMap} but can also be a full
-   *         blown cache implementation that will automatically evict old items if a specific size is reached.
+   * @return a new empty {@link BaseTypeCache} instance to use as cache. May be an unbounded {@link BaseTypeCacheMap}
+   *         (default) but can also be a {@link net.sf.mmm.code.base.cache.BaseTypeCacheLru bounded cache} that will
+   *         automatically evict old items if a specific size is reached.
+   */
+  protected BaseTypeCache createCache() {
+
+    return new BaseTypeCacheMap();
+  }
+
+  /**
+   * @return the {@link BaseTypeCacheStatistics} of the type cache of this context (excluding the
+   *         {@link #getParent() parent}).
+   */
+  public BaseTypeCacheStatistics getTypeCacheStatistics() {
+
+    return this.typeCache.getStatistics();
+  }
+
+  /**
+   * @return the {@link BaseTypeMissCache} with the {@link BaseType#getQualifiedName() qualified names} of types that
+   *         could not be found by this context. Has to be {@link BaseTypeMissCache#clear() cleared} if new types may
+   *         have become available.
    */
-  protected <K, V> Map<K, V> createCache() {
+  public BaseTypeMissCache getTypeMissCache() {
 
-    return new HashMap<>();
+    return this.missCache;
   }
 
   /**
@@ -88,9 +131,13 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
 
     BaseType type = getType(qualifiedName);
     if (type == null) {
-      BaseFile file = getSource().getRootPackage().getChildren().getOrCreateFile(parseName(qualifiedName), add);
-      type = file.getType();
-      putTypeInCache(qualifiedName, type);
+      synchronized (getLock()) {
+        type = this.typeCache.peek(qualifiedName);
+        if (type == null) {
+          BaseFile file = getSource().getRootPackage().getChildren().getOrCreateFile(parseName(qualifiedName), add);
+          type = putTypeInCache(qualifiedName, file.getType());
+        }
+      }
     }
     return type;
   }
@@ -99,11 +146,16 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
   public BaseType getType(String qualifiedName) {
 
     BaseType type = getTypeFromCache(qualifiedName);
-    if (type != null) {
+    if ((type != null) || this.missCache.isMissing(qualifiedName)) {
       return type;
     }
-    type = getLoader().getType(qualifiedName);
-    return putTypeInCache(qualifiedName, type);
+    synchronized (getLock()) {
+      type = this.typeCache.peek(qualifiedName);
+      if (type == null) {
+        type = putTypeInCache(qualifiedName, getLoader().getType(qualifiedName));
+      }
+    }
+    return type;
   }
 
   @Override
@@ -111,11 +163,16 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
 
     String qualifiedName = qName.getFullName();
     BaseType type = getTypeFromCache(qualifiedName);
-    if (type != null) {
+    if ((type != null) || this.missCache.isMissing(qualifiedName)) {
       return type;
     }
-    type = getLoader().getType(qName);
-    return putTypeInCache(qualifiedName, type);
+    synchronized (getLock()) {
+      type = this.typeCache.peek(qualifiedName);
+      if (type == null) {
+        type = putTypeInCache(qualifiedName, getLoader().getType(qName));
+      }
+    }
+    return type;
   }
 
   @Override
@@ -130,8 +187,13 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
     if (type != null) {
       return type;
     }
-    type = getLoader().getType(clazz);
-    return putTypeInCache(qualifiedName, (BaseType) type);
+    synchronized (getLock()) {
+      type = this.typeCache.peek(qualifiedName);
+      if (type == null) {
+        type = putTypeInCache(qualifiedName, (BaseType) getLoader().getType(clazz));
+      }
+    }
+    return type;
   }
 
   @Override
@@ -144,23 +206,70 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
         return type;
       }
     }
-    return this.typeCache.get(qualifiedName);
+    BaseType type = this.typeCache.get(qualifiedName);
+    if (type == null) {
+      type = getNestedTypeFromCache(qualifiedName);
+    }
+    return type;
   }
 
-  private BaseType putTypeInCache(String qualifiedName, BaseType type) {
+  /**
+   * Nested types are not put into the cache together with their declaring type to prevent eager initialization.
+   * Instead they are resolved lazily from the cached declaring type on first request.
+   *
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the potentially nested type.
+   * @return the nested {@link BaseType} or {@code null} if the declaring type is not cached or has no such nested type.
+   */
+  private BaseType getNestedTypeFromCache(String qualifiedName) {
 
-    if (type != null) {
-      this.typeCache.put(qualifiedName, type);
-      // TODO prevent eager init...?
-      for (CodeType nested : type.getNestedTypes().getDeclared()) {
-        putTypeInCache(nested.getQualifiedName(), (BaseType) nested);
+    int lastSeparator = qualifiedName.lastIndexOf(getLanguage().getPackageSeparator());
+    if (lastSeparator <= 0) {
+      return null;
+    }
+    String declaringName = qualifiedName.substring(0, lastSeparator);
+    BaseType declaringType = this.typeCache.peek(declaringName);
+    if (declaringType == null) {
+      declaringType = getNestedTypeFromCache(declaringName);
+      if (declaringType == null) {
+        return null;
       }
+    }
+    BaseType nestedType = (BaseType) declaringType.getNestedTypes().getDeclared(qualifiedName.substring(lastSeparator + 1));
+    if (nestedType != null) {
+      nestedType = this.typeCache.putIfAbsent(qualifiedName, nestedType);
+    }
+    return nestedType;
+  }
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the given {@link BaseType}.
+   * @param type the {@link BaseType} to put into the cache. May be {@code null}.
+   * @return the cached {@link BaseType}. Typically the given {@link BaseType} unless another type has been cached
+   *         concurrently.
+   */
+  BaseType putTypeInCache(String qualifiedName, BaseType type) {
+
+    if (type != null) {
+      this.missCache.remove(qualifiedName);
+      // nested types are resolved lazily, see getNestedTypeFromCache
+      return this.typeCache.putIfAbsent(qualifiedName, type);
     } else {
       LOG.trace("Failed to get type {}", qualifiedName);
+      this.missCache.add(qualifiedName);
     }
     return type;
   }
 
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the {@link BaseType} to remove from
+   *        the cache (e.g. because it has been reloaded).
+   * @return the removed {@link BaseType} or {@code null} if not cached.
+   */
+  BaseType removeTypeFromCache(String qualifiedName) {
+
+    return this.typeCache.remove(qualifiedName);
+  }
+
   /**
    * This is an internal method that should only be used from implementations of {@link BaseSourceProvider}.
    *
@@ -179,9 +288,14 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
     String id = BaseSourceImpl.getNormalizedId(location);
     BaseSource source = getSource(id);
     if (source == null) {
-      verifyCreateSource(id);
-      source = this.sourceProvider.create(byteCodeLocation, sourceCodeLocation);
-      registerSource(source);
+      synchronized (getLock()) {
+        source = getSource(id);
+        if (source == null) {
+          verifyCreateSource(id);
+          source = this.sourceProvider.create(byteCodeLocation, sourceCodeLocation);
+          registerSource(source);
+        }
+      }
     }
     return source;
   }
@@ -206,8 +320,15 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
       source = getSource(id);
     }
     if (source == null) {
-      source = this.sourceProvider.create(codeSource);
-      registerSource(source);
+      synchronized (getLock()) {
+        if (id != null) {
+          source = getSource(id);
+        }
+        if (source == null) {
+          source = this.sourceProvider.create(codeSource);
+          registerSource(source);
+        }
+      }
     }
     return source;
   }
@@ -225,15 +346,20 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
 
     BaseSource source = getSource(id);
     if (source == null) {
-      if (isPreventRegisterSource()) {
-        verifyCreateSource(id);
-      }
-      source = sourceSupplier.get();
-      Objects.requireNonNull(source, "source");
-      if (!source.getId().equals(id)) {
-        throw new ObjectMismatchException(source.getId(), id, BaseSource.class);
+      synchronized (getLock()) {
+        source = getSource(id);
+        if (source == null) {
+          if (isPreventRegisterSource()) {
+            verifyCreateSource(id);
+          }
+          source = sourceSupplier.get();
+          Objects.requireNonNull(source, "source");
+          if (!source.getId().equals(id)) {
+            throw new ObjectMismatchException(source.getId(), id, BaseSource.class);
+          }
+          registerSource(source);
+        }
       }
-      registerSource(source);
     }
     return source;
   }
@@ -285,6 +411,7 @@ public abstract class AbstractBaseContextWithCache extends AbstractBaseContext {
 
     super.close();
     this.typeCache = null;
+    this.missCache.clear();
     for (BaseSource src : this.sourceMap.values()) {
       src.close();
     }
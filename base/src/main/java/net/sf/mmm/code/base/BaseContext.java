@@ -10,6 +10,7 @@ import net.sf.mmm.code.api.type.CodeGenericType;
 import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.type.BaseGenericType;
 import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeHierarchy;
 import net.sf.mmm.code.base.type.BaseTypeWildcard;
 
 /**
@@ -80,4 +81,11 @@ public interface BaseContext extends CodeContext, BaseProvider {
   @Override
   BaseContext createChildContext();
 
+  /**
+   * <b>Attention:</b> This is an internal API that should not be used from outside.
+   *
+   * @return the {@link BaseTypeHierarchy} indexing the super-types of the {@link BaseType}s of this context.
+   */
+  BaseTypeHierarchy getTypeHierarchy();
+
 }
@@ -35,12 +35,14 @@ public final class BaseFile extends BasePathElement implements CodeFile {
 
   private final Class<?> reflectioveObject;
 
-  private BaseFile sourceCodeObject;
+  private volatile BaseFile sourceCodeObject;
 
   private Supplier<BaseFile> sourceSupplier;
 
   private List<BaseType> types;
 
+  private volatile boolean stale;
+
   /**
    * The constructor.
    *
@@ -228,6 +230,31 @@ public final class BaseFile extends BasePathElement implements CodeFile {
     return this.sourceCodeObject;
   }
 
+  /**
+   * @return the previous {@link #getSourceCodeObject() source code object} or {@code null} if not loaded. It is reset
+   *         so it will be loaded again from the {@link Supplier} on the next request.
+   */
+  BaseFile resetSourceCodeObject() {
+
+    BaseFile old = this.sourceCodeObject;
+    this.sourceCodeObject = null;
+    return old;
+  }
+
+  /**
+   * @return {@code true} if this file has been replaced by a reloaded version (e.g. because the source-code has been
+   *         modified) and should not be used anymore, {@code false} otherwise.
+   */
+  public boolean isStale() {
+
+    return this.stale;
+  }
+
+  void setStale() {
+
+    this.stale = true;
+  }
+
   @Override
   public BaseFile copy() {
 
@@ -5,6 +5,8 @@ package net.sf.mmm.code.base;
 import java.util.function.BiFunction;
 
 import net.sf.mmm.code.api.CodeName;
+import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.type.BaseType;
 
 /**
  * Class to extend by internal implementation classes to get internal access to {@link BasePathElements}.
@@ -23,6 +25,93 @@ public class BasePathElementAccess {
     pathElements.addInternal(item);
   }
 
+  /**
+   * @param context the {@link BaseContext}.
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the requested {@link BaseType}.
+   * @return the requested {@link BaseType} from the cache of the given {@link BaseContext} or {@code null} if not in
+   *         cache.
+   */
+  protected static BaseType getTypeFromCache(BaseContext context, String qualifiedName) {
+
+    if (context instanceof AbstractBaseContext) {
+      return ((AbstractBaseContext) context).getTypeFromCache(qualifiedName);
+    }
+    return null;
+  }
+
+  /**
+   * @param context the {@link BaseContext}.
+   * @return the {@link AbstractBaseContext#getLock() lock} of the given {@link BaseContext}.
+   */
+  protected static Object getLock(BaseContext context) {
+
+    if (context instanceof AbstractBaseContext) {
+      return ((AbstractBaseContext) context).getLock();
+    }
+    return context;
+  }
+
+  /**
+   * @param context the {@link BaseContext}.
+   * @param type the {@link BaseType} to put into the cache of the given {@link BaseContext}.
+   */
+  protected static void putTypeInCache(BaseContext context, BaseType type) {
+
+    if (context instanceof AbstractBaseContextWithCache) {
+      ((AbstractBaseContextWithCache) context).putTypeInCache(type.getQualifiedName(), type);
+    }
+  }
+
+  /**
+   * @param pathElements the {@link BasePathElements} where to remove from.
+   * @param item the {@link BasePathElement} to remove.
+   * @return {@code true} if the item has been removed, {@code false} otherwise.
+   */
+  protected static boolean removePathElementInternal(BasePathElements pathElements, BasePathElement item) {
+
+    return pathElements.removeInternal(item);
+  }
+
+  /**
+   * Removes the given {@link BaseType} together with its {@link BaseType#getNestedTypes() nested types} from the
+   * cache of the given {@link BaseContext}.
+   *
+   * @param context the {@link BaseContext}.
+   * @param type the {@link BaseType} to remove from the cache.
+   */
+  protected static void removeTypeFromCache(BaseContext context, BaseType type) {
+
+    if (context instanceof AbstractBaseContextWithCache) {
+      AbstractBaseContextWithCache contextWithCache = (AbstractBaseContextWithCache) context;
+      contextWithCache.removeTypeFromCache(type.getQualifiedName());
+      contextWithCache.getTypeHierarchy().invalidate(type);
+      for (CodeType nestedType : type.getNestedTypes().getDeclared()) {
+        removeTypeFromCache(context, (BaseType) nestedType);
+      }
+    }
+  }
+
+  /**
+   * Marks the given {@link BaseFile} as {@link BaseFile#isStale() stale} after it has been replaced by a reloaded
+   * version.
+   *
+   * @param file the outdated {@link BaseFile}.
+   */
+  protected static void setStale(BaseFile file) {
+
+    file.setStale();
+  }
+
+  /**
+   * @param file the {@link BaseFile} with a {@link BaseFile#getReflectiveObject() reflective object}.
+   * @return the previous {@link BaseFile#getSourceCodeObject() source code object} that has been reset so it will be
+   *         loaded again on the next request or {@code null} if not loaded.
+   */
+  protected static BaseFile resetSourceCodeObject(BaseFile file) {
+
+    return file.resetSourceCodeObject();
+  }
+
   /**
    * <b>Attention:</b> This is an internal API that should not be used from outside.
    *
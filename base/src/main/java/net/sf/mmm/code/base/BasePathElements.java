@@ -133,6 +133,12 @@ public class BasePathElements extends BaseNodeItemContainerFlat<CodePathElement>
     super.addInternal(item);
   }
 
+  @Override
+  protected boolean removeInternal(CodePathElement item) {
+
+    return super.removeInternal(item);
+  }
+
   @Override
   protected CodePathElement ensureParent(CodePathElement item) {
 
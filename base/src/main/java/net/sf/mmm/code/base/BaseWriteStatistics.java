@@ -0,0 +1,77 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable result of a {@link BaseWriter#write(BasePackage, Path) write} operation.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseWriteStatistics {
+
+  private final int writtenCount;
+
+  private final int skippedCount;
+
+  private final Map<Path, Throwable> failures;
+
+  /**
+   * The constructor.
+   *
+   * @param writtenCount the {@link #getWrittenCount() written count}.
+   * @param skippedCount the {@link #getSkippedCount() skipped count}.
+   * @param failures the {@link #getFailures() failures}.
+   */
+  public BaseWriteStatistics(int writtenCount, int skippedCount, Map<Path, Throwable> failures) {
+
+    super();
+    this.writtenCount = writtenCount;
+    this.skippedCount = skippedCount;
+    this.failures = Collections.unmodifiableMap(failures);
+  }
+
+  /**
+   * @return the number of files that have been created or changed.
+   */
+  public int getWrittenCount() {
+
+    return this.writtenCount;
+  }
+
+  /**
+   * @return the number of files that have not been touched because their content was already up-to-date.
+   */
+  public int getSkippedCount() {
+
+    return this.skippedCount;
+  }
+
+  /**
+   * @return the number of files that could not be written.
+   */
+  public int getFailedCount() {
+
+    return this.failures.size();
+  }
+
+  /**
+   * @return the {@link Map} with the {@link Path} of each file that could not be written mapped to the according
+   *         error.
+   */
+  public Map<Path, Throwable> getFailures() {
+
+    return this.failures;
+  }
+
+  @Override
+  public String toString() {
+
+    return "written=" + this.writtenCount + ", skipped=" + this.skippedCount + ", failed=" + this.failures.size();
+  }
+
+}
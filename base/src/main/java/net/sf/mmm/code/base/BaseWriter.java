@@ -0,0 +1,257 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.mmm.code.api.CodeFile;
+import net.sf.mmm.code.api.CodePackage;
+import net.sf.mmm.code.api.CodePathElement;
+import net.sf.mmm.code.api.item.CodeItem;
+import net.sf.mmm.code.api.language.CodeLanguage;
+import net.sf.mmm.code.base.item.BaseMutableItem;
+import net.sf.mmm.code.base.item.InternalRenderBuffer;
+import net.sf.mmm.code.base.source.BaseSource;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+
+/**
+ * Writes the {@link BaseFile files} of a {@link BasePackage} (or an entire {@link BaseSource}) recursively to disk.
+ * Other than {@link BasePackage#write(Path, Charset)} the files are rendered and written in parallel on a bounded
+ * number of threads. Files that already exist with the exact same content are not touched (see
+ * {@link #writeItem(CodeItem, Path, Charset)}) so tools watching the target folder (IDEs, incremental compilers) only
+ * see the files that actually changed. Errors do not abort the operation but are collected in the resulting
+ * {@link BaseWriteStatistics}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseWriter {
+
+  private final ExecutorService executor;
+
+  private final int threadCount;
+
+  /**
+   * The constructor using one thread per available processor.
+   */
+  public BaseWriter() {
+
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param threadCount the maximum number of threads used to render and write files in parallel.
+   */
+  public BaseWriter(int threadCount) {
+
+    super();
+    if (threadCount < 1) {
+      throw new IllegalArgumentException(Integer.toString(threadCount));
+    }
+    this.executor = null;
+    this.threadCount = threadCount;
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param executor the {@link ExecutorService} to use. It will not be {@link ExecutorService#shutdown() shutdown}
+   *        by this writer.
+   */
+  public BaseWriter(ExecutorService executor) {
+
+    super();
+    this.executor = executor;
+    this.threadCount = 0;
+  }
+
+  /**
+   * @param source the {@link BaseSource} to write using the {@link BaseMutableItem#getDefaultEncoding() default
+   *        encoding}.
+   * @param targetFolder the {@link Path} pointing to the folder where to write to. Will be created if it does not
+   *        exist.
+   * @return the {@link BaseWriteStatistics}.
+   */
+  public BaseWriteStatistics write(BaseSource source, Path targetFolder) {
+
+    return write(source.getRootPackage(), targetFolder);
+  }
+
+  /**
+   * @param source the {@link BaseSource} to write.
+   * @param targetFolder the {@link Path} pointing to the folder where to write to. Will be created if it does not
+   *        exist.
+   * @param encoding the {@link Charset} to use (typically UTF-8).
+   * @return the {@link BaseWriteStatistics}.
+   */
+  public BaseWriteStatistics write(BaseSource source, Path targetFolder, Charset encoding) {
+
+    return write(source.getRootPackage(), targetFolder, encoding);
+  }
+
+  /**
+   * @param pkg the {@link BasePackage} to write recursively using the {@link BaseMutableItem#getDefaultEncoding()
+   *        default encoding} like {@link BasePackage#write(Path)}.
+   * @param targetFolder the {@link Path} pointing to the folder where to write to. Will be created if it does not
+   *        exist.
+   * @return the {@link BaseWriteStatistics}.
+   */
+  public BaseWriteStatistics write(BasePackage pkg, Path targetFolder) {
+
+    return write(pkg, targetFolder, BaseMutableItem.getDefaultEncoding());
+  }
+
+  /**
+   * @param pkg the {@link BasePackage} to write recursively.
+   * @param targetFolder the {@link Path} pointing to the folder where to write to. Will be created if it does not
+   *        exist.
+   * @param encoding the {@link Charset} to use (typically UTF-8).
+   * @return the {@link BaseWriteStatistics}.
+   */
+  public BaseWriteStatistics write(BasePackage pkg, Path targetFolder, Charset encoding) {
+
+    List<WriteTask> tasks = new ArrayList<>();
+    collectTasks(pkg, targetFolder, tasks);
+    AtomicInteger writtenCount = new AtomicInteger();
+    AtomicInteger skippedCount = new AtomicInteger();
+    Map<Path, Throwable> failures = new ConcurrentHashMap<>();
+    ExecutorService executorService = this.executor;
+    if (executorService == null) {
+      int threads = Math.min(this.threadCount, Math.max(1, tasks.size()));
+      executorService = Executors.newFixedThreadPool(threads, r -> {
+        Thread thread = new Thread(r, "mmm-code-writer");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    try {
+      List<Future<?>> futures = new ArrayList<>(tasks.size());
+      for (WriteTask task : tasks) {
+        futures.add(executorService.submit(() -> {
+          try {
+            if (writeItem(task.item, task.file, encoding)) {
+              writtenCount.incrementAndGet();
+            } else {
+              skippedCount.incrementAndGet();
+            }
+          } catch (Exception e) {
+            failures.put(task.file, e);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          for (Future<?> f : futures) {
+            f.cancel(true);
+          }
+          throw new IllegalStateException("Interrupted while writing to " + targetFolder, e);
+        } catch (ExecutionException e) {
+          // not expected as the tasks catch all errors themselves
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    } finally {
+      if (this.executor == null) {
+        executorService.shutdown();
+      }
+    }
+    return new BaseWriteStatistics(writtenCount.get(), skippedCount.get(), failures);
+  }
+
+  private void collectTasks(BasePackage pkg, Path targetFolder, List<WriteTask> tasks) {
+
+    try {
+      Files.createDirectories(targetFolder);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.WRITE);
+    }
+    CodeLanguage language = pkg.getLanguage();
+    if (!pkg.getAnnotations().isEmpty() || !pkg.getDoc().isEmpty()) {
+      tasks.add(new WriteTask(pkg, targetFolder.resolve(language.getPackageFilename(pkg))));
+    }
+    for (CodePathElement child : pkg.getChildren().getDeclared()) {
+      if (child.isFile()) {
+        CodeFile file = (CodeFile) child;
+        tasks.add(new WriteTask(file, targetFolder.resolve(language.getFileFilename(file))));
+      } else {
+        CodePackage childPkg = (CodePackage) child;
+        collectTasks((BasePackage) childPkg, targetFolder.resolve(childPkg.getSimpleName()), tasks);
+      }
+    }
+  }
+
+  /**
+   * {@link CodeItem#write(Appendable) Writes} the given {@link CodeItem} to the given file unless that file already
+   * exists with the exact same content. The item is rendered into a pooled buffer that is encoded directly so the
+   * file is only opened (and truncated) if it actually changes. The length of the existing file is compared first so
+   * its content only has to be read if the lengths match.
+   *
+   * @param item the {@link CodeItem} to write.
+   * @param file the {@link Path} of the file to write.
+   * @param encoding the {@link Charset} to use (typically UTF-8).
+   * @return {@code true} if the file has been created or changed, {@code false} if it was already up-to-date and has
+   *         been skipped.
+   * @throws IOException on I/O error.
+   */
+  public static boolean writeItem(CodeItem item, Path file, Charset encoding) throws IOException {
+
+    ByteBuffer content;
+    StringBuilder buffer = InternalRenderBuffer.acquire();
+    try {
+      item.write(buffer);
+      // encode directly from the buffer without an intermediate String
+      content = encoding.encode(CharBuffer.wrap(buffer));
+    } finally {
+      InternalRenderBuffer.release(buffer);
+    }
+    if (Files.isRegularFile(file) && (Files.size(file) == content.remaining())) {
+      ByteBuffer existing = ByteBuffer.wrap(Files.readAllBytes(file));
+      if (existing.equals(content)) {
+        return false;
+      }
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+    return true;
+  }
+
+  private static final class WriteTask {
+
+    private final CodeItem item;
+
+    private final Path file;
+
+    private WriteTask(CodeItem item, Path file) {
+
+      super();
+      this.item = item;
+      this.file = file;
+    }
+  }
+
+}
@@ -160,6 +160,17 @@ public class BaseAnnotation extends BaseNodeItem implements CodeAnnotation {
     return this.type;
   }
 
+  /**
+   * <b>Attention:</b> This is an internal method that shall not be used from outside.
+   *
+   * @return the name of the {@link #getType() type} as given in the source-code or {@code null} if this annotation was
+   *         not created from source-code or its {@link #getType() type} has already been resolved.
+   */
+  public String getSourceTypeName() {
+
+    return this.typeName;
+  }
+
   @Override
   public void setType(CodeGenericType type) {
 
@@ -5,6 +5,7 @@ package net.sf.mmm.code.base.annoation;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,9 +23,10 @@ import net.sf.mmm.code.api.member.CodeMethod;
 import net.sf.mmm.code.api.merge.CodeMergeStrategy;
 import net.sf.mmm.code.api.type.CodeType;
 import net.sf.mmm.code.base.element.BaseElement;
+import net.sf.mmm.code.base.member.BaseMember;
 import net.sf.mmm.code.base.node.BaseNodeItemContainerHierarchical;
 import net.sf.mmm.code.base.type.BaseType;
-import net.sf.mmm.code.base.type.InternalSuperTypeIterator;
+import net.sf.mmm.code.base.type.InternalFlattenedItems;
 import net.sf.mmm.util.collection.base.AbstractIterator;
 
 /**
@@ -39,6 +41,8 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
 
   private CodeAnnotations sourceCodeObject;
 
+  private final InternalFlattenedItems<CodeAnnotation> allAnnotations;
+
   /**
    * The constructor.
    *
@@ -48,6 +52,7 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
 
     super();
     this.parent = parent;
+    this.allAnnotations = new InternalFlattenedItems<>();
   }
 
   /**
@@ -60,6 +65,7 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
 
     super(template, mapper);
     this.parent = mapper.map(template.parent, CodeCopyType.PARENT);
+    this.allAnnotations = new InternalFlattenedItems<>();
   }
 
   @Override
@@ -185,6 +191,60 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
     super.add(item);
   }
 
+  @Override
+  protected void addInternal(CodeAnnotation item) {
+
+    super.addInternal(item);
+    onModification();
+  }
+
+  @Override
+  public boolean remove(CodeAnnotation item) {
+
+    boolean removed = super.remove(item);
+    onModification();
+    return removed;
+  }
+
+  @Override
+  protected boolean removeInternal(CodeAnnotation item) {
+
+    boolean removed = super.removeInternal(item);
+    onModification();
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    onModification();
+  }
+
+  private void onModification() {
+
+    if (!isInitializing() && !isMaterializing()) {
+      BaseType type = getOwningType();
+      if (type != null) {
+        type.onModification();
+      }
+    }
+  }
+
+  /**
+   * @return the {@link BaseType} that is annotated or declares the annotated member or {@code null} if there is no
+   *         such type.
+   */
+  private BaseType getOwningType() {
+
+    if (this.parent instanceof BaseType) {
+      return (BaseType) this.parent;
+    } else if (this.parent instanceof BaseMember) {
+      return ((BaseMember) this.parent).getDeclaringType();
+    }
+    return null;
+  }
+
   @Override
   public CodeAnnotation getDeclaredOrAdd(CodeType type) {
 
@@ -199,14 +259,23 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
   public Iterable<? extends CodeAnnotation> getAll() {
 
     if (this.parent instanceof BaseType) {
-      return () -> new TypeAnnotationIterator((BaseType) this.parent);
+      return this.allAnnotations.get(getOwningType(), () -> collect(new TypeAnnotationIterator((BaseType) this.parent)));
     } else if (this.parent instanceof CodeMethod) {
-      return () -> new MethodAnnotationIterator((CodeMethod) this.parent);
+      return this.allAnnotations.get(getOwningType(), () -> collect(new MethodAnnotationIterator((CodeMethod) this.parent)));
     } else {
       return getDeclared();
     }
   }
 
+  private static List<CodeAnnotation> collect(Iterator<CodeAnnotation> iterator) {
+
+    List<CodeAnnotation> list = new ArrayList<>();
+    while (iterator.hasNext()) {
+      list.add(iterator.next());
+    }
+    return list;
+  }
+
   @Override
   public CodeAnnotations getSourceCodeObject() {
 
@@ -224,7 +293,7 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
 
     if (strategy == CodeMergeStrategy.OVERRIDE) {
       clear();
-      getList().addAll(other.getDeclared());
+      getMutableList().addAll(other.getDeclared());
     } else if (strategy != CodeMergeStrategy.KEEP) {
       Set<String> annotationTypes = createAnnotationTypeNameSet();
       for (CodeAnnotation annotation : other.getDeclared()) {
@@ -318,27 +387,22 @@ public class BaseAnnotations extends BaseNodeItemContainerHierarchical<CodeAnnot
 
   private class TypeAnnotationIterator extends AnnotationIterator {
 
-    private InternalSuperTypeIterator iterator;
+    private final Iterator<BaseType> superTypes;
 
     private TypeAnnotationIterator(BaseType type) {
 
       super();
-      this.iterator = new InternalSuperTypeIterator(type);
+      this.superTypes = type.getContext().getTypeHierarchy().getSuperTypes(type).iterator();
       findFirst();
     }
 
     @Override
     protected Iterator<CodeAnnotation> nextParent() {
 
-      if (this.iterator.hasNext()) {
-        this.iterator = this.iterator.next();
-      } else {
-        return null;
-      }
-      if (this.iterator == null) {
-        return null;
+      if (this.superTypes.hasNext()) {
+        return this.superTypes.next().getAnnotations().iterator();
       }
-      return this.iterator.getType().asType().getAnnotations().iterator();
+      return null;
     }
   }
 
@@ -51,7 +51,7 @@ public class BaseExceptions extends BaseOperationArgs<CodeException> implements
     super.doInitialize();
     Executable reflectiveObject = getParent().getReflectiveObject();
     if (reflectiveObject != null) {
-      List<CodeException> list = getList();
+      List<CodeException> list = getMutableList();
       for (AnnotatedType exceptionType : reflectiveObject.getAnnotatedExceptionTypes()) {
         BaseException exception = new BaseException(this, exceptionType);
         list.add(exception);
@@ -14,6 +14,7 @@ import net.sf.mmm.code.api.copy.CodeCopyType;
 import net.sf.mmm.code.api.expression.CodeLiteral;
 import net.sf.mmm.code.api.language.CodeLanguage;
 import net.sf.mmm.code.api.merge.CodeMergeStrategy;
+import net.sf.mmm.code.api.type.CodeGenericType;
 import net.sf.mmm.code.base.member.BaseOperation;
 import net.sf.mmm.code.base.type.BaseType;
 
@@ -126,6 +127,15 @@ public class BaseParameter extends BaseOperationArg implements CodeParameter {
     this.name = getLanguage().verifyName(this, newName);
   }
 
+  @Override
+  public void setType(CodeGenericType type) {
+
+    super.setType(type);
+    if (this.parent != null) {
+      this.parent.onSignatureChanged();
+    }
+  }
+
   @Override
   public boolean isVarArgs() {
 
@@ -58,7 +58,7 @@ public class BaseParameters extends BaseOperationArgs<CodeParameter> implements
       sourceParamsCount = sourceParams.size();
     }
     if (reflectiveObject != null) {
-      List<CodeParameter> list = getList();
+      List<CodeParameter> list = getMutableList();
       int i = 0;
       for (Parameter param : reflectiveObject.getParameters()) {
         String name = null;
@@ -91,6 +91,44 @@ public class BaseParameters extends BaseOperationArgs<CodeParameter> implements
     return parameter;
   }
 
+  @Override
+  protected void addInternal(CodeParameter item) {
+
+    super.addInternal(item);
+    onSignatureChanged();
+  }
+
+  @Override
+  public boolean remove(CodeParameter item) {
+
+    boolean removed = super.remove(item);
+    onSignatureChanged();
+    return removed;
+  }
+
+  @Override
+  protected boolean removeInternal(CodeParameter item) {
+
+    boolean removed = super.removeInternal(item);
+    onSignatureChanged();
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    onSignatureChanged();
+  }
+
+  void onSignatureChanged() {
+
+    BaseOperation operation = getParent();
+    if (operation != null) {
+      operation.onSignatureChanged();
+    }
+  }
+
   @Override
   public CodeParameters getSourceCodeObject() {
 
@@ -139,10 +139,7 @@ public abstract class BaseBlock extends BaseNodeItem implements CodeBlock {
     } else {
       sink.append('{');
       sink.append(newline);
-      String newIndent = currentIndent;
-      if (defaultIndent != null) {
-        newIndent = currentIndent + defaultIndent;
-      }
+      String newIndent = getIndent(currentIndent, defaultIndent);
       for (CodeStatement statement : this.statements) {
         statement.write(sink, newline, defaultIndent, newIndent);
       }
@@ -0,0 +1,123 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.sf.mmm.code.base.type.BaseType;
+
+/**
+ * Abstract base class for the cache of {@link BaseType}s used by a {@link net.sf.mmm.code.base.BaseContext context}
+ * to speed up lookups by {@link BaseType#getQualifiedName() qualified name}. Implementations may
+ * {@link #onEviction() evict} entries so a type may be loaded again after it has been {@link #put(String, BaseType)
+ * put} into the cache. Implementations have to be thread-safe as a context may be shared by multiple threads that
+ * read from the cache without any external locking.
+ *
+ * @see net.sf.mmm.code.base.AbstractBaseContextWithCache
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public abstract class BaseTypeCache {
+
+  private final LongAdder hitCount;
+
+  private final LongAdder missCount;
+
+  private final LongAdder evictionCount;
+
+  /**
+   * The constructor.
+   */
+  public BaseTypeCache() {
+
+    super();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+    this.evictionCount = new LongAdder();
+  }
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the requested {@link BaseType}.
+   * @return the cached {@link BaseType} or {@code null} if not in cache. Will be counted as hit or miss in the
+   *         {@link #getStatistics() statistics}.
+   */
+  public BaseType get(String qualifiedName) {
+
+    BaseType type = peek(qualifiedName);
+    if (type == null) {
+      this.missCount.increment();
+    } else {
+      this.hitCount.increment();
+    }
+    return type;
+  }
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the requested {@link BaseType}.
+   * @return the cached {@link BaseType} or {@code null} if not in cache. Unlike {@link #get(String)} this method does
+   *         not affect the {@link #getStatistics() statistics}.
+   */
+  public abstract BaseType peek(String qualifiedName);
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the {@link BaseType} to cache.
+   * @param type the {@link BaseType} to cache.
+   */
+  public abstract void put(String qualifiedName, BaseType type);
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the given {@link BaseType}.
+   * @param type the {@link BaseType} to put into the cache if no type is cached for the given {@code qualifiedName}.
+   * @return the {@link BaseType} that is cached after this operation. If another type was already cached for the
+   *         given {@code qualifiedName} that one is returned, otherwise the given {@link BaseType}.
+   */
+  public BaseType putIfAbsent(String qualifiedName, BaseType type) {
+
+    BaseType existing = peek(qualifiedName);
+    if (existing != null) {
+      return existing;
+    }
+    put(qualifiedName, type);
+    return type;
+  }
+
+  /**
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the {@link BaseType} to remove.
+   * @return the removed {@link BaseType} or {@code null} if not in cache.
+   */
+  public abstract BaseType remove(String qualifiedName);
+
+  /**
+   * Removes all entries from this cache.
+   */
+  public abstract void clear();
+
+  /**
+   * @return the current number of entries in this cache.
+   */
+  public abstract int size();
+
+  /**
+   * Has to be called by implementations whenever an entry has been evicted.
+   */
+  protected void onEviction() {
+
+    this.evictionCount.increment();
+  }
+
+  /**
+   * @return a snapshot of the {@link BaseTypeCacheStatistics} of this cache.
+   */
+  public BaseTypeCacheStatistics getStatistics() {
+
+    return new BaseTypeCacheStatistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum(), size());
+  }
+
+  @Override
+  public String toString() {
+
+    return getClass().getSimpleName() + "[" + getStatistics() + "]";
+  }
+
+}
@@ -0,0 +1,157 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.sf.mmm.code.base.type.BaseType;
+
+/**
+ * Implementation of {@link BaseTypeCache} with a bounded {@link #getMaximumSize() size} for
+ * {@link BaseType#getReflectiveObject() reflective types} that evicts the least recently used of them if full.
+ * Optionally they can be held via {@link SoftReference}s so the garbage collector may release them on memory pressure
+ * as they can be loaded again from byte-code at any time. Types parsed from source-code are never evicted as this
+ * cache is the only reference to them and parsing them again would create a second instance for the same name while
+ * types are compared by identity. All operations are synchronized as the access-ordered {@link LinkedHashMap} is
+ * modified even by lookups.<br>
+ * <b>Attention:</b> Eviction only removes the type from this cache. If it is still referenced otherwise (e.g. from the
+ * {@link net.sf.mmm.code.base.BasePackage#getChildren() package tree} or from other types) the memory is not released.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseTypeCacheLru extends BaseTypeCache {
+
+  private final Map<String, Object> map;
+
+  private final Map<String, BaseType> sourceTypes;
+
+  private final int maximumSize;
+
+  private final boolean softReflectiveTypes;
+
+  /**
+   * The constructor.
+   *
+   * @param maximumSize the {@link #getMaximumSize() maximum size}.
+   */
+  public BaseTypeCacheLru(int maximumSize) {
+
+    this(maximumSize, false);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param maximumSize the {@link #getMaximumSize() maximum size}.
+   * @param softReflectiveTypes - {@code true} to hold {@link BaseType#getReflectiveObject() reflective types} via
+   *        {@link SoftReference}, {@code false} otherwise.
+   */
+  public BaseTypeCacheLru(int maximumSize, boolean softReflectiveTypes) {
+
+    super();
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException(Integer.toString(maximumSize));
+    }
+    this.maximumSize = maximumSize;
+    this.softReflectiveTypes = softReflectiveTypes;
+    this.sourceTypes = new HashMap<>();
+    this.map = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+
+        if (size() > BaseTypeCacheLru.this.maximumSize) {
+          onEviction();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * @return the maximum number of {@link BaseType#getReflectiveObject() reflective types} in this cache. Types parsed
+   *         from source-code are not limited.
+   */
+  public int getMaximumSize() {
+
+    return this.maximumSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public synchronized BaseType peek(String qualifiedName) {
+
+    BaseType sourceType = this.sourceTypes.get(qualifiedName);
+    if (sourceType != null) {
+      return sourceType;
+    }
+    Object value = this.map.get(qualifiedName);
+    if (value instanceof SoftReference) {
+      BaseType type = ((SoftReference<BaseType>) value).get();
+      if (type == null) {
+        this.map.remove(qualifiedName);
+        onEviction();
+      }
+      return type;
+    }
+    return (BaseType) value;
+  }
+
+  @Override
+  public synchronized void put(String qualifiedName, BaseType type) {
+
+    if (type.getReflectiveObject() == null) {
+      this.map.remove(qualifiedName);
+      this.sourceTypes.put(qualifiedName, type);
+      return;
+    }
+    this.sourceTypes.remove(qualifiedName);
+    Object value = type;
+    if (this.softReflectiveTypes) {
+      value = new SoftReference<>(type);
+    }
+    this.map.put(qualifiedName, value);
+  }
+
+  @Override
+  public synchronized BaseType putIfAbsent(String qualifiedName, BaseType type) {
+
+    return super.putIfAbsent(qualifiedName, type);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public synchronized BaseType remove(String qualifiedName) {
+
+    BaseType sourceType = this.sourceTypes.remove(qualifiedName);
+    if (sourceType != null) {
+      return sourceType;
+    }
+    Object value = this.map.remove(qualifiedName);
+    if (value instanceof SoftReference) {
+      return ((SoftReference<BaseType>) value).get();
+    }
+    return (BaseType) value;
+  }
+
+  @Override
+  public synchronized void clear() {
+
+    this.map.clear();
+    this.sourceTypes.clear();
+  }
+
+  @Override
+  public synchronized int size() {
+
+    return this.map.size() + this.sourceTypes.size();
+  }
+
+}
@@ -0,0 +1,69 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.mmm.code.base.type.BaseType;
+
+/**
+ * Implementation of {@link BaseTypeCache} based on a {@link ConcurrentHashMap}. It is unbounded and never evicts entries.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseTypeCacheMap extends BaseTypeCache {
+
+  private final ConcurrentMap<String, BaseType> map;
+
+  /**
+   * The constructor.
+   */
+  public BaseTypeCacheMap() {
+
+    super();
+    this.map = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public BaseType peek(String qualifiedName) {
+
+    return this.map.get(qualifiedName);
+  }
+
+  @Override
+  public void put(String qualifiedName, BaseType type) {
+
+    this.map.put(qualifiedName, type);
+  }
+
+  @Override
+  public BaseType putIfAbsent(String qualifiedName, BaseType type) {
+
+    BaseType existing = this.map.putIfAbsent(qualifiedName, type);
+    if (existing != null) {
+      return existing;
+    }
+    return type;
+  }
+
+  @Override
+  public BaseType remove(String qualifiedName) {
+
+    return this.map.remove(qualifiedName);
+  }
+
+  @Override
+  public void clear() {
+
+    this.map.clear();
+  }
+
+  @Override
+  public int size() {
+
+    return this.map.size();
+  }
+
+}
@@ -0,0 +1,89 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+/**
+ * Immutable snapshot of the statistics of a {@link BaseTypeCache}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseTypeCacheStatistics {
+
+  private final long hitCount;
+
+  private final long missCount;
+
+  private final long evictionCount;
+
+  private final int size;
+
+  /**
+   * The constructor.
+   *
+   * @param hitCount the {@link #getHitCount() hit count}.
+   * @param missCount the {@link #getMissCount() miss count}.
+   * @param evictionCount the {@link #getEvictionCount() eviction count}.
+   * @param size the {@link #getSize() size}.
+   */
+  public BaseTypeCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+    super();
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * @return the number of lookups that have been found in the cache.
+   */
+  public long getHitCount() {
+
+    return this.hitCount;
+  }
+
+  /**
+   * @return the number of lookups that have not been found in the cache.
+   */
+  public long getMissCount() {
+
+    return this.missCount;
+  }
+
+  /**
+   * @return the number of entries that have been evicted from the cache.
+   */
+  public long getEvictionCount() {
+
+    return this.evictionCount;
+  }
+
+  /**
+   * @return the number of entries in the cache at the time this snapshot was taken.
+   */
+  public int getSize() {
+
+    return this.size;
+  }
+
+  /**
+   * @return the ratio of {@link #getHitCount() hits} to all lookups or {@code 1.0} if there was no lookup at all.
+   */
+  public double getHitRate() {
+
+    long requestCount = this.hitCount + this.missCount;
+    if (requestCount == 0) {
+      return 1.0;
+    }
+    return ((double) this.hitCount) / requestCount;
+  }
+
+  @Override
+  public String toString() {
+
+    return "size=" + this.size + ", hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions="
+        + this.evictionCount;
+  }
+
+}
@@ -0,0 +1,131 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache for the {@link net.sf.mmm.code.base.type.BaseType#getQualifiedName() qualified names} of types that
+ * could not be found. Name resolution frequently asks for names that do not exist (e.g. guesses for types in the same
+ * package). Remembering these misses saves a failing class loading and source-code lookup on every repeated request.
+ * Lookups are lock-free. If the {@link #getCapacity() capacity} is reached, arbitrary entries are evicted what only
+ * causes a repeated lookup. Has to be {@link #clear() cleared} if new types may have become available.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseTypeMissCache {
+
+  /** The default {@link #getCapacity() capacity}. */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private final int capacity;
+
+  private final ConcurrentMap<String, Boolean> misses;
+
+  private final AtomicLong hitCount;
+
+  /**
+   * The constructor.
+   */
+  public BaseTypeMissCache() {
+
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param capacity the {@link #getCapacity() capacity}.
+   */
+  public BaseTypeMissCache(int capacity) {
+
+    super();
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity=" + capacity);
+    }
+    this.capacity = capacity;
+    this.misses = new ConcurrentHashMap<>();
+    this.hitCount = new AtomicLong();
+  }
+
+  /**
+   * @return the maximum number of misses to remember.
+   */
+  public int getCapacity() {
+
+    return this.capacity;
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.base.type.BaseType#getQualifiedName() qualified name} of the
+   *        requested type.
+   * @return {@code true} if the type is known to be missing, {@code false} otherwise.
+   */
+  public boolean isMissing(String qualifiedName) {
+
+    if (this.misses.containsKey(qualifiedName)) {
+      this.hitCount.incrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.base.type.BaseType#getQualifiedName() qualified name} of the type
+   *        that could not be found.
+   */
+  public void add(String qualifiedName) {
+
+    if (this.misses.putIfAbsent(qualifiedName, Boolean.TRUE) == null) {
+      int excess = this.misses.size() - this.capacity;
+      if (excess > 0) {
+        Iterator<String> iterator = this.misses.keySet().iterator();
+        while ((excess > 0) && iterator.hasNext()) {
+          String key = iterator.next();
+          if (!key.equals(qualifiedName)) {
+            iterator.remove();
+            excess--;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.base.type.BaseType#getQualifiedName() qualified name} of a type
+   *        that has become available.
+   */
+  public void remove(String qualifiedName) {
+
+    this.misses.remove(qualifiedName);
+  }
+
+  /**
+   * Removes all misses. Has to be called if types may have been added (e.g. new source-code files).
+   */
+  public void clear() {
+
+    this.misses.clear();
+  }
+
+  /**
+   * @return the number of misses currently remembered.
+   */
+  public int size() {
+
+    return this.misses.size();
+  }
+
+  /**
+   * @return the number of lookups that have been answered by this cache.
+   */
+  public long getHitCount() {
+
+    return this.hitCount.get();
+  }
+
+}
@@ -11,7 +11,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -67,6 +69,8 @@ public class BaseDoc extends BaseNodeItem implements CodeDoc {
 
   private List<String> lines;
 
+  private volatile Map<CodeDocFormat, Formatted> formattedCache;
+
   /**
    * The constructor.
    *
@@ -168,20 +172,35 @@ public class BaseDoc extends BaseNodeItem implements CodeDoc {
   @Override
   public String getFormatted(CodeDocFormat format, String newline) {
 
+    Map<CodeDocFormat, Formatted> cache = null;
+    if (isImmutable()) {
+      cache = this.formattedCache;
+      if (cache == null) {
+        cache = new ConcurrentHashMap<>(4);
+        this.formattedCache = cache;
+      } else if (format != null) {
+        Formatted formatted = cache.get(format);
+        if ((formatted != null) && formatted.newline.equals(newline)) {
+          return formatted.text;
+        }
+      }
+    }
     StringBuilder buffer = new StringBuilder();
     for (String line : getLines()) {
       buffer.append(line);
       buffer.append(newline);
     }
     String raw = buffer.toString().trim();
+    String result;
     if (CodeDocFormat.RAW.equals(format) || (format == null)) {
-      return raw;
+      result = raw;
     } else {
-      String comment = raw;
-      comment = replaceDocTags(format, comment);
-      comment = replaceXmlTags(format, comment);
-      return comment;
+      result = new DocFormatter(format, raw.length()).format(raw);
     }
+    if ((cache != null) && (format != null)) {
+      cache.put(format, new Formatted(newline, result));
+    }
+    return result;
   }
 
   /**
@@ -192,53 +211,6 @@ public class BaseDoc extends BaseNodeItem implements CodeDoc {
     return PATTERN_INLINE_JAVADOC_TAG;
   }
 
-  private String replaceXmlTags(CodeDocFormat format, String comment) {
-
-    if (!format.isReplaceXmlTags()) {
-      return comment;
-    }
-    Matcher matcher = PATTERN_XML_TAG.matcher(comment);
-    StringBuffer buffer = new StringBuffer();
-    Tag tag = null;
-    while (matcher.find()) {
-      String markup = matcher.group(0);
-      String tagName = matcher.group(1);
-      String attributes = "";
-      if (matcher.groupCount() >= 3) {
-        attributes = matcher.group(3);
-      }
-      Tag newTag = createTag(tag, markup, tagName, attributes);
-      String replacement = format.replaceXmlTag(newTag);
-      if (newTag.isOpening()) {
-        if (!newTag.isClosing()) {
-          tag = newTag;
-        }
-      } else if (newTag.isClosing()) {
-        if (tag != null) {
-          if (!tag.getName().equals(newTag.getName())) {
-            boolean warn = true;
-            if (HTML_SELF_CLOSING_TAGS.contains(tag.getName())) {
-              Tag parentTag = tag.getParent();
-              if (parentTag != null) {
-                tag = parentTag;
-                if (tag.getName().equals(newTag.getName())) {
-                  warn = false;
-                }
-              }
-            }
-            if (warn) {
-              LOG.warn("Malformed HTML at {}: closing tag {} does not match opening tag {}.", getParent(), newTag.getName(), tag.getName());
-            }
-          }
-          tag = tag.getParent();
-        }
-      }
-      matcher.appendReplacement(buffer, replacement);
-    }
-    matcher.appendTail(buffer);
-    return buffer.toString();
-  }
-
   private Tag createTag(Tag tag, String markup, String tagName, String attributes) {
 
     String name = tagName.toLowerCase();
@@ -260,24 +232,12 @@ public class BaseDoc extends BaseNodeItem implements CodeDoc {
     return new XmlTag(name, opening, closing, attributes, tag);
   }
 
-  private String replaceDocTags(CodeDocFormat format, String comment) {
-
-    Matcher matcher = getInlineTagPattern().matcher(comment);
-    StringBuffer buffer = new StringBuffer();
-    while (matcher.find()) {
-      String tag = matcher.group(1);
-      String text = matcher.group(2);
-      Supplier<CodeDocLink> link = null;
-      if (CodeDoc.TAG_LINK.equals(tag) || CodeDoc.TAG_LINKPLAIN.equals(tag)) {
-        link = () -> resolveLink(text);
-      } else if (CodeDoc.TAG_VALUE.equals(tag)) {
-        link = () -> resolveLink(text);
-      }
-      String replacement = format.replaceDocTag(tag, link, text);
-      matcher.appendReplacement(buffer, replacement);
+  private Supplier<CodeDocLink> createLinkSupplier(String tag, String text) {
+
+    if (CodeDoc.TAG_LINK.equals(tag) || CodeDoc.TAG_LINKPLAIN.equals(tag) || CodeDoc.TAG_VALUE.equals(tag)) {
+      return () -> resolveLink(text);
     }
-    matcher.appendTail(buffer);
-    return buffer.toString();
+    return null;
   }
 
   private CodeDocLink resolveLink(String text) {
@@ -603,4 +563,191 @@ public class BaseDoc extends BaseNodeItem implements CodeDoc {
     sink.append(newline);
   }
 
+  /**
+   * Tokenizer that converts the raw documentation to a {@link CodeDocFormat} in a single pass. It scans the text once
+   * for inline documentation tags (e.g. "&#123;&#64;link Foo&#125;") and XML tags and emits the replacements of the
+   * {@link CodeDocFormat} directly. The replacement of an inline tag is itself scanned for XML tags so the result is
+   * the same as replacing all inline tags first and all XML tags afterwards. In the rare case of an XML tag enclosing
+   * an inline tag the formatter falls back to exactly that for the rest of the text.
+   */
+  private final class DocFormatter {
+
+    private final CodeDocFormat format;
+
+    private final boolean replaceXmlTags;
+
+    private final StringBuilder out;
+
+    private Tag tag;
+
+    private DocFormatter(CodeDocFormat format, int capacity) {
+
+      super();
+      this.format = format;
+      this.replaceXmlTags = format.isReplaceXmlTags();
+      this.out = new StringBuilder(capacity + 16);
+    }
+
+    private String format(String raw) {
+
+      int length = raw.length();
+      Matcher inlineMatcher = getInlineTagPattern().matcher(raw);
+      Matcher xmlMatcher = null;
+      if (this.replaceXmlTags) {
+        xmlMatcher = PATTERN_XML_TAG.matcher(raw);
+      }
+      int pos = 0;
+      int inlineStart = -1;
+      while (pos < length) {
+        if (inlineStart < pos) {
+          if (inlineMatcher.find(pos)) {
+            inlineStart = inlineMatcher.start();
+          } else {
+            inlineStart = length;
+          }
+        }
+        if (xmlMatcher != null) {
+          int xmlStart = findXmlTag(raw, pos, inlineStart, xmlMatcher);
+          if (xmlStart >= 0) {
+            this.out.append(raw, pos, xmlStart);
+            if (xmlMatcher.end() > inlineStart) {
+              // XML tag encloses an inline tag (e.g. in an attribute) so its extent is only known after replacing
+              appendWithXmlTags(replaceInlineTags(raw, xmlStart, inlineMatcher));
+              break;
+            }
+            this.out.append(replaceXmlTag(xmlMatcher));
+            pos = xmlMatcher.end();
+            continue;
+          }
+        }
+        this.out.append(raw, pos, inlineStart);
+        if (inlineStart < length) {
+          String docTag = inlineMatcher.group(1);
+          String text = inlineMatcher.group(2);
+          String replacement = this.format.replaceDocTag(docTag, createLinkSupplier(docTag, text), text);
+          if (this.replaceXmlTags) {
+            appendWithXmlTags(replacement);
+          } else {
+            this.out.append(replacement);
+          }
+          pos = inlineMatcher.end();
+        } else {
+          pos = length;
+        }
+      }
+      return this.out.toString();
+    }
+
+    /**
+     * Finds the first XML tag starting in the given range and leaves the given {@link Matcher} positioned on it.
+     *
+     * @return the start index of the XML tag or {@code -1} if no XML tag was found in the range.
+     */
+    private int findXmlTag(String text, int start, int end, Matcher xmlMatcher) {
+
+      int index = text.indexOf('<', start);
+      while ((index >= 0) && (index < end)) {
+        xmlMatcher.region(index, text.length());
+        if (xmlMatcher.lookingAt()) {
+          return index;
+        }
+        index = text.indexOf('<', index + 1);
+      }
+      return -1;
+    }
+
+    /**
+     * Replaces all inline tags from the given start index as the former first pass did.
+     *
+     * @return the rest of the text with all inline tags replaced.
+     */
+    private String replaceInlineTags(String text, int start, Matcher inlineMatcher) {
+
+      StringBuilder buffer = new StringBuilder(text.length() - start + 16);
+      int pos = start;
+      while (inlineMatcher.find(pos)) {
+        buffer.append(text, pos, inlineMatcher.start());
+        String docTag = inlineMatcher.group(1);
+        String docText = inlineMatcher.group(2);
+        buffer.append(this.format.replaceDocTag(docTag, createLinkSupplier(docTag, docText), docText));
+        pos = inlineMatcher.end();
+      }
+      buffer.append(text, pos, text.length());
+      return buffer.toString();
+    }
+
+    private void appendWithXmlTags(String text) {
+
+      Matcher xmlMatcher = PATTERN_XML_TAG.matcher(text);
+      int length = text.length();
+      int pos = 0;
+      while (pos < length) {
+        int xmlStart = findXmlTag(text, pos, length, xmlMatcher);
+        if (xmlStart < 0) {
+          this.out.append(text, pos, length);
+          return;
+        }
+        this.out.append(text, pos, xmlStart);
+        this.out.append(replaceXmlTag(xmlMatcher));
+        pos = xmlMatcher.end();
+      }
+    }
+
+    private String replaceXmlTag(Matcher matcher) {
+
+      String markup = matcher.group(0);
+      String tagName = matcher.group(1);
+      String attributes = "";
+      if (matcher.groupCount() >= 3) {
+        attributes = matcher.group(3);
+      }
+      Tag newTag = createTag(this.tag, markup, tagName, attributes);
+      String replacement = this.format.replaceXmlTag(newTag);
+      if (newTag.isOpening()) {
+        if (!newTag.isClosing()) {
+          this.tag = newTag;
+        }
+      } else if (newTag.isClosing()) {
+        if (this.tag != null) {
+          if (!this.tag.getName().equals(newTag.getName())) {
+            boolean warn = true;
+            if (HTML_SELF_CLOSING_TAGS.contains(this.tag.getName())) {
+              Tag parentTag = this.tag.getParent();
+              if (parentTag != null) {
+                this.tag = parentTag;
+                if (this.tag.getName().equals(newTag.getName())) {
+                  warn = false;
+                }
+              }
+            }
+            if (warn) {
+              LOG.warn("Malformed HTML at {}: closing tag {} does not match opening tag {}.", getParent(), newTag.getName(),
+                  this.tag.getName());
+            }
+          }
+          this.tag = this.tag.getParent();
+        }
+      }
+      return replacement;
+    }
+  }
+
+  /**
+   * A {@link BaseDoc#getFormatted(CodeDocFormat, String) formatted} result remembered for an immutable
+   * {@link BaseDoc}.
+   */
+  private static final class Formatted {
+
+    private final String newline;
+
+    private final String text;
+
+    private Formatted(String newline, String text) {
+
+      super();
+      this.newline = newline;
+      this.text = text;
+    }
+  }
+
 }
@@ -0,0 +1,189 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.imports;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.mmm.code.api.imports.CodeImport;
+import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.BaseContext;
+import net.sf.mmm.code.base.BaseFile;
+
+/**
+ * Resolution table for the {@link CodeType#getSimpleName() simple names} used in a {@link BaseFile}. It is built once
+ * from the {@link BaseImports} of the file and maps the simple names of single-type imports (including imports of
+ * nested types) to their {@link CodeType#getQualifiedName() qualified names}. Like in Java the types declared in the
+ * file itself (including their nested types) take precedence. Other names are resolved in the order types of the same
+ * package, standard types (e.g. {@code java.lang}) and on-demand ({@code .*}) imports and are then remembered so every
+ * further resolution is a single hash lookup. If no existing type is found the name is resolved to the package of the
+ * file as before.<br>
+ * Checking if a type exists may require to load it. If this leads to a cycle (the candidate type is already being
+ * loaded by the current thread for a resolution in the same {@link BaseContext}) the candidate is considered to exist
+ * as its source-code has already been found.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+final class BaseImportResolver {
+
+  private static final String ON_DEMAND_SUFFIX = "*";
+
+  /** The candidates currently loaded for a resolution together with the loading {@link Thread}. */
+  private static final Map<LoadingKey, Thread> LOADING = new ConcurrentHashMap<>();
+
+  private final BaseFile file;
+
+  private final Map<String, String> qualifiedNames;
+
+  private final Set<String> standardNames;
+
+  private final List<String> onDemandPrefixes;
+
+  /**
+   * The constructor.
+   *
+   * @param file the owning {@link BaseFile}.
+   * @param imports the {@link BaseImports#getDeclared() imports} of the file.
+   */
+  BaseImportResolver(BaseFile file, List<? extends CodeImport> imports) {
+
+    super();
+    this.file = file;
+    this.qualifiedNames = new ConcurrentHashMap<>(Math.max(16, imports.size() * 2));
+    this.standardNames = ConcurrentHashMap.newKeySet();
+    List<String> prefixes = null;
+    char separator = file.getLanguage().getPackageSeparator();
+    for (CodeImport imp : imports) {
+      if (!imp.isStatic()) {
+        String reference = imp.getReference().trim();
+        if (reference.endsWith(ON_DEMAND_SUFFIX)) {
+          if (prefixes == null) {
+            prefixes = new ArrayList<>();
+          }
+          // keep the separator so a candidate is simply prefix + simpleName
+          prefixes.add(reference.substring(0, reference.length() - ON_DEMAND_SUFFIX.length()));
+        } else {
+          int lastSeparator = reference.lastIndexOf(separator);
+          // the first import wins like the former linear scan did
+          this.qualifiedNames.putIfAbsent(reference.substring(lastSeparator + 1), reference);
+        }
+      }
+    }
+    this.onDemandPrefixes = prefixes;
+  }
+
+  /**
+   * @param simpleName the {@link CodeType#getSimpleName() simple name} to resolve.
+   * @param omitStandardPackages {@code true} to omit standard package(s), {@code false} otherwise.
+   * @return the resolved {@link CodeType#getQualifiedName() qualified name}.
+   */
+  String getQualifiedName(String simpleName, boolean omitStandardPackages) {
+
+    // not remembered as types may still be added to the file while it is parsed
+    CodeType declaredType = this.file.getType(simpleName, false);
+    if (declaredType != null) {
+      return declaredType.getQualifiedName();
+    }
+    String qualifiedName = this.qualifiedNames.get(simpleName);
+    if (qualifiedName != null) {
+      return qualifiedName;
+    }
+    BaseContext context = this.file.getContext();
+    if (this.standardNames.contains(simpleName)) {
+      // not remembered as the result depends on omitStandardPackages
+      return context.getQualifiedNameForStandardType(simpleName, omitStandardPackages);
+    }
+    String pkgName = this.file.getParentPackage().getQualifiedName();
+    String samePackageName;
+    if (pkgName.isEmpty()) {
+      samePackageName = simpleName;
+    } else {
+      samePackageName = pkgName + context.getLanguage().getPackageSeparator() + simpleName;
+    }
+    String standardName = context.getQualifiedNameForStandardType(simpleName, omitStandardPackages);
+    if ((standardName == null) && (this.onDemandPrefixes == null)) {
+      // without standard type or on-demand imports there is no alternative so we do not have to load the type
+      qualifiedName = samePackageName;
+    } else if (exists(context, samePackageName)) {
+      qualifiedName = samePackageName;
+    } else if (standardName != null) {
+      this.standardNames.add(simpleName);
+      return standardName;
+    } else {
+      qualifiedName = resolveOnDemand(context, simpleName, samePackageName);
+    }
+    this.qualifiedNames.putIfAbsent(simpleName, qualifiedName);
+    return qualifiedName;
+  }
+
+  private String resolveOnDemand(BaseContext context, String simpleName, String samePackageName) {
+
+    for (String prefix : this.onDemandPrefixes) {
+      String qualifiedName = prefix + simpleName;
+      if (exists(context, qualifiedName)) {
+        return qualifiedName;
+      }
+    }
+    return samePackageName;
+  }
+
+  private static boolean exists(BaseContext context, String qualifiedName) {
+
+    Thread currentThread = Thread.currentThread();
+    LoadingKey key = new LoadingKey(context, qualifiedName);
+    Thread loadingThread = LOADING.putIfAbsent(key, currentThread);
+    if (loadingThread == currentThread) {
+      // cyclic reference: the type is currently parsed further up the stack so its source-code exists
+      return true;
+    }
+    try {
+      return (context.getType(qualifiedName) != null);
+    } finally {
+      if (loadingThread == null) {
+        LOADING.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Key of a candidate in {@link #LOADING}. The same qualified name may be loaded in different {@link BaseContext}s
+   * by the same {@link Thread} so the {@link BaseContext} is part of the key (by identity).
+   */
+  private static final class LoadingKey {
+
+    private final BaseContext context;
+
+    private final String qualifiedName;
+
+    private LoadingKey(BaseContext context, String qualifiedName) {
+
+      super();
+      this.context = context;
+      this.qualifiedName = qualifiedName;
+    }
+
+    @Override
+    public int hashCode() {
+
+      return System.identityHashCode(this.context) * 31 + this.qualifiedName.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof LoadingKey)) {
+        return false;
+      }
+      LoadingKey other = (LoadingKey) obj;
+      return (this.context == other.context) && this.qualifiedName.equals(other.qualifiedName);
+    }
+  }
+
+}
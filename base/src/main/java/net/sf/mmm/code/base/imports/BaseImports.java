@@ -28,6 +28,8 @@ public class BaseImports extends BaseNodeItemContainerFlat<CodeImport> implement
 
   private final BaseFile parent;
 
+  private volatile BaseImportResolver resolver;
+
   /**
    * The constructor.
    *
@@ -102,6 +104,51 @@ public class BaseImports extends BaseNodeItemContainerFlat<CodeImport> implement
     return imp;
   }
 
+  @Override
+  protected void addInternal(CodeImport item) {
+
+    super.addInternal(item);
+    this.resolver = null;
+  }
+
+  @Override
+  public boolean remove(CodeImport item) {
+
+    this.resolver = null;
+    return super.remove(item);
+  }
+
+  @Override
+  protected boolean removeInternal(CodeImport item) {
+
+    this.resolver = null;
+    return super.removeInternal(item);
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    this.resolver = null;
+  }
+
+  /**
+   * @param simpleName the {@link CodeType#getSimpleName() simple name} of the {@link CodeType} to resolve.
+   * @param omitStandardPackages {@code true} to omit standard package(s), {@code false} otherwise.
+   * @return the {@link CodeType#getQualifiedName() qualified name} of the given {@code simpleName} resolved via these
+   *         imports.
+   * @see net.sf.mmm.code.api.CodeContext#getQualifiedName(String, net.sf.mmm.code.api.CodeFile, boolean)
+   */
+  public String getQualifiedName(String simpleName, boolean omitStandardPackages) {
+
+    BaseImportResolver importResolver = this.resolver;
+    if (importResolver == null) {
+      importResolver = new BaseImportResolver(this.parent, getDeclared());
+      this.resolver = importResolver;
+    }
+    return importResolver.getQualifiedName(simpleName, omitStandardPackages);
+  }
+
   @Override
   public BaseImports copy() {
 
@@ -122,6 +169,7 @@ public class BaseImports extends BaseNodeItemContainerFlat<CodeImport> implement
     if (imports.isEmpty()) {
       if (isMutable()) {
         addAutoGenerated();
+        imports = getList();
         if (imports.isEmpty()) {
           return;
         }
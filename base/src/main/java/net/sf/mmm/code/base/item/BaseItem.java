@@ -64,22 +64,28 @@ public abstract class BaseItem implements CodeItem {
   @Override
   public String toString() {
 
+    StringBuilder buffer = InternalRenderBuffer.acquire();
     try {
-      StringBuilder buffer = new StringBuilder();
       doWrite(buffer, "", null, "", getLanguage());
       return buffer.toString();
     } catch (Exception e) {
       LOG.debug("{}.toString() failed!", getClass().getSimpleName(), e);
       return "<failed: " + e + ">";
+    } finally {
+      InternalRenderBuffer.release(buffer);
     }
   }
 
   @Override
   public String getSourceCode() {
 
-    StringBuilder buffer = new StringBuilder();
-    write(buffer);
-    return buffer.toString();
+    StringBuilder buffer = InternalRenderBuffer.acquire();
+    try {
+      write(buffer);
+      return buffer.toString();
+    } finally {
+      InternalRenderBuffer.release(buffer);
+    }
   }
 
   /**
@@ -97,6 +103,17 @@ public abstract class BaseItem implements CodeItem {
     }
   }
 
+  /**
+   * @param currentIndent the current indent.
+   * @param defaultIndent the indent to add per level or {@code null} for no indentation.
+   * @return the indent for the next nested level.
+   * @see InternalRenderBuffer#indent(String, String)
+   */
+  protected static String getIndent(String currentIndent, String defaultIndent) {
+
+    return InternalRenderBuffer.indent(currentIndent, defaultIndent);
+  }
+
   /**
    * @param length the number of spaces requested.
    * @return a {@link String} of the given {@link String#length() length} only containing whitespaces.
@@ -3,13 +3,8 @@
 package net.sf.mmm.code.base.item;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +20,7 @@ import net.sf.mmm.code.api.item.CodeItem;
 import net.sf.mmm.code.api.item.CodeMutableItem;
 import net.sf.mmm.code.api.node.CodeNode;
 import net.sf.mmm.code.api.node.CodeNodeItem;
+import net.sf.mmm.code.base.BaseWriter;
 import net.sf.mmm.util.exception.api.ReadOnlyException;
 import net.sf.mmm.util.io.api.IoMode;
 import net.sf.mmm.util.io.api.RuntimeIoException;
@@ -43,7 +39,7 @@ public abstract class BaseMutableItem extends BaseItem implements CodeMutableIte
 
   private boolean immutable;
 
-  private int initialized;
+  private volatile int initialized;
 
   /**
    * The constructor.
@@ -67,22 +63,46 @@ public abstract class BaseMutableItem extends BaseItem implements CodeMutableIte
   }
 
   /**
-   * Initializes this node item.
+   * Initializes this node item. If an {@link #getInitializationLock() initialization lock} is available, concurrent
+   * callers will wait until the initialization is complete.
    */
   protected final void initialize() {
 
+    if (this.initialized < 2) {
+      Object lock = getInitializationLock();
+      if (lock == null) {
+        doInitializeOnce();
+      } else {
+        synchronized (lock) {
+          doInitializeOnce();
+        }
+      }
+    }
+  }
+
+  private void doInitializeOnce() {
+
     if (this.initialized == 0) {
-      this.initialized++;
+      this.initialized = 1;
       doInitialize();
       boolean systemImmutable = isSystemImmutable();
       if (systemImmutable) {
         setImmutable();
       }
-      this.initialized++;
+      this.initialized = 2;
       doneInitialize();
     }
   }
 
+  /**
+   * @return the monitor to synchronize the lazy {@link #initialize() initialization} of this item or {@code null} if
+   *         not available (e.g. while this item is not yet connected to a context).
+   */
+  protected Object getInitializationLock() {
+
+    return null;
+  }
+
   /**
    * @return {@code true} if the {@link #initialize() initialization} of this item has started but is not yet
    *         {@link #isInitialized() complete}, {@code false} otherwise.
@@ -334,21 +354,19 @@ public abstract class BaseMutableItem extends BaseItem implements CodeMutableIte
 
   /**
    * @see net.sf.mmm.code.api.node.CodeNodeWithFileWriting#write(Path)
+   * @see BaseWriter#writeItem(CodeItem, Path, Charset)
    *
    * @param item the {@link CodeItem} to {@link CodeItem#write(Appendable) write} to a new or existing file.
    * @param targetFolder the {@link Path} pointing to the existing folder where to write to.
    * @param filename the name of the file to write.
    * @param encoding the {@link Charset} to use (typically UTF-8).
+   * @return {@code true} if the file has been created or changed, {@code false} if it already existed with the same
+   *         content and has therefore not been touched.
    */
-  protected void writeItem(CodeItem item, Path targetFolder, String filename, Charset encoding) {
+  protected boolean writeItem(CodeItem item, Path targetFolder, String filename, Charset encoding) {
 
     try {
-      Path itemPath = targetFolder.resolve(filename);
-      try (OutputStream out = Files.newOutputStream(itemPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-        Writer writer = new OutputStreamWriter(out, encoding);
-        item.write(writer);
-        writer.close();
-      }
+      return BaseWriter.writeItem(item, targetFolder.resolve(filename), encoding);
     } catch (IOException e) {
       throw new RuntimeIoException(e, IoMode.WRITE);
     }
@@ -356,8 +374,9 @@ public abstract class BaseMutableItem extends BaseItem implements CodeMutableIte
 
   /**
    * @return the default {@link Charset} used by {@link net.sf.mmm.code.api.node.CodeNodeWithFileWriting#write(Path)}
+   *         and {@link net.sf.mmm.code.base.BaseWriter}.
    */
-  protected static Charset getDefaultEncoding() {
+  public static Charset getDefaultEncoding() {
 
     if (defaultEncoding == null) {
       try {
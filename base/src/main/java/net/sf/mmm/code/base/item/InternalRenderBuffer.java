@@ -0,0 +1,117 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal helper for rendering {@link BaseItem}s with less garbage. It provides a per-thread pooled
+ * {@link StringBuilder} that is reused by {@link BaseItem#toString()}, {@link BaseItem#getSourceCode()} and
+ * {@link net.sf.mmm.code.base.BaseWriter} as well as precomputed indent tables so entering a nested level does not
+ * concatenate a new indent {@link String} for every item.<br>
+ * <b>Attention:</b> This is an internal API that should not be used from outside.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public final class InternalRenderBuffer {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /** Larger buffers are not kept to avoid holding memory of a single huge file forever. */
+  private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+  private static final int INDENT_LEVELS = 32;
+
+  /** Only indents of this maximum length made of spaces and tabs are tabled to keep the cache bounded. */
+  private static final int MAX_TABLED_INDENT_LENGTH = 8;
+
+  private static final ThreadLocal<StringBuilder> POOL = new ThreadLocal<>();
+
+  private static final Map<String, String[]> INDENT_TABLES = new ConcurrentHashMap<>();
+
+  private InternalRenderBuffer() {
+
+    super();
+  }
+
+  /**
+   * @return the empty pooled {@link StringBuilder} of the current thread or a new one if already in use (e.g. for a
+   *         nested {@link BaseItem#toString()} while rendering). Has to be given back via
+   *         {@link #release(StringBuilder)}.
+   */
+  public static StringBuilder acquire() {
+
+    StringBuilder buffer = POOL.get();
+    if (buffer == null) {
+      return new StringBuilder(INITIAL_CAPACITY);
+    }
+    POOL.set(null);
+    return buffer;
+  }
+
+  /**
+   * @param buffer the {@link StringBuilder} previously {@link #acquire() acquired}. Must not be used afterwards.
+   */
+  public static void release(StringBuilder buffer) {
+
+    if (buffer.capacity() <= MAX_POOLED_CAPACITY) {
+      buffer.setLength(0);
+      POOL.set(buffer);
+    }
+  }
+
+  /**
+   * @param currentIndent the current indent.
+   * @param defaultIndent the indent to add per level or {@code null} for no indentation.
+   * @return the indent for the next nested level what is {@code currentIndent + defaultIndent} but taken from a
+   *         precomputed table in the typical case.
+   */
+  public static String indent(String currentIndent, String defaultIndent) {
+
+    if ((defaultIndent == null) || defaultIndent.isEmpty()) {
+      return currentIndent;
+    }
+    int unit = defaultIndent.length();
+    int length = currentIndent.length();
+    if ((unit <= MAX_TABLED_INDENT_LENGTH) && ((length % unit) == 0)) {
+      int level = length / unit;
+      if (level + 1 < INDENT_LEVELS) {
+        String[] table = getIndentTable(defaultIndent);
+        if (table != null) {
+          String current = table[level];
+          if ((current == currentIndent) || current.equals(currentIndent)) {
+            return table[level + 1];
+          }
+        }
+      }
+    }
+    return currentIndent + defaultIndent;
+  }
+
+  private static String[] getIndentTable(String defaultIndent) {
+
+    String[] table = INDENT_TABLES.get(defaultIndent);
+    if (table == null) {
+      for (int i = 0; i < defaultIndent.length(); i++) {
+        char c = defaultIndent.charAt(i);
+        if ((c != ' ') && (c != '\t')) {
+          return null;
+        }
+      }
+      table = new String[INDENT_LEVELS];
+      StringBuilder indent = new StringBuilder(INDENT_LEVELS * defaultIndent.length());
+      for (int level = 0; level < INDENT_LEVELS; level++) {
+        table[level] = indent.toString();
+        indent.append(defaultIndent);
+      }
+      String[] existing = INDENT_TABLES.putIfAbsent(defaultIndent, table);
+      if (existing != null) {
+        table = existing;
+      }
+    }
+    return table;
+  }
+
+}
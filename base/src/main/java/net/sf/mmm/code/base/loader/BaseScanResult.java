@@ -0,0 +1,97 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a {@link BaseSourceLoader#scan(net.sf.mmm.code.base.BasePackage, boolean, java.util.concurrent.Executor)
+ * scan}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseScanResult {
+
+  /** An empty {@link BaseScanResult} for a scan that did nothing. */
+  public static final BaseScanResult EMPTY = new BaseScanResult(0, 0, 0, 0, 0);
+
+  private final int packageCount;
+
+  private final int parsedCount;
+
+  private final int skippedCount;
+
+  private final int failedCount;
+
+  private final long durationNanos;
+
+  /**
+   * The constructor.
+   *
+   * @param packageCount the {@link #getPackageCount() package count}.
+   * @param parsedCount the {@link #getParsedCount() parsed count}.
+   * @param skippedCount the {@link #getSkippedCount() skipped count}.
+   * @param failedCount the {@link #getFailedCount() failed count}.
+   * @param durationNanos the {@link #getDuration(TimeUnit) duration} in nanoseconds.
+   */
+  public BaseScanResult(int packageCount, int parsedCount, int skippedCount, int failedCount, long durationNanos) {
+
+    super();
+    this.packageCount = packageCount;
+    this.parsedCount = parsedCount;
+    this.skippedCount = skippedCount;
+    this.failedCount = failedCount;
+    this.durationNanos = durationNanos;
+  }
+
+  /**
+   * @return the number of {@link net.sf.mmm.code.base.BasePackage packages} that have been scanned.
+   */
+  public int getPackageCount() {
+
+    return this.packageCount;
+  }
+
+  /**
+   * @return the number of {@link net.sf.mmm.code.base.type.BaseType types} that have been parsed and registered.
+   */
+  public int getParsedCount() {
+
+    return this.parsedCount;
+  }
+
+  /**
+   * @return the number of {@link net.sf.mmm.code.base.type.BaseType types} that have been skipped because they have
+   *         already been loaded before.
+   */
+  public int getSkippedCount() {
+
+    return this.skippedCount;
+  }
+
+  /**
+   * @return the number of {@link net.sf.mmm.code.base.type.BaseType types} that could not be read or parsed.
+   */
+  public int getFailedCount() {
+
+    return this.failedCount;
+  }
+
+  /**
+   * @param unit the {@link TimeUnit} of the result.
+   * @return the (wall-clock) duration of the scan in the given {@link TimeUnit}.
+   */
+  public long getDuration(TimeUnit unit) {
+
+    return unit.convert(this.durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+
+    return "scanned " + this.packageCount + " package(s) and parsed " + this.parsedCount + " type(s) (skipped "
+        + this.skippedCount + ", failed " + this.failedCount + ") in " + getDuration(TimeUnit.MILLISECONDS) + "ms";
+  }
+
+}
@@ -7,28 +7,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import net.sf.mmm.code.api.language.JavaLanguage;
 
 /**
- * Abstract base implementation of {@link SourceCodeProvider}.
+ * Abstract base implementation of {@link SourceCodeProvider} with the mapping of qualified names to paths. How the
+ * source-code is actually accessed is up to the sub-classes (see {@link BaseSourceCodeProviderPath} and
+ * {@link BaseSourceCodeProviderArchive}).
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public abstract class BaseSourceCodeProvider implements SourceCodeProvider {
 
-  private static final Logger LOG = LoggerFactory.getLogger(BaseSourceCodeProvider.class);
-
   private final String typeExtension;
 
   /**
@@ -60,65 +52,6 @@ public abstract class BaseSourceCodeProvider implements SourceCodeProvider {
     return this.typeExtension;
   }
 
-  @Override
-  public Reader openType(String qualifiedName) throws IOException {
-
-    requireNotClosed();
-    String pathString = qualifiedName2TypePath(qualifiedName);
-    return openFile(pathString);
-  }
-
-  @Override
-  public Reader openPackage(String qualifiedName) throws IOException {
-
-    requireNotClosed();
-    String pathString = qualifiedName2PackagePath(qualifiedName);
-    return openFile(pathString);
-  }
-
-  private Reader openFile(String pathString) throws IOException {
-
-    Path path = getPath(pathString);
-    if (Files.isRegularFile(path)) {
-      LOG.debug("Opening file {} to parse source code.", pathString);
-      InputStream in = Files.newInputStream(path);
-      return openReader(in);
-    } else {
-      LOG.debug("File {} does not exist.", pathString);
-    }
-    return null;
-  }
-
-  @Override
-  public List<String> scanPackage(String qualifiedName) {
-
-    requireNotClosed();
-    String pathString = qualifiedName2Path(qualifiedName);
-    Path path = getPath(pathString);
-    List<String> result = null;
-    for (Path child : path) {
-      String simpleName = filename2TypeSimpleName(child.getFileName().toString());
-      if (simpleName != null) {
-        if (Files.isRegularFile(child)) {
-          if (result == null) {
-            result = new ArrayList<>();
-          }
-          result.add(simpleName);
-        }
-      }
-    }
-    if (result != null) {
-      return result;
-    }
-    return Collections.emptyList();
-  }
-
-  /**
-   * @param path the {@link Path} as {@link String}.
-   * @return the actual {@link Path}.
-   */
-  protected abstract Path getPath(String path);
-
   /**
    * @return {@code true} if {@link #close() close} was called, {@code false} otherwise.
    */
@@ -178,6 +111,28 @@ public abstract class BaseSourceCodeProvider implements SourceCodeProvider {
     return null;
   }
 
+  /**
+   * @param filename the filename of a directory to convert.
+   * @return the {@link net.sf.mmm.code.api.CodePackage#getSimpleName() simple name} of the corresponding
+   *         {@link net.sf.mmm.code.api.CodePackage} or {@code null} if not a valid package name (e.g. "META-INF").
+   */
+  protected String filename2PackageSimpleName(String filename) {
+
+    String name = filename;
+    if (name.endsWith("/")) { // directories in zip file-system
+      name = name.substring(0, name.length() - 1);
+    }
+    if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+      return null;
+    }
+    for (int i = 1; i < name.length(); i++) {
+      if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+        return null;
+      }
+    }
+    return name;
+  }
+
   /**
    * @param qualifiedName the {@link net.sf.mmm.code.api.item.CodeItemWithQualifiedName#getQualifiedName() qualified
    *        name}.
@@ -227,4 +182,5 @@ public abstract class BaseSourceCodeProvider implements SourceCodeProvider {
     }
     return null;
   }
+
 }
@@ -4,28 +4,100 @@ package net.sf.mmm.code.base.loader;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import net.sf.mmm.code.api.language.JavaLanguage;
-import net.sf.mmm.util.io.api.IoMode;
-import net.sf.mmm.util.io.api.RuntimeIoException;
 
 /**
- * Base implementation of {@link BaseSourceCodeProvider} for a source-code directory in the filesystem.
+ * Base implementation of {@link BaseSourceCodeProvider} for a source-code archive (e.g. "*-sources.jar") in the
+ * filesystem. Instead of opening a zip {@link java.nio.file.FileSystem} the central directory of the archive is read
+ * only once into a compact index. Entries are then served from a memory-mapped buffer where {@code STORED} entries are
+ * decoded directly without any copying. The archive is opened lazily on first access and the mappings of all archives
+ * are released on a least-recently-used basis so that resource usage stays bounded even with hundreds of archives.
+ * <br>
+ * Archives that can not be mapped this way (ZIP64 archives or archives larger than 2 GB) are read via a zip
+ * {@link FileSystem} instead that is kept open until the provider is {@link #close() closed}.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class BaseSourceCodeProviderArchive extends BaseSourceCodeProvider {
 
+  private static final Logger LOG = LoggerFactory.getLogger(BaseSourceCodeProviderArchive.class);
+
+  /** The maximum number of archives that are mapped into memory at the same time. */
+  public static final int MAX_MAPPED_ARCHIVES = 64;
+
+  private static final int SIGNATURE_END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+  private static final int SIGNATURE_CENTRAL_DIRECTORY = 0x02014b50;
+
+  private static final int SIGNATURE_LOCAL_HEADER = 0x04034b50;
+
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+  private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+  private static final int LOCAL_HEADER_SIZE = 30;
+
+  private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+  private static final int METHOD_STORED = 0;
+
+  private static final int METHOD_DEFLATED = 8;
+
+  private static final Map<BaseSourceCodeProviderArchive, Boolean> MAPPED_ARCHIVES = new LinkedHashMap<
+      BaseSourceCodeProviderArchive, Boolean>(16, 0.75F, true) {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<BaseSourceCodeProviderArchive, Boolean> eldest) {
+
+      if (size() > MAX_MAPPED_ARCHIVES) {
+        eldest.getKey().unmap();
+        return true;
+      }
+      return false;
+    }
+  };
+
   private final File archiveFile;
 
-  private FileSystem fileSystem;
+  private volatile ArchiveIndex index;
+
+  private ByteBuffer buffer;
+
+  private boolean unmappable;
+
+  private boolean closed;
 
   /**
    * The constructor.
@@ -48,43 +120,423 @@ public class BaseSourceCodeProviderArchive extends BaseSourceCodeProvider {
     super(typeExtension);
     assert (archiveFile.isFile());
     this.archiveFile = archiveFile;
-    URI uri;
+  }
+
+  /**
+   * @return the {@link File} pointing to the archive.
+   */
+  public File getArchiveFile() {
+
+    return this.archiveFile;
+  }
+
+  @Override
+  public Reader openType(String qualifiedName) throws IOException {
+
+    return openEntry(qualifiedName2TypePath(qualifiedName));
+  }
+
+  @Override
+  public Reader openPackage(String qualifiedName) throws IOException {
+
+    String path = qualifiedName2PackagePath(qualifiedName);
+    if (path.startsWith("/")) { // root package
+      path = path.substring(1);
+    }
+    return openEntry(path);
+  }
+
+  private Reader openEntry(String path) throws IOException {
+
+    ArchiveIndex archiveIndex = getIndex();
+    ArchiveEntry entry = archiveIndex.entries.get(path);
+    if (entry == null) {
+      LOG.debug("Entry {} does not exist in {}.", path, this.archiveFile);
+      return null;
+    }
+    LOG.debug("Opening entry {} of {} to parse source code.", path, this.archiveFile);
+    if (archiveIndex.fileSystem != null) {
+      InputStream in = Files.newInputStream(archiveIndex.fileSystem.getPath(entry.name));
+      return openReader(in);
+    }
+    ByteBuffer data = getBuffer();
+    int offset = (int) entry.offset;
+    if (data.getInt(offset) != SIGNATURE_LOCAL_HEADER) {
+      throw new ZipException("Invalid local header for " + path + " in " + this.archiveFile);
+    }
+    int nameLength = data.getShort(offset + 26) & 0xFFFF;
+    int extraLength = data.getShort(offset + 28) & 0xFFFF;
+    int start = offset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    data.limit(start + (int) entry.compressedSize);
+    data.position(start);
+    if (entry.method == METHOD_STORED) {
+      return new StringReader(StandardCharsets.UTF_8.decode(data).toString());
+    } else if (entry.method == METHOD_DEFLATED) {
+      return new StringReader(new String(inflate(data, entry, path), StandardCharsets.UTF_8));
+    }
+    throw new ZipException(
+        "Unsupported compression method " + entry.method + " for " + path + " in " + this.archiveFile);
+  }
+
+  private byte[] inflate(ByteBuffer data, ArchiveEntry entry, String path) throws IOException {
+
+    // additional dummy byte required by Inflater in nowrap mode
+    byte[] compressed = new byte[data.remaining() + 1];
+    data.get(compressed, 0, compressed.length - 1);
+    byte[] result = new byte[(int) entry.size];
+    Inflater inflater = new Inflater(true);
     try {
-      uri = new URI("jar", this.archiveFile.toURI().toString(), null);
-    } catch (URISyntaxException e) {
-      throw new IllegalStateException("Failed to create JAR URI for: " + archiveFile, e);
+      inflater.setInput(compressed);
+      int length = 0;
+      while ((length < result.length) && !inflater.finished()) {
+        int count = inflater.inflate(result, length, result.length - length);
+        if ((count == 0) && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new ZipException("Truncated entry " + path + " in " + this.archiveFile);
+        }
+        length += count;
+      }
+    } catch (DataFormatException e) {
+      throw new ZipException("Corrupt entry " + path + " in " + this.archiveFile + ": " + e.getMessage());
+    } finally {
+      inflater.end();
+    }
+    return result;
+  }
+
+  @Override
+  public List<String> scanPackage(String qualifiedName) throws IOException {
+
+    List<String> types = getIndex().types.get(qualifiedName2Path(qualifiedName));
+    if (types == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(types);
+  }
+
+  @Override
+  public List<String> scanSubPackages(String qualifiedName) throws IOException {
+
+    List<String> packages = getIndex().packages.get(qualifiedName2Path(qualifiedName));
+    if (packages == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(packages);
+  }
+
+  @Override
+  public String getTypeStamp(String qualifiedName) throws IOException {
+
+    ArchiveEntry entry = getIndex().entries.get(qualifiedName2TypePath(qualifiedName));
+    if (entry == null) {
+      return null;
+    }
+    return Long.toHexString(entry.crc) + ":" + entry.size;
+  }
+
+  private ArchiveIndex getIndex() throws IOException {
+
+    ArchiveIndex result = this.index;
+    if (result == null) {
+      // never hold the lock of this archive while calling getBuffer() to avoid deadlocks with LRU eviction
+      ByteBuffer data = getBuffer();
+      synchronized (this) {
+        requireNotClosed();
+        if ((this.index == null) && (data != null)) {
+          this.index = readIndex(data);
+        }
+        if (this.index == null) {
+          this.unmappable = true;
+          this.buffer = null;
+          this.index = readIndex(openFileSystem());
+        }
+        result = this.index;
+      }
+      if (result.fileSystem != null) {
+        synchronized (MAPPED_ARCHIVES) {
+          MAPPED_ARCHIVES.remove(this);
+        }
+      }
+    } else {
+      requireNotClosed();
+    }
+    return result;
+  }
+
+  /**
+   * @return the memory-mapped {@link ByteBuffer} of the archive or {@code null} if the archive can not be mapped and
+   *         has to be read via a zip {@link FileSystem}.
+   * @throws IOException on I/O error.
+   */
+  private ByteBuffer getBuffer() throws IOException {
+
+    ByteBuffer result;
+    synchronized (this) {
+      requireNotClosed();
+      if (this.unmappable) {
+        return null;
+      }
+      if (this.buffer == null) {
+        this.buffer = map();
+        if (this.buffer == null) {
+          this.unmappable = true;
+          return null;
+        }
+      }
+      result = this.buffer;
+    }
+    synchronized (MAPPED_ARCHIVES) {
+      MAPPED_ARCHIVES.put(this, Boolean.TRUE);
     }
+    return result.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private ByteBuffer map() throws IOException {
+
+    LOG.debug("Mapping archive {}", this.archiveFile);
+    try (FileChannel channel = FileChannel.open(this.archiveFile.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        LOG.debug("Archive {} is too large to be mapped.", this.archiveFile);
+        return null;
+      }
+      // the mapping remains valid after the channel is closed so no file handle is kept open
+      return channel.map(MapMode.READ_ONLY, 0, size);
+    }
+  }
+
+  private synchronized void unmap() {
+
+    this.buffer = null;
+  }
+
+  private ArchiveIndex readIndex(ByteBuffer data) throws IOException {
+
+    int endOffset = findEndOfCentralDirectory(data);
+    int entryCount = data.getShort(endOffset + 10) & 0xFFFF;
+    long directoryOffset = data.getInt(endOffset + 16) & 0xFFFFFFFFL;
+    if ((entryCount == 0xFFFF) || (directoryOffset == 0xFFFFFFFFL)) {
+      LOG.debug("Archive {} is in ZIP64 format and can not be mapped.", this.archiveFile);
+      return null;
+    }
+    ArchiveIndex result = new ArchiveIndex(null, entryCount);
+    int offset = (int) directoryOffset;
+    for (int i = 0; i < entryCount; i++) {
+      if (data.getInt(offset) != SIGNATURE_CENTRAL_DIRECTORY) {
+        throw new ZipException("Invalid central directory in " + this.archiveFile);
+      }
+      int method = data.getShort(offset + 10) & 0xFFFF;
+      long crc = data.getInt(offset + 16) & 0xFFFFFFFFL;
+      long compressedSize = data.getInt(offset + 20) & 0xFFFFFFFFL;
+      long size = data.getInt(offset + 24) & 0xFFFFFFFFL;
+      int nameLength = data.getShort(offset + 28) & 0xFFFF;
+      int extraLength = data.getShort(offset + 30) & 0xFFFF;
+      int commentLength = data.getShort(offset + 32) & 0xFFFF;
+      long localHeaderOffset = data.getInt(offset + 42) & 0xFFFFFFFFL;
+      byte[] nameBytes = new byte[nameLength];
+      data.position(offset + CENTRAL_DIRECTORY_HEADER_SIZE);
+      data.get(nameBytes);
+      String name = new String(nameBytes, StandardCharsets.UTF_8);
+      if (!name.endsWith("/")) {
+        String path = getEntryPath(name);
+        if (path != null) {
+          result.add(path, new ArchiveEntry(name, localHeaderOffset, method, compressedSize, size, crc));
+        }
+      }
+      offset = offset + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+    }
+    LOG.debug("Indexed {} entries of archive {}", Integer.valueOf(entryCount), this.archiveFile);
+    return result;
+  }
+
+  private FileSystem openFileSystem() throws IOException {
+
+    LOG.debug("Opening archive {} as zip file system", this.archiveFile);
+    return FileSystems.newFileSystem(this.archiveFile.toPath(), (ClassLoader) null);
+  }
+
+  private ArchiveIndex readIndex(FileSystem fileSystem) throws IOException {
+
+    ArchiveIndex result = new ArchiveIndex(fileSystem, 1024);
     try {
-      this.fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
-    } catch (IOException e) {
-      throw new RuntimeIoException(e, IoMode.READ);
+      for (Path root : fileSystem.getRootDirectories()) {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+
+            String name = root.relativize(file).toString();
+            String path = getEntryPath(name);
+            if (path != null) {
+              // the modification time is used instead of the CRC that is not available via the file system
+              result.add(path, new ArchiveEntry(name, -1, -1, attributes.size(), attributes.size(),
+                  attributes.lastModifiedTime().toMillis()));
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+      }
+    } catch (IOException | RuntimeException e) {
+      fileSystem.close();
+      throw e;
     }
+    LOG.debug("Indexed {} entries of archive {}", Integer.valueOf(result.entries.size()), this.archiveFile);
+    return result;
   }
 
+  /**
+   * Maps the name of an entry to the path it is indexed with. Override to support archives where the source-code is
+   * not located at the root (e.g. in per-module folders). Called for each file entry while the archive is indexed.
+   *
+   * @param entryName the name of an entry of the archive (e.g. "com/example/Foo.java").
+   * @return the path of the entry relative to the root of the source-code or {@code null} to ignore the entry.
+   */
+  protected String getEntryPath(String entryName) {
+
+    return entryName;
+  }
+
+  private int findEndOfCentralDirectory(ByteBuffer data) throws IOException {
+
+    int limit = data.limit();
+    int min = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_SIZE);
+    for (int offset = limit - END_OF_CENTRAL_DIRECTORY_SIZE; offset >= min; offset--) {
+      if (data.getInt(offset) == SIGNATURE_END_OF_CENTRAL_DIRECTORY) {
+        return offset;
+      }
+    }
+    throw new ZipException("Not a valid archive: " + this.archiveFile);
+  }
+
+  /**
+   * Has no effect as the {@link ArchiveIndex} is created from the central directory and therefore always consistent
+   * with the entries that are served.
+   */
   @Override
-  protected Path getPath(String path) {
+  public void invalidate() {
 
-    return this.fileSystem.getPath(path);
+    // nothing to do
   }
 
   @Override
   public void close() {
 
-    if (this.fileSystem == null) {
-      return;
+    synchronized (MAPPED_ARCHIVES) {
+      MAPPED_ARCHIVES.remove(this);
     }
-    try {
-      this.fileSystem.close();
-    } catch (IOException e) {
-      throw new IllegalStateException(e);
+    FileSystem fileSystem = null;
+    synchronized (this) {
+      this.closed = true;
+      this.buffer = null;
+      if (this.index != null) {
+        fileSystem = this.index.fileSystem;
+      }
+      this.index = null;
+    }
+    if (fileSystem != null) {
+      try {
+        fileSystem.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close zip file system of {}", this.archiveFile, e);
+      }
     }
-    this.fileSystem = null;
   }
 
   @Override
-  protected boolean isClosed() {
+  protected synchronized boolean isClosed() {
+
+    return this.closed;
+  }
+
+  /**
+   * The index of an archive created from its central directory or from its zip {@link FileSystem}.
+   */
+  private class ArchiveIndex {
+
+    private final FileSystem fileSystem;
 
-    return (this.fileSystem == null);
+    private final Map<String, ArchiveEntry> entries;
+
+    private final Map<String, List<String>> types;
+
+    private final Map<String, List<String>> packages;
+
+    private ArchiveIndex(FileSystem fileSystem, int capacity) {
+
+      super();
+      this.fileSystem = fileSystem;
+      this.entries = new HashMap<>(capacity * 4 / 3 + 1);
+      this.types = new HashMap<>();
+      this.packages = new HashMap<>();
+    }
+
+    private void add(String path, ArchiveEntry entry) {
+
+      String typeExtension = getTypeExtension();
+      if (!path.endsWith(typeExtension)) {
+        return;
+      }
+      this.entries.put(path, entry);
+      int lastSlash = path.lastIndexOf('/');
+      String packagePath = "";
+      if (lastSlash > 0) {
+        packagePath = path.substring(0, lastSlash);
+      }
+      String simpleName = filename2TypeSimpleName(path.substring(lastSlash + 1));
+      if (simpleName != null) {
+        this.types.computeIfAbsent(packagePath, k -> new ArrayList<>()).add(simpleName);
+      }
+      addPackage(packagePath);
+    }
+
+    private void addPackage(String packagePath) {
+
+      if (packagePath.isEmpty()) {
+        return;
+      }
+      int lastSlash = packagePath.lastIndexOf('/');
+      String parentPath = "";
+      if (lastSlash > 0) {
+        parentPath = packagePath.substring(0, lastSlash);
+      }
+      String simpleName = filename2PackageSimpleName(packagePath.substring(lastSlash + 1));
+      if (simpleName == null) {
+        return;
+      }
+      List<String> children = this.packages.computeIfAbsent(parentPath, k -> new ArrayList<>());
+      if (!children.contains(simpleName)) {
+        children.add(simpleName);
+        addPackage(parentPath);
+      }
+    }
+  }
+
+  /**
+   * An entry of the {@link ArchiveIndex}.
+   */
+  private static class ArchiveEntry {
+
+    private final String name;
+
+    private final long offset;
+
+    private final int method;
+
+    private final long compressedSize;
+
+    private final long size;
+
+    private final long crc;
+
+    private ArchiveEntry(String name, long offset, int method, long compressedSize, long size, long crc) {
+
+      super();
+      this.name = name;
+      this.offset = offset;
+      this.method = method;
+      this.compressedSize = compressedSize;
+      this.size = size;
+      this.crc = crc;
+    }
   }
 
 }
@@ -3,18 +3,20 @@
 package net.sf.mmm.code.base.loader;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.Consumer;
 
 import net.sf.mmm.code.api.language.JavaLanguage;
 
 /**
- * Base implementation of {@link BaseSourceCodeProvider} for a source-code directory in the filesystem.
+ * Base implementation of {@link BaseSourceCodeProviderPath} for a source-code directory in the filesystem.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
-public class BaseSourceCodeProviderDirectory extends BaseSourceCodeProvider {
+public class BaseSourceCodeProviderDirectory extends BaseSourceCodeProviderPath {
 
   private String sourceDirectory;
 
@@ -49,6 +51,21 @@ public class BaseSourceCodeProviderDirectory extends BaseSourceCodeProvider {
     return Paths.get(this.sourceDirectory, path);
   }
 
+  /**
+   * Starts to watch the source directory for modifications so a long living context can reload changed types.
+   *
+   * @param listener the {@link Consumer} that is notified (from a background thread) with the qualified name of each
+   *        type whose source-code file has been created, modified, or deleted.
+   * @return the {@link BaseSourceCodeWatcher} that has to be {@link BaseSourceCodeWatcher#close() closed} to stop
+   *         watching.
+   * @throws IOException if the directory could not be watched.
+   */
+  public BaseSourceCodeWatcher watch(Consumer<String> listener) throws IOException {
+
+    requireNotClosed();
+    return new BaseSourceCodeWatcher(this, Paths.get(this.sourceDirectory), listener);
+  }
+
   @Override
   public void close() {
 
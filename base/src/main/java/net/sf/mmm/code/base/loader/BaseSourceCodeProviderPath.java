@@ -0,0 +1,226 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.code.api.language.JavaLanguage;
+
+/**
+ * Abstract base implementation of {@link BaseSourceCodeProvider} for source-code that is accessed via {@link Path}s
+ * (e.g. a directory in the filesystem). The listings of the package directories are cached until
+ * {@link #invalidate() invalidated}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public abstract class BaseSourceCodeProviderPath extends BaseSourceCodeProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BaseSourceCodeProviderPath.class);
+
+  private final Map<String, PackageListing> listingCache;
+
+  /**
+   * The constructor.
+   */
+  public BaseSourceCodeProviderPath() {
+
+    this(JavaLanguage.TYPE_EXTENSION_JAVA);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param typeExtension the {@link #getTypeExtension() type extension}.
+   */
+  public BaseSourceCodeProviderPath(String typeExtension) {
+
+    super(typeExtension);
+    this.listingCache = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Reader openType(String qualifiedName) throws IOException {
+
+    requireNotClosed();
+    if (!containsType(qualifiedName)) {
+      LOG.debug("Type {} does not exist.", qualifiedName);
+      return null;
+    }
+    String pathString = qualifiedName2TypePath(qualifiedName);
+    return openFile(pathString);
+  }
+
+  @Override
+  public Reader openPackage(String qualifiedName) throws IOException {
+
+    requireNotClosed();
+    if (!getListing(qualifiedName2Path(qualifiedName)).packageInfo) {
+      LOG.debug("Package {} has no {}.", qualifiedName, JavaLanguage.PACKAGE_INFO_JAVA);
+      return null;
+    }
+    String pathString = qualifiedName2PackagePath(qualifiedName);
+    return openFile(pathString);
+  }
+
+  private boolean containsType(String qualifiedName) throws IOException {
+
+    String path = qualifiedName2Path(qualifiedName);
+    int lastSlash = path.lastIndexOf('/');
+    String packagePath = "";
+    if (lastSlash > 0) {
+      packagePath = path.substring(0, lastSlash);
+    }
+    String simpleName = path.substring(lastSlash + 1);
+    return getListing(packagePath).types.contains(simpleName);
+  }
+
+  private Reader openFile(String pathString) throws IOException {
+
+    Path path = getPath(pathString);
+    if (Files.isRegularFile(path)) {
+      LOG.debug("Opening file {} to parse source code.", pathString);
+      InputStream in = Files.newInputStream(path);
+      return openReader(in);
+    } else {
+      LOG.debug("File {} does not exist.", pathString);
+    }
+    return null;
+  }
+
+  @Override
+  public List<String> scanPackage(String qualifiedName) throws IOException {
+
+    requireNotClosed();
+    return new ArrayList<>(getListing(qualifiedName2Path(qualifiedName)).types);
+  }
+
+  @Override
+  public List<String> scanSubPackages(String qualifiedName) throws IOException {
+
+    requireNotClosed();
+    return new ArrayList<>(getListing(qualifiedName2Path(qualifiedName)).packages);
+  }
+
+  /**
+   * @param packagePath the {@link #qualifiedName2Path(String) path} of the package.
+   * @return the cached {@link PackageListing} of the package directory. Will be read on the first request and then
+   *         reused so repeated scans and lookups of non-existing types do not cause any file-system access.
+   * @throws IOException on I/O error.
+   */
+  private PackageListing getListing(String packagePath) throws IOException {
+
+    PackageListing listing = this.listingCache.get(packagePath);
+    if (listing == null) {
+      listing = readListing(packagePath);
+      PackageListing existing = this.listingCache.putIfAbsent(packagePath, listing);
+      if (existing != null) {
+        listing = existing;
+      }
+    }
+    return listing;
+  }
+
+  private PackageListing readListing(String packagePath) throws IOException {
+
+    Path path = getPath(packagePath);
+    if (!Files.isDirectory(path)) {
+      return PackageListing.EMPTY;
+    }
+    Set<String> types = new HashSet<>();
+    List<String> packages = new ArrayList<>();
+    boolean packageInfo = false;
+    try (DirectoryStream<Path> children = Files.newDirectoryStream(path)) {
+      for (Path child : children) {
+        String filename = child.getFileName().toString();
+        if (JavaLanguage.PACKAGE_INFO_JAVA.equals(filename)) {
+          packageInfo = Files.isRegularFile(child);
+        } else {
+          String simpleName = filename2TypeSimpleName(filename);
+          if (simpleName != null) {
+            if (Files.isRegularFile(child)) {
+              types.add(simpleName);
+            }
+          } else {
+            simpleName = filename2PackageSimpleName(filename);
+            if ((simpleName != null) && Files.isDirectory(child)) {
+              packages.add(simpleName);
+            }
+          }
+        }
+      }
+    }
+    return new PackageListing(types, packages, packageInfo);
+  }
+
+  /**
+   * Clears the cached directory listings so that added or removed files are detected by subsequent
+   * {@link #scanPackage(String) scans} and lookups.
+   */
+  @Override
+  public void invalidate() {
+
+    this.listingCache.clear();
+  }
+
+  @Override
+  public String getTypeStamp(String qualifiedName) throws IOException {
+
+    requireNotClosed();
+    if (!containsType(qualifiedName)) {
+      return null;
+    }
+    Path path = getPath(qualifiedName2TypePath(qualifiedName));
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    return attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+  }
+
+  /**
+   * @param path the {@link Path} as {@link String}.
+   * @return the actual {@link Path}.
+   */
+  protected abstract Path getPath(String path);
+
+  /**
+   * The cached listing of a single package directory.
+   */
+  private static final class PackageListing {
+
+    private static final PackageListing EMPTY = new PackageListing(Collections.emptySet(), Collections.emptyList(),
+        false);
+
+    private final Set<String> types;
+
+    private final List<String> packages;
+
+    private final boolean packageInfo;
+
+    private PackageListing(Set<String> types, List<String> packages, boolean packageInfo) {
+
+      super();
+      this.types = types;
+      this.packages = packages;
+      this.packageInfo = packageInfo;
+    }
+  }
+
+}
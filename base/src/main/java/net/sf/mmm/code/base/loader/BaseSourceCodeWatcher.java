@@ -0,0 +1,221 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the directory of a {@link BaseSourceCodeProviderDirectory} (including all sub-directories) via a
+ * {@link WatchService} and notifies a listener with the qualified names of the types whose source-code files have been
+ * created, modified, or deleted. The listener is called from a single daemon thread after the
+ * {@link BaseSourceCodeProviderDirectory#invalidate() cached listings} of the provider have been cleared.
+ *
+ * @see BaseSourceCodeProviderDirectory#watch(Consumer)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BaseSourceCodeWatcher implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BaseSourceCodeWatcher.class);
+
+  private final BaseSourceCodeProviderDirectory provider;
+
+  private final Path rootDirectory;
+
+  private final Consumer<String> listener;
+
+  private final WatchService watchService;
+
+  private final Map<WatchKey, Path> directories;
+
+  private final Thread thread;
+
+  private volatile boolean closed;
+
+  /**
+   * The constructor.
+   *
+   * @param provider the {@link BaseSourceCodeProviderDirectory} to watch.
+   * @param rootDirectory the {@link Path} to the source directory of the {@code provider}.
+   * @param listener the {@link Consumer} to notify with the qualified names of changed types.
+   * @throws IOException if the {@link WatchService} could not be created or registered.
+   */
+  BaseSourceCodeWatcher(BaseSourceCodeProviderDirectory provider, Path rootDirectory, Consumer<String> listener)
+      throws IOException {
+
+    super();
+    this.provider = provider;
+    this.rootDirectory = rootDirectory;
+    this.listener = listener;
+    this.watchService = rootDirectory.getFileSystem().newWatchService();
+    this.directories = new ConcurrentHashMap<>();
+    try {
+      register(rootDirectory, null);
+    } catch (IOException | RuntimeException e) {
+      this.watchService.close();
+      throw e;
+    }
+    this.thread = new Thread(this::run, "mmm-code-watcher-" + rootDirectory.getFileName());
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * @return the {@link Path} to the watched source directory.
+   */
+  public Path getRootDirectory() {
+
+    return this.rootDirectory;
+  }
+
+  private void register(Path directory, Set<String> createdTypes) throws IOException {
+
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+
+        WatchKey key = dir.register(BaseSourceCodeWatcher.this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        BaseSourceCodeWatcher.this.directories.put(key, dir);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+        if (createdTypes != null) {
+          addType(file, createdTypes);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void run() {
+
+    while (!this.closed) {
+      WatchKey key;
+      try {
+        key = this.watchService.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        break;
+      }
+      Path directory = this.directories.get(key);
+      Set<String> changedTypes = new LinkedHashSet<>();
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (directory == null) {
+          continue;
+        }
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          LOG.debug("Events lost for {} - reporting all types of the directory.", directory);
+          addTypes(directory, changedTypes);
+          continue;
+        }
+        Path child = directory.resolve((Path) event.context());
+        if ((event.kind() == StandardWatchEventKinds.ENTRY_CREATE) && Files.isDirectory(child)) {
+          try {
+            register(child, changedTypes);
+          } catch (IOException e) {
+            LOG.warn("Failed to watch directory {}: {}", child, e.getMessage(), e);
+          }
+        } else {
+          addType(child, changedTypes);
+        }
+      }
+      if (!key.reset()) {
+        this.directories.remove(key);
+      }
+      if (!changedTypes.isEmpty() && !this.closed) {
+        this.provider.invalidate();
+        for (String qualifiedName : changedTypes) {
+          try {
+            this.listener.accept(qualifiedName);
+          } catch (RuntimeException e) {
+            LOG.warn("Failed to process change of type {}: {}", qualifiedName, e.getMessage(), e);
+          }
+        }
+      }
+    }
+  }
+
+  private void addTypes(Path directory, Set<String> types) {
+
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path child : stream) {
+        addType(child, types);
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to list directory {}: {}", directory, e.getMessage(), e);
+    }
+  }
+
+  private void addType(Path file, Set<String> types) {
+
+    String qualifiedName = getQualifiedName(file);
+    if (qualifiedName != null) {
+      types.add(qualifiedName);
+    }
+  }
+
+  private String getQualifiedName(Path file) {
+
+    Path relativePath = this.rootDirectory.relativize(file);
+    int count = relativePath.getNameCount();
+    String simpleName = this.provider.filename2TypeSimpleName(relativePath.getFileName().toString());
+    if (simpleName == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count - 1; i++) {
+      String segment = this.provider.filename2PackageSimpleName(relativePath.getName(i).toString());
+      if (segment == null) {
+        return null;
+      }
+      sb.append(segment);
+      sb.append('.');
+    }
+    sb.append(simpleName);
+    return sb.toString();
+  }
+
+  /**
+   * @return {@code true} if this watcher has been {@link #close() closed}, {@code false} otherwise.
+   */
+  public boolean isClosed() {
+
+    return this.closed;
+  }
+
+  @Override
+  public void close() {
+
+    this.closed = true;
+    try {
+      this.watchService.close();
+    } catch (IOException e) {
+      LOG.debug("Failed to close watch service: {}", e.getMessage(), e);
+    }
+  }
+
+}
@@ -2,7 +2,13 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.code.base.loader;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+import net.sf.mmm.code.api.CodePathElement;
 import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.type.BaseType;
 
 /**
  * {@link BaseLoader} that encapsulates the physical loading of code from a
@@ -21,6 +27,79 @@ public interface BaseSourceLoader extends BaseLoader, AutoCloseable {
    */
   void scan(BasePackage pkg);
 
+  /**
+   * Scans the given {@link BasePackage} in bulk. Unlike {@link #scan(BasePackage)} the source-code files may be read
+   * and parsed concurrently using the given {@link Executor}. However, the resulting types are registered in the
+   * {@link BasePackage#getChildren() package tree} and the type cache of the {@link #getContext() context} from the
+   * calling thread only.<br>
+   * <b>Attention:</b> Do not call this method with an {@link Executor} while holding the
+   * {@link net.sf.mmm.code.base.AbstractBaseContext#getLock() lock} of the context as the workers need it and the
+   * calling thread waits for them. Implementations detect this and throw an {@link IllegalStateException} instead of
+   * running into a deadlock.<br>
+   * The default implementation is a sequential fallback for loaders without support for bulk scan. It ignores the
+   * {@link Executor} and invokes {@link #scan(BasePackage)} for the given {@link BasePackage} and (if
+   * {@code recursive}) for all sub-packages present in the {@link BasePackage#getChildren() package tree} after the
+   * scan. The files that were already present before the scan of their package are counted as skipped, the others as
+   * parsed. Failures are not reported by {@link #scan(BasePackage)} and therefore never counted.
+   *
+   * @param pkg the {@link BasePackage} to scan.
+   * @param recursive - {@code true} to also scan all sub-packages recursively, {@code false} otherwise.
+   * @param executor the {@link Executor} used to read and parse the source-code files (e.g.
+   *        {@link java.util.concurrent.ForkJoinPool#commonPool()}) or {@code null} to do everything in the calling
+   *        thread.
+   * @return the {@link BaseScanResult} with the statistics of the scan.
+   */
+  default BaseScanResult scan(BasePackage pkg, boolean recursive, Executor executor) {
+
+    long start = System.nanoTime();
+    int packageCount = 0;
+    int parsedCount = 0;
+    int skippedCount = 0;
+    Deque<BasePackage> packages = new ArrayDeque<>();
+    packages.add(pkg);
+    while (!packages.isEmpty()) {
+      BasePackage current = packages.poll();
+      int fileCount = 0;
+      for (CodePathElement child : current.getChildren().getDeclared()) {
+        if (child.isFile()) {
+          fileCount++;
+        }
+      }
+      scan(current);
+      packageCount++;
+      skippedCount = skippedCount + fileCount;
+      for (CodePathElement child : current.getChildren().getDeclared()) {
+        if (child.isFile()) {
+          fileCount--;
+        } else if (recursive) {
+          packages.add((BasePackage) child);
+        }
+      }
+      // fileCount is now the negative number of files added by the scan
+      parsedCount = parsedCount - fileCount;
+    }
+    return new BaseScanResult(packageCount, parsedCount, skippedCount, 0, System.nanoTime() - start);
+  }
+
+  /**
+   * Reloads the {@link BaseType} with the given qualified name (e.g. after its source-code file has been modified,
+   * created, or deleted) and replaces the previous version in the {@link BasePackage#getChildren() package tree} and
+   * the type cache of the {@link #getContext() context}. The previous {@link BaseType#getFile() file} is marked as
+   * {@link net.sf.mmm.code.base.BaseFile#isStale() stale} so that references to it are resolved again.<br>
+   * <b>Attention:</b> Do not call this method while holding the
+   * {@link net.sf.mmm.code.base.AbstractBaseContext#getLock() lock} of the context from a different thread.
+   *
+   * @param qualifiedName the {@link BaseType#getQualifiedName() qualified name} of the top-level type to reload.
+   * @return the reloaded {@link BaseType} or {@code null} if it does not exist (anymore). If the source-code could not
+   *         be read or parsed, the previous version is kept and returned unchanged.
+   * @throws RuntimeException if the source-code could not be read or parsed and there is no previous version.
+   */
+  default BaseType reload(String qualifiedName) {
+
+    // fallback for loaders without support for reload
+    return getType(qualifiedName);
+  }
+
   @Override
   void close();
 
@@ -1,5 +1,7 @@
 package net.sf.mmm.code.base.loader;
 
+import java.util.concurrent.Executor;
+
 import net.sf.mmm.code.api.CodeName;
 import net.sf.mmm.code.base.BaseFile;
 import net.sf.mmm.code.base.BasePackage;
@@ -26,6 +28,12 @@ public class BaseSourceLoaderRootPackage extends BaseSourceLoaderImpl {
     // nothing to do...
   }
 
+  @Override
+  public BaseScanResult scan(BasePackage pkg, boolean recursive, Executor executor) {
+
+    return BaseScanResult.EMPTY;
+  }
+
   @Override
   public BaseType getType(String qualifiedName) {
 
@@ -38,6 +38,30 @@ public interface SourceCodeProvider extends AutoCloseable {
    */
   List<String> scanPackage(String qualifiedName) throws IOException;
 
+  /**
+   * @param qualifiedName the qualified name of the {@link net.sf.mmm.code.api.CodePackage} to scan.
+   * @return a {@link List} with the {@link net.sf.mmm.code.api.CodePackage#getSimpleName() simple names} of the direct
+   *         sub-packages of the specified package or {@code null} if scan is not supported.
+   * @throws IOException on I/O error.
+   */
+  List<String> scanSubPackages(String qualifiedName) throws IOException;
+
+  /**
+   * @param qualifiedName the qualified name of the {@link net.sf.mmm.code.api.type.CodeType}.
+   * @return an opaque stamp (e.g. composed of last-modified timestamp and size) of the source-code file of the
+   *         specified type that changes whenever the file is modified or {@code null} if the type was not found or
+   *         stamps are not supported. Allows to reuse data derived from the source-code as long as the stamp did not
+   *         change.
+   * @throws IOException on I/O error.
+   */
+  String getTypeStamp(String qualifiedName) throws IOException;
+
+  /**
+   * Clears any cached information (e.g. directory listings) so that added, modified, or removed source-code files are
+   * detected by subsequent requests.
+   */
+  void invalidate();
+
   @Override
   void close();
 
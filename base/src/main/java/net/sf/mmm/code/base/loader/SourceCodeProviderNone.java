@@ -43,6 +43,24 @@ public class SourceCodeProviderNone implements SourceCodeProvider {
     return null;
   }
 
+  @Override
+  public List<String> scanSubPackages(String qualifiedName) throws IOException {
+
+    return null;
+  }
+
+  @Override
+  public String getTypeStamp(String qualifiedName) throws IOException {
+
+    return null;
+  }
+
+  @Override
+  public void invalidate() {
+
+    // nothing to do...
+  }
+
   @Override
   public void close() {
 
@@ -67,6 +67,26 @@ public class SourceCodeProviderProxy implements SourceCodeProvider {
     return getDelegate().scanPackage(qualifiedName);
   }
 
+  @Override
+  public List<String> scanSubPackages(String qualifiedName) throws IOException {
+
+    return getDelegate().scanSubPackages(qualifiedName);
+  }
+
+  @Override
+  public String getTypeStamp(String qualifiedName) throws IOException {
+
+    return getDelegate().getTypeStamp(qualifiedName);
+  }
+
+  @Override
+  public void invalidate() {
+
+    if (this.delegate != null) {
+      this.delegate.invalidate();
+    }
+  }
+
   @Override
   public void close() {
 
@@ -56,12 +56,18 @@ public class BaseConstructors extends BaseOperations<CodeConstructor> implements
     }
   }
 
+  @Override
+  String getSignatureKey(CodeConstructor constructor) {
+
+    return BaseOperationIndex.getKey(null, constructor.getParameters());
+  }
+
   @Override
   public CodeConstructor get(CodeConstructor constructor) {
 
-    for (CodeConstructor myConstructor : getDeclared()) {
+    for (CodeConstructor myConstructor : getBySignatureKey(getSignatureKey(constructor))) {
       if (myConstructor.getParameters().isInvokable(constructor.getParameters())) {
-        return constructor;
+        return myConstructor;
       }
     }
     return null;
@@ -70,7 +76,7 @@ public class BaseConstructors extends BaseOperations<CodeConstructor> implements
   @Override
   public CodeConstructor get(CodeGenericType... parameterTypes) {
 
-    for (CodeConstructor constructor : getDeclared()) {
+    for (CodeConstructor constructor : getBySignatureKey(BaseOperationIndex.getKey(null, parameterTypes))) {
       if (constructor.getParameters().isInvokable(parameterTypes)) {
         return constructor;
       }
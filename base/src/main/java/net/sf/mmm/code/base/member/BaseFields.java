@@ -4,7 +4,9 @@ package net.sf.mmm.code.base.member;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
@@ -64,17 +66,27 @@ public class BaseFields extends BaseMembers<CodeField> implements CodeFields {
   }
 
   @Override
-  public Iterable<? extends CodeField> getAll() {
+  public List<? extends CodeField> getAll() {
 
     BaseType declaringType = getDeclaringType();
     CodeGenericType superClass = declaringType.getSuperTypes().getSuperClass();
     if (superClass == null) {
       return getDeclared();
     } else {
-      return () -> new FieldIterator(declaringType);
+      return getAllMembers(() -> collectFields(declaringType));
     }
   }
 
+  private static List<CodeField> collectFields(BaseType declaringType) {
+
+    List<CodeField> list = new ArrayList<>();
+    FieldIterator iterator = new FieldIterator(declaringType);
+    while (iterator.hasNext()) {
+      list.add(iterator.next());
+    }
+    return list;
+  }
+
   @Override
   public CodeField getDeclared(String name) {
 
@@ -3,7 +3,9 @@
 package net.sf.mmm.code.base.member;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
 import net.sf.mmm.code.api.copy.CodeCopyType;
@@ -12,6 +14,8 @@ import net.sf.mmm.code.api.member.CodeMember;
 import net.sf.mmm.code.api.member.CodeMembers;
 import net.sf.mmm.code.base.node.BaseNodeItemContainer;
 import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeHierarchy;
+import net.sf.mmm.code.base.type.InternalFlattenedItems;
 
 /**
  * Base implementation of {@link CodeMembers}.
@@ -24,6 +28,8 @@ public abstract class BaseMembers<M extends CodeMember> extends BaseNodeItemCont
 
   private final BaseType parent;
 
+  private final InternalFlattenedItems<M> allMembers;
+
   /**
    * The constructor.
    *
@@ -33,6 +39,7 @@ public abstract class BaseMembers<M extends CodeMember> extends BaseNodeItemCont
 
     super();
     this.parent = parent;
+    this.allMembers = new InternalFlattenedItems<>();
   }
 
   /**
@@ -45,6 +52,7 @@ public abstract class BaseMembers<M extends CodeMember> extends BaseNodeItemCont
 
     super(template, mapper);
     this.parent = mapper.map(template.parent, CodeCopyType.PARENT);
+    this.allMembers = new InternalFlattenedItems<>();
   }
 
   @Override
@@ -58,6 +66,7 @@ public abstract class BaseMembers<M extends CodeMember> extends BaseNodeItemCont
 
     super.rename(member, oldName, newName, renamer);
     this.parent.getProperties().renameMember(member, oldName, newName);
+    onModification();
   }
 
   @Override
@@ -66,6 +75,68 @@ public abstract class BaseMembers<M extends CodeMember> extends BaseNodeItemCont
     super.add(member);
   }
 
+  @Override
+  protected void addInternal(M member) {
+
+    super.addInternal(member);
+    onModification();
+  }
+
+  @Override
+  public boolean remove(M member) {
+
+    boolean removed = super.remove(member);
+    onModification();
+    return removed;
+  }
+
+  @Override
+  protected boolean removeInternal(M member) {
+
+    boolean removed = super.removeInternal(member);
+    onModification();
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    onModification();
+  }
+
+  /**
+   * Notifies the {@link #getParent() declaring type} that members have been {@link BaseType#onModification()
+   * modified} so {@link #getAllMembers(Supplier) flattened views} of this type and its sub-types will be rebuilt. Lazy
+   * initialization and materialization of a copy are not considered as a modification.
+   */
+  void onModification() {
+
+    if (!isInitializing() && !isMaterializing() && (this.parent != null)) {
+      this.parent.onModification();
+    }
+  }
+
+  /**
+   * @param factory the {@link Supplier} to build the {@link List} of all members including the inherited ones.
+   * @return the memoized {@link List} of all members that is only rebuilt after a {@link #onModification()
+   *         modification}.
+   */
+  protected List<M> getAllMembers(Supplier<List<M>> factory) {
+
+    return this.allMembers.get(this.parent, factory);
+  }
+
+  /**
+   * @return the {@link BaseTypeHierarchy#getSuperTypes(BaseType) linearized closure} of the super-types of the
+   *         {@link #getDeclaringType() declaring type}.
+   */
+  List<BaseType> getSuperTypeClosure() {
+
+    BaseType declaringType = getDeclaringType();
+    return declaringType.getContext().getTypeHierarchy().getSuperTypes(declaringType);
+  }
+
   @Override
   public BaseType getDeclaringType() {
 
@@ -4,8 +4,11 @@ package net.sf.mmm.code.base.member;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import net.sf.mmm.code.api.arg.CodeParameters;
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
 import net.sf.mmm.code.api.member.CodeMethod;
 import net.sf.mmm.code.api.member.CodeMethods;
@@ -58,35 +61,58 @@ public class BaseMethods extends BaseOperations<CodeMethod> implements CodeMetho
   }
 
   @Override
-  public Iterable<? extends CodeMethod> getAll() {
+  public List<? extends CodeMethod> getAll() {
 
-    List<CodeMethod> list = new ArrayList<>(getDeclared());
-    collectMethods(list); // TODO implement with iterator instead and avoid returning parent methods
-    return list;
+    // resolved method table: overridden methods are omitted, rebuilt only after modifications
+    return getAllMembers(this::collectMethods);
   }
 
-  private void collectMethods(List<CodeMethod> list) {
+  private List<CodeMethod> collectMethods() {
 
-    for (CodeGenericType superType : getDeclaringType().getSuperTypes().getDeclared()) {
-      BaseMethods javaMethods = (BaseMethods) superType.asType().getMethods();
-      list.addAll(javaMethods.getDeclared());
-      javaMethods.collectMethods(list);
+    List<? extends CodeMethod> declared = getDeclared();
+    List<CodeMethod> list = new ArrayList<>(declared);
+    Set<String> signatures = new HashSet<>(declared.size() * 2);
+    for (CodeMethod method : declared) {
+      signatures.add(getSignatureKey(method));
+    }
+    for (BaseType superType : getSuperTypeClosure()) {
+      for (CodeMethod method : superType.getMethods().getDeclared()) {
+        if (signatures.add(getSignatureKey(method))) {
+          list.add(method);
+        }
+      }
     }
+    return list;
+  }
+
+  @Override
+  String getSignatureKey(CodeMethod method) {
+
+    return BaseOperationIndex.getKey(method.getName(), method.getParameters());
   }
 
   @Override
   public CodeMethod get(CodeMethod method) {
 
-    String name = method.getName();
-    for (CodeMethod myMethod : getDeclared()) {
-      if (myMethod.getName().equals(name)) {
-        if (myMethod.getParameters().isInvokable(method.getParameters())) {
-          return myMethod;
-        }
+    return get(getSignatureKey(method), method);
+  }
+
+  private CodeMethod get(String key, CodeMethod method) {
+
+    CodeParameters parameters = method.getParameters();
+    for (CodeMethod myMethod : getBySignatureKey(key)) {
+      if (myMethod.getParameters().isInvokable(parameters)) {
+        return myMethod;
       }
     }
     for (CodeGenericType superType : getDeclaringType().getSuperTypes().getDeclared()) {
-      CodeMethod myMethod = superType.asType().getMethods().get(method);
+      CodeMethods superMethods = superType.asType().getMethods();
+      CodeMethod myMethod;
+      if (superMethods instanceof BaseMethods) {
+        myMethod = ((BaseMethods) superMethods).get(key, method);
+      } else {
+        myMethod = superMethods.get(method);
+      }
       if (myMethod != null) {
         return myMethod;
       }
@@ -97,11 +123,9 @@ public class BaseMethods extends BaseOperations<CodeMethod> implements CodeMetho
   @Override
   public CodeMethod getDeclared(String name, CodeGenericType... parameterTypes) {
 
-    for (CodeMethod method : getDeclared()) {
-      if (method.getName().equals(name)) {
-        if (method.getParameters().isInvokable(parameterTypes)) {
-          return method;
-        }
+    for (CodeMethod method : getBySignatureKey(BaseOperationIndex.getKey(name, parameterTypes))) {
+      if (method.getParameters().isInvokable(parameterTypes)) {
+        return method;
       }
     }
     return null;
@@ -86,6 +86,19 @@ public abstract class BaseOperation extends BaseMember implements CodeOperation
   @Override
   public abstract BaseOperations<?> getParent();
 
+  /**
+   * <b>Attention:</b> This is an internal API that should not be used from outside. Has to be called whenever the
+   * signature (the types of the {@link #getParameters() parameters}) of this operation has changed.
+   */
+  public void onSignatureChanged() {
+
+    BaseOperations<?> parent = getParent();
+    if (parent != null) {
+      parent.invalidateIndex();
+      parent.onModification();
+    }
+  }
+
   @Override
   public CodeVariable getVariable(String name) {
 
@@ -0,0 +1,140 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.member;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.mmm.code.api.arg.CodeParameter;
+import net.sf.mmm.code.api.arg.CodeParameters;
+import net.sf.mmm.code.api.member.CodeOperation;
+import net.sf.mmm.code.api.type.CodeGenericType;
+import net.sf.mmm.code.api.type.CodeType;
+
+/**
+ * Index of the {@link CodeOperation}s of {@link BaseOperations} by name and erased parameter signature (e.g.
+ * {@code put(java.lang.Object,java.lang.Object)}). Allows to find overloaded operations without a linear scan. As the
+ * key is built from {@link CodeType#getQualifiedName() qualified names} the candidates still have to be verified via
+ * {@link CodeParameters#isInvokable(CodeParameters)}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @param <O> type of the indexed {@link CodeOperation}s.
+ * @since 1.0.0
+ */
+final class BaseOperationIndex<O extends CodeOperation> {
+
+  private final Map<String, Object> map;
+
+  /**
+   * The constructor.
+   *
+   * @param capacity the expected number of operations.
+   */
+  BaseOperationIndex(int capacity) {
+
+    super();
+    this.map = new HashMap<>(Math.max(16, (capacity * 4) / 3 + 1));
+  }
+
+  /**
+   * @param key the {@link #getKey(String, CodeParameters) key} of the given {@code operation}.
+   * @param operation the {@link CodeOperation} to add.
+   */
+  @SuppressWarnings("unchecked")
+  void add(String key, O operation) {
+
+    Object existing = this.map.putIfAbsent(key, operation);
+    if (existing != null) {
+      // collision: signatures only differ by types with the same qualified name (e.g. from different sources)
+      List<O> list;
+      if (existing instanceof List) {
+        list = (List<O>) existing;
+      } else {
+        list = new ArrayList<>(2);
+        list.add((O) existing);
+        this.map.put(key, list);
+      }
+      list.add(operation);
+    }
+  }
+
+  /**
+   * @param key the {@link #getKey(String, CodeParameters) key} of the requested operations.
+   * @return the {@link List} of candidates for the given {@code key}. Typically contains no or one operation.
+   */
+  @SuppressWarnings("unchecked")
+  List<O> get(String key) {
+
+    Object value = this.map.get(key);
+    if (value == null) {
+      return Collections.emptyList();
+    } else if (value instanceof List) {
+      return (List<O>) value;
+    }
+    return Collections.singletonList((O) value);
+  }
+
+  /**
+   * @param name the name of the operation or {@code null} for constructors.
+   * @param parameters the {@link CodeParameters}.
+   * @return the key for the given signature.
+   */
+  static String getKey(String name, CodeParameters parameters) {
+
+    List<? extends CodeParameter> params = parameters.getDeclared();
+    StringBuilder sb = newKey(name, params.size());
+    String separator = "";
+    for (CodeParameter param : params) {
+      sb.append(separator);
+      appendType(sb, param.getType());
+      separator = ",";
+    }
+    sb.append(')');
+    return sb.toString();
+  }
+
+  /**
+   * @param name the name of the operation or {@code null} for constructors.
+   * @param parameterTypes the {@link CodeGenericType}s of the parameters.
+   * @return the key for the given signature.
+   */
+  static String getKey(String name, CodeGenericType... parameterTypes) {
+
+    StringBuilder sb = newKey(name, parameterTypes.length);
+    String separator = "";
+    for (CodeGenericType type : parameterTypes) {
+      sb.append(separator);
+      appendType(sb, type);
+      separator = ",";
+    }
+    sb.append(')');
+    return sb.toString();
+  }
+
+  private static StringBuilder newKey(String name, int parameterCount) {
+
+    StringBuilder sb = new StringBuilder(16 + parameterCount * 24);
+    if (name != null) {
+      sb.append(name);
+    }
+    sb.append('(');
+    return sb;
+  }
+
+  private static void appendType(StringBuilder sb, CodeGenericType type) {
+
+    CodeType rawType = null;
+    if (type != null) {
+      rawType = type.asType();
+    }
+    if (rawType == null) {
+      sb.append('?');
+    } else {
+      sb.append(rawType.getQualifiedName());
+    }
+  }
+
+}
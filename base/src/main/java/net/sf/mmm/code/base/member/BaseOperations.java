@@ -2,6 +2,9 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.code.base.member;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
 import net.sf.mmm.code.api.member.CodeMembers;
 import net.sf.mmm.code.api.member.CodeOperation;
@@ -17,6 +20,8 @@ import net.sf.mmm.code.base.type.BaseType;
  */
 public abstract class BaseOperations<O extends CodeOperation> extends BaseMembers<O> implements CodeOperations<O> {
 
+  private volatile BaseOperationIndex<O> index;
+
   /**
    * The constructor.
    *
@@ -38,6 +43,78 @@ public abstract class BaseOperations<O extends CodeOperation> extends BaseMember
     super(template, mapper);
   }
 
+  /**
+   * @param operation the {@link CodeOperation}.
+   * @return the key of the given {@link CodeOperation} in the {@link BaseOperationIndex}.
+   */
+  abstract String getSignatureKey(O operation);
+
+  /**
+   * @param key the {@link #getSignatureKey(CodeOperation) signature key}.
+   * @return the {@link List} of {@link #getDeclared() declared} operations with the given signature key.
+   */
+  List<O> getBySignatureKey(String key) {
+
+    BaseOperationIndex<O> operationIndex = this.index;
+    if (operationIndex == null) {
+      List<? extends O> operations = getDeclared();
+      operationIndex = new BaseOperationIndex<>(operations.size());
+      for (O operation : operations) {
+        operationIndex.add(getSignatureKey(operation), operation);
+      }
+      this.index = operationIndex;
+    }
+    return operationIndex.get(key);
+  }
+
+  /**
+   * Invalidates the index of the operations by signature. Called whenever the signature of a contained operation has
+   * changed.
+   */
+  void invalidateIndex() {
+
+    this.index = null;
+  }
+
+  @Override
+  protected void addInternal(O item) {
+
+    super.addInternal(item);
+    BaseOperationIndex<O> operationIndex = this.index;
+    if (operationIndex != null) {
+      // update incrementally so merging many operations does not rebuild the index for every added operation
+      operationIndex.add(getSignatureKey(item), item);
+    }
+  }
+
+  @Override
+  public boolean remove(O item) {
+
+    this.index = null;
+    return super.remove(item);
+  }
+
+  @Override
+  protected boolean removeInternal(O item) {
+
+    this.index = null;
+    return super.removeInternal(item);
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    this.index = null;
+  }
+
+  @Override
+  protected void rename(O member, String oldName, String newName, Consumer<String> renamer) {
+
+    super.rename(member, oldName, newName, renamer);
+    this.index = null;
+  }
+
   @Override
   public abstract CodeOperations<O> getSourceCodeObject();
 
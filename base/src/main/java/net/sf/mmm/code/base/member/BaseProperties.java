@@ -2,7 +2,9 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.code.base.member;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
@@ -73,22 +75,27 @@ public class BaseProperties extends BaseMembers<CodeProperty> implements CodePro
   }
 
   @Override
-  public Iterable<? extends CodeProperty> getAll() {
+  public List<? extends CodeProperty> getAll() {
 
-    Map<String, CodeProperty> map = new HashMap<>(getMap());
-    collectProperties(map);
-    return map.values();
+    // inherited properties are only resolved again after modifications
+    return getAllMembers(this::collectProperties);
   }
 
-  private void collectProperties(Map<String, CodeProperty> map) {
+  private List<CodeProperty> collectProperties() {
 
-    for (CodeGenericType superType : getDeclaringType().getSuperTypes()) {
-      BaseProperties properties = (BaseProperties) superType.asType().getProperties();
-      for (CodeProperty property : properties) {
-        map.putIfAbsent(property.getName(), property.inherit(getParent()));
+    Map<String, CodeProperty> map = new LinkedHashMap<>();
+    for (CodeProperty property : getDeclared()) {
+      map.put(property.getName(), property);
+    }
+    for (BaseType superType : getSuperTypeClosure()) {
+      for (CodeProperty property : superType.getProperties().getDeclared()) {
+        String name = property.getName();
+        if (!map.containsKey(name)) {
+          map.put(name, property.inherit(getParent()));
+        }
       }
-      properties.collectProperties(map);
     }
+    return new ArrayList<>(map.values());
   }
 
   @Override
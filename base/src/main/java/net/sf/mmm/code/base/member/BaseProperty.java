@@ -263,6 +263,9 @@ public class BaseProperty extends BaseMember implements CodeProperty {
 
     verifyMutalbe();
     this.type = type;
+    if (this.parent != null) {
+      this.parent.onModification();
+    }
   }
 
   @Override
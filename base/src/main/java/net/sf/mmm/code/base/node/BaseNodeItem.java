@@ -10,6 +10,7 @@ import net.sf.mmm.code.api.language.JavaLanguage;
 import net.sf.mmm.code.api.node.CodeNode;
 import net.sf.mmm.code.api.node.CodeNodeItem;
 import net.sf.mmm.code.api.source.CodeSource;
+import net.sf.mmm.code.base.AbstractBaseContext;
 import net.sf.mmm.code.base.BaseContext;
 import net.sf.mmm.code.base.item.BaseMutableItem;
 import net.sf.mmm.code.base.source.BaseSource;
@@ -71,6 +72,16 @@ public abstract class BaseNodeItem extends BaseMutableItem implements CodeNodeIt
     return null;
   }
 
+  @Override
+  protected Object getInitializationLock() {
+
+    BaseContext context = getContext();
+    if (context instanceof AbstractBaseContext) {
+      return ((AbstractBaseContext) context).getLock();
+    }
+    return null;
+  }
+
   @Override
   public BaseSource getSource() {
 
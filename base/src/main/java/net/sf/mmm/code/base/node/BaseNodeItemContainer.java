@@ -3,6 +3,7 @@
 package net.sf.mmm.code.base.node;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.sf.mmm.code.api.copy.CodeCopyMapper;
+import net.sf.mmm.code.api.copy.CodeCopyMapperDefault;
 import net.sf.mmm.code.api.copy.CodeCopyType;
 import net.sf.mmm.code.api.item.CodeItem;
 import net.sf.mmm.code.api.item.CodeItemWithName;
@@ -24,7 +26,9 @@ import net.sf.mmm.code.base.item.BaseMutableItem;
 import net.sf.mmm.util.exception.api.DuplicateObjectException;
 
 /**
- * Base implementation of {@link CodeNodeItemContainer}.
+ * Base implementation of {@link CodeNodeItemContainer}. Most containers (e.g. annotations, type variables, exceptions)
+ * stay empty. Therefore an empty container only refers to the shared {@link Collections#emptyList() empty list} and
+ * the internal {@link List} and {@link Map} are only allocated when the first item is added.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @param <I> the type of the contained {@link CodeItem}.
@@ -34,13 +38,18 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
 
   private static final Logger LOG = LoggerFactory.getLogger(BaseNodeItemContainer.class);
 
-  private final Map<String, I> map;
+  /** Shared {@link List} of a container that has been made immutable before any item was added. */
+  private static final List<?> EMPTY_IMMUTABLE = Collections.unmodifiableList(new ArrayList<>(0));
 
-  private final List<I> mutableList;
+  private Map<String, I> map;
+
+  private List<I> mutableList;
 
   private List<I> list;
 
-  private Runnable listLazyInit;
+  private volatile PendingCopy<I> pendingCopy;
+
+  private boolean materializing;
 
   /**
    * The constructor.
@@ -48,13 +57,7 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   protected BaseNodeItemContainer() {
 
     super();
-    this.mutableList = new ArrayList<>();
-    this.list = this.mutableList;
-    if (isNamed()) {
-      this.map = new HashMap<>();
-    } else {
-      this.map = null;
-    }
+    this.list = Collections.emptyList();
   }
 
   /**
@@ -66,31 +69,11 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   public BaseNodeItemContainer(BaseNodeItemContainer<I> template, CodeCopyMapper mapper) {
 
     super(template, mapper);
-    CodeCopyType itemCopyType = getItemCopyType();
-    if (itemCopyType == null) {
-      this.mutableList = new ArrayList<>(template.list);
-      this.list = this.mutableList;
-    } else {
-      this.mutableList = new ArrayList<>(template.list.size());
-      this.list = this.mutableList;
-      // lazy-init: deferred copy
-      this.listLazyInit = () -> doLazyInitList(template.list, mapper, itemCopyType);
-    }
-    if (template.map == null) {
-      this.map = null;
-    } else {
-      this.map = new HashMap<>();
-    }
-  }
-
-  @SuppressWarnings("unchecked")
-  private void doLazyInitList(List<I> templateList, CodeCopyMapper mapper, CodeCopyType type) {
-
-    for (I node : templateList) {
-      CodeNode mappedNode = mapper.map((CodeNode) node, type);
-      if (mappedNode != null) {
-        addInternal((I) mappedNode);
-      }
+    this.list = Collections.emptyList();
+    List<I> templateList = template.getList();
+    if (!templateList.isEmpty()) {
+      // copy-on-write: items of an immutable template are only copied when accessed
+      this.pendingCopy = new PendingCopy<>(template, templateList, mapper, getItemCopyType());
     }
   }
 
@@ -106,7 +89,16 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   protected void doSetImmutable() {
 
     super.doSetImmutable();
-    this.list = makeImmutable(this.mutableList, !isKeepListView());
+    getList();
+    boolean keepListView = isKeepListView();
+    if (keepListView) {
+      // items may still be added internally and have to be visible in the view
+      inflate();
+    } else if (this.mutableList == null) {
+      this.list = getEmptyImmutableList();
+      return;
+    }
+    this.list = makeImmutable(this.mutableList, !keepListView);
   }
 
   @Override
@@ -145,22 +137,90 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   }
 
   /**
-   * @return the actual {@link List} of items.
+   * @return the actual {@link List} of items. Has to be treated as read-only as it may be a shared empty {@link List}.
+   * @see #getMutableList()
    */
   protected List<I> getList() {
 
-    if (this.listLazyInit != null) {
-      this.listLazyInit.run();
-      this.listLazyInit = null;
+    if (this.pendingCopy != null) {
+      synchronized (getCopyLock()) {
+        PendingCopy<I> pending = this.pendingCopy;
+        if ((pending != null) && !this.materializing) {
+          this.materializing = true;
+          try {
+            pending.copyAll(this);
+          } finally {
+            this.pendingCopy = null;
+            this.materializing = false;
+          }
+        }
+      }
     }
     return this.list;
   }
 
   /**
-   * @return the optional {@link Map} of the items.
+   * @return the monitor to synchronize the materialization of a pending copy so concurrent readers never see a
+   *         partially filled {@link #getList() list}.
+   */
+  private Object getCopyLock() {
+
+    Object lock = getInitializationLock();
+    if (lock == null) {
+      lock = this;
+    }
+    return lock;
+  }
+
+  /**
+   * @return {@code true} while the pending items of a copy are materialized via {@link #addInternal(CodeItem)},
+   *         {@code false} otherwise. Like {@link #isInitializing() initialization} this is not considered as a
+   *         modification.
+   */
+  protected boolean isMaterializing() {
+
+    return this.materializing;
+  }
+
+  /**
+   * @return the mutable {@link List} of items that is allocated on demand. Adding to this {@link List} bypasses the
+   *         {@link #getMap() map}. Prefer {@link #addInternal(CodeItem)} if possible.
+   */
+  protected List<I> getMutableList() {
+
+    getList();
+    inflate();
+    return this.mutableList;
+  }
+
+  private void inflate() {
+
+    if (this.mutableList == null) {
+      this.mutableList = new ArrayList<>();
+      if (isNamed()) {
+        this.map = new HashMap<>();
+      }
+      if (this.list != EMPTY_IMMUTABLE) {
+        this.list = this.mutableList;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> getEmptyImmutableList() {
+
+    return (List<T>) EMPTY_IMMUTABLE;
+  }
+
+  /**
+   * @return the optional {@link Map} of the items. Has to be treated as read-only.
    */
   protected Map<String, I> getMap() {
 
+    getList();
+    if ((this.map == null) && isNamed()) {
+      return Collections.emptyMap();
+    }
     return this.map;
   }
 
@@ -170,7 +230,11 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   public void clear() {
 
     verifyMutalbe();
-    this.list.clear();
+    getList();
+    if (this.mutableList == null) {
+      return;
+    }
+    this.mutableList.clear();
     if (this.map != null) {
       this.map.clear();
     }
@@ -191,7 +255,7 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
     } else {
       newNameValid = getLanguage().verifyName((CodeItemWithName) child, newName);
     }
-    assert (this.map != null);
+    getList();
     if (this.map != null) {
       if (this.map.containsKey(newNameValid)) {
         throw new DuplicateObjectException(child.getClass().getSimpleName(), newNameValid);
@@ -212,6 +276,23 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
    */
   protected I getByName(String name) {
 
+    if (this.pendingCopy != null) {
+      synchronized (getCopyLock()) {
+        PendingCopy<I> pending = this.pendingCopy;
+        if ((pending != null) && (pending.template != null) && !this.materializing) {
+          // only copy the requested item and leave the others pending
+          I templateItem = pending.template.getByName(name);
+          if (templateItem == null) {
+            return null;
+          }
+          return pending.copy(templateItem);
+        }
+      }
+    }
+    getList();
+    if (this.map == null) {
+      return null;
+    }
     return this.map.get(name);
   }
 
@@ -247,6 +328,7 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
    */
   protected void addInternal(I item) {
 
+    getMutableList();
     boolean duplicate;
     if (this.map != null) {
       duplicate = put(item);
@@ -265,7 +347,7 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
 
     String key = getKey(item);
     if (key == null) {
-      return this.list.contains(item);
+      return this.mutableList.contains(item);
     }
     Object duplicate = this.map.get(key);
     if (duplicate != null) {
@@ -297,13 +379,114 @@ public abstract class BaseNodeItemContainer<I extends CodeItem> extends BaseNode
   public boolean remove(I item) {
 
     verifyMutalbe();
+    getList();
+    if (this.mutableList == null) {
+      return false;
+    }
     if (this.map != null) {
       String key = getKey(item);
       if (key != null) {
         this.map.remove(key);
       }
     }
-    return getList().remove(item);
+    return this.mutableList.remove(item);
+  }
+
+  /**
+   * Removes the given item even if this container {@link #isImmutable() is immutable}. Counterpart of
+   * {@link #addInternal(CodeItem)} e.g. to replace an item that has been reloaded.
+   *
+   * @param item the item to remove.
+   * @return {@code true} if the item has been removed, {@code false} otherwise.
+   */
+  protected boolean removeInternal(I item) {
+
+    getList();
+    if (this.mutableList == null) {
+      return false;
+    }
+    if (this.map != null) {
+      String key = getKey(item);
+      if ((key != null) && (this.map.get(key) == item)) {
+        this.map.remove(key);
+      }
+    }
+    return this.mutableList.remove(item);
+  }
+
+  /**
+   * The items of the template of a copy that have not yet been added to the copy. If the template is
+   * {@link #isImmutable() immutable} the copy shares the {@link List} of the template as long as it is not accessed so
+   * copying a container is O(1) regardless of its size. If additionally the {@link CodeCopyMapperDefault default
+   * mapping} is used (so names are retained) {@link BaseNodeItemContainer#getByName(String) lookups by name} only copy
+   * the requested item. Everything else (including any modification) copies all remaining items in their original
+   * order.<br>
+   * A mutable template may still be modified after the copy has been created. Therefore its items are copied right
+   * away and only added to the container on first access (when the container is fully constructed).
+   *
+   * @param <I> the type of the contained {@link CodeItem}.
+   */
+  private static final class PendingCopy<I extends CodeItem> {
+
+    private final BaseNodeItemContainer<I> template;
+
+    private final List<I> items;
+
+    private final CodeCopyMapper mapper;
+
+    private final CodeCopyType type;
+
+    private final boolean copied;
+
+    private PendingCopy(BaseNodeItemContainer<I> template, List<I> templateList, CodeCopyMapper mapper, CodeCopyType type) {
+
+      super();
+      this.mapper = mapper;
+      this.type = type;
+      if (template.isImmutable()) {
+        // the items can not change anymore so they can be shared
+        this.items = templateList;
+        if (mapper instanceof CodeCopyMapperDefault) {
+          this.template = template;
+        } else {
+          this.template = null;
+        }
+        this.copied = false;
+      } else {
+        this.items = new ArrayList<>(templateList.size());
+        for (I item : templateList) {
+          I copy = copy(item);
+          if (copy != null) {
+            this.items.add(copy);
+          }
+        }
+        this.template = null;
+        this.copied = true;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private I copy(I item) {
+
+      if (this.type == null) {
+        return item;
+      }
+      // the mapper remembers the copies so an item copied before copyAll is not copied twice
+      return (I) this.mapper.map((CodeNode) item, this.type);
+    }
+
+    private void copyAll(BaseNodeItemContainer<I> container) {
+
+      for (I item : this.items) {
+        I copy = item;
+        if (!this.copied) {
+          copy = copy(item);
+        }
+        if (copy != null) {
+          container.addInternal(copy);
+        }
+      }
+    }
   }
 
 }
@@ -9,7 +9,13 @@ import net.sf.mmm.code.base.BasePackage;
 import net.sf.mmm.code.base.type.BaseType;
 
 /**
- * Interface for a parser of Java source code.
+ * Interface for a parser of Java source code.<br>
+ * <b>Attention:</b><br>
+ * Implementations have to be thread-safe so a single instance can be shared by all
+ * {@link net.sf.mmm.code.base.loader.BaseSourceLoader loaders} of a context that may be used concurrently by multiple
+ * threads. Further, the methods have to be reentrant as parsing a file may trigger loading (and therefore parsing) of
+ * another file. However, concurrent invocations for the same {@link BaseFile} or {@link BasePackage} are not supported
+ * and have to be prevented by the caller.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -122,6 +122,12 @@ public abstract class BaseGenericTypeProxy extends BaseGenericType {
     return getDelegate().asType();
   }
 
+  @Override
+  public boolean isAssignableFrom(CodeGenericType type) {
+
+    return getDelegate().isAssignableFrom(type);
+  }
+
   @Override
   public Type getReflectiveObject() {
 
@@ -192,7 +192,7 @@ public class BaseNestedTypes extends BaseNodeItemContainerHierarchicalWithName<C
     if (nestedTypes.isEmpty()) {
       return;
     }
-    String childIndent = currentIndent + defaultIndent;
+    String childIndent = getIndent(currentIndent, defaultIndent);
     for (CodeType nestedType : nestedTypes) {
       sink.append(newline);
       nestedType.write(sink, newline, defaultIndent, childIndent);
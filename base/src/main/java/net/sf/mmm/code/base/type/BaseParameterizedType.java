@@ -162,6 +162,13 @@ public class BaseParameterizedType extends BaseGenericType implements CodeParame
     return getType().asType();
   }
 
+  @Override
+  public boolean isAssignableFrom(CodeGenericType type) {
+
+    // type arguments are not considered (erasure)
+    return asType().isAssignableFrom(type);
+  }
+
   @Override
   public BaseType getType() {
 
@@ -103,6 +103,48 @@ public class BaseSuperTypes extends BaseNodeItemContainerHierarchical<CodeGeneri
     super.add(superType);
   }
 
+  @Override
+  protected void addInternal(CodeGenericType superType) {
+
+    super.addInternal(superType);
+    if (!isInitializing() && !isMaterializing()) {
+      invalidateTypeHierarchy();
+    }
+  }
+
+  @Override
+  public boolean remove(CodeGenericType superType) {
+
+    verifyMutalbe();
+    return removeInternal(superType);
+  }
+
+  @Override
+  protected boolean removeInternal(CodeGenericType superType) {
+
+    boolean removed = super.removeInternal(superType);
+    if (removed) {
+      invalidateTypeHierarchy();
+    }
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+
+    super.clear();
+    invalidateTypeHierarchy();
+  }
+
+  private void invalidateTypeHierarchy() {
+
+    this.parent.onModification();
+    BaseContext context = this.parent.getContext();
+    if (context != null) {
+      context.getTypeHierarchy().invalidate(this.parent);
+    }
+  }
+
   @Override
   protected CodeGenericType ensureParent(CodeGenericType superType) {
 
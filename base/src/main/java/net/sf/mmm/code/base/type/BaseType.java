@@ -4,6 +4,7 @@ package net.sf.mmm.code.base.type;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import net.sf.mmm.code.api.CodePackage;
 import net.sf.mmm.code.api.block.CodeBlockInitializer;
@@ -18,6 +19,7 @@ import net.sf.mmm.code.api.type.CodeGenericType;
 import net.sf.mmm.code.api.type.CodeType;
 import net.sf.mmm.code.api.type.CodeTypeCategory;
 import net.sf.mmm.code.api.type.CodeTypeVariable;
+import net.sf.mmm.code.base.BaseContext;
 import net.sf.mmm.code.base.BaseFile;
 import net.sf.mmm.code.base.BasePackage;
 import net.sf.mmm.code.base.block.BaseBlockInitializer;
@@ -35,6 +37,9 @@ import net.sf.mmm.code.base.member.BaseProperties;
  */
 public class BaseType extends BaseGenericType implements CodeType {
 
+  private static final AtomicIntegerFieldUpdater<BaseType> MODIFICATION_COUNT = AtomicIntegerFieldUpdater
+      .newUpdater(BaseType.class, "modificationCount");
+
   private final BaseFile file;
 
   private final BaseType declaringType;
@@ -71,6 +76,8 @@ public class BaseType extends BaseGenericType implements CodeType {
 
   private CodeType sourceCodeObject;
 
+  private volatile int modificationCount;
+
   /**
    * The constructor for a nested type.
    *
@@ -250,11 +257,24 @@ public class BaseType extends BaseGenericType implements CodeType {
   @Override
   public boolean isAssignableFrom(CodeGenericType type) {
 
-    if (equals(type)) {
+    if (type == null) {
+      return false;
+    }
+    CodeType rawType = type.asType();
+    if (rawType == this) {
       return true;
+    } else if (!(rawType instanceof BaseType)) {
+      return false;
     }
-    // TODO implement this properly (tricky one)
-    return false;
+    BaseType otherType = (BaseType) rawType;
+    if (isPrimitive() || otherType.isPrimitive()) {
+      return false;
+    }
+    BaseContext context = otherType.getContext();
+    if (context == null) {
+      return false;
+    }
+    return context.getTypeHierarchy().isSuperType(this, otherType);
   }
 
   @Override
@@ -385,6 +405,37 @@ public class BaseType extends BaseGenericType implements CodeType {
     return this.file;
   }
 
+  /**
+   * @return {@code true} if the {@link #getFile() file} of this type {@link BaseFile#isStale() is stale} because it has
+   *         been replaced by a reloaded version, {@code false} otherwise.
+   */
+  public boolean isStale() {
+
+    return (this.file != null) && this.file.isStale();
+  }
+
+  /**
+   * @return the modification count of this type that changes whenever its {@link #getSuperTypes() super-types},
+   *         members or annotations have been modified after initialization. Together with the counts of all
+   *         {@link BaseTypeHierarchy#getSuperTypes(BaseType) super-types} it allows to detect if flattened views
+   *         including inherited items (such as {@link #getMethods() getMethods()}.{@link BaseMethods#getAll()
+   *         getAll()}) need to be rebuilt.
+   */
+  public int getModificationCount() {
+
+    return this.modificationCount;
+  }
+
+  /**
+   * <b>Attention:</b> This is an internal API that should not be used from outside. Has to be called whenever the
+   * {@link #getSuperTypes() super-types}, members (e.g. {@link #getMethods() methods}) or {@link #getAnnotations()
+   * annotations} of this type have been modified after initialization.
+   */
+  public void onModification() {
+
+    MODIFICATION_COUNT.incrementAndGet(this);
+  }
+
   @Override
   public BaseSuperTypes getSuperTypes() {
 
@@ -501,7 +552,7 @@ public class BaseType extends BaseGenericType implements CodeType {
 
     sink.append(" {");
     sink.append(newline);
-    String bodyIndent = currentIndent + defaultIndent;
+    String bodyIndent = getIndent(currentIndent, defaultIndent);
     getFields().write(sink, newline, defaultIndent, bodyIndent);
     if (this.staticInitializer != null && !this.staticInitializer.isEmpty()) {
       sink.append(newline);
@@ -556,10 +607,17 @@ public class BaseType extends BaseGenericType implements CodeType {
     return false;
   }
 
+  private static boolean isStale(CodeType type) {
+
+    return (type instanceof BaseType) && ((BaseType) type).isStale();
+  }
+
   @Override
   public CodeType getSourceCodeObject() {
 
-    if (this.sourceCodeObject == null) {
+    if ((this.sourceCodeObject == null) || isStale(this.sourceCodeObject)) {
+      // load again if the source-code has been reloaded in the meantime
+      this.sourceCodeObject = null;
       BaseFile sourceFile = this.file.getSourceCodeObject();
       if (sourceFile != null) {
         this.sourceCodeObject = sourceFile.getType(getSimpleName(), false);
@@ -0,0 +1,301 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.type;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.mmm.code.api.type.CodeGenericType;
+import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.BaseContext;
+
+/**
+ * Index of the type hierarchy of a {@link BaseContext}. For every indexed {@link BaseType} it holds the linearized
+ * closure of all its super-types, a dense ID and a {@link BitSet} with the IDs of all its super-types as well as the
+ * reverse mapping to the known sub-types. Therefore {@link BaseType#isAssignableFrom(CodeGenericType) assignability}
+ * can be checked in constant time without walking the {@link BaseSuperTypes super-types} and the known sub-types of a
+ * type can be determined without walking the entire code model.<br>
+ * Types are indexed lazily on their first request by their {@link BaseType#getQualifiedName() qualified name} and
+ * only {@link WeakReference weakly} referenced so the index neither keeps types alive that have been evicted from the
+ * type cache nor gives different answers for a type that has been parsed again. Lookups are lock-free while indexing
+ * is performed holding the
+ * {@link net.sf.mmm.code.base.AbstractBaseContext#getLock() lock} of the context. If the
+ * {@link BaseType#getSuperTypes() super-types} of an indexed type are modified or such type is reloaded, the index is
+ * {@link #invalidate(BaseType) discarded} and will be rebuilt on demand.<br>
+ * <b>Attention:</b> This is an internal API that should not be used from outside. Use
+ * {@link BaseContext#getTypeHierarchy()} to get the instance for a context.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public final class BaseTypeHierarchy {
+
+  private final BaseTypeHierarchy parent;
+
+  private final Object lock;
+
+  private volatile Generation generation;
+
+  /**
+   * The constructor.
+   *
+   * @param lock the {@link net.sf.mmm.code.base.AbstractBaseContext#getLock() lock} of the owning context.
+   * @param parent the {@link BaseTypeHierarchy} of the {@link BaseContext#getParent() parent context} or {@code null}
+   *        for the root context.
+   */
+  public BaseTypeHierarchy(Object lock, BaseTypeHierarchy parent) {
+
+    super();
+    this.lock = lock;
+    this.parent = parent;
+    Generation parentGeneration = null;
+    if (this.parent != null) {
+      parentGeneration = this.parent.getGeneration();
+    }
+    this.generation = new Generation(parentGeneration);
+  }
+
+  private Generation getGeneration() {
+
+    Generation currentGeneration = this.generation;
+    if (this.parent != null) {
+      Generation parentGeneration = this.parent.getGeneration();
+      if (currentGeneration.parentGeneration != parentGeneration) {
+        // the index of the parent has been invalidated and we might depend on it
+        currentGeneration = new Generation(parentGeneration);
+        this.generation = currentGeneration;
+      }
+    }
+    return currentGeneration;
+  }
+
+  /**
+   * @param superType the potential super-type.
+   * @param type the {@link BaseType} to check.
+   * @return {@code true} if the given {@code superType} is a transitive {@link BaseType#getSuperTypes() super-type}
+   *         of the given {@code type}, {@code false} otherwise (also if both are the same type).
+   */
+  public boolean isSuperType(BaseType superType, BaseType type) {
+
+    Generation currentGeneration = getGeneration();
+    Entry entry = currentGeneration.entries.get(type.getQualifiedName());
+    if (entry == null) {
+      synchronized (this.lock) {
+        currentGeneration = getGeneration();
+        entry = index(currentGeneration, type, new HashMap<>());
+      }
+    }
+    // super-types are always indexed before their sub-types so a type that is not indexed can not be a super-type
+    Entry superEntry = currentGeneration.entries.get(superType.getQualifiedName());
+    if (superEntry == null) {
+      return false;
+    }
+    return entry.superTypeIds.get(superEntry.id);
+  }
+
+  /**
+   * @param type the {@link BaseType} to get the super-types of.
+   * @return the unmodifiable {@link List} with the linearized closure of all transitive
+   *         {@link BaseType#getSuperTypes() super-types} of the given {@link BaseType} in the same order as
+   *         {@link BaseSuperTypes#getAll()} but as raw {@link BaseType}s.
+   */
+  public List<BaseType> getSuperTypes(BaseType type) {
+
+    Entry entry = getGeneration().entries.get(type.getQualifiedName());
+    if (entry == null) {
+      synchronized (this.lock) {
+        entry = index(getGeneration(), type, new HashMap<>());
+      }
+    }
+    List<BaseType> superTypes = new ArrayList<>(entry.superTypes.size());
+    for (Entry superEntry : entry.superTypes) {
+      BaseType superType = superEntry.getType();
+      if (superType != null) {
+        superTypes.add(superType);
+      }
+    }
+    return Collections.unmodifiableList(superTypes);
+  }
+
+  /**
+   * @param type the {@link BaseType} to get the sub-types of.
+   * @return a new {@link List} with all known {@link BaseType}s that have the given {@link BaseType} as transitive
+   *         {@link BaseType#getSuperTypes() super-type}. Only types that have already been indexed (e.g. by a previous
+   *         call of {@link #getSuperTypes(BaseType)} or {@link BaseType#isAssignableFrom(CodeGenericType)}) are
+   *         considered so the code model is not walked. Only indexed types that have been evicted from the type cache
+   *         in the meantime are requested again.
+   */
+  public List<BaseType> getSubTypes(BaseType type) {
+
+    synchronized (this.lock) {
+      Generation currentGeneration = getGeneration();
+      Entry entry = index(currentGeneration, type, new HashMap<>());
+      BitSet subTypeIds = currentGeneration.subTypeIds.get(entry.id);
+      List<BaseType> subTypes = new ArrayList<>(subTypeIds.cardinality());
+      for (int id = subTypeIds.nextSetBit(0); id >= 0; id = subTypeIds.nextSetBit(id + 1)) {
+        BaseType subType = currentGeneration.types.get(id).getType();
+        if (subType != null) {
+          subTypes.add(subType);
+        }
+      }
+      return subTypes;
+    }
+  }
+
+  /**
+   * Invalidates this index if the given {@link BaseType} has been indexed. Has to be called whenever the
+   * {@link BaseType#getSuperTypes() super-types} of a {@link BaseType} have changed or it has been removed (e.g. to be
+   * reloaded).
+   *
+   * @param type the modified {@link BaseType}.
+   */
+  public void invalidate(BaseType type) {
+
+    Generation currentGeneration = this.generation;
+    if (currentGeneration.entries.containsKey(type.getQualifiedName())) {
+      this.generation = new Generation(currentGeneration.parentGeneration);
+    }
+  }
+
+  private Entry index(Generation currentGeneration, BaseType type, Map<BaseType, Entry> visiting) {
+
+    String qualifiedName = type.getQualifiedName();
+    Entry entry = currentGeneration.entries.get(qualifiedName);
+    if (entry != null) {
+      return entry;
+    }
+    BaseContext context = type.getContext();
+    if (context != null) {
+      BaseTypeHierarchy owner = context.getTypeHierarchy();
+      if ((owner != this) && isAncestor(owner)) {
+        // ensure changes of types from parent contexts will invalidate the parent and therefore also this index
+        owner.getSuperTypes(type);
+      }
+    }
+    entry = new Entry(currentGeneration.types.size(), type);
+    currentGeneration.types.add(entry);
+    currentGeneration.subTypeIds.add(new BitSet());
+    visiting.put(type, entry);
+    Set<Entry> closure = new LinkedHashSet<>();
+    for (CodeGenericType superType : type.getSuperTypes().getDeclared()) {
+      CodeType rawSuperType = superType.asType();
+      if ((rawSuperType instanceof BaseType) && !visiting.containsKey(rawSuperType)) {
+        addSuperType(currentGeneration, entry, closure, (BaseType) rawSuperType, visiting);
+      }
+    }
+    if ((context != null) && !type.isPrimitive()) {
+      // the root type is implicitly assignable from every non-primitive type (including interfaces) but only part of
+      // the closure if actually inherited
+      BaseType rootType = context.getRootType();
+      if ((rootType != null) && (rootType != type) && !visiting.containsKey(rootType)) {
+        entry.superTypeIds.set(index(currentGeneration, rootType, visiting).id);
+      }
+    }
+    entry.superTypes = Collections.unmodifiableList(new ArrayList<>(closure));
+    for (int id = entry.superTypeIds.nextSetBit(0); id >= 0; id = entry.superTypeIds.nextSetBit(id + 1)) {
+      currentGeneration.subTypeIds.get(id).set(entry.id);
+    }
+    visiting.remove(type);
+    currentGeneration.entries.put(qualifiedName, entry);
+    return entry;
+  }
+
+  private boolean isAncestor(BaseTypeHierarchy hierarchy) {
+
+    BaseTypeHierarchy ancestor = this.parent;
+    while (ancestor != null) {
+      if (ancestor == hierarchy) {
+        return true;
+      }
+      ancestor = ancestor.parent;
+    }
+    return false;
+  }
+
+  private void addSuperType(Generation currentGeneration, Entry entry, Set<Entry> closure, BaseType superType, Map<BaseType, Entry> visiting) {
+
+    Entry superEntry = index(currentGeneration, superType, visiting);
+    closure.add(superEntry);
+    closure.addAll(superEntry.superTypes);
+    entry.superTypeIds.set(superEntry.id);
+    entry.superTypeIds.or(superEntry.superTypeIds);
+  }
+
+  /**
+   * A snapshot of the index that is replaced as a whole when invalidated so concurrent readers never see a partially
+   * discarded state. The {@link #entries} may be read lock-free while all other fields are guarded by the lock.
+   */
+  private static final class Generation {
+
+    private final Generation parentGeneration;
+
+    private final Map<String, Entry> entries;
+
+    private final List<Entry> types;
+
+    private final List<BitSet> subTypeIds;
+
+    private Generation(Generation parentGeneration) {
+
+      super();
+      this.parentGeneration = parentGeneration;
+      this.entries = new ConcurrentHashMap<>();
+      this.types = new ArrayList<>();
+      this.subTypeIds = new ArrayList<>();
+    }
+  }
+
+  /**
+   * The indexed information of a single {@link BaseType}. Not modified after it has been published to
+   * {@link Generation#entries} except for the {@link #type} reference that is restored on demand.
+   */
+  private static final class Entry {
+
+    private final int id;
+
+    private final String qualifiedName;
+
+    private final BaseContext context;
+
+    private final BitSet superTypeIds;
+
+    private volatile WeakReference<BaseType> type;
+
+    private List<Entry> superTypes;
+
+    private Entry(int id, BaseType type) {
+
+      super();
+      this.id = id;
+      this.qualifiedName = type.getQualifiedName();
+      this.context = type.getContext();
+      this.superTypeIds = new BitSet();
+      this.type = new WeakReference<>(type);
+    }
+
+    /**
+     * @return the indexed {@link BaseType}. If it has been garbage collected or reloaded, it is requested again from
+     *         its {@link BaseType#getContext() context} by its qualified name.
+     */
+    private BaseType getType() {
+
+      BaseType result = this.type.get();
+      if (((result == null) || result.isStale()) && (this.context != null)) {
+        result = this.context.getType(this.qualifiedName);
+        if (result != null) {
+          this.type = new WeakReference<>(result);
+        }
+      }
+      return result;
+    }
+  }
+
+}
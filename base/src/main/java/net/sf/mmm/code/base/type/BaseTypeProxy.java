@@ -26,7 +26,7 @@ public class BaseTypeProxy extends BaseGenericTypeProxy implements CodeNodeItemC
 
   private final CodeElement parent;
 
-  private BaseType type;
+  private volatile BaseType type;
 
   private boolean qualified;
 
@@ -76,7 +76,15 @@ public class BaseTypeProxy extends BaseGenericTypeProxy implements CodeNodeItemC
   @Override
   public BaseType getDelegate() {
 
-    return this.type;
+    BaseType delegate = this.type;
+    if (delegate.isStale()) {
+      BaseType reloaded = delegate.getContext().getType(delegate.getQualifiedName());
+      if (reloaded != null) {
+        delegate = reloaded;
+        this.type = delegate;
+      }
+    }
+    return delegate;
   }
 
   @Override
@@ -102,7 +110,7 @@ public class BaseTypeProxy extends BaseGenericTypeProxy implements CodeNodeItemC
   @Override
   public BaseType asType() {
 
-    return this.type;
+    return getDelegate();
   }
 
   @Override
@@ -123,8 +131,9 @@ public class BaseTypeProxy extends BaseGenericTypeProxy implements CodeNodeItemC
   @Override
   public BaseGenericType resolve(CodeGenericType context) {
 
-    BaseType resolvedType = this.type.resolve(context);
-    if (resolvedType == this.type) {
+    BaseType delegate = getDelegate();
+    BaseType resolvedType = delegate.resolve(context);
+    if (resolvedType == delegate) {
       return this;
     }
     BaseTypeProxy proxy = new BaseTypeProxy(this.parent, resolvedType);
@@ -140,14 +149,15 @@ public class BaseTypeProxy extends BaseGenericTypeProxy implements CodeNodeItemC
       return;
     }
     super.doWrite(sink, newline, defaultIndent, currentIndent, language, false);
-    this.type.doWriteDeclaration(sink, currentIndent, language);
-    this.type.doWriteBody(sink, newline, defaultIndent, currentIndent, language);
+    BaseType delegate = getDelegate();
+    delegate.doWriteDeclaration(sink, currentIndent, language);
+    delegate.doWriteBody(sink, newline, defaultIndent, currentIndent, language);
   }
 
   @Override
   public void writeReference(Appendable sink, boolean declaration) throws IOException {
 
-    sink.append(this.type.getQualifiedName());
+    sink.append(getDelegate().getQualifiedName());
     if (declaration) {
       getTypeParameters().write(sink, "", null, "");
     }
@@ -0,0 +1,107 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.type;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import net.sf.mmm.code.base.BaseContext;
+
+/**
+ * Internal class to memoize a flattened view of items including the inherited ones (e.g.
+ * {@link net.sf.mmm.code.base.member.BaseMethods#getAll()}). The view is built once and reused until the
+ * {@link BaseType#getModificationCount() modification count} of the {@link BaseType} or of one of its
+ * {@link BaseTypeHierarchy#getSuperTypes(BaseType) super-types} changes or the super-types themselves change.
+ * Modifications of unrelated types do not cause a rebuild.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @param <I> type of the items.
+ * @since 1.0.0
+ */
+public final class InternalFlattenedItems<I> {
+
+  private volatile Snapshot<I> snapshot;
+
+  /**
+   * The constructor.
+   */
+  public InternalFlattenedItems() {
+
+    super();
+  }
+
+  /**
+   * @param type the {@link BaseType} the items are inherited along or {@code null} if not available.
+   * @param factory the {@link Supplier} to build the flattened {@link List} of items if not cached or outdated.
+   * @return the unmodifiable {@link List} of items.
+   */
+  public List<I> get(BaseType type, Supplier<List<I>> factory) {
+
+    BaseContext context = null;
+    if (type != null) {
+      context = type.getContext();
+    }
+    if (context == null) {
+      return Collections.unmodifiableList(factory.get());
+    }
+    List<BaseType> superTypes = context.getTypeHierarchy().getSuperTypes(type);
+    Snapshot<I> current = this.snapshot;
+    if ((current != null) && current.isUpToDate(type, superTypes)) {
+      return current.items;
+    }
+    // stamps are taken before building so a modification while building causes another rebuild on the next call
+    int modificationCount = type.getModificationCount();
+    int[] superTypeModificationCounts = new int[superTypes.size()];
+    for (int i = 0; i < superTypeModificationCounts.length; i++) {
+      superTypeModificationCounts[i] = superTypes.get(i).getModificationCount();
+    }
+    List<I> items = Collections.unmodifiableList(factory.get());
+    this.snapshot = new Snapshot<>(type, modificationCount, superTypes, superTypeModificationCounts, items);
+    return items;
+  }
+
+  private static final class Snapshot<I> {
+
+    private final BaseType type;
+
+    private final int modificationCount;
+
+    private final List<BaseType> superTypes;
+
+    private final int[] superTypeModificationCounts;
+
+    private final List<I> items;
+
+    private Snapshot(BaseType type, int modificationCount, List<BaseType> superTypes,
+        int[] superTypeModificationCounts, List<I> items) {
+
+      super();
+      this.type = type;
+      this.modificationCount = modificationCount;
+      this.superTypes = superTypes;
+      this.superTypeModificationCounts = superTypeModificationCounts;
+      this.items = items;
+    }
+
+    private boolean isUpToDate(BaseType currentType, List<BaseType> currentSuperTypes) {
+
+      if ((this.type != currentType) || (this.modificationCount != currentType.getModificationCount())) {
+        return false;
+      }
+      int size = currentSuperTypes.size();
+      if (size != this.superTypeModificationCounts.length) {
+        return false;
+      }
+      for (int i = 0; i < size; i++) {
+        BaseType superType = currentSuperTypes.get(i);
+        if ((superType != this.superTypes.get(i))
+            || (superType.getModificationCount() != this.superTypeModificationCounts[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+}
@@ -12,13 +12,19 @@ import net.sf.mmm.code.api.CodePackage;
 import net.sf.mmm.code.api.node.CodeNodeWithFileWriting;
 import net.sf.mmm.code.api.type.CodeType;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test of {@link AbstractBaseContext} via {@link TestContext}.
  */
 public class AbstractBaseContextTest extends BaseContextTest {
 
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /**
    * Test of {@link CodeNodeWithFileWriting#write(Path)}.
    *
@@ -43,8 +49,7 @@ public class AbstractBaseContextTest extends BaseContextTest {
     barType.getSuperTypes().add(fooType);
     barFile.getImports().add(fooType);
 
-    Path targetDir = Files.createTempDirectory("BaseContextImplTest");
-    targetDir.toFile().deleteOnExit();
+    Path targetDir = this.temporaryFolder.newFolder("BaseContextImplTest").toPath();
     fooPkg.write(targetDir);
 
     // then
@@ -80,4 +85,53 @@ public class AbstractBaseContextTest extends BaseContextTest {
     assertThat(childCount).isEqualTo(4);
   }
 
+  /**
+   * Test of {@link BaseWriter#write(BasePackage, Path)} writing in parallel and skipping unchanged files.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testWriteParallelSkipsUnchanged() throws Exception {
+
+    // given
+    CodeContext context = createContext();
+    CodePackage rootPkg = context.getSource().getRootPackage();
+    BasePackage fooPkg = (BasePackage) rootPkg.getChildren().createPackage("foo");
+    CodeType fooType = fooPkg.getChildren().getOrCreateFile("Foo").getType();
+    CodePackage barPkg = fooPkg.getChildren().getOrCreatePackage("bar");
+    barPkg.getDoc().add("This is the bar package.");
+    CodeType barType = barPkg.getChildren().getOrCreateFile("Bar").getType();
+    barType.getSuperTypes().add(fooType);
+    Path targetDir = this.temporaryFolder.newFolder("BaseWriterTest").toPath();
+    BaseWriter writer = new BaseWriter(2);
+
+    // when
+    BaseWriteStatistics statistics = writer.write(fooPkg, targetDir);
+
+    // then
+    assertThat(statistics.getWrittenCount()).isEqualTo(3);
+    assertThat(statistics.getSkippedCount()).isEqualTo(0);
+    assertThat(statistics.getFailedCount()).isEqualTo(0);
+    assertThat(targetDir.resolve("Foo.java")).hasContent("package foo;\n\n" //
+        + "public class Foo {\n" //
+        + "}\n");
+
+    // and when
+    statistics = writer.write(fooPkg, targetDir);
+
+    // then
+    assertThat(statistics.getWrittenCount()).isEqualTo(0);
+    assertThat(statistics.getSkippedCount()).isEqualTo(3);
+
+    // and when
+    fooType.getDoc().add("The foo type.");
+    statistics = writer.write(fooPkg, targetDir);
+
+    // then
+    assertThat(statistics.getWrittenCount()).isEqualTo(1);
+    assertThat(statistics.getSkippedCount()).isEqualTo(2);
+    assertThat(statistics.toString()).isEqualTo("written=1, skipped=2, failed=0");
+    assertThat(new String(Files.readAllBytes(targetDir.resolve("Foo.java")), "UTF-8")).contains("The foo type.");
+  }
+
 }
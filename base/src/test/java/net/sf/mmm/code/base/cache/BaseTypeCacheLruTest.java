@@ -0,0 +1,96 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import org.junit.Test;
+
+import net.sf.mmm.code.base.BaseContext;
+import net.sf.mmm.code.base.BaseContextTest;
+import net.sf.mmm.code.base.type.BaseType;
+
+/**
+ * Test of {@link BaseTypeCacheLru}.
+ */
+public class BaseTypeCacheLruTest extends BaseContextTest {
+
+  /**
+   * Test that {@link BaseTypeCacheLru} evicts the least recently used entry and counts hits, misses and evictions.
+   */
+  @Test
+  public void testEviction() {
+
+    // given
+    BaseContext context = createContext();
+    BaseType stringType = (BaseType) context.getType(String.class);
+    BaseType integerType = (BaseType) context.getType(Integer.class);
+    BaseType longType = (BaseType) context.getType(Long.class);
+    BaseTypeCacheLru cache = new BaseTypeCacheLru(2);
+
+    // when
+    cache.put(stringType.getQualifiedName(), stringType);
+    cache.put(integerType.getQualifiedName(), integerType);
+    assertThat(cache.get(stringType.getQualifiedName())).isSameAs(stringType);
+    cache.put(longType.getQualifiedName(), longType);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(integerType.getQualifiedName())).isNull();
+    assertThat(cache.get(stringType.getQualifiedName())).isSameAs(stringType);
+    assertThat(cache.peek(longType.getQualifiedName())).isSameAs(longType);
+    BaseTypeCacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(2);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+    assertThat(statistics.getEvictionCount()).isEqualTo(1);
+    assertThat(statistics.getSize()).isEqualTo(2);
+  }
+
+  /**
+   * Test that {@link BaseTypeCacheLru} never evicts types parsed from source-code.
+   */
+  @Test
+  public void testSourceTypesNotEvicted() {
+
+    // given
+    BaseContext context = createContext();
+    BaseType sourceType = context.getSource().getRootPackage().getChildren().createType("Foo");
+    BaseType stringType = (BaseType) context.getType(String.class);
+    BaseType integerType = (BaseType) context.getType(Integer.class);
+    BaseTypeCacheLru cache = new BaseTypeCacheLru(1);
+
+    // when
+    cache.put(sourceType.getQualifiedName(), sourceType);
+    cache.put(stringType.getQualifiedName(), stringType);
+    cache.put(integerType.getQualifiedName(), integerType);
+
+    // then
+    assertThat(sourceType.getReflectiveObject()).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(sourceType.getQualifiedName())).isSameAs(sourceType);
+    assertThat(cache.get(stringType.getQualifiedName())).isNull();
+    assertThat(cache.get(integerType.getQualifiedName())).isSameAs(integerType);
+    assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+    assertThat(cache.remove(sourceType.getQualifiedName())).isSameAs(sourceType);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  /**
+   * Test of {@link BaseTypeCacheLru} with soft references for reflective types.
+   */
+  @Test
+  public void testSoftReflectiveTypes() {
+
+    // given
+    BaseContext context = createContext();
+    BaseType stringType = (BaseType) context.getType(String.class);
+    BaseTypeCacheLru cache = new BaseTypeCacheLru(10, true);
+
+    // when
+    cache.put(stringType.getQualifiedName(), stringType);
+
+    // then (strongly referenced by this test, so it can not be collected)
+    assertThat(cache.get(stringType.getQualifiedName())).isSameAs(stringType);
+    assertThat(cache.remove(stringType.getQualifiedName())).isSameAs(stringType);
+    assertThat(cache.size()).isZero();
+  }
+
+}
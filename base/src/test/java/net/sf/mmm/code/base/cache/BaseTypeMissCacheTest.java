@@ -0,0 +1,53 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.cache;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * Test of {@link BaseTypeMissCache}.
+ */
+public class BaseTypeMissCacheTest extends Assertions {
+
+  /**
+   * Test that {@link BaseTypeMissCache} remembers misses, stays bounded and can be invalidated.
+   */
+  @Test
+  public void testMisses() {
+
+    // given
+    BaseTypeMissCache cache = new BaseTypeMissCache(2);
+
+    // when
+    cache.add("com.example.Foo");
+    cache.add("com.example.Bar");
+    cache.add("com.example.Bar");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isMissing("com.example.Foo")).isTrue();
+    assertThat(cache.isMissing("com.example.Other")).isFalse();
+    assertThat(cache.getHitCount()).isEqualTo(1);
+
+    // when
+    cache.add("com.example.Some");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isMissing("com.example.Some")).isTrue();
+
+    // when
+    cache.remove("com.example.Some");
+
+    // then
+    assertThat(cache.isMissing("com.example.Some")).isFalse();
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+}
@@ -322,4 +322,75 @@ public class CodeCopyTest extends BaseContextTest {
         "}\n");
   }
 
+  /**
+   * Test of {@link CodeNodeItemCopyable#copy()} for an immutable template where the members are only copied on
+   * demand (copy-on-write).
+   */
+  @Test
+  public void testCopyOnWrite() {
+
+    // given
+    CodeContext context = createContext();
+    CodeGenericType string = context.getType(String.class);
+    CodePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("template");
+    CodeType template = pkg.getChildren().getOrCreateFile("Template").getType();
+    CodeField fieldA = template.getFields().add("a");
+    fieldA.setType(string);
+    CodeField fieldB = template.getFields().add("b");
+    fieldB.setType(string);
+    template.setImmutable();
+
+    // when
+    CodeType copy = template.copy();
+    CodeField fieldACopy = copy.getFields().getDeclared("a");
+
+    // then
+    assertThat(fieldACopy).isNotNull().isNotSameAs(fieldA);
+    assertThat(fieldACopy.getParent()).isSameAs(copy.getFields());
+    assertThat(fieldACopy.getType()).isSameAs(string);
+    assertThat(copy.getFields().getDeclared("a")).isSameAs(fieldACopy);
+    assertThat(copy.getFields().getDeclared("c")).isNull();
+    assertThat(copy.getFields().getDeclared()).hasSize(2).first().isSameAs(fieldACopy);
+    assertThat(copy.getFields().getDeclared().get(1)).isNotSameAs(fieldB);
+
+    // and when
+    copy.getFields().add("c");
+
+    // then
+    assertThat(copy.getFields().getDeclared()).hasSize(3);
+    assertThat(template.getFields().getDeclared()).containsExactly(fieldA, fieldB);
+  }
+
+  /**
+   * Test of {@link CodeNodeItemCopyable#copy()} for a mutable template that is modified after the copy has been
+   * created but before the copy is accessed.
+   */
+  @Test
+  public void testCopyMutableTemplate() {
+
+    // given
+    CodeContext context = createContext();
+    CodeGenericType string = context.getType(String.class);
+    CodeGenericType longType = context.getType(Long.class);
+    CodePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("mutable");
+    CodeType template = pkg.getChildren().getOrCreateFile("Template").getType();
+    CodeField fieldA = template.getFields().add("a");
+    fieldA.setType(string);
+
+    // when
+    CodeType copy = template.copy();
+    fieldA.setType(longType);
+    fieldA.getDoc().add("Modified after copy.");
+    template.getFields().add("b");
+
+    // then
+    CodeField fieldACopy = copy.getFields().getDeclared("a");
+    assertThat(fieldACopy).isNotNull().isNotSameAs(fieldA);
+    assertThat(fieldACopy.getParent()).isSameAs(copy.getFields());
+    assertThat(fieldACopy.getType()).isSameAs(string);
+    assertThat(fieldACopy.getDoc().getLines()).isEmpty();
+    assertThat(copy.getFields().getDeclared()).containsExactly(fieldACopy);
+    assertThat(template.getFields().getDeclared()).hasSize(2);
+  }
+
 }
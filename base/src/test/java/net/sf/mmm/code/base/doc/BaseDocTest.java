@@ -63,4 +63,57 @@ public class BaseDocTest extends BaseContextTest {
             "* item2\n");
   }
 
+  /**
+   * Test of {@link BaseDoc#getFormatted(CodeDocFormat, String)} with special characters and memoization for an
+   * immutable {@link BaseDoc}.
+   */
+  @Test
+  public void testFormattedCached() {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("pkg");
+    BaseType type = pkg.getChildren().createType("Foo");
+    BaseDoc doc = type.getDoc();
+    doc.getLines().add("Costs {@code $1} or {@literal 1\\2} for <b>all</b>.");
+
+    // when
+    String text = doc.getFormatted(CodeDocFormat.PLAIN_TEXT);
+
+    // then
+    assertThat(text).isEqualTo("Costs $1 or 1\\2 for all.");
+    assertThat(doc.getFormatted(CodeDocFormat.PLAIN_TEXT)).isEqualTo(text).isNotSameAs(text);
+
+    // and when
+    doc.setImmutable();
+    String cached = doc.getFormatted(CodeDocFormat.PLAIN_TEXT);
+
+    // then
+    assertThat(cached).isEqualTo(text);
+    assertThat(doc.getFormatted(CodeDocFormat.PLAIN_TEXT)).isSameAs(cached);
+    assertThat(doc.getFormatted(CodeDocFormat.PLAIN_TEXT, "\r\n")).isEqualTo(text);
+    assertThat(doc.getFormatted(CodeDocFormat.ASCII_DOC)).isEqualTo("Costs `$1` or 1\\2 for *all*.");
+  }
+
+  /**
+   * Test of {@link BaseDoc#getFormatted(CodeDocFormat)} with an XML tag enclosing an inline tag. The result has to be
+   * the same as replacing all inline tags first and then all XML tags.
+   */
+  @Test
+  public void testFormattedXmlTagEnclosingInlineTag() {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("pkg");
+    BaseType type = pkg.getChildren().createType("Foo");
+    BaseDoc doc = type.getDoc();
+
+    // when
+    doc.getLines().add("Use <b title=\"{@code a>b}\">bold</b> and <i {@literal x}>{@code c}</i>.");
+
+    // then
+    assertThat(doc.getFormatted(CodeDocFormat.PLAIN_TEXT)).isEqualTo("Use b\">bold and c.");
+    assertThat(doc.getFormatted(CodeDocFormat.ASCII_DOC)).isEqualTo("Use *b`\">bold* and _`c`_.");
+  }
+
 }
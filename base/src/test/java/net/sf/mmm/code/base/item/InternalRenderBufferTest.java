@@ -0,0 +1,77 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.item;
+
+import net.sf.mmm.code.base.BaseContext;
+import net.sf.mmm.code.base.BaseContextTest;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.type.BaseType;
+
+import org.junit.Test;
+
+/**
+ * Test of {@link InternalRenderBuffer}.
+ */
+public class InternalRenderBufferTest extends BaseContextTest {
+
+  /**
+   * Test of {@link InternalRenderBuffer#indent(String, String)}.
+   */
+  @Test
+  public void testIndent() {
+
+    assertThat(InternalRenderBuffer.indent("  ", null)).isEqualTo("  ");
+    assertThat(InternalRenderBuffer.indent("  ", "")).isEqualTo("  ");
+    assertThat(InternalRenderBuffer.indent("", "  ")).isEqualTo("  ");
+    assertThat(InternalRenderBuffer.indent("    ", "  ")).isEqualTo("      ");
+    assertThat(InternalRenderBuffer.indent("    ", "  ")).isSameAs(InternalRenderBuffer.indent("    ", "  "));
+    assertThat(InternalRenderBuffer.indent("\t", "\t")).isEqualTo("\t\t");
+    assertThat(InternalRenderBuffer.indent(" ", "  ")).isEqualTo("   ");
+    assertThat(InternalRenderBuffer.indent("//", "//")).isEqualTo("////");
+  }
+
+  /**
+   * Test of {@link InternalRenderBuffer#acquire()} and {@link InternalRenderBuffer#release(StringBuilder)}.
+   */
+  @Test
+  public void testAcquireAndRelease() {
+
+    // given
+    StringBuilder buffer = InternalRenderBuffer.acquire();
+    buffer.append("foo");
+
+    // when
+    StringBuilder nested = InternalRenderBuffer.acquire();
+    InternalRenderBuffer.release(nested);
+    InternalRenderBuffer.release(buffer);
+
+    // then
+    assertThat(nested).isNotSameAs(buffer);
+    StringBuilder reused = InternalRenderBuffer.acquire();
+    assertThat(reused).isSameAs(buffer).isEmpty();
+    InternalRenderBuffer.release(reused);
+  }
+
+  /**
+   * Regression test for rendering nested types with a {@code null} indent that previously rendered the literal
+   * "null" as indent.
+   */
+  @Test
+  public void testWriteWithNullIndent() {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("mydomain");
+    BaseType type = pkg.getChildren().createType("MyClass");
+    type.getNestedTypes().add("MyNested");
+    StringBuilder buffer = new StringBuilder();
+
+    // when
+    type.write(buffer, "\n", null, "");
+
+    // then
+    assertThat(buffer.toString()).contains("class MyClass", "class MyNested").doesNotContain("null");
+    assertThat(type.toString()).doesNotContain("null");
+  }
+
+}
@@ -0,0 +1,135 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * Test of {@link BaseSourceCodeProviderArchive}.
+ */
+public class BaseSourceCodeProviderArchiveTest extends Assertions {
+
+  private static final String FOO = "package com.example;\n\npublic class Foo {\n}\n";
+
+  private static final String BAR = "package com.example.bar;\n\npublic interface Bar {\n}\n";
+
+  private static final String PACKAGE_INFO = "/** Example package. */\npackage com.example;\n";
+
+  /**
+   * Test of {@link BaseSourceCodeProviderArchive} with deflated and stored entries.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testArchive() throws IOException {
+
+    // given
+    File archive = File.createTempFile("mmm-code-test", "-sources.jar");
+    archive.deleteOnExit();
+    try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+      zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+      zip.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+      addEntry(zip, "com/example/Foo.java", FOO, false);
+      addEntry(zip, "com/example/package-info.java", PACKAGE_INFO, false);
+      addEntry(zip, "com/example/bar/Bar.java", BAR, true);
+    }
+
+    // when
+    BaseSourceCodeProviderArchive provider = new BaseSourceCodeProviderArchive(archive);
+
+    // then
+    assertThat(read(provider.openType("com.example.Foo"))).isEqualTo(FOO);
+    assertThat(read(provider.openType("com.example.bar.Bar"))).isEqualTo(BAR);
+    assertThat(read(provider.openPackage("com.example"))).isEqualTo(PACKAGE_INFO);
+    assertThat(provider.openType("com.example.Missing")).isNull();
+    assertThat(provider.openPackage("")).isNull();
+    assertThat(provider.scanPackage("com.example")).containsExactly("Foo");
+    assertThat(provider.scanPackage("com")).isEmpty();
+    assertThat(provider.scanSubPackages("")).containsExactly("com");
+    assertThat(provider.scanSubPackages("com.example")).containsExactly("bar");
+    assertThat(provider.getTypeStamp("com.example.Foo")).isNotNull()
+        .isNotEqualTo(provider.getTypeStamp("com.example.bar.Bar"));
+    assertThat(provider.getTypeStamp("com.example.Missing")).isNull();
+    provider.close();
+    assertThatThrownBy(() -> provider.openType("com.example.Foo")).isInstanceOf(IllegalStateException.class);
+  }
+
+  /**
+   * Test of {@link BaseSourceCodeProviderArchive} with a ZIP64 archive that can not be mapped and is therefore read via
+   * the zip file system.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testArchiveZip64() throws IOException {
+
+    // given
+    File archive = File.createTempFile("mmm-code-test", "-sources.jar");
+    archive.deleteOnExit();
+    try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+      addEntry(zip, "com/example/Foo.java", FOO, false);
+      addEntry(zip, "com/example/package-info.java", PACKAGE_INFO, false);
+      addEntry(zip, "com/example/bar/Bar.java", BAR, true);
+      // more than 65535 entries force the ZIP64 format
+      for (int i = 0; i < 0xFFFF; i++) {
+        zip.putNextEntry(new ZipEntry("META-INF/dummy/" + i + "/"));
+        zip.closeEntry();
+      }
+    }
+
+    // when
+    BaseSourceCodeProviderArchive provider = new BaseSourceCodeProviderArchive(archive);
+
+    // then
+    assertThat(read(provider.openType("com.example.Foo"))).isEqualTo(FOO);
+    assertThat(read(provider.openType("com.example.bar.Bar"))).isEqualTo(BAR);
+    assertThat(read(provider.openPackage("com.example"))).isEqualTo(PACKAGE_INFO);
+    assertThat(provider.openType("com.example.Missing")).isNull();
+    assertThat(provider.scanPackage("com.example")).containsExactly("Foo");
+    assertThat(provider.scanSubPackages("")).containsExactly("com");
+    assertThat(provider.scanSubPackages("com.example")).containsExactly("bar");
+    assertThat(provider.getTypeStamp("com.example.Foo")).isNotNull();
+    assertThat(provider.getTypeStamp("com.example.Missing")).isNull();
+    provider.close();
+    assertThatThrownBy(() -> provider.openType("com.example.Foo")).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static void addEntry(ZipOutputStream zip, String path, String content, boolean stored) throws IOException {
+
+    byte[] data = content.getBytes(StandardCharsets.UTF_8);
+    ZipEntry entry = new ZipEntry(path);
+    if (stored) {
+      CRC32 crc = new CRC32();
+      crc.update(data);
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(data.length);
+      entry.setCompressedSize(data.length);
+      entry.setCrc(crc.getValue());
+    }
+    zip.putNextEntry(entry);
+    zip.write(data);
+    zip.closeEntry();
+  }
+
+  private static String read(Reader reader) throws IOException {
+
+    assertThat(reader).isNotNull();
+    try (BufferedReader in = new BufferedReader(reader)) {
+      return in.lines().collect(Collectors.joining("\n", "", "\n"));
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of {@link BaseSourceCodeWatcher}.
+ */
+public class BaseSourceCodeWatcherTest extends Assertions {
+
+  private static final long TIMEOUT_SECONDS = 30;
+
+  /** The {@link TemporaryFolder} for the watched source directory. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test of {@link BaseSourceCodeProviderDirectory#watch(java.util.function.Consumer)} with created, modified and
+   * deleted source-code files.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testWatch() throws Exception {
+
+    // given
+    File sourceDirectory = this.temporaryFolder.newFolder("src");
+    Path pkgDirectory = Files.createDirectories(sourceDirectory.toPath().resolve("com/example"));
+    Path fooFile = write(pkgDirectory.resolve("Foo.java"), "Foo");
+    BaseSourceCodeProviderDirectory provider = new BaseSourceCodeProviderDirectory(sourceDirectory);
+    assertThat(provider.scanPackage("com.example")).containsExactly("Foo");
+    BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+    BaseSourceCodeWatcher watcher = provider.watch(changes::add);
+    try {
+      assertThat(watcher.getRootDirectory()).isEqualTo(sourceDirectory.toPath());
+
+      // when
+      Path barFile = write(pkgDirectory.resolve("Bar.java"), "Bar");
+
+      // then
+      awaitChange(changes, "com.example.Bar");
+      assertThat(provider.scanPackage("com.example")).containsExactlyInAnyOrder("Foo", "Bar");
+
+      // and when
+      write(fooFile, "Foo2");
+
+      // then
+      awaitChange(changes, "com.example.Foo");
+
+      // and when
+      Path subDirectory = Files.createDirectories(pkgDirectory.resolve("sub"));
+      write(subDirectory.resolve("Baz.java"), "Baz");
+
+      // then
+      awaitChange(changes, "com.example.sub.Baz");
+
+      // and when
+      Files.delete(barFile);
+
+      // then
+      awaitChange(changes, "com.example.Bar");
+      while (provider.scanPackage("com.example").contains("Bar")) {
+        // the change reported before may still be an event from the creation
+        awaitChange(changes, "com.example.Bar");
+      }
+      assertThat(provider.scanPackage("com.example")).containsExactly("Foo");
+    } finally {
+      watcher.close();
+    }
+    assertThat(watcher.isClosed()).isTrue();
+  }
+
+  private static Path write(Path file, String simpleName) throws IOException {
+
+    String code = "package com.example;\n\npublic class " + simpleName + " {\n}\n";
+    return Files.write(file, code.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void awaitChange(BlockingQueue<String> changes, String qualifiedName) throws InterruptedException {
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+    while (true) {
+      long remaining = deadline - System.nanoTime();
+      String change = changes.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+      if (change == null) {
+        fail("Change of " + qualifiedName + " not reported within " + TIMEOUT_SECONDS + " seconds.");
+      }
+      if (change.equals(qualifiedName)) {
+        return;
+      }
+    }
+  }
+
+}
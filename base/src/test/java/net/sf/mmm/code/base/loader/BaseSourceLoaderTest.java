@@ -0,0 +1,140 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.base.loader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import net.sf.mmm.code.api.CodeName;
+import net.sf.mmm.code.base.BaseContext;
+import net.sf.mmm.code.base.BaseContextTest;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.BasePathElements;
+import net.sf.mmm.code.base.source.BaseSource;
+import net.sf.mmm.code.base.type.BaseGenericType;
+import net.sf.mmm.code.base.type.BaseType;
+
+/**
+ * Test of {@link BaseSourceLoader}.
+ */
+public class BaseSourceLoaderTest extends BaseContextTest {
+
+  /**
+   * Test of the default implementation of
+   * {@link BaseSourceLoader#scan(BasePackage, boolean, java.util.concurrent.Executor)}.
+   */
+  @Test
+  public void testDefaultBulkScan() {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage rootPackage = context.getSource().getRootPackage();
+    BasePackage pkg = new BasePackage(rootPackage, "a");
+    rootPackage.getChildren().add(pkg);
+    pkg.getChildren().add(new BaseFile(pkg, "A1"));
+    Map<String, List<String>> files = new HashMap<>();
+    files.put("a", Arrays.asList("A1", "A2"));
+    files.put("a.b", Arrays.asList("B1"));
+    TestLoader loader = new TestLoader(context, files);
+
+    // when
+    BaseScanResult result = loader.scan(pkg, false, null);
+
+    // then
+    assertThat(result.getPackageCount()).isEqualTo(1);
+    assertThat(result.getParsedCount()).isEqualTo(1);
+    assertThat(result.getSkippedCount()).isEqualTo(1);
+    assertThat(result.getFailedCount()).isZero();
+
+    // and when
+    result = loader.scan(pkg, true, null);
+
+    // then
+    assertThat(result.getPackageCount()).isEqualTo(2);
+    assertThat(result.getParsedCount()).isEqualTo(1);
+    assertThat(result.getSkippedCount()).isEqualTo(2);
+    assertThat(pkg.getChildren().getPackage("b").getChildren().getFile("B1")).isNotNull();
+  }
+
+  /**
+   * {@link BaseSourceLoader} that only supports {@link #scan(BasePackage)} from a fixed structure.
+   */
+  private static class TestLoader implements BaseSourceLoader {
+
+    private final BaseContext context;
+
+    private final Map<String, List<String>> files;
+
+    private TestLoader(BaseContext context, Map<String, List<String>> files) {
+
+      super();
+      this.context = context;
+      this.files = files;
+    }
+
+    @Override
+    public void scan(BasePackage pkg) {
+
+      BasePathElements children = pkg.getChildren();
+      String prefix = pkg.getQualifiedName() + ".";
+      for (String qualifiedName : this.files.keySet()) {
+        if (qualifiedName.startsWith(prefix)) {
+          String simpleName = qualifiedName.substring(prefix.length());
+          if ((simpleName.indexOf('.') < 0) && (children.getPackage(simpleName, false) == null)) {
+            children.add(new BasePackage(pkg, simpleName));
+          }
+        }
+      }
+      List<String> simpleNames = this.files.get(pkg.getQualifiedName());
+      if (simpleNames != null) {
+        for (String simpleName : simpleNames) {
+          if (children.getFile(simpleName, false) == null) {
+            children.add(new BaseFile(pkg, simpleName));
+          }
+        }
+      }
+    }
+
+    @Override
+    public BaseContext getContext() {
+
+      return this.context;
+    }
+
+    @Override
+    public BaseSource getSource() {
+
+      return this.context.getSource();
+    }
+
+    @Override
+    public BaseType getType(String qualifiedName) {
+
+      return null;
+    }
+
+    @Override
+    public BaseType getType(CodeName qualifiedName) {
+
+      return null;
+    }
+
+    @Override
+    public BaseGenericType getType(Class<?> clazz) {
+
+      return null;
+    }
+
+    @Override
+    public void close() {
+
+      // nothing to do
+    }
+  }
+
+}
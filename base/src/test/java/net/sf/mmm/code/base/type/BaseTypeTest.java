@@ -3,10 +3,13 @@
 package net.sf.mmm.code.base.type;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
 import net.sf.mmm.code.api.arg.CodeParameter;
+import net.sf.mmm.code.api.member.CodeConstructor;
+import net.sf.mmm.code.api.member.CodeMethod;
 import net.sf.mmm.code.api.modifier.CodeModifiers;
 import net.sf.mmm.code.api.type.CodeGenericType;
 import net.sf.mmm.code.api.type.CodeType;
@@ -16,8 +19,11 @@ import net.sf.mmm.code.base.BaseContextTest;
 import net.sf.mmm.code.base.BasePackage;
 import net.sf.mmm.code.base.BasePathElements;
 import net.sf.mmm.code.base.expression.BaseConstant;
+import net.sf.mmm.code.base.member.BaseConstructors;
 import net.sf.mmm.code.base.member.BaseField;
 import net.sf.mmm.code.base.member.BaseMethod;
+import net.sf.mmm.code.base.member.BaseMethods;
+import net.sf.mmm.code.base.node.BaseNodeItemContainer;
 
 import org.junit.Test;
 
@@ -197,6 +203,120 @@ public class BaseTypeTest extends BaseContextTest {
         interface3Some);
   }
 
+  /**
+   * Test of {@link BaseType#isAssignableFrom(CodeGenericType)} and {@link BaseTypeHierarchy}.
+   */
+  @Test
+  public void testTypeHierarchy() {
+
+    // given
+    BaseContext context = createContext();
+    BasePathElements children = context.getSource().getRootPackage().getChildren().createPackage("pkg").getChildren();
+    BaseType interface1Other = children.createType("Other");
+    BaseType interface2Bar = children.createType("Bar");
+    BaseType interface3Some = children.createType("Some");
+    BaseType interface4Foo = children.createType("Foo");
+    BaseType class1Other = children.createType("OtherClass");
+    BaseType class2Foo = children.createType("FooClass");
+    interface3Some.getSuperTypes().add(interface2Bar);
+    interface4Foo.getSuperTypes().add(interface3Some);
+    interface4Foo.getSuperTypes().add(interface1Other);
+    class1Other.getSuperTypes().add(interface1Other);
+    class1Other.getSuperTypes().add(interface2Bar);
+    class2Foo.getSuperTypes().add(class1Other);
+    class2Foo.getSuperTypes().add(interface4Foo);
+    BaseType rootType = context.getRootType();
+    BaseTypeHierarchy hierarchy = context.getTypeHierarchy();
+
+    // when + then
+    assertThat(hierarchy.getSuperTypes(class2Foo)).containsExactly(class1Other, interface1Other, interface2Bar, interface4Foo,
+        interface3Some);
+    assertThat(interface2Bar.isAssignableFrom(class2Foo)).isTrue();
+    assertThat(interface3Some.isAssignableFrom(class2Foo)).isTrue();
+    assertThat(class2Foo.isAssignableFrom(class2Foo)).isTrue();
+    assertThat(class2Foo.isAssignableFrom(interface2Bar)).isFalse();
+    assertThat(interface3Some.isAssignableFrom(class1Other)).isFalse();
+    assertThat(rootType.isAssignableFrom(interface3Some)).isTrue();
+    assertThat(hierarchy.getSubTypes(interface2Bar)).containsExactlyInAnyOrder(interface3Some, interface4Foo, class1Other,
+        class2Foo);
+    BaseType serializableType = (BaseType) context.getType(Serializable.class);
+    assertThat(serializableType.isAssignableFrom(context.getType(String.class))).isTrue();
+    assertThat(serializableType.isAssignableFrom(context.getType(Object.class))).isFalse();
+    assertThat(((BaseType) context.getType(long.class)).isAssignableFrom(context.getType(int.class))).isFalse();
+
+    // and when (other instance of the same type e.g. after being parsed again)
+    BaseType class1OtherCopy = class1Other.copy();
+
+    // then
+    assertThat(class1OtherCopy.getQualifiedName()).isEqualTo(class1Other.getQualifiedName());
+    assertThat(class1OtherCopy.isAssignableFrom(class2Foo)).isTrue();
+    assertThat(interface2Bar.isAssignableFrom(class1OtherCopy)).isTrue();
+
+    // and when (super-types changed after lookup)
+    class1Other.getSuperTypes().remove(interface2Bar);
+    interface3Some.getSuperTypes().remove(interface2Bar);
+
+    // then
+    assertThat(interface2Bar.isAssignableFrom(class1Other)).isFalse();
+    assertThat(interface2Bar.isAssignableFrom(class2Foo)).isFalse();
+    assertThat(interface1Other.isAssignableFrom(class2Foo)).isTrue();
+    assertThat(hierarchy.getSubTypes(interface2Bar)).isEmpty();
+  }
+
+  /**
+   * Test of {@link BaseMethods#getAll()} with overridden methods and modifications of a super-type.
+   */
+  @Test
+  public void testAllMethods() {
+
+    // given
+    BaseContext context = createContext();
+    BasePathElements children = context.getSource().getRootPackage().getChildren().createPackage("pkg").getChildren();
+    BaseType superClass = children.createType("SuperClass");
+    BaseMethod superFoo = superClass.getMethods().add("foo");
+    BaseMethod superBar = superClass.getMethods().add("bar");
+    BaseType superInterface = children.createType("SuperInterface");
+    superInterface.setCategory(CodeTypeCategory.INTERFACE);
+    superInterface.getMethods().add("foo");
+    BaseMethod interfaceBaz = superInterface.getMethods().add("baz");
+    BaseType type = children.createType("MyType");
+    type.getSuperTypes().add(superClass);
+    type.getSuperTypes().add(superInterface);
+    BaseMethod foo = type.getMethods().add("foo");
+
+    // when
+    List<? extends CodeMethod> allMethods = type.getMethods().getAll();
+
+    // then
+    assertThat(allMethods).containsExactly(foo, superBar, interfaceBaz);
+    assertThat(type.getMethods().getAll()).isSameAs(allMethods);
+    assertThat(superClass.getMethods().getAll()).containsExactly(superFoo, superBar);
+
+    // and when (super-type modified)
+    BaseMethod superQux = superClass.getMethods().add("qux");
+
+    // then
+    List<? extends CodeMethod> allMethodsModified = type.getMethods().getAll();
+    assertThat(allMethodsModified).containsExactly(foo, superBar, superQux, interfaceBaz);
+
+    // and when (unrelated type modified)
+    BaseType otherType = children.createType("OtherType");
+    otherType.getMethods().add("other");
+
+    // then
+    assertThat(type.getMethods().getAll()).isSameAs(allMethodsModified);
+
+    // and when (lazy copy materialized)
+    int modificationCount = superClass.getModificationCount();
+    BaseType superClassCopy = superClass.copy();
+
+    // then
+    assertThat(superClassCopy.getMethods().getDeclared()).hasSize(3);
+    assertThat(superClassCopy.getModificationCount()).isZero();
+    assertThat(superClass.getModificationCount()).isEqualTo(modificationCount);
+    assertThat(type.getMethods().getAll()).isSameAs(allMethodsModified);
+  }
+
   private List<CodeGenericType> getAllSuperTypesAsList(BaseType class2Foo) {
 
     List<CodeGenericType> superTypeList = new ArrayList<>();
@@ -281,6 +401,50 @@ public class BaseTypeTest extends BaseContextTest {
         "}\n");
   }
 
+  /**
+   * Test of {@link BaseType#getMethods()} and {@link BaseType#getConstructors()} with overloaded operations including
+   * changes of their signature.
+   */
+  @Test
+  public void testOverloads() {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("mydomain");
+    BaseType type = pkg.getChildren().createType("MyOverloads");
+    BaseType stringType = (BaseType) context.getType(String.class);
+    BaseType intType = (BaseType) context.getType(int.class);
+    BaseMethods methods = type.getMethods();
+    BaseMethod fooNoArg = methods.add("foo");
+    BaseMethod fooString = methods.add("foo");
+    fooString.getParameters().add("value").setType(stringType);
+    BaseMethod fooInt = methods.add("foo");
+    fooInt.getParameters().add("value").setType(intType);
+    BaseConstructors constructors = type.getConstructors();
+    CodeConstructor constructorString = constructors.add();
+    constructorString.getParameters().add("value").setType(stringType);
+
+    // when + then
+    assertThat(methods.getDeclared("foo")).isSameAs(fooNoArg);
+    assertThat(methods.getDeclared("foo", stringType)).isSameAs(fooString);
+    assertThat(methods.getDeclared("foo", intType)).isSameAs(fooInt);
+    assertThat(methods.getDeclared("bar", intType)).isNull();
+    assertThat(methods.get(fooString.copy())).isSameAs(fooString);
+    assertThat(constructors.get(stringType)).isSameAs(constructorString);
+    assertThat(constructors.get(constructorString.copy())).isSameAs(constructorString);
+    assertThat(constructors.get(intType)).isNull();
+
+    // and when (signature changed after lookup)
+    fooString.getParameters().getDeclared().get(0).setType(intType);
+    fooNoArg.getParameters().add("value").setType(stringType);
+    methods.remove(fooInt);
+
+    // then
+    assertThat(methods.getDeclared("foo")).isNull();
+    assertThat(methods.getDeclared("foo", stringType)).isSameAs(fooNoArg);
+    assertThat(methods.getDeclared("foo", intType)).isSameAs(fooString);
+  }
+
   /**
    * Test of {@link BaseContext#getOrCreateType(String, boolean)}.
    */
@@ -310,4 +474,43 @@ public class BaseTypeTest extends BaseContextTest {
     assertThat(context.getType(qualifiedName)).isSameAs(type2);
   }
 
+  /**
+   * Test that empty containers of a {@link BaseType} do not allocate any internal collections.
+   */
+  @Test
+  public void testEmptyContainersAreCompact() throws Exception {
+
+    // given
+    BaseContext context = createContext();
+    BasePackage pkg = context.getSource().getRootPackage().getChildren().createPackage("mydomain");
+    BaseType type = pkg.getChildren().createType("MyCompactClass");
+    Field listField = BaseNodeItemContainer.class.getDeclaredField("mutableList");
+    listField.setAccessible(true);
+    Field mapField = BaseNodeItemContainer.class.getDeclaredField("map");
+    mapField.setAccessible(true);
+    List<BaseNodeItemContainer<?>> containers = new ArrayList<>();
+    containers.add(type.getFields());
+    containers.add(type.getMethods());
+    containers.add(type.getConstructors());
+    containers.add(type.getNestedTypes());
+    containers.add(type.getTypeParameters());
+    containers.add(type.getAnnotations());
+
+    // when
+    for (BaseNodeItemContainer<?> container : containers) {
+      assertThat(container.getDeclared()).isEmpty();
+    }
+    type.setImmutable();
+
+    // then
+    for (BaseNodeItemContainer<?> container : containers) {
+      assertThat(listField.get(container)).as(container.getClass().getSimpleName()).isNull();
+      assertThat(mapField.get(container)).as(container.getClass().getSimpleName()).isNull();
+    }
+    BaseMethods methods = pkg.getChildren().createType("MyOtherClass").getMethods();
+    methods.add("foo");
+    assertThat(listField.get(methods)).isNotNull();
+    assertThat(methods.getDeclared()).hasSize(1);
+  }
+
 }
@@ -0,0 +1,148 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.source.BaseSource;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+
+/**
+ * Corpus of Java source files read into memory once so the benchmarks do not measure disk I/O. Relative paths are
+ * resolved against the working directory what is expected to be the {@code benchmarks} module.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class BenchmarkCorpus {
+
+  private static final String JAVA_EXTENSION = ".java";
+
+  private final List<Entry> entries;
+
+  private BenchmarkCorpus(List<Entry> entries) {
+
+    super();
+    this.entries = entries;
+  }
+
+  /**
+   * @return the {@link List} of {@link Entry entries}.
+   */
+  public List<Entry> getEntries() {
+
+    return this.entries;
+  }
+
+  /**
+   * @param path the {@link Path} to a single Java source file or to a source folder that is scanned recursively.
+   * @return the {@link BenchmarkCorpus} with all Java types (excluding {@code package-info.java}) found in the given
+   *         {@link Path}.
+   */
+  public static BenchmarkCorpus of(String path) {
+
+    Path root = Paths.get(path).toAbsolutePath().normalize();
+    List<Entry> entries = new ArrayList<>();
+    try {
+      if (Files.isDirectory(root)) {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+          files = stream.filter(BenchmarkCorpus::isType).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+          entries.add(new Entry(getQualifiedName(root.relativize(file)), read(file)));
+        }
+      } else {
+        String simpleName = root.getFileName().toString();
+        simpleName = simpleName.substring(0, simpleName.length() - JAVA_EXTENSION.length());
+        entries.add(new Entry(simpleName, read(root)));
+      }
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.READ);
+    }
+    if (entries.isEmpty()) {
+      throw new IllegalArgumentException("No Java source files found in " + root);
+    }
+    return new BenchmarkCorpus(entries);
+  }
+
+  private static boolean isType(Path file) {
+
+    String filename = file.getFileName().toString();
+    return filename.endsWith(JAVA_EXTENSION) && !filename.equals("package-info.java") && Files.isRegularFile(file);
+  }
+
+  private static String getQualifiedName(Path relativePath) {
+
+    String name = relativePath.toString().replace('\\', '/').replace('/', '.');
+    return name.substring(0, name.length() - JAVA_EXTENSION.length());
+  }
+
+  private static String read(Path file) throws IOException {
+
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param source the {@link BaseSource} to create the {@link BaseFile} in.
+   * @param qualifiedName the qualified name of the type.
+   * @return a new detached {@link BaseFile} for the given type (including its {@link BasePackage packages}).
+   */
+  public static BaseFile createFile(BaseSource source, String qualifiedName) {
+
+    BasePackage pkg = source.getRootPackage();
+    int start = 0;
+    int end = qualifiedName.indexOf('.');
+    while (end > 0) {
+      pkg = new BasePackage(pkg, qualifiedName.substring(start, end), null, null, false);
+      start = end + 1;
+      end = qualifiedName.indexOf('.', start);
+    }
+    return new BaseFile(pkg, qualifiedName.substring(start));
+  }
+
+  /**
+   * A single source file of the corpus.
+   */
+  public static class Entry {
+
+    private final String qualifiedName;
+
+    private final String content;
+
+    private Entry(String qualifiedName, String content) {
+
+      super();
+      this.qualifiedName = qualifiedName;
+      this.content = content;
+    }
+
+    /**
+     * @return the qualified name of the type.
+     */
+    public String getQualifiedName() {
+
+      return this.qualifiedName;
+    }
+
+    /**
+     * @return the source code.
+     */
+    public String getContent() {
+
+      return this.content;
+    }
+  }
+
+}
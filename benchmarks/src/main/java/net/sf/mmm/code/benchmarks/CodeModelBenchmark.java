@@ -0,0 +1,125 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.impl.java.JavaRootContext;
+import net.sf.mmm.code.impl.java.parser.JavaSourceCodeParserImpl;
+
+/**
+ * Benchmarks for operations on an already loaded code model: {@link BaseFile#write(Appendable) writing},
+ * {@link BaseType#copy() copying} and {@link BaseType#merge(CodeType) merging}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeModelBenchmark {
+
+  /** Path to the source folder containing the {@link #typeName type}. */
+  @Param("../base/src/main/java")
+  public String sourceFolder;
+
+  /** Qualified name of the type to parse from the {@link #sourceFolder source folder}. */
+  @Param("net.sf.mmm.code.base.type.BaseType")
+  public String typeName;
+
+  private BaseType sourceType;
+
+  private BaseType reflectiveType;
+
+  private int capacity;
+
+  /**
+   * Loads the types outside of the measurement.
+   */
+  @Setup
+  public void setup() {
+
+    String path = this.sourceFolder + "/" + this.typeName.replace('.', '/') + ".java";
+    BenchmarkCorpus.Entry entry = BenchmarkCorpus.of(path).getEntries().get(0);
+    JavaRootContext context = JavaRootContext.get();
+    BaseFile file = BenchmarkCorpus.createFile(context.getSource(), this.typeName);
+    this.sourceType = JavaSourceCodeParserImpl.get().parseType(new StringReader(entry.getContent()), file);
+    this.reflectiveType = context.getType(java.util.ArrayList.class).asType();
+    this.capacity = entry.getContent().length() * 2;
+  }
+
+  /**
+   * @return the source code of the {@link BaseFile} parsed from source code.
+   */
+  @Benchmark
+  public StringBuilder write() {
+
+    StringBuilder sb = new StringBuilder(this.capacity);
+    this.sourceType.getFile().write(sb);
+    return sb;
+  }
+
+  /**
+   * Measures the {@link BaseType#copy() copy} of the type parsed from source code including its members as the copy of
+   * the members is deferred until they are accessed.
+   *
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void copySource(Blackhole blackhole) {
+
+    consumeMembers(this.sourceType.copy(), blackhole);
+  }
+
+  /**
+   * Measures the {@link BaseType#copy() copy} of a type loaded via reflection including its members.
+   *
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void copyReflective(Blackhole blackhole) {
+
+    consumeMembers(this.reflectiveType.copy(), blackhole);
+  }
+
+  private static void consumeMembers(BaseType type, Blackhole blackhole) {
+
+    blackhole.consume(type.getFields().getDeclared());
+    blackhole.consume(type.getConstructors().getDeclared());
+    blackhole.consume(type.getMethods().getDeclared());
+    blackhole.consume(type.getNestedTypes().getDeclared());
+  }
+
+  /**
+   * Merges the type parsed from source code into a {@link BaseType#copy() copy} of itself. As the model is mutated
+   * by the merge, the result also includes the cost of {@link #copySource(Blackhole)}.
+   *
+   * @return the merged type.
+   */
+  @Benchmark
+  public CodeType merge() {
+
+    return this.sourceType.copy().merge(this.sourceType);
+  }
+
+}
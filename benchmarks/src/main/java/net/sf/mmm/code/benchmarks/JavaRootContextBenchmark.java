@@ -0,0 +1,105 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.sf.mmm.code.base.type.BaseGenericType;
+import net.sf.mmm.code.impl.java.JavaRootContext;
+
+/**
+ * Benchmarks for the startup of {@link JavaRootContext} and the reflective loading of JDK types. As
+ * {@link JavaRootContext#get()} is a singleton, cold measurements use {@link Mode#SingleShotTime} with one
+ * measurement per fork.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaRootContextBenchmark {
+
+  private static final Class<?>[] JDK_TYPES = { String.class, java.util.ArrayList.class, java.util.HashMap.class,
+  java.util.concurrent.ConcurrentHashMap.class, java.io.InputStream.class, java.nio.file.Files.class,
+  java.time.LocalDate.class, java.util.stream.Stream.class, java.util.function.Function.class, Thread.class };
+
+  /**
+   * Measures the first call of {@link JavaRootContext#get()} in a fresh JVM.
+   *
+   * @return the {@link JavaRootContext}.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Fork(10)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public JavaRootContext startup() {
+
+    return JavaRootContext.get();
+  }
+
+  /**
+   * Measures the initial {@link JavaRootContext#getType(Class) reflective loading} of some commonly used JDK types.
+   *
+   * @param state the {@link ContextState}.
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Fork(10)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public void getTypeCold(ContextState state, Blackhole blackhole) {
+
+    for (Class<?> type : JDK_TYPES) {
+      blackhole.consume(state.context.getType(type).asType().getMethods().getDeclared());
+    }
+  }
+
+  /**
+   * Measures {@link JavaRootContext#getType(Class)} for a type that is already cached.
+   *
+   * @param state the {@link ContextState}.
+   * @return the {@link BaseGenericType}.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Fork(1)
+  public BaseGenericType getTypeCached(ContextState state) {
+
+    return state.context.getType(String.class);
+  }
+
+  /**
+   * Holds the {@link JavaRootContext} initialized outside of the measurement. Not used by {@link #startup()} so that
+   * benchmark really measures the creation.
+   */
+  @State(Scope.Benchmark)
+  public static class ContextState {
+
+    private JavaRootContext context;
+
+    /**
+     * Initializes the {@link JavaRootContext}.
+     */
+    @Setup
+    public void setup() {
+
+      this.context = JavaRootContext.get();
+    }
+  }
+
+}
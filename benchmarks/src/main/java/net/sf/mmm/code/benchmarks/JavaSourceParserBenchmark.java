@@ -0,0 +1,121 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.source.BaseSource;
+import net.sf.mmm.code.impl.java.JavaRootContext;
+import net.sf.mmm.code.impl.java.parser.JavaSourceCodeParserImpl;
+import net.sf.mmm.code.java.parser.api.JavaParser;
+
+/**
+ * Benchmarks for parsing Java source code with the high-level {@link JavaSourceCodeParserImpl} (used by the code
+ * model) and the ANTLR based {@link JavaParser}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaSourceParserBenchmark {
+
+  /**
+   * Measures {@link JavaSourceCodeParserImpl#parseType(java.io.Reader, BaseFile)} for all files of the
+   * {@link HighlevelState#corpus corpus}.
+   *
+   * @param state the {@link HighlevelState}.
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void parseHighlevel(HighlevelState state, Blackhole blackhole) {
+
+    JavaSourceCodeParserImpl parser = JavaSourceCodeParserImpl.get();
+    for (BenchmarkCorpus.Entry entry : state.files.getEntries()) {
+      BaseFile file = BenchmarkCorpus.createFile(state.source, entry.getQualifiedName());
+      blackhole.consume(parser.parseType(new StringReader(entry.getContent()), file));
+    }
+  }
+
+  /**
+   * Measures {@link JavaParser#parse(org.antlr.v4.runtime.CharStream)} for all files of the
+   * {@link AntlrState#corpus corpus}.
+   *
+   * @param state the {@link AntlrState}.
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void parseAntlr(AntlrState state, Blackhole blackhole) {
+
+    for (BenchmarkCorpus.Entry entry : state.files.getEntries()) {
+      blackhole.consume(JavaParser.parse(CharStreams.fromString(entry.getContent(), entry.getQualifiedName())));
+    }
+  }
+
+  /**
+   * {@link State} for {@link JavaSourceParserBenchmark#parseHighlevel(HighlevelState, Blackhole)}.
+   */
+  @State(Scope.Benchmark)
+  public static class HighlevelState {
+
+    /** Path to the Java source file or folder to parse. */
+    @Param("../base/src/main/java")
+    public String corpus;
+
+    private BenchmarkCorpus files;
+
+    private BaseSource source;
+
+    /**
+     * Reads the corpus and initializes the context.
+     */
+    @Setup
+    public void setup() {
+
+      this.files = BenchmarkCorpus.of(this.corpus);
+      this.source = JavaRootContext.get().getSource();
+    }
+  }
+
+  /**
+   * {@link State} for {@link JavaSourceParserBenchmark#parseAntlr(AntlrState, Blackhole)}.
+   */
+  @State(Scope.Benchmark)
+  public static class AntlrState {
+
+    /** Path to the Java source file or folder to parse. */
+    @Param("../java/parser/src/test/resources/AllInOneJava8.java")
+    public String corpus;
+
+    private BenchmarkCorpus files;
+
+    /**
+     * Reads the corpus.
+     */
+    @Setup
+    public void setup() {
+
+      this.files = BenchmarkCorpus.of(this.corpus);
+    }
+  }
+
+}
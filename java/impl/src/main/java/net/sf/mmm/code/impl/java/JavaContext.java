@@ -7,7 +7,6 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
-import java.security.CodeSource;
 
 import net.sf.mmm.code.api.CodeName;
 import net.sf.mmm.code.api.element.CodeElementWithDeclaringType;
@@ -17,6 +16,7 @@ import net.sf.mmm.code.api.type.CodeTypeVariable;
 import net.sf.mmm.code.base.AbstractBaseContextWithCache;
 import net.sf.mmm.code.base.BaseContext;
 import net.sf.mmm.code.base.arg.BaseOperationArg;
+import net.sf.mmm.code.base.cache.BaseTypeCache;
 import net.sf.mmm.code.base.element.BaseElement;
 import net.sf.mmm.code.base.element.BaseElementWithDeclaringType;
 import net.sf.mmm.code.base.loader.BaseLoader;
@@ -68,6 +68,18 @@ public abstract class JavaContext extends AbstractBaseContextWithCache {
     super(source, sourceProvider);
   }
 
+  /**
+   * The constructor.
+   *
+   * @param source the top-level {@link #getSource() source}.
+   * @param sourceProvider the {@link BaseSourceProvider}.
+   * @param typeCache the {@link BaseTypeCache} to use or {@code null} for the default.
+   */
+  public JavaContext(BaseSourceImpl source, BaseSourceProvider sourceProvider, BaseTypeCache typeCache) {
+
+    super(source, sourceProvider, typeCache);
+  }
+
   /**
    * @return the root {@link JavaContext context} responsible for the fundamental code (from JDK).
    */
@@ -157,6 +169,16 @@ public abstract class JavaContext extends AbstractBaseContextWithCache {
    */
   public abstract ClassLoader getClassLoader();
 
+  /**
+   * @param clazz the {@link Class} to get the {@link BaseSource} for.
+   * @return the existing or otherwise created {@link BaseSource} responsible for the given {@link Class} or
+   *         {@code null} if no source can be created for it.
+   */
+  protected BaseSource getOrCreateSource(Class<?> clazz) {
+
+    return getOrCreateSource(clazz.getProtectionDomain().getCodeSource());
+  }
+
   /**
    * Implementation of {@link BaseLoader} to load classes from byte-code.
    *
@@ -245,11 +267,15 @@ public abstract class JavaContext extends AbstractBaseContextWithCache {
         BaseGenericType componentType = getType(clazz.getComponentType());
         return componentType.createArray();
       }
-      CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
-      BaseSource source = getOrCreateSource(codeSource);
+      BaseSource source = getOrCreateSource(clazz);
       if (source == null) {
         return null;
       }
+      BaseContext sourceContext = source.getContext();
+      if (sourceContext != JavaContext.this) {
+        // owned by parent context (e.g. JDK types) that shall load and cache it only once for all its children
+        return sourceContext.getType(clazz);
+      }
       return source.getLoader().getType(clazz);
     }
 
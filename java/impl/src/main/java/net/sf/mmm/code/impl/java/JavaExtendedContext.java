@@ -2,6 +2,7 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.code.impl.java;
 
+import net.sf.mmm.code.base.cache.BaseTypeCache;
 import net.sf.mmm.code.base.loader.BaseLoader;
 import net.sf.mmm.code.base.source.BaseSourceImpl;
 import net.sf.mmm.code.base.source.BaseSourceProvider;
@@ -43,7 +44,23 @@ public class JavaExtendedContext extends JavaContext {
   public JavaExtendedContext(JavaContext parent, BaseSourceImpl source, BaseSourceProvider sourceProvider,
       ClassLoader classLoader) {
 
-    super(source, sourceProvider);
+    this(parent, source, sourceProvider, classLoader, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param parent the {@link #getParent() parent context}.
+   * @param source the {@link #getSource() source}.
+   * @param sourceProvider the {@link BaseSourceProvider}.
+   * @param classLoader the explicit {@link ClassLoader} used to load the byte-code.
+   * @param typeCache the {@link BaseTypeCache} to use (e.g. a bounded {@link net.sf.mmm.code.base.cache.BaseTypeCacheLru})
+   *        or {@code null} for the default.
+   */
+  public JavaExtendedContext(JavaContext parent, BaseSourceImpl source, BaseSourceProvider sourceProvider,
+      ClassLoader classLoader, BaseTypeCache typeCache) {
+
+    super(source, sourceProvider, typeCache);
 
     this.parent = parent;
 
@@ -9,21 +9,31 @@ import net.sf.mmm.code.api.language.JavaLanguage;
 import net.sf.mmm.code.api.source.CodeSourceDescriptor;
 import net.sf.mmm.code.base.loader.BaseLoader;
 import net.sf.mmm.code.base.loader.SourceCodeProvider;
+import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.source.BaseSourceDescriptorType;
 import net.sf.mmm.code.base.source.BaseSourceImpl;
 import net.sf.mmm.code.base.type.BaseType;
 import net.sf.mmm.code.base.type.BaseTypeWildcard;
+import net.sf.mmm.code.impl.java.loader.JavaSourceCodeProviderJdk;
 import net.sf.mmm.code.impl.java.loader.JavaSourceLoader;
 
 /**
- * Implementation of {@link JavaContext} for the {@link #getRootContext() root context}.
+ * Implementation of {@link JavaContext} for the {@link #getRootContext() root context}. On Java 9+ the types of the JDK
+ * are lazily loaded into one {@link #getModuleSource(String) source per module} that is created on first access of a
+ * type from that module. The module of a type is determined from the {@code jrt:/} file system and its source-code is
+ * read from the according module folder of the {@code src.zip} (if available).
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class JavaRootContext extends JavaContext {
 
-  private static JavaRootContext instance;
+  /** The prefix for the {@link BaseSource#getId() ID} of a {@link #getModuleSource(String) module source}. */
+  public static final String MODULE_ID_PREFIX = "jrt:/";
+
+  private static volatile JavaRootContext instance;
+
+  private final JavaSourceCodeProviderJdk sourceCodeProvider;
 
   private final JavaClassLoader loader;
 
@@ -38,7 +48,20 @@ public class JavaRootContext extends JavaContext {
    */
   public JavaRootContext(BaseSourceImpl source) {
 
+    this(source, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param source the toplevel {@link #getSource() source}.
+   * @param sourceCodeProvider the {@link JavaSourceCodeProviderJdk} for the source-code of the JDK or {@code null} if
+   *        not available.
+   */
+  public JavaRootContext(BaseSourceImpl source, JavaSourceCodeProviderJdk sourceCodeProvider) {
+
     super(source);
+    this.sourceCodeProvider = sourceCodeProvider;
     this.loader = new JavaClassLoader(ClassLoader.getSystemClassLoader());
     this.factory = new JavaFactory();
     for (Class<?> primitive : JavaConstants.PRIMITIVE_TYPES) {
@@ -154,28 +177,89 @@ public class JavaRootContext extends JavaContext {
     return this.factory;
   }
 
-  private static BaseSourceImpl createRootSource() {
+  @Override
+  protected BaseSource getOrCreateSource(Class<?> clazz) {
+
+    if ((clazz.getProtectionDomain().getCodeSource() == null) && !clazz.isPrimitive()) {
+      Package pkg = clazz.getPackage();
+      if (pkg != null) {
+        String moduleName = JavaSourceCodeProviderJdk.getJdkModuleName(pkg.getName());
+        if (moduleName != null) {
+          return getModuleSource(moduleName);
+        }
+      }
+    }
+    return super.getOrCreateSource(clazz);
+  }
+
+  /**
+   * @param moduleName the name of a module of the JDK (e.g. "java.base").
+   * @return the {@link BaseSource} for the specified module. Will be created on the first call. Its
+   *         {@link BaseSource#getId() ID} is the {@link #MODULE_ID_PREFIX} followed by the module name.
+   */
+  public BaseSource getModuleSource(String moduleName) {
+
+    return getOrCreateSource(MODULE_ID_PREFIX + moduleName, () -> createModuleSource(moduleName));
+  }
+
+  private BaseSource createModuleSource(String moduleName) {
+
+    CodeSourceDescriptor rootDescriptor = getSource().getDescriptor();
+    String version = rootDescriptor.getVersion();
+    String docUrl = getDocUrl(getJavaMajorVersion(version), moduleName);
+    CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(rootDescriptor.getGroupId(), moduleName, version,
+        null, docUrl);
+    SourceCodeProvider moduleSourceCodeProvider = null;
+    File sourceCodeLocation = null;
+    if (this.sourceCodeProvider != null) {
+      moduleSourceCodeProvider = this.sourceCodeProvider.getModule(moduleName);
+      sourceCodeLocation = this.sourceCodeProvider.getArchiveFile();
+    }
+    JavaSourceLoader moduleLoader = new JavaSourceLoader(moduleSourceCodeProvider);
+    // byte-code is located in the jrt:/ file system that can not be represented as File
+    BaseSourceImpl source = new BaseSourceImpl(null, null, sourceCodeLocation, MODULE_ID_PREFIX + moduleName,
+        descriptor, null, moduleLoader, true);
+    source.setContext(this);
+    return source;
+  }
+
+  /**
+   * @return {@code false} so the {@link #getModuleSource(String) module sources} can be registered on demand.
+   */
+  @Override
+  protected boolean isPreventRegisterSource() {
+
+    return false;
+  }
+
+  private static BaseSourceImpl createRootSource(File byteCodeLocation, JavaSourceCodeProviderJdk sourceCodeProvider) {
 
-    SourceCodeProvider sourceCodeProvider = null; // TODO
-    JavaSourceLoader loader = new JavaSourceLoader(sourceCodeProvider);
-    String javaHome = System.getProperty("java.home");
-    File byteCodeLocation = new File(javaHome);
     String version = System.getProperty("java.version");
-    String majorVersion = getJavaMajorVersion(version);
-    String docUrl = "http://docs.oracle.com/javase/" + majorVersion + "/docs/api/";
+    String docUrl = getDocUrl(getJavaMajorVersion(version), null);
     String groupId = "java";
     String artifactId = "jre";
-    File jdkHome = byteCodeLocation.getParentFile();
-    File srcZip = new File(jdkHome, "src.zip");
     File sourceCodeLocation = null;
-    if (srcZip.isFile()) {
+    if (sourceCodeProvider != null) {
       artifactId = "jdk";
-      sourceCodeLocation = srcZip;
+      sourceCodeLocation = sourceCodeProvider.getArchiveFile();
     }
+    JavaSourceLoader loader = new JavaSourceLoader(sourceCodeProvider);
     CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(groupId, artifactId, version, null, docUrl);
     return new BaseSourceImpl(byteCodeLocation, sourceCodeLocation, null, descriptor, loader);
   }
 
+  private static String getDocUrl(String majorVersion, String moduleName) {
+
+    if (!majorVersion.isEmpty() && (Integer.parseInt(majorVersion) >= 11)) {
+      String docUrl = "https://docs.oracle.com/en/java/javase/" + majorVersion + "/docs/api/";
+      if (moduleName != null) {
+        docUrl = docUrl + moduleName + "/"; // since Java 11 the javadoc is structured by modules
+      }
+      return docUrl;
+    }
+    return "http://docs.oracle.com/javase/" + majorVersion + "/docs/api/";
+  }
+
   private static String getJavaMajorVersion(String version) {
 
     String majorVersion;
@@ -188,21 +272,32 @@ public class JavaRootContext extends JavaContext {
     if (dotIndex > 0) {
       majorVersion = majorVersion.substring(0, dotIndex);
     }
-    int underscoreIndex = majorVersion.indexOf('_');
-    if (underscoreIndex > 0) {
-      majorVersion = majorVersion.substring(0, underscoreIndex);
+    for (int i = 0; i < majorVersion.length(); i++) {
+      if (!Character.isDigit(majorVersion.charAt(i))) { // e.g. "8_292", "17-ea" or "11+28"
+        return majorVersion.substring(0, i);
+      }
     }
     return majorVersion;
   }
 
   /**
-   * @return the default instance of this class.
+   * @return the default instance of this class. It is thread-safe and shared as parent by all other contexts.
    */
   public static JavaRootContext get() {
 
     if (instance == null) {
-      BaseSourceImpl source = createRootSource();
-      instance = new JavaRootContext(source);
+      synchronized (JavaRootContext.class) {
+        if (instance == null) {
+          File javaHome = new File(System.getProperty("java.home"));
+          File sourceCodeLocation = JavaSourceCodeProviderJdk.findSourceArchive(javaHome);
+          JavaSourceCodeProviderJdk sourceCodeProvider = null;
+          if (sourceCodeLocation != null) {
+            sourceCodeProvider = new JavaSourceCodeProviderJdk(sourceCodeLocation);
+          }
+          BaseSourceImpl source = createRootSource(javaHome, sourceCodeProvider);
+          instance = new JavaRootContext(source, sourceCodeProvider);
+        }
+      }
     }
     return instance;
   }
@@ -8,7 +8,8 @@ import net.sf.mmm.code.api.operator.CodeComparisonOperator;
 import net.sf.mmm.code.base.expression.BaseComparisonOperatorExpression;
 import net.sf.mmm.code.impl.java.expression.literal.JavaLiteral;
 import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralBoolean;
-import net.sf.mmm.util.lang.api.CompareOperator;
+import net.sf.mmm.code.impl.java.operator.JavaConstantFolder;
+import net.sf.mmm.code.impl.java.operator.JavaOperator;
 
 /**
  * Implementation of {@link BaseComparisonOperatorExpression} for Java.
@@ -33,8 +34,8 @@ public class JavaComparisonOperatorExpression extends BaseComparisonOperatorExpr
   @Override
   public JavaLiteral<?> evaluate() {
 
-    CompareOperator op = CompareOperator.fromValue(getOperator().getName());
-    if (op == null) {
+    JavaOperator operator = JavaOperator.of(getOperator());
+    if (operator == null) {
       return null;
     }
     CodeConstant left = getLeftArg().evaluate();
@@ -53,8 +54,11 @@ public class JavaComparisonOperatorExpression extends BaseComparisonOperatorExpr
     if (rightVal == null) {
       return null;
     }
-    boolean result = op.eval(leftVal, rightVal);
-    return JavaLiteralBoolean.of(result);
+    Boolean result = JavaConstantFolder.compare(operator, leftVal, rightVal);
+    if (result == null) {
+      return null;
+    }
+    return JavaLiteralBoolean.of(result.booleanValue());
   }
 
 }
@@ -0,0 +1,55 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.expression;
+
+import net.sf.mmm.code.api.expression.CodeCondition;
+import net.sf.mmm.code.api.expression.CodeConstant;
+import net.sf.mmm.code.api.expression.CodeExpression;
+import net.sf.mmm.code.base.expression.BaseTernaryExpression;
+import net.sf.mmm.code.impl.java.expression.constant.JavaConstant;
+import net.sf.mmm.code.impl.java.operator.JavaConstantFolder;
+
+/**
+ * Implementation of {@link BaseTernaryExpression} for Java.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaTernaryExpression extends BaseTernaryExpression implements JavaExpression {
+
+  /**
+   * The constructor.
+   *
+   * @param condition the {@link #getCondition() condition}.
+   * @param ifArg the {@link #getIfArg() if-argument}.
+   * @param elseArg the {@link #getElseArg() else-argument}.
+   */
+  public JavaTernaryExpression(CodeCondition condition, CodeExpression ifArg, CodeExpression elseArg) {
+
+    super(condition, ifArg, elseArg);
+  }
+
+  @Override
+  public JavaConstant<?> evaluate() {
+
+    CodeConstant condition = getCondition().evaluate();
+    if (condition == null) {
+      return null;
+    }
+    CodeConstant ifConstant = getIfArg().evaluate();
+    if (!(ifConstant instanceof JavaConstant)) {
+      return null;
+    }
+    CodeConstant elseConstant = getElseArg().evaluate();
+    if (!(elseConstant instanceof JavaConstant)) {
+      return null;
+    }
+    Object value = JavaConstantFolder.select(condition.getValue(), ifConstant.getValue(), elseConstant.getValue());
+    if (value == null) {
+      return null;
+    }
+    boolean primitive = ((JavaConstant<?>) ifConstant).isPrimitive() && ((JavaConstant<?>) elseConstant).isPrimitive();
+    return JavaConstant.of(value, primitive);
+  }
+
+}
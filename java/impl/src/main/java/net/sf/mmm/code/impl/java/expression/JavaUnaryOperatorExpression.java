@@ -7,7 +7,8 @@ import net.sf.mmm.code.api.expression.CodeExpression;
 import net.sf.mmm.code.api.operator.CodeUnaryOperator;
 import net.sf.mmm.code.base.expression.BaseUnaryOperatorExpression;
 import net.sf.mmm.code.impl.java.expression.constant.JavaConstant;
-import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralBoolean;
+import net.sf.mmm.code.impl.java.operator.JavaConstantFolder;
+import net.sf.mmm.code.impl.java.operator.JavaOperator;
 
 /**
  * Implementation of {@link BaseUnaryOperatorExpression} for Java.
@@ -31,50 +32,19 @@ public class JavaUnaryOperatorExpression extends BaseUnaryOperatorExpression imp
   @Override
   public JavaConstant<?> evaluate() {
 
-    String op = getOperator().getName();
-    if (CodeUnaryOperator.NAME_NOT.equals(op)) {
-      CodeConstant constant = getArgument().evaluate();
-      if (constant != null) {
-        Object value = constant.getValue();
-        if (Boolean.TRUE.equals(value)) {
-          return JavaLiteralBoolean.FALSE;
-        } else if (Boolean.FALSE.equals(value)) {
-          return JavaLiteralBoolean.TRUE;
-        }
-      }
-    } else if (CodeUnaryOperator.NAME_BIT_NOT.equals(op)) {
-      CodeConstant literal = getArgument().evaluate();
-      if (literal instanceof JavaConstant<?>) {
-        return complement((JavaConstant<?>) literal);
-      }
+    JavaOperator operator = JavaOperator.of(getOperator());
+    if (operator == null) {
+      return null;
     }
-    return null;
-  }
-
-  private <T> JavaConstant<T> complement(JavaConstant<T> literal) {
-
-    T value = literal.getValue();
-    value = complement(value);
-    if (value != null) {
-      return literal.withValue(value);
+    CodeConstant constant = getArgument().evaluate();
+    if (constant == null) {
+      return null;
     }
-    return null;
-  }
-
-  @SuppressWarnings("unchecked")
-  private <T> T complement(T value) {
-
-    Object result = null;
-    if (value instanceof Integer) {
-      result = Integer.valueOf(~((Integer) value).intValue());
-    } else if (value instanceof Long) {
-      result = Long.valueOf(~((Long) value).longValue());
-    } else if (value instanceof Short) {
-      result = Short.valueOf((short) ~((Short) value).shortValue());
-    } else if (value instanceof Byte) {
-      result = Byte.valueOf((byte) ~((Byte) value).byteValue());
+    Object result = JavaConstantFolder.evaluateUnary(operator, constant.getValue());
+    if (result == null) {
+      return null;
     }
-    return (T) result;
+    return JavaConstant.of(result, true);
   }
 
 }
@@ -0,0 +1,321 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.mmm.code.api.language.JavaLanguage;
+import net.sf.mmm.code.base.loader.BaseSourceCodeProviderArchive;
+import net.sf.mmm.code.base.loader.SourceCodeProvider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link net.sf.mmm.code.base.loader.SourceCodeProvider} for the {@code src.zip} of the JDK. Since
+ * Java 9 the sources are located in per-module folders (e.g. "java.base/java/lang/Object.java") that are transparently
+ * stripped so types are found by their qualified name as for the flat layout of Java 8. The module of a package is
+ * determined from the {@code jrt:/} file system of the running JDK (if available) or from the archive itself and
+ * {@link #getModule(String)} provides the source-code of a single module.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaSourceCodeProviderJdk extends BaseSourceCodeProviderArchive {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JavaSourceCodeProviderJdk.class);
+
+  private static final String SRC_ZIP = "src.zip";
+
+  private static final String MODULE_INFO_JAVA = "module-info" + JavaLanguage.TYPE_EXTENSION_JAVA;
+
+  private static volatile Map<String, String> jrtModules;
+
+  private final Map<String, String> archiveModules;
+
+  /**
+   * The constructor.
+   *
+   * @param srcZip the {@link File} pointing to the {@code src.zip} of the JDK.
+   */
+  public JavaSourceCodeProviderJdk(File srcZip) {
+
+    super(srcZip);
+    this.archiveModules = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  protected String getEntryPath(String entryName) {
+
+    int firstSlash = entryName.indexOf('/');
+    if (firstSlash <= 0) {
+      return entryName;
+    }
+    String folder = entryName.substring(0, firstSlash);
+    if (folder.indexOf('.') < 0) {
+      return entryName; // flat layout (Java 8) as module names always contain a dot
+    }
+    String path = entryName.substring(firstSlash + 1);
+    if (path.equals(MODULE_INFO_JAVA)) {
+      return null;
+    }
+    int lastSlash = path.lastIndexOf('/');
+    if (lastSlash > 0) {
+      this.archiveModules.putIfAbsent(path.substring(0, lastSlash).replace('/', '.'), folder);
+    }
+    return path;
+  }
+
+  /**
+   * @param packageName the {@link net.sf.mmm.code.api.CodePackage#getQualifiedName() qualified name} of a package.
+   * @return the name of the module containing the specified package (e.g. "java.base" for "java.lang") or
+   *         {@code null} if not found or not available (Java 8).
+   */
+  public String getModuleName(String packageName) {
+
+    String module = getJrtModules().get(packageName);
+    if (module == null) {
+      indexArchive();
+      module = this.archiveModules.get(packageName);
+    }
+    return module;
+  }
+
+  /**
+   * @param moduleName the name of a module (e.g. "java.base").
+   * @return the {@link SourceCodeProvider} for the source-code of the specified module. It shares this archive and
+   *         only provides the packages that {@link #getModuleName(String) belong} to the given module.
+   */
+  public SourceCodeProvider getModule(String moduleName) {
+
+    return new ModuleSourceCodeProvider(moduleName);
+  }
+
+  private Set<String> getPackages(String moduleName) {
+
+    indexArchive();
+    Set<String> packages = new HashSet<>();
+    for (String packageName : getJrtModules().keySet()) {
+      if (moduleName.equals(getModuleName(packageName))) {
+        packages.add(packageName);
+      }
+    }
+    for (String packageName : this.archiveModules.keySet()) {
+      if (moduleName.equals(getModuleName(packageName))) {
+        packages.add(packageName);
+      }
+    }
+    return packages;
+  }
+
+  private void indexArchive() {
+
+    try {
+      scanSubPackages(""); // ensure archive is indexed
+    } catch (IOException e) {
+      LOG.debug("Failed to index {}: {}", getArchiveFile(), e.getMessage(), e);
+    }
+  }
+
+  /**
+   * @param packageName the {@link net.sf.mmm.code.api.CodePackage#getQualifiedName() qualified name} of a package.
+   * @return the name of the module of the running JDK containing the specified package (e.g. "java.base" for
+   *         "java.lang") or {@code null} if the package is not part of the JDK or the {@code jrt:/} file system is not
+   *         available (Java 8).
+   */
+  public static String getJdkModuleName(String packageName) {
+
+    return getJrtModules().get(packageName);
+  }
+
+  private static Map<String, String> getJrtModules() {
+
+    if (jrtModules == null) {
+      synchronized (JavaSourceCodeProviderJdk.class) {
+        if (jrtModules == null) {
+          jrtModules = readJrtModules();
+        }
+      }
+    }
+    return jrtModules;
+  }
+
+  private static Map<String, String> readJrtModules() {
+
+    FileSystem jrt;
+    try {
+      jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+    } catch (FileSystemNotFoundException | ProviderNotFoundException e) {
+      LOG.debug("No jrt file system available (Java 8)");
+      return Collections.emptyMap();
+    }
+    Map<String, String> map = new HashMap<>();
+    try (DirectoryStream<Path> packages = Files.newDirectoryStream(jrt.getPath("/packages"))) {
+      for (Path pkg : packages) {
+        try (DirectoryStream<Path> modules = Files.newDirectoryStream(pkg)) {
+          for (Path module : modules) {
+            map.put(pkg.getFileName().toString(), module.getFileName().toString());
+            break; // no split packages in the JDK
+          }
+        }
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to read packages from jrt file system: {}", e.getMessage(), e);
+    }
+    LOG.debug("Indexed {} packages from jrt file system", Integer.valueOf(map.size()));
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * @param javaHome the {@link File} pointing to the {@code java.home} of a JRE or JDK.
+   * @return the {@link File} pointing to the {@code src.zip} with the source-code of the JDK or {@code null} if not
+   *         found. Supports the layout of Java 9+ ({@code lib/src.zip}) as well as the layout of Java 8 where
+   *         {@code java.home} is the {@code jre} folder inside the JDK.
+   */
+  public static File findSourceArchive(File javaHome) {
+
+    File srcZip = new File(new File(javaHome, "lib"), SRC_ZIP);
+    if (srcZip.isFile()) {
+      return srcZip;
+    }
+    srcZip = new File(javaHome, SRC_ZIP);
+    if (srcZip.isFile()) {
+      return srcZip;
+    }
+    File parent = javaHome.getParentFile();
+    if (parent != null) {
+      srcZip = new File(parent, SRC_ZIP);
+      if (srcZip.isFile()) {
+        return srcZip;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * View on the source-code of a single module.
+   *
+   * @see JavaSourceCodeProviderJdk#getModule(String)
+   */
+  private class ModuleSourceCodeProvider implements SourceCodeProvider {
+
+    private final String moduleName;
+
+    private volatile Set<String> packages;
+
+    private ModuleSourceCodeProvider(String moduleName) {
+
+      super();
+      this.moduleName = moduleName;
+    }
+
+    private Set<String> getPackages() {
+
+      if (this.packages == null) {
+        this.packages = JavaSourceCodeProviderJdk.this.getPackages(this.moduleName);
+      }
+      return this.packages;
+    }
+
+    private boolean isModuleType(String qualifiedName) {
+
+      int lastDot = qualifiedName.lastIndexOf('.');
+      if (lastDot <= 0) {
+        return false;
+      }
+      return getPackages().contains(qualifiedName.substring(0, lastDot));
+    }
+
+    @Override
+    public Reader openType(String qualifiedName) throws IOException {
+
+      if (!isModuleType(qualifiedName)) {
+        return null;
+      }
+      return JavaSourceCodeProviderJdk.this.openType(qualifiedName);
+    }
+
+    @Override
+    public Reader openPackage(String qualifiedName) throws IOException {
+
+      if (!getPackages().contains(qualifiedName)) {
+        return null;
+      }
+      return JavaSourceCodeProviderJdk.this.openPackage(qualifiedName);
+    }
+
+    @Override
+    public List<String> scanPackage(String qualifiedName) throws IOException {
+
+      if (!getPackages().contains(qualifiedName)) {
+        return Collections.emptyList();
+      }
+      return JavaSourceCodeProviderJdk.this.scanPackage(qualifiedName);
+    }
+
+    @Override
+    public List<String> scanSubPackages(String qualifiedName) throws IOException {
+
+      List<String> subPackages = JavaSourceCodeProviderJdk.this.scanSubPackages(qualifiedName);
+      if (subPackages == null) {
+        return null;
+      }
+      String prefix = "";
+      if (!qualifiedName.isEmpty()) {
+        prefix = qualifiedName + ".";
+      }
+      List<String> result = new ArrayList<>(subPackages.size());
+      for (String subPackage : subPackages) {
+        String subPackageName = prefix + subPackage;
+        String subPrefix = subPackageName + ".";
+        for (String packageName : getPackages()) {
+          if (packageName.equals(subPackageName) || packageName.startsWith(subPrefix)) {
+            result.add(subPackage);
+            break;
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public String getTypeStamp(String qualifiedName) throws IOException {
+
+      if (!isModuleType(qualifiedName)) {
+        return null;
+      }
+      return JavaSourceCodeProviderJdk.this.getTypeStamp(qualifiedName);
+    }
+
+    @Override
+    public void invalidate() {
+
+      JavaSourceCodeProviderJdk.this.invalidate();
+    }
+
+    @Override
+    public void close() {
+
+      // the archive is shared by all modules and closed together with the JDK provider
+    }
+  }
+
+}
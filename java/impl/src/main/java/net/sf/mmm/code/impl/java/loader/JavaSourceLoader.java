@@ -5,22 +5,38 @@ package net.sf.mmm.code.impl.java.loader;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.URL;
+import java.nio.file.Path;
 import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import net.sf.mmm.code.api.CodeContext;
 import net.sf.mmm.code.api.CodeName;
+import net.sf.mmm.code.base.AbstractBaseContextWithCache;
+import net.sf.mmm.code.base.BaseContext;
 import net.sf.mmm.code.base.BaseFile;
 import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.BasePathElements;
+import net.sf.mmm.code.base.loader.BaseScanResult;
+import net.sf.mmm.code.base.loader.BaseSourceCodeProviderDirectory;
+import net.sf.mmm.code.base.loader.BaseSourceCodeWatcher;
 import net.sf.mmm.code.base.loader.BaseSourceLoaderImpl;
 import net.sf.mmm.code.base.loader.SourceCodeProvider;
+import net.sf.mmm.code.base.loader.SourceCodeProviderProxy;
 import net.sf.mmm.code.base.parser.SourceCodeParser;
 import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.type.BaseGenericType;
 import net.sf.mmm.code.base.type.BaseType;
 import net.sf.mmm.code.impl.java.parser.JavaSourceCodeParserImpl;
+import net.sf.mmm.code.impl.java.parser.JavaTypeIndexCodec;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +55,12 @@ public class JavaSourceLoader extends BaseSourceLoaderImpl {
 
   private SourceCodeParser parser;
 
+  private final Path indexDirectory;
+
+  private JavaTypeIndex index;
+
+  private JavaTypeIndexCodec indexCodec;
+
   /**
    * The constructor.
    *
@@ -46,8 +68,21 @@ public class JavaSourceLoader extends BaseSourceLoaderImpl {
    */
   public JavaSourceLoader(SourceCodeProvider sourceCodeProvider) {
 
+    this(sourceCodeProvider, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param sourceCodeProvider the {@link SourceCodeProvider}.
+   * @param indexDirectory the {@link Path} to the directory where to persist a {@link JavaTypeIndex} so unchanged
+   *        source-code does not have to be parsed again by later runs. May be {@code null} to disable the index.
+   */
+  public JavaSourceLoader(SourceCodeProvider sourceCodeProvider, Path indexDirectory) {
+
     super();
     this.sourceCodeProvider = sourceCodeProvider;
+    this.indexDirectory = indexDirectory;
   }
 
   /**
@@ -98,15 +133,12 @@ public class JavaSourceLoader extends BaseSourceLoaderImpl {
       return null;
     }
     CodeName parent = qualifiedName.getParent();
-    try (Reader reader = this.sourceCodeProvider.openType(qualifiedName.getFullName())) {
-      if (reader == null) {
+    try {
+      BaseFile file = readFile(getPackage(parent), qualifiedName.getSimpleName(), qualifiedName.getFullName());
+      if (file == null) {
         return getTypeFromSource(parent, qualifiedName.getSimpleName());
-      } else {
-        BasePackage pkg = getPackage(parent);
-        BaseFile file = pkg.getChildren().createFile(qualifiedName.getSimpleName());
-        getParser().parseType(reader, file);
-        return file.getType();
       }
+      return file.getType();
     } catch (IOException e) {
       LOG.debug("Failed to open type: {}", e.getMessage(), e);
       return null;
@@ -206,18 +238,72 @@ public class JavaSourceLoader extends BaseSourceLoaderImpl {
 
   private BaseFile getFileFromSource(BasePackage pkg, String simpleName) {
 
-    BaseFile file = pkg.getChildren().createFile(simpleName);
-    try (Reader reader = this.sourceCodeProvider.openType(file.getQualifiedName())) {
-      if (reader != null) {
-        getParser().parseType(reader, file);
-        return file;
+    try {
+      String qualifiedName = pkg.getQualifiedName();
+      if (qualifiedName.isEmpty()) {
+        qualifiedName = simpleName;
+      } else {
+        qualifiedName = qualifiedName + getContext().getLanguage().getPackageSeparator() + simpleName;
       }
+      return readFile(pkg, simpleName, qualifiedName);
     } catch (IOException | RuntimeException e) {
       LOG.warn("Failed to open type: {}", e.getMessage(), e);
     }
     return null;
   }
 
+  /**
+   * Reads the {@link BaseFile} for the given type either from the {@link JavaTypeIndex} (if configured and
+   * up-to-date) or by parsing its source-code.
+   *
+   * @param pkg the {@link BasePackage} containing the type.
+   * @param simpleName the {@link BaseFile#getSimpleName() simple name} of the file.
+   * @param qualifiedName the {@link BaseFile#getQualifiedName() qualified name} of the file.
+   * @return the new {@link BaseFile} or {@code null} if no source-code was found.
+   * @throws IOException on I/O error.
+   */
+  private BaseFile readFile(BasePackage pkg, String simpleName, String qualifiedName) throws IOException {
+
+    JavaTypeIndex typeIndex = getIndex();
+    String stamp = null;
+    if (typeIndex != null) {
+      stamp = this.sourceCodeProvider.getTypeStamp(qualifiedName);
+      if (stamp != null) {
+        byte[] data = typeIndex.get(qualifiedName, stamp);
+        if (data != null) {
+          BaseFile file = pkg.getChildren().createFile(simpleName);
+          if (this.indexCodec.decode(data, file)) {
+            return file;
+          }
+          typeIndex.remove(qualifiedName);
+        }
+      }
+    }
+    try (Reader reader = this.sourceCodeProvider.openType(qualifiedName)) {
+      if (reader == null) {
+        return null;
+      }
+      BaseFile file = pkg.getChildren().createFile(simpleName);
+      getParser().parseType(reader, file);
+      if (stamp != null) {
+        byte[] data = this.indexCodec.encode(file);
+        if (data != null) {
+          typeIndex.put(qualifiedName, stamp, data);
+        }
+      }
+      return file;
+    }
+  }
+
+  private synchronized JavaTypeIndex getIndex() {
+
+    if ((this.index == null) && (this.indexDirectory != null)) {
+      this.indexCodec = new JavaTypeIndexCodec();
+      this.index = JavaTypeIndex.of(this.indexDirectory, getSource().getId());
+    }
+    return this.index;
+  }
+
   private BaseType getTypeFromSource(CodeName parent, String simpleName) {
 
     if (parent == null) {
@@ -253,13 +339,248 @@ public class JavaSourceLoader extends BaseSourceLoaderImpl {
     }
   }
 
+  @Override
+  public BaseScanResult scan(BasePackage pkg, boolean recursive, Executor executor) {
+
+    if (this.sourceCodeProvider == null) {
+      return BaseScanResult.EMPTY;
+    }
+    long start = System.nanoTime();
+    BaseContext context = getContext();
+    Object lock = getLock(context);
+    if ((executor != null) && Thread.holdsLock(lock)) {
+      // the workers need the lock to initialize the parsed files so joining them would deadlock
+      throw new IllegalStateException("Concurrent scan of package " + pkg.getQualifiedName()
+          + " must not be invoked while holding the lock of the context!");
+    }
+    String separator = Character.toString(context.getLanguage().getPackageSeparator());
+    List<ScanTask> tasks = new ArrayList<>();
+    int packageCount = 0;
+    int skippedCount = 0;
+    Deque<BasePackage> packages = new ArrayDeque<>();
+    packages.add(pkg);
+    while (!packages.isEmpty()) {
+      BasePackage currentPkg = packages.poll();
+      String qualifiedName = currentPkg.getQualifiedName();
+      String prefix = "";
+      if (!qualifiedName.isEmpty()) {
+        prefix = qualifiedName + separator;
+      }
+      try {
+        List<String> simpleNames = this.sourceCodeProvider.scanPackage(qualifiedName);
+        if (simpleNames != null) {
+          for (String simpleName : simpleNames) {
+            ScanTask task = new ScanTask(currentPkg, simpleName, prefix + simpleName);
+            if (getTypeFromCache(context, task.qualifiedName) == null) {
+              tasks.add(task);
+            } else {
+              skippedCount++;
+            }
+          }
+        }
+        if (recursive) {
+          List<String> subPackageNames = this.sourceCodeProvider.scanSubPackages(qualifiedName);
+          if (subPackageNames != null) {
+            synchronized (lock) {
+              for (String subPackageName : subPackageNames) {
+                packages.add(getPackage(currentPkg.getChildren(), context.parseName(subPackageName), false,
+                    this::createPackage, true, true));
+              }
+            }
+          }
+        }
+      } catch (IOException e) {
+        LOG.debug("Package scan failed: {}", e.getMessage(), e);
+      }
+      packageCount++;
+    }
+    // read and parse (concurrently)
+    List<CompletableFuture<BaseFile>> futures = new ArrayList<>(tasks.size());
+    for (ScanTask task : tasks) {
+      if (executor == null) {
+        futures.add(CompletableFuture.completedFuture(parseFile(task)));
+      } else {
+        futures.add(CompletableFuture.supplyAsync(() -> parseFile(task), executor));
+      }
+    }
+    // wait for all results before locking as the workers also need the lock to initialize the parsed files
+    List<BaseFile> files = new ArrayList<>(futures.size());
+    for (CompletableFuture<BaseFile> future : futures) {
+      files.add(future.join());
+    }
+    // register results (from calling thread only)
+    int parsedCount = 0;
+    int failedCount = 0;
+    synchronized (lock) {
+      for (int i = 0; i < files.size(); i++) {
+        BaseFile file = files.get(i);
+        if (file == null) {
+          failedCount++;
+        } else if (getTypeFromCache(context, tasks.get(i).qualifiedName) != null) {
+          skippedCount++; // loaded concurrently in the meantime
+        } else {
+          BasePathElements children = file.getParentPackage().getChildren();
+          if (children.getFile(file.getSimpleName(), false) == null) {
+            addPathElementInternal(children, file);
+          }
+          putTypeInCache(context, file.getType());
+          parsedCount++;
+        }
+      }
+    }
+    BaseScanResult result = new BaseScanResult(packageCount, parsedCount, skippedCount, failedCount,
+        System.nanoTime() - start);
+    LOG.debug("Package {} {}", pkg.getQualifiedName(), result);
+    return result;
+  }
+
+  @Override
+  public BaseType reload(String qualifiedName) {
+
+    if (this.sourceCodeProvider == null) {
+      return null;
+    }
+    this.sourceCodeProvider.invalidate();
+    BaseContext context = getContext();
+    Object lock = getLock(context);
+    CodeName qName = getSource().parseName(qualifiedName);
+    String simpleName = qName.getSimpleName();
+    BasePackage pkg;
+    BaseFile oldFile;
+    synchronized (lock) {
+      pkg = getPackage(qName.getParent());
+      oldFile = pkg.getChildren().getFile(simpleName, false);
+    }
+    if ((oldFile != null) && (oldFile.getReflectiveObject() != null)) {
+      // byte-code can not change at runtime, only the lazy source-code object has to be loaded again
+      BaseFile oldSourceFile = resetSourceCodeObject(oldFile);
+      if (oldSourceFile != null) {
+        setStale(oldSourceFile);
+      }
+      LOG.debug("Reset source-code of type {}", qualifiedName);
+      return oldFile.getType();
+    }
+    // parse outside of the lock, keep the previous version if the source-code is currently broken
+    BaseFile newFile;
+    try {
+      newFile = readFile(pkg, simpleName, qualifiedName);
+    } catch (IOException | RuntimeException e) {
+      BaseType previousType;
+      synchronized (lock) {
+        BaseFile currentFile = pkg.getChildren().getFile(simpleName, false);
+        if (currentFile != null) {
+          previousType = currentFile.getType();
+        } else {
+          previousType = getTypeFromCache(context, qualifiedName);
+        }
+      }
+      if (previousType == null) {
+        if (e instanceof IOException) {
+          throw new RuntimeIoException(e, IoMode.READ);
+        }
+        throw (RuntimeException) e;
+      }
+      LOG.warn("Failed to reload type {} - keeping previous version: {}", qualifiedName, e.getMessage(), e);
+      return previousType;
+    }
+    synchronized (lock) {
+      BasePathElements children = pkg.getChildren();
+      BaseFile currentFile = children.getFile(simpleName, false);
+      if (currentFile != null) {
+        removeFile(context, children, currentFile);
+      }
+      BaseType cachedType = getTypeFromCache(context, qualifiedName);
+      if ((cachedType != null) && (cachedType.getParentPackage() == pkg)) {
+        // e.g. placeholder from getOrCreateType that has not been added to the package
+        removeFile(context, children, cachedType.getFile());
+      }
+      if (context instanceof AbstractBaseContextWithCache) {
+        ((AbstractBaseContextWithCache) context).getTypeMissCache().clear();
+      }
+      if (newFile == null) {
+        LOG.debug("Removed type {}", qualifiedName);
+        return null;
+      }
+      addPathElementInternal(children, newFile);
+      putTypeInCache(context, newFile.getType());
+    }
+    LOG.debug("Reloaded type {}", qualifiedName);
+    return newFile.getType();
+  }
+
+  private static void removeFile(BaseContext context, BasePathElements children, BaseFile file) {
+
+    removePathElementInternal(children, file);
+    for (BaseType type : file.getTypes()) {
+      removeTypeFromCache(context, type);
+    }
+    setStale(file);
+  }
+
+  /**
+   * Starts to watch the source-code for modifications and {@link #reload(String) reloads} changed types automatically.
+   *
+   * @return the {@link BaseSourceCodeWatcher} that has to be {@link BaseSourceCodeWatcher#close() closed} to stop
+   *         watching or {@code null} if the {@link #getSourceCodeProvider() source-code provider} is not a
+   *         {@link BaseSourceCodeProviderDirectory directory} and can therefore not be watched.
+   * @throws IOException if the directory could not be watched.
+   */
+  public BaseSourceCodeWatcher watch() throws IOException {
+
+    SourceCodeProvider provider = this.sourceCodeProvider;
+    if (provider instanceof SourceCodeProviderProxy) {
+      provider = ((SourceCodeProviderProxy) provider).getDelegate();
+    }
+    if (provider instanceof BaseSourceCodeProviderDirectory) {
+      return ((BaseSourceCodeProviderDirectory) provider).watch(this::reload);
+    }
+    return null;
+  }
+
+  private BaseFile parseFile(ScanTask task) {
+
+    try {
+      return readFile(task.pkg, task.simpleName, task.qualifiedName);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to parse type {}: {}", task.qualifiedName, e.getMessage(), e);
+    }
+    return null;
+  }
+
   @Override
   public void close() {
 
+    synchronized (this) {
+      if (this.index != null) {
+        try {
+          this.index.save();
+        } catch (RuntimeException e) {
+          LOG.warn("Failed to save type index {}: {}", this.index.getFile(), e.getMessage(), e);
+        }
+        this.index = null;
+      }
+    }
     if (this.sourceCodeProvider != null) {
       this.sourceCodeProvider.close();
       this.sourceCodeProvider = null;
     }
   }
 
+  private static class ScanTask {
+
+    private final BasePackage pkg;
+
+    private final String simpleName;
+
+    private final String qualifiedName;
+
+    private ScanTask(BasePackage pkg, String simpleName, String qualifiedName) {
+
+      super();
+      this.pkg = pkg;
+      this.simpleName = simpleName;
+      this.qualifiedName = qualifiedName;
+    }
+  }
+
 }
@@ -0,0 +1,244 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.mmm.code.impl.java.parser.JavaTypeIndexCodec;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the {@link JavaTypeIndexCodec#encode(net.sf.mmm.code.base.BaseFile) encoded} types of a single
+ * {@link net.sf.mmm.code.base.source.BaseSource}. Each entry is stored together with the
+ * {@link net.sf.mmm.code.base.loader.SourceCodeProvider#getTypeStamp(String) stamp} of the source-code it was created
+ * from so it is only used as long as the source-code has not changed. The index is loaded lazily from a single file
+ * and only written back on {@link #save()} if it has been modified.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaTypeIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JavaTypeIndex.class);
+
+  private static final int MAGIC = 0x6D6D6D49;
+
+  private static final String FILE_EXTENSION = ".index";
+
+  private static final int MAX_NAME_LENGTH = 48;
+
+  private final Path file;
+
+  private final String sourceId;
+
+  private volatile Map<String, IndexEntry> entries;
+
+  private volatile boolean modified;
+
+  /**
+   * The constructor.
+   *
+   * @param file the {@link Path} to the index file. Does not need to exist.
+   * @param sourceId the {@link net.sf.mmm.code.base.source.BaseSource#getId() ID} of the source this index belongs
+   *        to. Used to detect and ignore an index of a different source.
+   */
+  public JavaTypeIndex(Path file, String sourceId) {
+
+    super();
+    this.file = file;
+    this.sourceId = sourceId;
+  }
+
+  /**
+   * @return the {@link Path} to the index file.
+   */
+  public Path getFile() {
+
+    return this.file;
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.api.type.CodeType#getQualifiedName() qualified name} of the
+   *        requested type.
+   * @param stamp the current {@link net.sf.mmm.code.base.loader.SourceCodeProvider#getTypeStamp(String) stamp} of
+   *        the source-code.
+   * @return the encoded type or {@code null} if not indexed or the index entry is outdated.
+   */
+  public byte[] get(String qualifiedName, String stamp) {
+
+    IndexEntry entry = getEntries().get(qualifiedName);
+    if ((entry != null) && entry.stamp.equals(stamp)) {
+      return entry.data;
+    }
+    return null;
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.api.type.CodeType#getQualifiedName() qualified name} of the type.
+   * @param stamp the {@link net.sf.mmm.code.base.loader.SourceCodeProvider#getTypeStamp(String) stamp} of the
+   *        source-code the type has been parsed from.
+   * @param data the encoded type.
+   */
+  public void put(String qualifiedName, String stamp, byte[] data) {
+
+    getEntries().put(qualifiedName, new IndexEntry(stamp, data));
+    this.modified = true;
+  }
+
+  /**
+   * @param qualifiedName the {@link net.sf.mmm.code.api.type.CodeType#getQualifiedName() qualified name} of the type
+   *        to remove from this index.
+   */
+  public void remove(String qualifiedName) {
+
+    if (getEntries().remove(qualifiedName) != null) {
+      this.modified = true;
+    }
+  }
+
+  private Map<String, IndexEntry> getEntries() {
+
+    if (this.entries == null) {
+      synchronized (this) {
+        if (this.entries == null) {
+          this.entries = load();
+        }
+      }
+    }
+    return this.entries;
+  }
+
+  private Map<String, IndexEntry> load() {
+
+    Map<String, IndexEntry> map = new ConcurrentHashMap<>();
+    if (!Files.isRegularFile(this.file)) {
+      return map;
+    }
+    try (InputStream inStream = Files.newInputStream(this.file);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inStream))) {
+      if ((in.readInt() != MAGIC) || (in.readInt() != JavaTypeIndexCodec.VERSION)
+          || !this.sourceId.equals(in.readUTF())) {
+        LOG.debug("Ignoring incompatible type index {}", this.file);
+        return map;
+      }
+      int size = in.readInt();
+      for (int i = 0; i < size; i++) {
+        String qualifiedName = in.readUTF();
+        String stamp = in.readUTF();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        map.put(qualifiedName, new IndexEntry(stamp, data));
+      }
+      LOG.debug("Loaded {} type(s) from index {}", Integer.valueOf(size), this.file);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Ignoring corrupt type index {}: {}", this.file, e.toString());
+      map.clear();
+    }
+    return map;
+  }
+
+  /**
+   * Writes this index to its {@link #getFile() file} if it has been modified.
+   */
+  public synchronized void save() {
+
+    if (!this.modified) {
+      return;
+    }
+    Map<String, IndexEntry> map = this.entries;
+    Path tempFile = null;
+    try {
+      Path directory = this.file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      tempFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+      try (OutputStream outStream = Files.newOutputStream(tempFile);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outStream))) {
+        out.writeInt(MAGIC);
+        out.writeInt(JavaTypeIndexCodec.VERSION);
+        out.writeUTF(this.sourceId);
+        out.writeInt(map.size());
+        for (Entry<String, IndexEntry> entry : map.entrySet()) {
+          IndexEntry indexEntry = entry.getValue();
+          out.writeUTF(entry.getKey());
+          out.writeUTF(indexEntry.stamp);
+          out.writeInt(indexEntry.data.length);
+          out.write(indexEntry.data);
+        }
+      }
+      try {
+        Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      tempFile = null;
+      this.modified = false;
+      LOG.debug("Saved {} type(s) to index {}", Integer.valueOf(map.size()), this.file);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.WRITE);
+    } finally {
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+          LOG.debug("Failed to delete {}", tempFile, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param directory the {@link Path} to the directory where to store the index files.
+   * @param sourceId the {@link net.sf.mmm.code.base.source.BaseSource#getId() ID} of the source.
+   * @return the {@link JavaTypeIndex} for the given source.
+   */
+  public static JavaTypeIndex of(Path directory, String sourceId) {
+
+    StringBuilder sb = new StringBuilder(MAX_NAME_LENGTH + 16);
+    int start = Math.max(0, sourceId.length() - MAX_NAME_LENGTH);
+    for (int i = start; i < sourceId.length(); i++) {
+      char c = sourceId.charAt(i);
+      if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9')) || (c == '.')
+          || (c == '-')) {
+        sb.append(c);
+      } else {
+        sb.append('_');
+      }
+    }
+    sb.append('-');
+    sb.append(Integer.toHexString(sourceId.hashCode()));
+    sb.append(FILE_EXTENSION);
+    return new JavaTypeIndex(directory.resolve(sb.toString()), sourceId);
+  }
+
+  private static class IndexEntry {
+
+    private final String stamp;
+
+    private final byte[] data;
+
+    private IndexEntry(String stamp, byte[] data) {
+
+      super();
+      this.stamp = stamp;
+      this.data = data;
+    }
+  }
+
+}
@@ -0,0 +1,588 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.operator;
+
+/**
+ * Evaluates (folds) constant Java expressions. The operands of an n-ary expression are {@link #fold(Object) folded}
+ * one after the other into a single primitive lane ({@code boolean}, {@code int}, {@code long}, {@code float} or
+ * {@code double}) following the binary numeric promotion of Java so no intermediate objects are created. Only the
+ * {@link #getValue() result} is boxed again. Besides n-ary operators this class also provides the
+ * {@link #evaluateUnary(JavaOperator, Object) unary}, {@link #compare(JavaOperator, Object, Object) comparison} and
+ * {@link #select(Object, Object, Object) ternary} evaluation.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public final class JavaConstantFolder {
+
+  private static final int LANE_NONE = 0;
+
+  private static final int LANE_BOOLEAN = 1;
+
+  private static final int LANE_INT = 2;
+
+  private static final int LANE_LONG = 3;
+
+  private static final int LANE_FLOAT = 4;
+
+  private static final int LANE_DOUBLE = 5;
+
+  private static final int LANE_STRING = 6;
+
+  private final JavaOperator operator;
+
+  private int lane;
+
+  /** The value of {@link #LANE_INT} and {@link #LANE_LONG}. */
+  private long longValue;
+
+  /** The value of {@link #LANE_FLOAT} and {@link #LANE_DOUBLE}. */
+  private double doubleValue;
+
+  private boolean booleanValue;
+
+  /** {@code true} if the value is a single {@code char} in {@link #LANE_INT} (not yet used in arithmetic). */
+  private boolean character;
+
+  private StringBuilder string;
+
+  /**
+   * The constructor.
+   *
+   * @param operator the n-ary {@link JavaOperator} to apply.
+   */
+  public JavaConstantFolder(JavaOperator operator) {
+
+    super();
+    this.operator = operator;
+  }
+
+  /**
+   * @param value the value of the next operand.
+   * @return {@code true} if the operand has been folded, {@code false} if the expression can not be evaluated as
+   *         constant (e.g. incompatible operand or division by zero). In the latter case the state of this folder is
+   *         undefined and it shall not be used anymore.
+   */
+  public boolean fold(Object value) {
+
+    if (this.lane == LANE_STRING) {
+      appendString(value);
+      return true;
+    }
+    if ((value == null) || (value instanceof String)) {
+      if (this.operator != JavaOperator.ADD) {
+        return false;
+      }
+      switchToString();
+      appendString(value);
+      return true;
+    }
+    if (value instanceof Boolean) {
+      return foldBoolean(((Boolean) value).booleanValue());
+    }
+    int argLane = getNumericLane(value);
+    if ((argLane == LANE_NONE) || (this.lane == LANE_BOOLEAN)) {
+      return false;
+    } else if ((this.operator == JavaOperator.AND) || (this.operator == JavaOperator.OR)) {
+      return false;
+    }
+    if (this.lane == LANE_NONE) {
+      this.lane = argLane;
+      if (argLane <= LANE_LONG) {
+        this.longValue = getLong(value);
+        this.character = (value instanceof Character);
+      } else {
+        this.doubleValue = ((Number) value).doubleValue();
+      }
+      return true;
+    }
+    return foldNumeric(value, argLane);
+  }
+
+  private boolean foldBoolean(boolean value) {
+
+    if (this.lane == LANE_NONE) {
+      this.lane = LANE_BOOLEAN;
+      this.booleanValue = value;
+      return true;
+    } else if (this.lane != LANE_BOOLEAN) {
+      return false;
+    }
+    switch (this.operator) {
+      case AND:
+      case BIT_AND:
+        this.booleanValue = this.booleanValue & value;
+        return true;
+      case OR:
+      case BIT_OR:
+        this.booleanValue = this.booleanValue | value;
+        return true;
+      case XOR:
+        this.booleanValue = this.booleanValue ^ value;
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private boolean foldNumeric(Object value, int argLane) {
+
+    this.character = false;
+    if (this.operator.isShift()) {
+      // the type of a shift only depends on the left operand
+      if (this.lane > LANE_LONG) {
+        return false;
+      }
+      return foldIntegral(getLong(value));
+    }
+    if (argLane > this.lane) {
+      promote(argLane);
+    }
+    if (this.lane <= LANE_LONG) {
+      return foldIntegral(getLong(value));
+    } else if (this.lane == LANE_FLOAT) {
+      float a = (float) this.doubleValue;
+      float b = getFloat(value);
+      float result;
+      switch (this.operator) {
+        case ADD:
+          result = a + b;
+          break;
+        case SUB:
+          result = a - b;
+          break;
+        case MUL:
+          result = a * b;
+          break;
+        case DIV:
+          result = a / b;
+          break;
+        case MOD:
+          result = a % b;
+          break;
+        default:
+          return false;
+      }
+      this.doubleValue = result;
+    } else {
+      double a = this.doubleValue;
+      double b = getDouble(value);
+      switch (this.operator) {
+        case ADD:
+          this.doubleValue = a + b;
+          break;
+        case SUB:
+          this.doubleValue = a - b;
+          break;
+        case MUL:
+          this.doubleValue = a * b;
+          break;
+        case DIV:
+          this.doubleValue = a / b;
+          break;
+        case MOD:
+          this.doubleValue = a % b;
+          break;
+        default:
+          return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean foldIntegral(long b) {
+
+    if (this.lane == LANE_INT) {
+      int a = (int) this.longValue;
+      int result;
+      switch (this.operator) {
+        case ADD:
+          result = a + (int) b;
+          break;
+        case SUB:
+          result = a - (int) b;
+          break;
+        case MUL:
+          result = a * (int) b;
+          break;
+        case DIV:
+          if (b == 0) {
+            return false;
+          }
+          result = a / (int) b;
+          break;
+        case MOD:
+          if (b == 0) {
+            return false;
+          }
+          result = a % (int) b;
+          break;
+        case SHIFT_LEFT:
+          result = a << b;
+          break;
+        case SHIFT_RIGHT_SIGNED:
+          result = a >> b;
+          break;
+        case SHIFT_RIGHT_UNSIGNED:
+          result = a >>> b;
+          break;
+        case BIT_AND:
+          result = a & (int) b;
+          break;
+        case BIT_OR:
+          result = a | (int) b;
+          break;
+        case XOR:
+          result = a ^ (int) b;
+          break;
+        default:
+          return false;
+      }
+      this.longValue = result;
+    } else {
+      long a = this.longValue;
+      switch (this.operator) {
+        case ADD:
+          this.longValue = a + b;
+          break;
+        case SUB:
+          this.longValue = a - b;
+          break;
+        case MUL:
+          this.longValue = a * b;
+          break;
+        case DIV:
+          if (b == 0) {
+            return false;
+          }
+          this.longValue = a / b;
+          break;
+        case MOD:
+          if (b == 0) {
+            return false;
+          }
+          this.longValue = a % b;
+          break;
+        case SHIFT_LEFT:
+          this.longValue = a << b;
+          break;
+        case SHIFT_RIGHT_SIGNED:
+          this.longValue = a >> b;
+          break;
+        case SHIFT_RIGHT_UNSIGNED:
+          this.longValue = a >>> b;
+          break;
+        case BIT_AND:
+          this.longValue = a & b;
+          break;
+        case BIT_OR:
+          this.longValue = a | b;
+          break;
+        case XOR:
+          this.longValue = a ^ b;
+          break;
+        default:
+          return false;
+      }
+    }
+    return true;
+  }
+
+  private void promote(int newLane) {
+
+    if ((this.lane <= LANE_LONG) && (newLane >= LANE_FLOAT)) {
+      if (newLane == LANE_FLOAT) {
+        this.doubleValue = (float) this.longValue;
+      } else {
+        this.doubleValue = this.longValue;
+      }
+    }
+    this.lane = newLane;
+  }
+
+  private void switchToString() {
+
+    if (this.string != null) {
+      return;
+    }
+    this.string = new StringBuilder();
+    switch (this.lane) {
+      case LANE_BOOLEAN:
+        this.string.append(this.booleanValue);
+        break;
+      case LANE_INT:
+        if (this.character) {
+          this.string.append((char) this.longValue);
+        } else {
+          this.string.append((int) this.longValue);
+        }
+        break;
+      case LANE_LONG:
+        this.string.append(this.longValue);
+        break;
+      case LANE_FLOAT:
+        this.string.append((float) this.doubleValue);
+        break;
+      case LANE_DOUBLE:
+        this.string.append(this.doubleValue);
+        break;
+      default:
+        break;
+    }
+    this.lane = LANE_STRING;
+  }
+
+  private void appendString(Object value) {
+
+    if (value == null) {
+      this.string.append("null");
+    } else {
+      this.string.append(value.toString());
+    }
+  }
+
+  /**
+   * @return the boxed result of all {@link #fold(Object) folded} operands or {@code null} if nothing was folded.
+   */
+  public Object getValue() {
+
+    switch (this.lane) {
+      case LANE_BOOLEAN:
+        return Boolean.valueOf(this.booleanValue);
+      case LANE_INT:
+        if (this.character) {
+          return Character.valueOf((char) this.longValue);
+        }
+        return Integer.valueOf((int) this.longValue);
+      case LANE_LONG:
+        return Long.valueOf(this.longValue);
+      case LANE_FLOAT:
+        return Float.valueOf((float) this.doubleValue);
+      case LANE_DOUBLE:
+        return Double.valueOf(this.doubleValue);
+      case LANE_STRING:
+        return this.string.toString();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @param operator the unary {@link JavaOperator} ({@link JavaOperator#NOT} or {@link JavaOperator#BIT_NOT}).
+   * @param value the value of the operand.
+   * @return the result or {@code null} if not a constant expression.
+   */
+  public static Object evaluateUnary(JavaOperator operator, Object value) {
+
+    if (operator == JavaOperator.NOT) {
+      if (value instanceof Boolean) {
+        return Boolean.valueOf(!((Boolean) value).booleanValue());
+      }
+    } else if (operator == JavaOperator.BIT_NOT) {
+      int lane = getNumericLane(value);
+      if (lane == LANE_INT) {
+        // unary numeric promotion: byte, short and char result in int
+        return Integer.valueOf(~(int) getLong(value));
+      } else if (lane == LANE_LONG) {
+        return Long.valueOf(~getLong(value));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param operator the comparison {@link JavaOperator} (e.g. {@link JavaOperator#EQ} or {@link JavaOperator#LT}).
+   * @param left the value of the left operand.
+   * @param right the value of the right operand.
+   * @return the result or {@code null} if not a constant expression.
+   */
+  public static Boolean compare(JavaOperator operator, Object left, Object right) {
+
+    if ((left == null) || (right == null)) {
+      return null;
+    }
+    int leftLane = getNumericLane(left);
+    int rightLane = getNumericLane(right);
+    if ((leftLane != LANE_NONE) && (rightLane != LANE_NONE)) {
+      int lane = Math.max(leftLane, rightLane);
+      if (lane == LANE_FLOAT) {
+        // binary numeric promotion to float (e.g. 16777217L == 16777216f is true)
+        return compare(operator, getFloat(left), getFloat(right));
+      } else if (lane == LANE_DOUBLE) {
+        return compare(operator, getDouble(left), getDouble(right));
+      }
+      return compare(operator, Long.compare(getLong(left), getLong(right)));
+    }
+    if ((operator == JavaOperator.EQ) || (operator == JavaOperator.NEQ)) {
+      if ((leftLane == LANE_NONE) && (rightLane == LANE_NONE) && (left.getClass() == right.getClass())) {
+        // booleans and (interned) string constants
+        return Boolean.valueOf(left.equals(right) == (operator == JavaOperator.EQ));
+      }
+    }
+    return null;
+  }
+
+  private static Boolean compare(JavaOperator operator, double a, double b) {
+
+    // use primitive comparison semantics (NaN is never equal)
+    switch (operator) {
+      case EQ:
+        return Boolean.valueOf(a == b);
+      case NEQ:
+        return Boolean.valueOf(a != b);
+      case GT:
+        return Boolean.valueOf(a > b);
+      case GE:
+        return Boolean.valueOf(a >= b);
+      case LT:
+        return Boolean.valueOf(a < b);
+      case LE:
+        return Boolean.valueOf(a <= b);
+      default:
+        return null;
+    }
+  }
+
+  private static Boolean compare(JavaOperator operator, int comparison) {
+
+    switch (operator) {
+      case EQ:
+        return Boolean.valueOf(comparison == 0);
+      case NEQ:
+        return Boolean.valueOf(comparison != 0);
+      case GT:
+        return Boolean.valueOf(comparison > 0);
+      case GE:
+        return Boolean.valueOf(comparison >= 0);
+      case LT:
+        return Boolean.valueOf(comparison < 0);
+      case LE:
+        return Boolean.valueOf(comparison <= 0);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @param condition the value of the condition.
+   * @param ifValue the value of the if-argument.
+   * @param elseValue the value of the else-argument.
+   * @return the selected value converted to the type of the conditional expression if both are numeric or
+   *         {@code null} if not a constant expression. As both arguments are constants a {@code byte}, {@code short}
+   *         or {@code char} is not promoted if the other argument is an {@code int} representable in that type.
+   */
+  public static Object select(Object condition, Object ifValue, Object elseValue) {
+
+    if (!(condition instanceof Boolean)) {
+      return null;
+    }
+    Object value;
+    Object other;
+    if (((Boolean) condition).booleanValue()) {
+      value = ifValue;
+      other = elseValue;
+    } else {
+      value = elseValue;
+      other = ifValue;
+    }
+    int lane = getNumericLane(value);
+    int otherLane = getNumericLane(other);
+    if ((lane == LANE_NONE) || (otherLane == LANE_NONE) || (value.getClass() == other.getClass())) {
+      return value;
+    }
+    switch (Math.max(lane, otherLane)) {
+      case LANE_INT:
+        return selectIntegral(value, other);
+      case LANE_LONG:
+        return Long.valueOf(getLong(value));
+      case LANE_FLOAT:
+        return Float.valueOf(getFloat(value));
+      case LANE_DOUBLE:
+        return Double.valueOf(getDouble(value));
+      default:
+        return value;
+    }
+  }
+
+  private static Object selectIntegral(Object value, Object other) {
+
+    if (((value instanceof Byte) && (other instanceof Short)) || ((value instanceof Short) && (other instanceof Byte))) {
+      return Short.valueOf(((Number) value).shortValue());
+    }
+    if (value instanceof Integer) {
+      Object narrowed = narrow(((Integer) value).intValue(), other);
+      if (narrowed != null) {
+        return narrowed;
+      }
+    } else if ((other instanceof Integer) && (narrow(((Integer) other).intValue(), value) != null)) {
+      return value;
+    }
+    return Integer.valueOf((int) getLong(value));
+  }
+
+  /**
+   * @param value the {@code int} constant to narrow.
+   * @param type the {@code byte}, {@code short} or {@code char} value of the desired type.
+   * @return the given {@code value} converted to the type of the given {@code type} or {@code null} if not
+   *         representable in that type.
+   */
+  private static Object narrow(int value, Object type) {
+
+    if (type instanceof Byte) {
+      if ((value >= Byte.MIN_VALUE) && (value <= Byte.MAX_VALUE)) {
+        return Byte.valueOf((byte) value);
+      }
+    } else if (type instanceof Short) {
+      if ((value >= Short.MIN_VALUE) && (value <= Short.MAX_VALUE)) {
+        return Short.valueOf((short) value);
+      }
+    } else if (type instanceof Character) {
+      if ((value >= Character.MIN_VALUE) && (value <= Character.MAX_VALUE)) {
+        return Character.valueOf((char) value);
+      }
+    }
+    return null;
+  }
+
+  private static int getNumericLane(Object value) {
+
+    if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte) || (value instanceof Character)) {
+      return LANE_INT;
+    } else if (value instanceof Long) {
+      return LANE_LONG;
+    } else if (value instanceof Float) {
+      return LANE_FLOAT;
+    } else if (value instanceof Double) {
+      return LANE_DOUBLE;
+    }
+    return LANE_NONE;
+  }
+
+  private static long getLong(Object value) {
+
+    if (value instanceof Character) {
+      return ((Character) value).charValue();
+    }
+    return ((Number) value).longValue();
+  }
+
+  private static float getFloat(Object value) {
+
+    if (value instanceof Character) {
+      return ((Character) value).charValue();
+    } else if (value instanceof Long) {
+      // convert directly as long to double to float may round twice
+      return ((Long) value).longValue();
+    }
+    return ((Number) value).floatValue();
+  }
+
+  private static double getDouble(Object value) {
+
+    if (value instanceof Character) {
+      return ((Character) value).charValue();
+    }
+    return ((Number) value).doubleValue();
+  }
+
+}
@@ -7,7 +7,8 @@ import net.sf.mmm.code.impl.java.expression.JavaNAryOperatorExpression;
 import net.sf.mmm.code.impl.java.expression.constant.JavaConstant;
 
 /**
- * Helper to {@link #evaluate(JavaNAryOperatorExpression) evaluate} {@link JavaNAryOperatorExpression}.
+ * Helper to {@link #evaluate(JavaNAryOperatorExpression) evaluate} {@link JavaNAryOperatorExpression}. The arguments
+ * are folded via {@link JavaConstantFolder} so no intermediate boxed values are created.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -21,7 +22,11 @@ public class JavaNAryOperatorHelper {
    */
   public static JavaConstant<?> evaluate(JavaNAryOperatorExpression expression) {
 
-    JavaNAryOperatorAggregate<?> aggregate = new JavaNAryOperatorAggregateInitial(expression.getOperator());
+    JavaOperator operator = JavaOperator.of(expression.getOperator());
+    if (operator == null) {
+      return null;
+    }
+    JavaConstantFolder folder = new JavaConstantFolder(operator);
     boolean primitive = true;
     for (CodeExpression arg : expression.getArguments()) {
       JavaConstant<?> constant = (JavaConstant<?>) arg.evaluate();
@@ -31,13 +36,11 @@ public class JavaNAryOperatorHelper {
       if (primitive) {
         primitive = constant.isPrimitive();
       }
-      Object value = constant.getValue();
-      aggregate = aggregate.evaluate(value);
-      if (aggregate == null) {
+      if (!folder.fold(constant.getValue())) {
         return null;
       }
     }
-    Object result = aggregate.getValue();
+    Object result = folder.getValue();
     if (result == null) {
       return null;
     }
@@ -0,0 +1,140 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.mmm.code.api.operator.CodeComparisonOperator;
+import net.sf.mmm.code.api.operator.CodeNAryArbitraryOperator;
+import net.sf.mmm.code.api.operator.CodeNAryBooleanOperator;
+import net.sf.mmm.code.api.operator.CodeNAryHybridOperator;
+import net.sf.mmm.code.api.operator.CodeNAryNumericOperator;
+import net.sf.mmm.code.api.operator.CodeOperator;
+import net.sf.mmm.code.api.operator.CodeUnaryOperator;
+
+/**
+ * {@link Enum} with the Java operators that can be evaluated by {@link JavaConstantFolder}. Allows to dispatch on the
+ * operator via {@code switch} instead of comparing the {@link CodeOperator#getName() operator name} for every
+ * evaluation step.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public enum JavaOperator {
+
+  /** @see CodeNAryArbitraryOperator#NAME_ADD */
+  ADD(CodeNAryArbitraryOperator.NAME_ADD),
+
+  /** @see CodeNAryNumericOperator#NAME_SUB */
+  SUB(CodeNAryNumericOperator.NAME_SUB),
+
+  /** @see CodeNAryNumericOperator#NAME_MUL */
+  MUL(CodeNAryNumericOperator.NAME_MUL),
+
+  /** @see CodeNAryNumericOperator#NAME_DIV */
+  DIV(CodeNAryNumericOperator.NAME_DIV),
+
+  /** @see CodeNAryNumericOperator#NAME_MOD */
+  MOD(CodeNAryNumericOperator.NAME_MOD),
+
+  /** @see CodeNAryNumericOperator#NAME_SHIFT_LEFT */
+  SHIFT_LEFT(CodeNAryNumericOperator.NAME_SHIFT_LEFT),
+
+  /** @see CodeNAryNumericOperator#NAME_SHIFT_RIGHT_SIGNED */
+  SHIFT_RIGHT_SIGNED(CodeNAryNumericOperator.NAME_SHIFT_RIGHT_SIGNED),
+
+  /** @see CodeNAryNumericOperator#NAME_SHIFT_RIGHT_UNSIGNED */
+  SHIFT_RIGHT_UNSIGNED(CodeNAryNumericOperator.NAME_SHIFT_RIGHT_UNSIGNED),
+
+  /** @see CodeNAryHybridOperator#NAME_BIT_AND */
+  BIT_AND(CodeNAryHybridOperator.NAME_BIT_AND),
+
+  /** @see CodeNAryHybridOperator#NAME_BIT_OR */
+  BIT_OR(CodeNAryHybridOperator.NAME_BIT_OR),
+
+  /** @see CodeNAryHybridOperator#NAME_XOR */
+  XOR(CodeNAryHybridOperator.NAME_XOR),
+
+  /** @see CodeNAryBooleanOperator#NAME_AND */
+  AND(CodeNAryBooleanOperator.NAME_AND),
+
+  /** @see CodeNAryBooleanOperator#NAME_OR */
+  OR(CodeNAryBooleanOperator.NAME_OR),
+
+  /** @see CodeUnaryOperator#NAME_NOT */
+  NOT(CodeUnaryOperator.NAME_NOT),
+
+  /** @see CodeUnaryOperator#NAME_BIT_NOT */
+  BIT_NOT(CodeUnaryOperator.NAME_BIT_NOT),
+
+  /** @see CodeComparisonOperator#NAME_EQ */
+  EQ(CodeComparisonOperator.NAME_EQ),
+
+  /** @see CodeComparisonOperator#NAME_NEQ */
+  NEQ(CodeComparisonOperator.NAME_NEQ),
+
+  /** @see CodeComparisonOperator#NAME_GT */
+  GT(CodeComparisonOperator.NAME_GT),
+
+  /** @see CodeComparisonOperator#NAME_GE */
+  GE(CodeComparisonOperator.NAME_GE),
+
+  /** @see CodeComparisonOperator#NAME_LT */
+  LT(CodeComparisonOperator.NAME_LT),
+
+  /** @see CodeComparisonOperator#NAME_LE */
+  LE(CodeComparisonOperator.NAME_LE);
+
+  private static final Map<String, JavaOperator> NAME_MAP;
+
+  static {
+    NAME_MAP = new HashMap<>();
+    for (JavaOperator operator : values()) {
+      NAME_MAP.put(operator.name, operator);
+    }
+  }
+
+  private final String name;
+
+  private JavaOperator(String name) {
+
+    this.name = name;
+  }
+
+  /**
+   * @return the {@link CodeOperator#getName() name} of the operator.
+   */
+  public String getName() {
+
+    return this.name;
+  }
+
+  /**
+   * @return {@code true} if this is a shift operator where the type of the result only depends on the left operand,
+   *         {@code false} otherwise.
+   */
+  public boolean isShift() {
+
+    return (this == SHIFT_LEFT) || (this == SHIFT_RIGHT_SIGNED) || (this == SHIFT_RIGHT_UNSIGNED);
+  }
+
+  @Override
+  public String toString() {
+
+    return this.name;
+  }
+
+  /**
+   * @param operator the {@link CodeOperator}. May be {@code null}.
+   * @return the corresponding {@link JavaOperator} or {@code null} if not supported.
+   */
+  public static JavaOperator of(CodeOperator operator) {
+
+    if (operator == null) {
+      return null;
+    }
+    return NAME_MAP.get(operator.getName());
+  }
+
+}
@@ -16,6 +16,7 @@ import net.sf.mmm.code.api.type.CodeTypePlaceholder;
 import net.sf.mmm.code.api.type.CodeTypeWildcard;
 import net.sf.mmm.code.base.BaseContext;
 import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.comment.BaseBlockComment;
 import net.sf.mmm.code.base.type.BaseComposedType;
 import net.sf.mmm.code.base.type.BaseGenericType;
 import net.sf.mmm.code.base.type.BaseGenericTypeProxy;
@@ -43,7 +44,7 @@ public class JavaGenericTypeFromSource extends BaseGenericTypeProxy {
 
   private final BaseFile file;
 
-  private BaseGenericType type;
+  private volatile BaseGenericType type;
 
   private List<BaseGenericType> composedTypes;
 
@@ -80,10 +81,14 @@ public class JavaGenericTypeFromSource extends BaseGenericTypeProxy {
   @Override
   public BaseGenericType getDelegate() {
 
-    if (this.type == null) {
-      this.type = (BaseGenericType) toGenericType(null);
+    BaseGenericType delegate = this.type;
+    if ((delegate == null) || delegate.asType().isStale()) {
+      // resolve again if the referenced type has been reloaded in the meantime
+      this.commentAndAnnotationsApplied = false;
+      delegate = (BaseGenericType) toGenericType(null);
+      this.type = delegate;
     }
-    return this.type;
+    return delegate;
   }
 
   /**
@@ -210,6 +215,32 @@ public class JavaGenericTypeFromSource extends BaseGenericTypeProxy {
     return wildcard;
   }
 
+  /**
+   * @return the type parameters from source-code or {@code null} if none were present.
+   */
+  List<BaseGenericType> getSourceTypeParameters() {
+
+    return this.typeParameters;
+  }
+
+  /**
+   * @return the additional types of a composed type (e.g. {@code A & B}) from source-code or {@code null} for none.
+   */
+  List<BaseGenericType> getSourceComposedTypes() {
+
+    return this.composedTypes;
+  }
+
+  /**
+   * @return {@code true} if a comment has been attached to this type reference in the source-code, {@code false}
+   *         otherwise.
+   */
+  boolean hasComment() {
+
+    CodeComment comment = getComment(false);
+    return (comment != null) && (comment != BaseBlockComment.EMPTY_COMMENT);
+  }
+
   /**
    * @return {@code true} if diamond operator ({@literal <>}) was present in source-code for this type reference,
    *         {@code false} otherwise. E.g. needed for constructor references.
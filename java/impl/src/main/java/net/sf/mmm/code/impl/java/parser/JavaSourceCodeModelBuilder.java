@@ -0,0 +1,1368 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.mmm.code.api.annotation.CodeAnnotation;
+import net.sf.mmm.code.api.annotation.CodeAnnotations;
+import net.sf.mmm.code.api.arg.CodeParameter;
+import net.sf.mmm.code.api.block.CodeBlockInitializer;
+import net.sf.mmm.code.api.comment.CodeComment;
+import net.sf.mmm.code.api.element.CodeElementWithTypeVariables;
+import net.sf.mmm.code.api.expression.CodeCondition;
+import net.sf.mmm.code.api.expression.CodeExpression;
+import net.sf.mmm.code.api.imports.CodeImport;
+import net.sf.mmm.code.api.modifier.CodeModifiers;
+import net.sf.mmm.code.api.modifier.CodeVisibility;
+import net.sf.mmm.code.api.operator.CodeComparisonOperator;
+import net.sf.mmm.code.api.operator.CodeNAryOperator;
+import net.sf.mmm.code.api.operator.CodeOperator;
+import net.sf.mmm.code.api.operator.CodeUnaryOperator;
+import net.sf.mmm.code.api.statement.CodeStatement;
+import net.sf.mmm.code.api.type.CodeTypeCategory;
+import net.sf.mmm.code.api.type.CodeTypePlaceholder;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.annoation.BaseAnnotation;
+import net.sf.mmm.code.base.arg.BaseExceptions;
+import net.sf.mmm.code.base.arg.BaseParameters;
+import net.sf.mmm.code.base.block.BaseBlockBody;
+import net.sf.mmm.code.base.block.BaseBlockInitializer;
+import net.sf.mmm.code.base.comment.BaseBlockComment;
+import net.sf.mmm.code.base.comment.BaseComments;
+import net.sf.mmm.code.base.comment.BaseSingleLineComment;
+import net.sf.mmm.code.base.doc.BaseDocParser;
+import net.sf.mmm.code.base.expression.BaseArrayInstatiation;
+import net.sf.mmm.code.base.expression.BaseFieldReferenceLazy;
+import net.sf.mmm.code.base.member.BaseConstructor;
+import net.sf.mmm.code.base.member.BaseConstructors;
+import net.sf.mmm.code.base.member.BaseField;
+import net.sf.mmm.code.base.member.BaseMember;
+import net.sf.mmm.code.base.member.BaseMethod;
+import net.sf.mmm.code.base.member.BaseOperation;
+import net.sf.mmm.code.base.operator.BaseOperator;
+import net.sf.mmm.code.base.statement.BaseTextStatement;
+import net.sf.mmm.code.base.type.BaseGenericType;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeVariable;
+import net.sf.mmm.code.base.type.BaseTypeVariables;
+import net.sf.mmm.code.impl.java.expression.JavaComparisonOperatorExpression;
+import net.sf.mmm.code.impl.java.expression.JavaNAryOperatorExpression;
+import net.sf.mmm.code.impl.java.expression.JavaTernaryExpression;
+import net.sf.mmm.code.impl.java.expression.JavaUnaryOperatorExpression;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteral;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralBoolean;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralChar;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralDouble;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralFloat;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralInt;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralLong;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralNull;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralString;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeLexer;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.AnnotationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.AnnotationMethodRestContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.AnnotationTypeDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.AnnotationTypeElementDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.AnnotationTypeElementRestContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ArgumentsContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ArrayInitializerContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.BlockContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.BlockStatementContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ClassBodyDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ClassDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ClassOrInterfaceModifierContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ClassOrInterfaceTypeContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.CompilationUnitContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ConstDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ConstantDeclaratorContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ConstructorDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.DefaultValueContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.DocumentationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ElementValueArrayInitializerContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ElementValueContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ElementValuePairContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.EnumConstantContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.EnumConstantsContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.EnumDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ExpressionContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.FieldDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.FormalParameterContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.FormalParameterListContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.FormalParametersContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.GenericConstructorDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.GenericInterfaceMethodDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.GenericMethodDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ImportDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.IntegerLiteralContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.InterfaceBodyDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.InterfaceDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.InterfaceMemberDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.InterfaceMethodDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.InterfaceMethodModifierContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.LastFormalParameterContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.LiteralContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.MemberDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.MethodBodyContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.MethodDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.ModifierContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.PackageDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.PrimaryContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.QualifiedNameContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.QualifiedNameListContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeArgumentContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeArgumentsContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeBoundContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeDeclarationContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeListContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeParameterContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeParametersContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeTypeContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.TypeTypeOrVoidContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.VariableDeclaratorContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.VariableDeclaratorsContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.VariableInitializerContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.VariableModifierContext;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParserBaseListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link ParseTreeListener} that builds the code model ({@link BaseFile}, {@link BaseType},
+ * members, etc.) from the parse tree of the ANTLR {@link net.sf.mmm.code.java.parser.base.JavaSourceCodeParser}.
+ * Method bodies and initializers are kept as {@link BaseTextStatement}s in their original (re-indented) form so this
+ * also works for unformatted source code.<br>
+ * <b>Attention:</b> An instance of this class is stateful and may only {@link #build(CompilationUnitContext) build}
+ * a single file. Use {@link JavaSourceCodeParserAntlr} for parsing.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaSourceCodeModelBuilder extends JavaSourceCodeParserBaseListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JavaSourceCodeModelBuilder.class);
+
+  private static final String DEFAULT_ANNOTATION_KEY = "value";
+
+  private final BaseFile file;
+
+  private final CommonTokenStream tokens;
+
+  private final BaseDocParser docParser;
+
+  private final Deque<BaseType> typeStack;
+
+  /** Number of nested type declarations currently ignored (e.g. inside a secondary top-level type). */
+  private int skipDepth;
+
+  /** Index of the last hidden comment token that has already been assigned. */
+  private int commentTokenIndex;
+
+  /**
+   * The constructor.
+   *
+   * @param file the {@link BaseFile} to fill.
+   * @param tokens the {@link CommonTokenStream} that has been parsed. Used to access comments that are on the hidden
+   *        channel.
+   */
+  public JavaSourceCodeModelBuilder(BaseFile file, CommonTokenStream tokens) {
+
+    super();
+    this.file = file;
+    this.tokens = tokens;
+    this.docParser = new BaseDocParser();
+    this.typeStack = new ArrayDeque<>();
+    this.commentTokenIndex = -1;
+  }
+
+  /**
+   * @param compilationUnit the {@link CompilationUnitContext} to build the code model from.
+   * @return the {@link BaseFile#getType() main type} of the {@link BaseFile}.
+   */
+  public BaseType build(CompilationUnitContext compilationUnit) {
+
+    DeclarationWalker.INSTANCE.walk(this, compilationUnit);
+    return this.file.getType();
+  }
+
+  /**
+   * @param compilationUnit the {@link CompilationUnitContext} of a {@code package-info.java} file.
+   * @param pkg the {@link BasePackage} to apply the doc, annotations and comment to.
+   */
+  public void buildPackage(CompilationUnitContext compilationUnit, BasePackage pkg) {
+
+    PackageDeclarationContext packageDeclaration = compilationUnit.packageDeclaration();
+    if (packageDeclaration == null) {
+      return;
+    }
+    for (ImportDeclarationContext importDeclaration : compilationUnit.importDeclaration()) {
+      enterImportDeclaration(importDeclaration);
+    }
+    CodeComment comment = getComment(packageDeclaration.start);
+    if (comment != null) {
+      pkg.setComment(comment);
+    }
+    DocumentationContext documentation = packageDeclaration.documentation();
+    if (documentation != null) {
+      pkg.getDoc().getLines().addAll(getDocLines(documentation));
+    }
+    CodeAnnotations annotations = pkg.getAnnotations();
+    for (AnnotationContext annotation : packageDeclaration.annotation()) {
+      annotations.add(createAnnotation(annotation, annotations));
+    }
+  }
+
+  @Override
+  public void enterCompilationUnit(CompilationUnitContext ctx) {
+
+    CodeComment comment = getComment(ctx.start);
+    if (comment != null) {
+      this.file.setComment(comment);
+    }
+  }
+
+  @Override
+  public void enterPackageDeclaration(PackageDeclarationContext ctx) {
+
+    String actualPkg = getQualifiedName(ctx.qualifiedName());
+    String expectedPkg = this.file.getParentPackage().getQualifiedName();
+    if (!actualPkg.equals(expectedPkg)) {
+      LOG.warn("Expected package '{}' for file '{}' but found package '{}'", expectedPkg, this.file.getSimpleName(),
+          actualPkg);
+    }
+  }
+
+  @Override
+  public void enterImportDeclaration(ImportDeclarationContext ctx) {
+
+    String reference = getQualifiedName(ctx.qualifiedName());
+    if (ctx.MUL() != null) {
+      reference = reference + ".*";
+    }
+    this.file.getImports().add(reference, ctx.STATIC() != null);
+  }
+
+  @Override
+  public void enterClassDeclaration(ClassDeclarationContext ctx) {
+
+    BaseType type = enterType(ctx, ctx.IDENTIFIER(), CodeTypeCategory.CLASS, ctx.typeParameters());
+    if (type != null) {
+      if (ctx.typeType() != null) {
+        type.getSuperTypes().add(createType(ctx.typeType(), type));
+      }
+      addSuperTypes(type, ctx.typeList());
+    }
+  }
+
+  @Override
+  public void exitClassDeclaration(ClassDeclarationContext ctx) {
+
+    exitType();
+  }
+
+  @Override
+  public void enterEnumDeclaration(EnumDeclarationContext ctx) {
+
+    BaseType type = enterType(ctx, ctx.IDENTIFIER(), CodeTypeCategory.ENUMERAION, null);
+    if (type != null) {
+      addSuperTypes(type, ctx.typeList());
+      addEnumConstants(type, ctx.enumConstants());
+    }
+  }
+
+  @Override
+  public void exitEnumDeclaration(EnumDeclarationContext ctx) {
+
+    exitType();
+  }
+
+  @Override
+  public void enterInterfaceDeclaration(InterfaceDeclarationContext ctx) {
+
+    BaseType type = enterType(ctx, ctx.IDENTIFIER(), CodeTypeCategory.INTERFACE, ctx.typeParameters());
+    if (type != null) {
+      addSuperTypes(type, ctx.typeList());
+    }
+  }
+
+  @Override
+  public void exitInterfaceDeclaration(InterfaceDeclarationContext ctx) {
+
+    exitType();
+  }
+
+  @Override
+  public void enterAnnotationTypeDeclaration(AnnotationTypeDeclarationContext ctx) {
+
+    enterType(ctx, ctx.IDENTIFIER(), CodeTypeCategory.ANNOTATION, null);
+  }
+
+  @Override
+  public void exitAnnotationTypeDeclaration(AnnotationTypeDeclarationContext ctx) {
+
+    exitType();
+  }
+
+  private BaseType enterType(ParserRuleContext ctx, TerminalNode identifier, CodeTypeCategory category,
+      TypeParametersContext typeParameters) {
+
+    if (this.skipDepth > 0) {
+      this.skipDepth++;
+      return null;
+    }
+    BaseType declaringType = this.typeStack.peek();
+    String simpleName = identifier.getText();
+    BaseType type;
+    if (declaringType == null) {
+      type = (BaseType) this.file.getType(simpleName, false);
+      if (type == null) {
+        LOG.warn("Ignoring secondary top-level type {} in {}", simpleName, this.file.getQualifiedName());
+        this.skipDepth = 1;
+        return null;
+      }
+    } else {
+      type = (BaseType) declaringType.getNestedTypes().getDeclaredOrCreate(simpleName);
+    }
+    this.typeStack.push(type);
+    ParserRuleContext declaration = getDeclaration(ctx);
+    type.setCategory(category);
+    boolean inInterface = (declaringType != null) && isInterface(declaringType);
+    List<CodeAnnotation> annotations = new ArrayList<>();
+    type.setModifiers(getModifiers(declaration, inInterface, annotations));
+    CodeComment comment = getComment(getStart(declaration));
+    if (comment != null) {
+      type.setComment(comment);
+    }
+    addAnnotations(type.getAnnotations(), annotations);
+    if (typeParameters != null) {
+      addTypeVariables((BaseTypeVariables) type.getTypeParameters(), typeParameters, type);
+    }
+    this.docParser.parseDoc(type, getDocLines(getDocumentation(declaration)));
+    return type;
+  }
+
+  private void exitType() {
+
+    if (this.skipDepth > 0) {
+      this.skipDepth--;
+    } else {
+      this.typeStack.pop();
+    }
+  }
+
+  private void addEnumConstants(BaseType type, EnumConstantsContext enumConstants) {
+
+    if (enumConstants == null) {
+      return;
+    }
+    for (EnumConstantContext constant : enumConstants.enumConstant()) {
+      // modeled as field like for a compiled enum
+      BaseField field = type.getFields().add(constant.IDENTIFIER().getText());
+      field.setType(type);
+      field.setModifiers(CodeModifiers.MODIFIERS_PUBLIC_STATIC_FINAL);
+      CodeComment comment = getComment(constant.start);
+      if (comment != null) {
+        field.setComment(comment);
+      }
+      CodeAnnotations annotations = field.getAnnotations();
+      for (AnnotationContext annotation : constant.annotation()) {
+        annotations.add(createAnnotation(annotation, annotations));
+      }
+    }
+  }
+
+  private void addSuperTypes(BaseType type, TypeListContext typeList) {
+
+    if (typeList != null) {
+      for (TypeTypeContext superType : typeList.typeType()) {
+        type.getSuperTypes().add(createType(superType, type));
+      }
+    }
+  }
+
+  @Override
+  public void enterClassBodyDeclaration(ClassBodyDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    BlockContext block = ctx.block();
+    if ((type == null) || (block == null)) {
+      return;
+    }
+    boolean staticInitializer = (ctx.STATIC() != null);
+    CodeBlockInitializer initializer;
+    if (staticInitializer) {
+      initializer = type.getStaticInitializer();
+    } else {
+      initializer = type.getNonStaticInitializer();
+    }
+    List<CodeStatement> statements = getStatements(block);
+    if (initializer != null) {
+      statements.addAll(0, initializer.getStatements());
+    }
+    initializer = new BaseBlockInitializer(type, statements);
+    if (staticInitializer) {
+      type.setStaticInitializer(initializer);
+    } else {
+      type.setNonStaticInitializer(initializer);
+    }
+  }
+
+  @Override
+  public void enterFieldDeclaration(FieldDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if (type != null) {
+      addFields(type, ctx, ctx.typeType(), ctx.variableDeclarators());
+    }
+  }
+
+  @Override
+  public void enterConstDeclaration(ConstDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if (type == null) {
+      return;
+    }
+    for (ConstantDeclaratorContext declarator : ctx.constantDeclarator()) {
+      BaseGenericType fieldType = createType(ctx.typeType(), type);
+      incArrayCount(fieldType, declarator);
+      BaseField field = type.getFields().add(declarator.IDENTIFIER().getText());
+      field.setType(fieldType);
+      field.setInitializer(createExpression(declarator.variableInitializer()));
+      initMember(field, ctx, true);
+    }
+  }
+
+  private void addFields(BaseType type, ParserRuleContext ctx, TypeTypeContext typeType,
+      VariableDeclaratorsContext declarators) {
+
+    for (VariableDeclaratorContext declarator : declarators.variableDeclarator()) {
+      BaseGenericType fieldType = createType(typeType, type);
+      incArrayCount(fieldType, declarator.variableDeclaratorId());
+      BaseField field = type.getFields().add(declarator.variableDeclaratorId().IDENTIFIER().getText());
+      field.setType(fieldType);
+      VariableInitializerContext initializer = declarator.variableInitializer();
+      if (initializer != null) {
+        field.setInitializer(createExpression(initializer));
+      }
+      initMember(field, ctx, isInterface(type));
+    }
+  }
+
+  @Override
+  public void enterMethodDeclaration(MethodDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if (type == null) {
+      return;
+    }
+    TypeParametersContext typeParameters = null;
+    if (ctx.getParent() instanceof GenericMethodDeclarationContext) {
+      typeParameters = ((GenericMethodDeclarationContext) ctx.getParent()).typeParameters();
+    }
+    BaseMethod method = createMethod(type, ctx.IDENTIFIER(), typeParameters, ctx.typeTypeOrVoid());
+    incArrayCount(method.getReturns().getType(), ctx);
+    initOperation(method, ctx, ctx.formalParameters(), ctx.qualifiedNameList(), ctx.methodBody(), isInterface(type));
+  }
+
+  @Override
+  public void enterInterfaceMethodDeclaration(InterfaceMethodDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if (type == null) {
+      return;
+    }
+    TypeParametersContext typeParameters = null;
+    if (ctx.getParent() instanceof GenericInterfaceMethodDeclarationContext) {
+      typeParameters = ((GenericInterfaceMethodDeclarationContext) ctx.getParent()).typeParameters();
+    }
+    BaseMethod method = createMethod(type, ctx.IDENTIFIER(), typeParameters, ctx.typeTypeOrVoid());
+    incArrayCount(method.getReturns().getType(), ctx);
+    initOperation(method, ctx, ctx.formalParameters(), ctx.qualifiedNameList(), ctx.methodBody(), true);
+  }
+
+  @Override
+  public void enterConstructorDeclaration(ConstructorDeclarationContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if (type == null) {
+      return;
+    }
+    BaseConstructors constructors = type.getConstructors();
+    BaseConstructor constructor;
+    if (ctx.getParent() instanceof GenericConstructorDeclarationContext) {
+      JavaTypeVariablesFromSource typeVariables = new JavaTypeVariablesFromSource();
+      addTypeVariables(typeVariables, ((GenericConstructorDeclarationContext) ctx.getParent()).typeParameters(),
+          typeVariables);
+      constructor = new BaseConstructor(constructors, typeVariables);
+    } else {
+      constructor = new BaseConstructor(constructors);
+    }
+    constructors.add(constructor);
+    initOperation(constructor, ctx, ctx.formalParameters(), ctx.qualifiedNameList(), null, false);
+    constructor.setBody(new BaseBlockBody(constructor, getStatements(ctx.block())));
+  }
+
+  @Override
+  public void enterAnnotationTypeElementRest(AnnotationTypeElementRestContext ctx) {
+
+    BaseType type = this.typeStack.peek();
+    if ((type == null) || (ctx.typeType() == null)) {
+      return;
+    }
+    AnnotationMethodRestContext methodRest = ctx.annotationMethodOrConstantRest().annotationMethodRest();
+    if (methodRest == null) {
+      addFields(type, ctx, ctx.typeType(), ctx.annotationMethodOrConstantRest().annotationConstantRest().variableDeclarators());
+      return;
+    }
+    BaseMethod method = new BaseMethod(type.getMethods(), methodRest.IDENTIFIER().getText());
+    type.getMethods().add(method);
+    method.getReturns().setType(createType(ctx.typeType(), type));
+    DefaultValueContext defaultValue = methodRest.defaultValue();
+    if (defaultValue != null) {
+      method.setDefaultValue(createExpression(defaultValue.elementValue()));
+    }
+    initMember(method, ctx, true);
+    this.docParser.parseDoc(method, getDocLines(getDocumentation(getDeclaration(ctx))));
+  }
+
+  private BaseMethod createMethod(BaseType type, TerminalNode identifier, TypeParametersContext typeParameters,
+      TypeTypeOrVoidContext returnType) {
+
+    BaseMethod method;
+    CodeElementWithTypeVariables element = type;
+    String name = identifier.getText();
+    if (typeParameters == null) {
+      method = new BaseMethod(type.getMethods(), name);
+    } else {
+      JavaTypeVariablesFromSource typeVariables = new JavaTypeVariablesFromSource();
+      addTypeVariables(typeVariables, typeParameters, typeVariables);
+      method = new BaseMethod(type.getMethods(), name, typeVariables);
+      element = typeVariables;
+    }
+    type.getMethods().add(method);
+    TypeTypeContext typeType = returnType.typeType();
+    if (typeType == null) {
+      method.getReturns().setType(new JavaGenericTypeFromSource(element, returnType.getText(), this.file));
+    } else {
+      method.getReturns().setType(createType(typeType, element));
+    }
+    return method;
+  }
+
+  private void initOperation(BaseOperation operation, ParserRuleContext ctx, FormalParametersContext formalParameters,
+      QualifiedNameListContext exceptions, MethodBodyContext methodBody, boolean inInterface) {
+
+    addParameters(operation, formalParameters.formalParameterList());
+    if (exceptions != null) {
+      BaseExceptions operationExceptions = operation.getExceptions();
+      for (QualifiedNameContext exception : exceptions.qualifiedName()) {
+        operationExceptions.add(new JavaGenericTypeFromSource(operation, getQualifiedName(exception), this.file));
+      }
+    }
+    if ((methodBody != null) && (methodBody.block() != null)) {
+      operation.setBody(new BaseBlockBody(operation, getStatements(methodBody.block())));
+    }
+    initMember(operation, ctx, inInterface);
+    this.docParser.parseDoc(operation, getDocLines(getDocumentation(getDeclaration(ctx))));
+  }
+
+  private void addParameters(BaseOperation operation, FormalParameterListContext parameterList) {
+
+    if (parameterList == null) {
+      return;
+    }
+    BaseParameters parameters = operation.getParameters();
+    for (FormalParameterContext formalParameter : parameterList.formalParameter()) {
+      CodeParameter parameter = parameters.add(formalParameter.variableDeclaratorId().IDENTIFIER().getText());
+      BaseGenericType parameterType = createType(formalParameter.typeType(), operation);
+      incArrayCount(parameterType, formalParameter.variableDeclaratorId());
+      parameter.setType(parameterType);
+      addVariableAnnotations(parameter.getAnnotations(), formalParameter.variableModifier());
+    }
+    LastFormalParameterContext lastParameter = parameterList.lastFormalParameter();
+    if (lastParameter != null) {
+      CodeParameter parameter = parameters.add(lastParameter.variableDeclaratorId().IDENTIFIER().getText());
+      BaseGenericType parameterType = createType(lastParameter.typeType(), operation);
+      // varargs are arrays (like in reflection)
+      ((JavaGenericTypeFromSource) parameterType).incArrayCount();
+      parameter.setType(parameterType);
+      parameter.setVarArgs(true);
+      addVariableAnnotations(parameter.getAnnotations(), lastParameter.variableModifier());
+    }
+  }
+
+  private void addVariableAnnotations(CodeAnnotations annotations, List<VariableModifierContext> modifiers) {
+
+    for (VariableModifierContext modifier : modifiers) {
+      if (modifier.annotation() != null) {
+        annotations.add(createAnnotation(modifier.annotation(), annotations));
+      }
+    }
+  }
+
+  private void initMember(BaseMember member, ParserRuleContext ctx, boolean inInterface) {
+
+    ParserRuleContext declaration = getDeclaration(ctx);
+    List<CodeAnnotation> annotations = new ArrayList<>();
+    CodeModifiers modifiers = getModifiers(declaration, inInterface, annotations);
+    if (ctx instanceof InterfaceMethodDeclarationContext) {
+      Set<String> keywords = new HashSet<>(modifiers.getModifiers());
+      for (InterfaceMethodModifierContext modifier : ((InterfaceMethodDeclarationContext) ctx).interfaceMethodModifier()) {
+        if (modifier.annotation() == null) {
+          String keyword = modifier.getText();
+          if (!CodeVisibility.PUBLIC.toString().equals(keyword)) {
+            keywords.add(keyword);
+          }
+        } else {
+          annotations.add(createAnnotation(modifier.annotation(), member.getAnnotations()));
+        }
+      }
+      modifiers = CodeModifiers.of(modifiers.getVisibility(), keywords);
+    }
+    member.setModifiers(modifiers);
+    CodeComment comment = getComment(getStart(declaration));
+    if (comment != null) {
+      member.setComment(comment);
+    }
+    addAnnotations(member.getAnnotations(), annotations);
+  }
+
+  private CodeModifiers getModifiers(ParserRuleContext declaration, boolean inInterface,
+      List<CodeAnnotation> annotations) {
+
+    CodeVisibility visibility = null;
+    Set<String> modifiers = new HashSet<>();
+    int childCount = declaration.getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      ParseTree child = declaration.getChild(i);
+      if (child instanceof ModifierContext) {
+        ModifierContext modifier = (ModifierContext) child;
+        if (modifier.classOrInterfaceModifier() == null) {
+          modifiers.add(modifier.getText());
+          continue;
+        }
+        child = modifier.classOrInterfaceModifier();
+      }
+      if (child instanceof ClassOrInterfaceModifierContext) {
+        ClassOrInterfaceModifierContext modifier = (ClassOrInterfaceModifierContext) child;
+        AnnotationContext annotation = modifier.annotation();
+        if (annotation == null) {
+          String keyword = modifier.getText();
+          CodeVisibility keywordVisibility = getVisibility(keyword);
+          if (keywordVisibility == null) {
+            modifiers.add(keyword);
+          } else {
+            visibility = keywordVisibility;
+          }
+        } else {
+          annotations.add(createAnnotation(annotation, this.file.getAnnotations()));
+        }
+      } else if (!(child instanceof DocumentationContext)) {
+        break;
+      }
+    }
+    if (visibility == null) {
+      if (inInterface) {
+        visibility = CodeVisibility.PUBLIC;
+      } else {
+        visibility = CodeVisibility.DEFAULT;
+      }
+    }
+    return CodeModifiers.of(visibility, modifiers);
+  }
+
+  private static boolean isInterface(BaseType type) {
+
+    return type.isInterface() || type.isAnnotation();
+  }
+
+  private static CodeVisibility getVisibility(String keyword) {
+
+    switch (keyword) {
+      case "public":
+        return CodeVisibility.PUBLIC;
+      case "protected":
+        return CodeVisibility.PROTECTED;
+      case "private":
+        return CodeVisibility.PRIVATE;
+      default:
+        return null;
+    }
+  }
+
+  private static void addAnnotations(CodeAnnotations target, List<CodeAnnotation> annotations) {
+
+    for (CodeAnnotation annotation : annotations) {
+      target.add(annotation);
+    }
+  }
+
+  private CodeAnnotation createAnnotation(AnnotationContext ctx, CodeAnnotations parent) {
+
+    String typeName = getQualifiedName(ctx.qualifiedName());
+    CodeAnnotation annotation = new BaseAnnotation(parent, typeName, resolveQualifiedName(typeName));
+    Map<String, CodeExpression> parameters = annotation.getParameters();
+    if (ctx.elementValue() != null) {
+      parameters.put(DEFAULT_ANNOTATION_KEY, createExpression(ctx.elementValue()));
+    } else if (ctx.elementValuePairs() != null) {
+      for (ElementValuePairContext pair : ctx.elementValuePairs().elementValuePair()) {
+        parameters.put(pair.IDENTIFIER().getText(), createExpression(pair.elementValue()));
+      }
+    }
+    return annotation;
+  }
+
+  private void addTypeVariables(BaseTypeVariables typeVariables, TypeParametersContext ctx,
+      CodeElementWithTypeVariables element) {
+
+    for (TypeParameterContext typeParameter : ctx.typeParameter()) {
+      BaseTypeVariable typeVariable = new BaseTypeVariable(typeVariables, typeParameter.IDENTIFIER().getText());
+      TypeBoundContext typeBound = typeParameter.typeBound();
+      if (typeBound != null) {
+        List<TypeTypeContext> bounds = typeBound.typeType();
+        JavaGenericTypeFromSource bound = createType(bounds.get(0), element);
+        for (int i = 1; i < bounds.size(); i++) {
+          bound.addComposedType(createType(bounds.get(i), element));
+        }
+        typeVariable.setBound(bound);
+      }
+      typeVariables.add(typeVariable);
+    }
+  }
+
+  private JavaGenericTypeFromSource createType(TypeTypeContext ctx, CodeElementWithTypeVariables element) {
+
+    JavaGenericTypeFromSource type;
+    ClassOrInterfaceTypeContext classType = ctx.classOrInterfaceType();
+    if (classType == null) {
+      type = new JavaGenericTypeFromSource(element, ctx.primitiveType().getText(), this.file);
+    } else {
+      List<TerminalNode> identifiers = classType.IDENTIFIER();
+      String name;
+      if (identifiers.size() == 1) {
+        name = identifiers.get(0).getText();
+      } else {
+        StringBuilder sb = new StringBuilder();
+        for (TerminalNode identifier : identifiers) {
+          if (sb.length() > 0) {
+            sb.append('.');
+          }
+          sb.append(identifier.getText());
+        }
+        name = sb.toString();
+      }
+      type = new JavaGenericTypeFromSource(element, name, this.file);
+      // like in the model, only the type arguments of the last segment are supported
+      ParseTree last = classType.getChild(classType.getChildCount() - 1);
+      if (last instanceof TypeArgumentsContext) {
+        type.ensureTypeParameters();
+        for (TypeArgumentContext typeArgument : ((TypeArgumentsContext) last).typeArgument()) {
+          type.addTypeParameter(createType(typeArgument, element));
+        }
+      }
+    }
+    incArrayCount(type, ctx);
+    return type;
+  }
+
+  private JavaGenericTypeFromSource createType(TypeArgumentContext ctx, CodeElementWithTypeVariables element) {
+
+    TypeTypeContext typeType = ctx.typeType();
+    if ((ctx.getChildCount() == 1) && (typeType != null)) {
+      return createType(typeType, element);
+    }
+    JavaGenericTypeFromSource wildcard = new JavaGenericTypeFromSource(element, CodeTypePlaceholder.NAME_WILDCARD, this.file);
+    if (typeType != null) {
+      if (ctx.SUPER() != null) {
+        wildcard.setSuperBound(createType(typeType, element));
+      } else {
+        wildcard.setExtendsBound(createType(typeType, element));
+      }
+    }
+    return wildcard;
+  }
+
+  /**
+   * Increments the {@link JavaGenericTypeFromSource#getArrayCount() array count} for each {@code []} that is a direct
+   * child of the given {@link ParserRuleContext} (e.g. {@code int[] x} or the legacy form {@code int x[]}).
+   */
+  private static void incArrayCount(Object type, ParserRuleContext ctx) {
+
+    if (!(type instanceof JavaGenericTypeFromSource)) {
+      return;
+    }
+    int childCount = ctx.getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      ParseTree child = ctx.getChild(i);
+      if ((child instanceof TerminalNode) && (((TerminalNode) child).getSymbol().getType() == JavaSourceCodeLexer.LBRACK)) {
+        ((JavaGenericTypeFromSource) type).incArrayCount();
+      }
+    }
+  }
+
+  private CodeExpression createExpression(VariableInitializerContext ctx) {
+
+    ArrayInitializerContext arrayInitializer = ctx.arrayInitializer();
+    if (arrayInitializer == null) {
+      return createExpression(ctx.expression());
+    }
+    List<CodeExpression> values = new ArrayList<>();
+    for (VariableInitializerContext value : arrayInitializer.variableInitializer()) {
+      values.add(createExpression(value));
+    }
+    return new BaseArrayInstatiation(values);
+  }
+
+  private CodeExpression createExpression(ElementValueContext ctx) {
+
+    if (ctx.expression() != null) {
+      return createExpression(ctx.expression());
+    }
+    ElementValueArrayInitializerContext arrayInitializer = ctx.elementValueArrayInitializer();
+    if (arrayInitializer == null) {
+      // nested annotation is not an expression in the model
+      return null;
+    }
+    List<CodeExpression> values = new ArrayList<>();
+    for (ElementValueContext value : arrayInitializer.elementValue()) {
+      values.add(createExpression(value));
+    }
+    return new BaseArrayInstatiation(values);
+  }
+
+  /**
+   * @param ctx the {@link ExpressionContext} to convert.
+   * @return the according {@link CodeExpression} or {@code null} if the expression is not (yet) supported by the code
+   *         model (e.g. method invocations or lambdas).
+   */
+  private CodeExpression createExpression(ExpressionContext ctx) {
+
+    PrimaryContext primary = ctx.primary();
+    if (primary != null) {
+      return createExpression(primary);
+    }
+    List<ExpressionContext> args = ctx.expression();
+    Token bop = ctx.bop;
+    if (bop == null) {
+      if (ctx.prefix != null) {
+        return createPrefixExpression(ctx.prefix.getText(), args.get(0));
+      } else if ((args.size() == 2) && isShift(ctx.getChild(1))) {
+        // shift operator is composed of multiple tokens
+        StringBuilder operator = new StringBuilder(3);
+        for (int i = 1; i < ctx.getChildCount() - 1; i++) {
+          operator.append(ctx.getChild(i).getText());
+        }
+        return createNAryExpression(operator.toString(), args.get(0), args.get(1));
+      }
+      return null;
+    }
+    String operator = bop.getText();
+    if (bop.getType() == JavaSourceCodeLexer.DOT) {
+      TerminalNode identifier = ctx.IDENTIFIER();
+      ExpressionContext qualifier = args.get(0);
+      if ((identifier != null) && isQualifiedName(qualifier)) {
+        String typeName = qualifier.getText();
+        Boolean qualified = Boolean.valueOf(typeName.indexOf('.') > 0);
+        return new BaseFieldReferenceLazy(this.file.getContext(), resolveQualifiedName(typeName), qualified,
+            identifier.getText());
+      }
+      return null;
+    } else if (bop.getType() == JavaSourceCodeLexer.QUESTION) {
+      CodeExpression condition = createExpression(args.get(0));
+      CodeExpression ifArg = createExpression(args.get(1));
+      CodeExpression elseArg = createExpression(args.get(2));
+      if ((condition instanceof CodeCondition) && (ifArg != null) && (elseArg != null)) {
+        return new JavaTernaryExpression((CodeCondition) condition, ifArg, elseArg);
+      }
+      return null;
+    } else if (args.size() == 2) {
+      CodeOperator codeOperator = BaseOperator.of(operator);
+      if (codeOperator instanceof CodeComparisonOperator) {
+        CodeExpression left = createExpression(args.get(0));
+        CodeExpression right = createExpression(args.get(1));
+        if ((left == null) || (right == null)) {
+          return null;
+        }
+        return new JavaComparisonOperatorExpression(left, (CodeComparisonOperator) codeOperator, right);
+      }
+      return createNAryExpression(operator, args.get(0), args.get(1));
+    }
+    return null;
+  }
+
+  private static boolean isShift(ParseTree child) {
+
+    if (child instanceof TerminalNode) {
+      int type = ((TerminalNode) child).getSymbol().getType();
+      return (type == JavaSourceCodeLexer.LT) || (type == JavaSourceCodeLexer.GT);
+    }
+    return false;
+  }
+
+  private CodeExpression createNAryExpression(String operatorName, ExpressionContext leftArg, ExpressionContext rightArg) {
+
+    CodeOperator codeOperator = BaseOperator.of(operatorName);
+    if (!(codeOperator instanceof CodeNAryOperator)) {
+      return null;
+    }
+    CodeNAryOperator operator = (CodeNAryOperator) codeOperator;
+    CodeExpression left = createExpression(leftArg);
+    CodeExpression right = createExpression(rightArg);
+    if ((left == null) || (right == null)) {
+      return null;
+    }
+    if ((left instanceof JavaNAryOperatorExpression) && (((JavaNAryOperatorExpression) left).getOperator() == operator)) {
+      // flatten left associative chain (e.g. "a + b + c")
+      List<CodeExpression> arguments = new ArrayList<>(((JavaNAryOperatorExpression) left).getArguments());
+      arguments.add(right);
+      return new JavaNAryOperatorExpression(operator, arguments);
+    }
+    return new JavaNAryOperatorExpression(operator, left, right);
+  }
+
+  private CodeExpression createPrefixExpression(String operator, ExpressionContext arg) {
+
+    if ("-".equals(operator)) {
+      // negative number literal (e.g. Integer.MIN_VALUE can only be parsed with sign)
+      PrimaryContext primary = arg.primary();
+      if ((primary != null) && (primary.literal() != null)) {
+        return createLiteral(primary.literal(), true);
+      }
+      return null;
+    } else if ("+".equals(operator)) {
+      return createExpression(arg);
+    }
+    CodeOperator unaryOperator = BaseOperator.of(operator);
+    if (!(unaryOperator instanceof CodeUnaryOperator)) {
+      return null;
+    }
+    CodeExpression expression = createExpression(arg);
+    if (expression == null) {
+      return null;
+    }
+    return new JavaUnaryOperatorExpression((CodeUnaryOperator) unaryOperator, expression);
+  }
+
+  private CodeExpression createExpression(PrimaryContext ctx) {
+
+    if (ctx.literal() != null) {
+      return createLiteral(ctx.literal(), false);
+    } else if (ctx.expression() != null) {
+      return createExpression(ctx.expression());
+    } else if ((ctx.IDENTIFIER() != null) && (ctx.getChildCount() == 1)) {
+      // constant from static import
+      String fieldName = ctx.IDENTIFIER().getText();
+      for (CodeImport importStatement : this.file.getImports()) {
+        if (importStatement.isStatic()) {
+          String reference = importStatement.getReference();
+          int index = reference.length() - fieldName.length() - 1;
+          if ((index > 0) && reference.endsWith(fieldName) && (reference.charAt(index) == '.')) {
+            return new BaseFieldReferenceLazy(this.file.getContext(), reference.substring(0, index), null, fieldName);
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isQualifiedName(ExpressionContext ctx) {
+
+    PrimaryContext primary = ctx.primary();
+    if (primary != null) {
+      return (primary.IDENTIFIER() != null) && (primary.getChildCount() == 1);
+    }
+    return (ctx.bop != null) && (ctx.bop.getType() == JavaSourceCodeLexer.DOT) && (ctx.IDENTIFIER() != null)
+        && isQualifiedName(ctx.expression(0));
+  }
+
+  private JavaLiteral<?> createLiteral(LiteralContext ctx, boolean negate) {
+
+    String text = ctx.getText();
+    try {
+      IntegerLiteralContext integerLiteral = ctx.integerLiteral();
+      if (integerLiteral != null) {
+        return createIntegerLiteral(integerLiteral, text, negate);
+      } else if (ctx.FLOAT_LITERAL() != null) {
+        text = text.replace("_", "");
+        if (negate) {
+          text = "-" + text;
+        }
+        char last = Character.toLowerCase(text.charAt(text.length() - 1));
+        if (last == 'f') {
+          return JavaLiteralFloat.of(Float.parseFloat(text));
+        }
+        return JavaLiteralDouble.of(Double.parseDouble(text));
+      } else if (negate) {
+        return null;
+      } else if (ctx.STRING_LITERAL() != null) {
+        return JavaLiteralString.of(unescape(text));
+      } else if (ctx.CHAR_LITERAL() != null) {
+        String value = unescape(text);
+        if (value.length() == 1) {
+          return JavaLiteralChar.of(value.charAt(0));
+        }
+      } else if (ctx.BOOL_LITERAL() != null) {
+        return JavaLiteralBoolean.of(Boolean.parseBoolean(text));
+      } else if (ctx.NULL_LITERAL() != null) {
+        return JavaLiteralNull.of();
+      }
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid number literal {} in {}", text, this.file.getQualifiedName());
+    }
+    return null;
+  }
+
+  private static JavaLiteral<?> createIntegerLiteral(IntegerLiteralContext ctx, String literal, boolean negate) {
+
+    String text = literal.replace("_", "");
+    char last = Character.toLowerCase(text.charAt(text.length() - 1));
+    boolean isLong = (last == 'l');
+    if (isLong) {
+      text = text.substring(0, text.length() - 1);
+    }
+    int radix = 10;
+    if (ctx.HEX_LITERAL() != null) {
+      radix = 16;
+      text = text.substring(2);
+    } else if (ctx.BINARY_LITERAL() != null) {
+      radix = 2;
+      text = text.substring(2);
+    } else if (ctx.OCT_LITERAL() != null) {
+      radix = 8;
+      text = text.substring(1);
+    }
+    if (radix == 10) {
+      if (negate) {
+        text = "-" + text;
+      }
+      if (isLong) {
+        return JavaLiteralLong.of(Long.parseLong(text));
+      }
+      return JavaLiteralInt.of(Integer.parseInt(text));
+    }
+    // non-decimal literals represent the two's complement (e.g. 0xFFFFFFFF is -1)
+    if (isLong) {
+      long value = Long.parseUnsignedLong(text, radix);
+      return JavaLiteralLong.of(negate ? -value : value);
+    }
+    int value = Integer.parseUnsignedInt(text, radix);
+    return JavaLiteralInt.of(negate ? -value : value);
+  }
+
+  private static String unescape(String literal) {
+
+    // omit quotes
+    int end = literal.length() - 1;
+    StringBuilder sb = new StringBuilder(end);
+    int i = 1;
+    while (i < end) {
+      char c = literal.charAt(i++);
+      if ((c == '\\') && (i < end)) {
+        c = literal.charAt(i++);
+        switch (c) {
+          case 'b':
+            c = '\b';
+            break;
+          case 't':
+            c = '\t';
+            break;
+          case 'n':
+            c = '\n';
+            break;
+          case 'f':
+            c = '\f';
+            break;
+          case 'r':
+            c = '\r';
+            break;
+          case 'u':
+            while ((i < end) && (literal.charAt(i) == 'u')) {
+              i++;
+            }
+            c = (char) Integer.parseInt(literal.substring(i, i + 4), 16);
+            i = i + 4;
+            break;
+          default:
+            if ((c >= '0') && (c <= '7')) {
+              int octal = c - '0';
+              int max = (c <= '3') ? 2 : 1;
+              while ((max-- > 0) && (i < end) && (literal.charAt(i) >= '0') && (literal.charAt(i) <= '7')) {
+                octal = (octal * 8) + (literal.charAt(i++) - '0');
+              }
+              c = (char) octal;
+            }
+            // otherwise '\'', '"' and '\\' are taken as is
+        }
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @param block the {@link BlockContext} of a body or initializer.
+   * @return the {@link List} of {@link BaseTextStatement}s. Each line of the original source-code (including comments)
+   *         becomes a statement with the indentation relative to the block.
+   */
+  private List<CodeStatement> getStatements(BlockContext block) {
+
+    List<CodeStatement> statements = new ArrayList<>();
+    for (BlockStatementContext blockStatement : block.blockStatement()) {
+      addStatementLines(statements, getFirstCommentIndex(blockStatement.start.getTokenIndex()),
+          blockStatement.stop.getTokenIndex());
+    }
+    Token end = block.stop;
+    int commentIndex = getFirstCommentIndex(end.getTokenIndex());
+    if (commentIndex < end.getTokenIndex()) {
+      // trailing comments at the end of the block
+      addStatementLines(statements, commentIndex, end.getTokenIndex() - 1);
+    }
+    return statements;
+  }
+
+  private int getFirstCommentIndex(int tokenIndex) {
+
+    List<Token> hiddenTokens = this.tokens.getHiddenTokensToLeft(tokenIndex, Token.HIDDEN_CHANNEL);
+    if (hiddenTokens != null) {
+      for (Token token : hiddenTokens) {
+        if (isComment(token)) {
+          return token.getTokenIndex();
+        }
+      }
+    }
+    return tokenIndex;
+  }
+
+  private void addStatementLines(List<CodeStatement> statements, int startIndex, int stopIndex) {
+
+    Token start = this.tokens.get(startIndex);
+    Token stop = this.tokens.get(stopIndex);
+    String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+    int indent = start.getCharPositionInLine();
+    int lineStart = 0;
+    int length = text.length();
+    while (lineStart <= length) {
+      int lineEnd = lineStart;
+      while ((lineEnd < length) && (text.charAt(lineEnd) != '\n') && (text.charAt(lineEnd) != '\r')) {
+        lineEnd++;
+      }
+      int contentStart = lineStart;
+      if (lineStart > 0) {
+        // strip the indentation of the statement itself
+        int maxStart = Math.min(lineStart + indent, lineEnd);
+        while ((contentStart < maxStart) && Character.isWhitespace(text.charAt(contentStart))) {
+          contentStart++;
+        }
+      }
+      int contentEnd = lineEnd;
+      while ((contentEnd > contentStart) && Character.isWhitespace(text.charAt(contentEnd - 1))) {
+        contentEnd--;
+      }
+      if (contentEnd > contentStart) {
+        statements.add(new BaseTextStatement(text.substring(contentStart, contentEnd)));
+      }
+      if ((lineEnd < length) && (text.charAt(lineEnd) == '\r') && (lineEnd + 1 < length) && (text.charAt(lineEnd + 1) == '\n')) {
+        lineEnd++;
+      }
+      lineStart = lineEnd + 1;
+    }
+  }
+
+  /**
+   * @param start the first {@link Token} of an element.
+   * @return the {@link CodeComment} for the comments on the hidden channel before the given {@link Token} that have
+   *         not yet been assigned or {@code null} if no such comment exists.
+   */
+  private CodeComment getComment(Token start) {
+
+    List<Token> hiddenTokens = this.tokens.getHiddenTokensToLeft(start.getTokenIndex(), Token.HIDDEN_CHANNEL);
+    if (hiddenTokens == null) {
+      return null;
+    }
+    List<CodeComment> comments = null;
+    for (Token token : hiddenTokens) {
+      if (isComment(token) && (token.getTokenIndex() > this.commentTokenIndex)) {
+        if (comments == null) {
+          comments = new ArrayList<>(1);
+        }
+        String text = token.getText();
+        if (token.getType() == JavaSourceCodeLexer.LINE_COMMENT) {
+          String comment = text.substring(2);
+          if (comment.startsWith(" ")) {
+            comment = comment.substring(1);
+          }
+          comments.add(new BaseSingleLineComment(comment.trim()));
+        } else {
+          comments.add(new BaseBlockComment(getCommentLines(text, 2)));
+        }
+        this.commentTokenIndex = token.getTokenIndex();
+      }
+    }
+    if (comments == null) {
+      return null;
+    } else if (comments.size() == 1) {
+      return comments.get(0);
+    }
+    return new BaseComments(comments);
+  }
+
+  private static boolean isComment(Token token) {
+
+    int type = token.getType();
+    return (type == JavaSourceCodeLexer.COMMENT) || (type == JavaSourceCodeLexer.LINE_COMMENT);
+  }
+
+  private static List<String> getDocLines(DocumentationContext documentation) {
+
+    if ((documentation == null) || (documentation.start.getType() != JavaSourceCodeLexer.JAVADOC_START)) {
+      return Collections.emptyList();
+    }
+    Token start = documentation.start;
+    String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), documentation.stop.getStopIndex()));
+    return getCommentLines(text, start.getText().length());
+  }
+
+  /**
+   * @param comment the block comment or JavaDoc including the leading {@code /*} and trailing {@code *}{@code /}.
+   * @param start the length of the opening sequence to skip.
+   * @return the lines of the comment without the leading asterisks.
+   */
+  private static List<String> getCommentLines(String comment, int start) {
+
+    int end = comment.length() - 2;
+    while ((end > start) && (comment.charAt(end - 1) == '*')) {
+      end--;
+    }
+    List<String> lines = new ArrayList<>();
+    String[] rawLines = comment.substring(start, Math.max(start, end)).split("\r\n|\r|\n", -1);
+    int last = rawLines.length - 1;
+    for (int i = 0; i <= last; i++) {
+      String line = rawLines[i];
+      if (i > 0) {
+        int index = 0;
+        while ((index < line.length()) && Character.isWhitespace(line.charAt(index))) {
+          index++;
+        }
+        if ((index < line.length()) && (line.charAt(index) == '*')) {
+          index++;
+        }
+        line = line.substring(index);
+      }
+      if (line.startsWith(" ")) {
+        line = line.substring(1);
+      }
+      int lineEnd = line.length();
+      while ((lineEnd > 0) && Character.isWhitespace(line.charAt(lineEnd - 1))) {
+        lineEnd--;
+      }
+      line = line.substring(0, lineEnd);
+      if (line.isEmpty() && ((i == 0) || (i == last))) {
+        continue;
+      }
+      lines.add(line);
+    }
+    return lines;
+  }
+
+  /**
+   * @param ctx the {@link ParserRuleContext} of a type or member declaration.
+   * @return the {@link ParserRuleContext} of the enclosing declaration that holds the modifiers and whose previous
+   *         sibling is the optional {@link DocumentationContext}.
+   */
+  private static ParserRuleContext getDeclaration(ParserRuleContext ctx) {
+
+    ParserRuleContext declaration = ctx;
+    ParserRuleContext parent = ctx.getParent();
+    while ((parent instanceof MemberDeclarationContext) || (parent instanceof InterfaceMemberDeclarationContext)
+        || (parent instanceof AnnotationTypeElementRestContext) || (parent instanceof GenericMethodDeclarationContext)
+        || (parent instanceof GenericConstructorDeclarationContext) || (parent instanceof GenericInterfaceMethodDeclarationContext)
+        || (parent instanceof ClassBodyDeclarationContext) || (parent instanceof InterfaceBodyDeclarationContext)
+        || (parent instanceof AnnotationTypeElementDeclarationContext) || (parent instanceof TypeDeclarationContext)) {
+      declaration = parent;
+      if ((parent instanceof ClassBodyDeclarationContext) || (parent instanceof InterfaceBodyDeclarationContext)
+          || (parent instanceof AnnotationTypeElementDeclarationContext) || (parent instanceof TypeDeclarationContext)) {
+        break;
+      }
+      parent = parent.getParent();
+    }
+    return declaration;
+  }
+
+  private static DocumentationContext getDocumentation(ParserRuleContext declaration) {
+
+    ParserRuleContext parent = declaration.getParent();
+    if (parent == null) {
+      return null;
+    }
+    int index = parent.children.indexOf(declaration);
+    if (index > 0) {
+      ParseTree previous = parent.getChild(index - 1);
+      if (previous instanceof DocumentationContext) {
+        return (DocumentationContext) previous;
+      }
+    }
+    return null;
+  }
+
+  private static Token getStart(ParserRuleContext declaration) {
+
+    DocumentationContext documentation = getDocumentation(declaration);
+    if (documentation != null) {
+      return documentation.start;
+    }
+    return declaration.start;
+  }
+
+  private static String getQualifiedName(QualifiedNameContext ctx) {
+
+    return ctx.getText();
+  }
+
+  private String resolveQualifiedName(String name) {
+
+    if (name.indexOf('.') == -1) {
+      return this.file.getContext().getQualifiedName(name, this.file, false);
+    }
+    return name;
+  }
+
+  /**
+   * {@link ParseTreeWalker} that does not descend into parts of the tree that are handled by the declaration itself
+   * (bodies, expressions, types, enum constants, etc.). This avoids to walk the by far largest part of the tree and also
+   * ignores local and anonymous types (including the bodies of enum constants).
+   */
+  private static final class DeclarationWalker extends ParseTreeWalker {
+
+    private static final DeclarationWalker INSTANCE = new DeclarationWalker();
+
+    @Override
+    public void walk(ParseTreeListener listener, ParseTree t) {
+
+      if ((t instanceof BlockContext) || (t instanceof ExpressionContext) || (t instanceof VariableInitializerContext)
+          || (t instanceof ElementValueContext) || (t instanceof DefaultValueContext) || (t instanceof EnumConstantsContext)
+          || (t instanceof DocumentationContext) || (t instanceof AnnotationContext) || (t instanceof FormalParametersContext)
+          || (t instanceof TypeTypeContext) || (t instanceof TypeParametersContext) || (t instanceof ArgumentsContext)) {
+        return;
+      }
+      super.walk(listener, t);
+    }
+  }
+
+}
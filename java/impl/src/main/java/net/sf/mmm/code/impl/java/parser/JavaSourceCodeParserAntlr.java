@@ -0,0 +1,111 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.parser.SourceCodeParser;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.java.parser.api.JavaParser;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeLexer;
+import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.CompilationUnitContext;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link SourceCodeParser} based on the ANTLR {@link JavaParser}. Parsing is done SLL-first with a
+ * fallback to full LL only for files that need it (see {@link JavaParser}) and the DFA cache is shared across all
+ * threads. The code model is built via {@link JavaSourceCodeModelBuilder}. Unlike {@link JavaSourceCodeParserImpl}
+ * this implementation does not depend on formatting conventions of the source code. It is stateless and therefore
+ * thread-safe.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaSourceCodeParserAntlr implements SourceCodeParser {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JavaSourceCodeParserAntlr.class);
+
+  private static final JavaSourceCodeParserAntlr INSTANCE = new JavaSourceCodeParserAntlr();
+
+  /**
+   * The constructor.
+   */
+  public JavaSourceCodeParserAntlr() {
+
+    super();
+  }
+
+  @Override
+  public BaseType parseType(Reader reader, BaseFile file) {
+
+    CommonTokenStream tokens = createTokens(reader, file.getQualifiedName());
+    CompilationUnitContext compilationUnit = JavaParser.parse(tokens, new ErrorLogger(file.getQualifiedName()));
+    return new JavaSourceCodeModelBuilder(file, tokens).build(compilationUnit);
+  }
+
+  @Override
+  public void parsePackage(Reader reader, BasePackage pkg) {
+
+    String source = pkg.getQualifiedName() + ".package-info";
+    CommonTokenStream tokens = createTokens(reader, source);
+    CompilationUnitContext compilationUnit = JavaParser.parse(tokens, new ErrorLogger(source));
+    // detached file only used as context to resolve annotation types
+    BaseFile file = pkg.getChildren().createFile("package-info");
+    new JavaSourceCodeModelBuilder(file, tokens).buildPackage(compilationUnit, pkg);
+  }
+
+  private static CommonTokenStream createTokens(Reader reader, String source) {
+
+    try {
+      CharStream charStream = CharStreams.fromReader(reader, source);
+      JavaSourceCodeLexer lexer = new JavaSourceCodeLexer(charStream);
+      lexer.removeErrorListeners();
+      lexer.addErrorListener(new ErrorLogger(source));
+      return new CommonTokenStream(lexer);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.READ);
+    }
+  }
+
+  /**
+   * @return the default instance of this class. It is thread-safe and can be shared across all contexts.
+   */
+  public static JavaSourceCodeParserAntlr get() {
+
+    return INSTANCE;
+  }
+
+  /**
+   * {@link BaseErrorListener} that logs syntax errors as warnings.
+   */
+  private static class ErrorLogger extends BaseErrorListener {
+
+    private final String source;
+
+    private ErrorLogger(String source) {
+
+      super();
+      this.source = source;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg,
+        RecognitionException e) {
+
+      LOG.warn("Syntax error in {} at line {}:{}: {}", this.source, Integer.valueOf(line), Integer.valueOf(charPositionInLine), msg);
+    }
+  }
+
+}
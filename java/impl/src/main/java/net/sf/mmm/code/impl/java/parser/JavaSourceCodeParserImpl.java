@@ -3,6 +3,9 @@
 package net.sf.mmm.code.impl.java.parser;
 
 import java.io.Reader;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.sf.mmm.code.base.BaseFile;
 import net.sf.mmm.code.base.BasePackage;
@@ -10,30 +13,61 @@ import net.sf.mmm.code.base.parser.SourceCodeParser;
 import net.sf.mmm.code.base.type.BaseType;
 
 /**
- * Implementation of {@link SourceCodeParser}.
+ * Implementation of {@link SourceCodeParser}. As {@link JavaSourceCodeReaderHighlevel} is stateful, this implementation
+ * manages a pool of such readers. Each invocation of {@link #parseType(Reader, BaseFile)} borrows a reader from the
+ * pool (or creates a new one if none is idle) and returns it afterwards. This makes this parser thread-safe and
+ * reentrant as required by {@link SourceCodeParser}.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class JavaSourceCodeParserImpl implements SourceCodeParser {
 
-  private static JavaSourceCodeParserImpl instance;
+  private static final int DEFAULT_MAX_IDLE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
 
-  private final JavaSourceCodeReaderHighlevel codeReader;
+  private static volatile JavaSourceCodeParserImpl instance;
+
+  private final Queue<JavaSourceCodeReaderHighlevel> readerPool;
+
+  private final AtomicInteger idleCount;
+
+  private final int maxIdle;
 
   /**
    * The constructor.
    */
   public JavaSourceCodeParserImpl() {
 
+    this(DEFAULT_MAX_IDLE);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param maxIdle the maximum number of idle {@link JavaSourceCodeReaderHighlevel readers} kept in the pool for reuse.
+   *        Readers returned to a full pool are discarded. Use {@code 0} to disable pooling so a new reader is created
+   *        for every file.
+   */
+  public JavaSourceCodeParserImpl(int maxIdle) {
+
     super();
-    this.codeReader = new JavaSourceCodeReaderHighlevel();
+    if (maxIdle < 0) {
+      throw new IllegalArgumentException(Integer.toString(maxIdle));
+    }
+    this.maxIdle = maxIdle;
+    this.readerPool = new ConcurrentLinkedQueue<>();
+    this.idleCount = new AtomicInteger();
   }
 
   @Override
   public BaseType parseType(Reader reader, BaseFile file) {
 
-    return this.codeReader.parse(reader, file);
+    JavaSourceCodeReaderHighlevel codeReader = acquireReader();
+    try {
+      return codeReader.parse(reader, file);
+    } finally {
+      releaseReader(codeReader);
+    }
   }
 
   @Override
@@ -42,7 +76,49 @@ public class JavaSourceCodeParserImpl implements SourceCodeParser {
   }
 
   /**
-   * @return the default instance of this class.
+   * @return an idle {@link JavaSourceCodeReaderHighlevel} from the pool or a new one if the pool is empty.
+   */
+  protected JavaSourceCodeReaderHighlevel acquireReader() {
+
+    JavaSourceCodeReaderHighlevel codeReader = this.readerPool.poll();
+    if (codeReader == null) {
+      return createReader();
+    }
+    this.idleCount.decrementAndGet();
+    return codeReader;
+  }
+
+  /**
+   * @param codeReader the {@link JavaSourceCodeReaderHighlevel} previously {@link #acquireReader() acquired} that is
+   *        no longer used by the caller.
+   */
+  protected void releaseReader(JavaSourceCodeReaderHighlevel codeReader) {
+
+    if (this.idleCount.incrementAndGet() <= this.maxIdle) {
+      this.readerPool.offer(codeReader);
+    } else {
+      this.idleCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * @return the number of idle {@link JavaSourceCodeReaderHighlevel readers} currently kept in the pool.
+   */
+  int getIdleCount() {
+
+    return this.idleCount.get();
+  }
+
+  /**
+   * @return a new {@link JavaSourceCodeReaderHighlevel}. Override to customize.
+   */
+  protected JavaSourceCodeReaderHighlevel createReader() {
+
+    return new JavaSourceCodeReaderHighlevel();
+  }
+
+  /**
+   * @return the default instance of this class. It is thread-safe and can be shared across all contexts.
    */
   public static JavaSourceCodeParserImpl get() {
 
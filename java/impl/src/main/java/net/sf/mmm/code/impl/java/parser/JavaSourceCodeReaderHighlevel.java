@@ -45,7 +45,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Extends {@link JavaSourceCodeReaderLowlevel} with high-level parsing.
+ * Extends {@link JavaSourceCodeReaderLowlevel} with high-level parsing.<br>
+ * <b>Attention:</b> An instance of this class is stateful and may only {@link #parse(Reader, BaseFile) parse} one file
+ * at a time. Use {@link JavaSourceCodeParserImpl} for concurrent parsing.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -87,12 +89,16 @@ public class JavaSourceCodeReaderHighlevel extends JavaSourceCodeReaderLowlevel
     }
     setReader(reader);
     this.file = javaFile;
-    // parse the source code
-    parsePackage();
-    parseImports();
-    parseTypes();
-    // clear
-    this.file = null;
+    try {
+      // parse the source code
+      parsePackage();
+      parseImports();
+      parseTypes();
+    } finally {
+      // clear (also on error so this reader can be reused)
+      this.file = null;
+      clearConsumeState();
+    }
     return javaFile.getType();
   }
 
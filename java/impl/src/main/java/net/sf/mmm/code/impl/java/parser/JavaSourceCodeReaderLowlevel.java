@@ -573,7 +573,7 @@ public abstract class JavaSourceCodeReaderLowlevel extends CharReaderScanner {
     if (visibility == null) {
       visibility = getVisibilityFallback(inInterface);
     }
-    return new CodeModifiers(visibility, modifiers);
+    return CodeModifiers.of(visibility, modifiers);
   }
 
   private boolean parseModifierKeyword(Set<String> modifiers, String modifier) {
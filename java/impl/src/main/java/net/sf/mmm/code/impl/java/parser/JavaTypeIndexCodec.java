@@ -0,0 +1,902 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import net.sf.mmm.code.api.annotation.CodeAnnotation;
+import net.sf.mmm.code.api.arg.CodeException;
+import net.sf.mmm.code.api.arg.CodeParameter;
+import net.sf.mmm.code.api.block.CodeBlock;
+import net.sf.mmm.code.api.comment.CodeComment;
+import net.sf.mmm.code.api.element.CodeElement;
+import net.sf.mmm.code.api.element.CodeElementWithTypeVariables;
+import net.sf.mmm.code.api.expression.CodeExpression;
+import net.sf.mmm.code.api.imports.CodeImport;
+import net.sf.mmm.code.api.member.CodeConstructor;
+import net.sf.mmm.code.api.member.CodeField;
+import net.sf.mmm.code.api.member.CodeMethod;
+import net.sf.mmm.code.api.modifier.CodeModifiers;
+import net.sf.mmm.code.api.modifier.CodeVisibility;
+import net.sf.mmm.code.api.operator.CodeNAryOperator;
+import net.sf.mmm.code.api.statement.CodeStatement;
+import net.sf.mmm.code.api.type.CodeGenericType;
+import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.api.type.CodeTypeCategory;
+import net.sf.mmm.code.api.type.CodeTypeVariable;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.annoation.BaseAnnotation;
+import net.sf.mmm.code.base.block.BaseBlockBody;
+import net.sf.mmm.code.base.block.BaseBlockInitializer;
+import net.sf.mmm.code.base.comment.BaseBlockComment;
+import net.sf.mmm.code.base.comment.BaseComments;
+import net.sf.mmm.code.base.comment.BaseInlineComment;
+import net.sf.mmm.code.base.comment.BaseSingleLineComment;
+import net.sf.mmm.code.base.expression.BaseArrayInstatiation;
+import net.sf.mmm.code.base.expression.BaseMethodInvocation;
+import net.sf.mmm.code.base.member.BaseConstructor;
+import net.sf.mmm.code.base.member.BaseConstructors;
+import net.sf.mmm.code.base.member.BaseField;
+import net.sf.mmm.code.base.member.BaseMember;
+import net.sf.mmm.code.base.member.BaseMethod;
+import net.sf.mmm.code.base.member.BaseOperation;
+import net.sf.mmm.code.base.operator.BaseOperator;
+import net.sf.mmm.code.base.statement.BaseTextStatement;
+import net.sf.mmm.code.base.type.BaseGenericType;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeVariable;
+import net.sf.mmm.code.base.type.BaseTypeVariables;
+import net.sf.mmm.code.impl.java.expression.JavaNAryOperatorExpression;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteral;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Codec to {@link #encode(BaseFile) encode} a {@link BaseFile} that has been parsed from source-code by
+ * {@link JavaSourceCodeParserImpl} into a compact binary form and to {@link #decode(byte[], BaseFile) decode} it again
+ * without parsing the source-code. The decoded model is built in the same order and with the same elements as the
+ * parser would create it. Only the structures created by the parser are supported. If a {@link BaseFile} contains
+ * anything else it is not {@link #encode(BaseFile) encoded} at all so it will always be parsed from source-code.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+public class JavaTypeIndexCodec {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JavaTypeIndexCodec.class);
+
+  /** The version of the binary format. Has to be incremented on every incompatible change. */
+  public static final int VERSION = 1;
+
+  private static final byte COMMENT_NONE = 0;
+
+  private static final byte COMMENT_SINGLE_LINE = 1;
+
+  private static final byte COMMENT_INLINE = 2;
+
+  private static final byte COMMENT_BLOCK = 3;
+
+  private static final byte COMMENT_MULTIPLE = 4;
+
+  private static final byte CATEGORY_CLASS = 0;
+
+  private static final byte CATEGORY_INTERFACE = 1;
+
+  private static final byte CATEGORY_ENUMERATION = 2;
+
+  private static final byte CATEGORY_ANNOTATION = 3;
+
+  private static final byte EXPRESSION_NONE = 0;
+
+  private static final byte EXPRESSION_NULL = 1;
+
+  private static final byte EXPRESSION_STRING = 2;
+
+  private static final byte EXPRESSION_BOOLEAN = 3;
+
+  private static final byte EXPRESSION_CHAR = 4;
+
+  private static final byte EXPRESSION_BYTE = 5;
+
+  private static final byte EXPRESSION_SHORT = 6;
+
+  private static final byte EXPRESSION_INT = 7;
+
+  private static final byte EXPRESSION_LONG = 8;
+
+  private static final byte EXPRESSION_FLOAT = 9;
+
+  private static final byte EXPRESSION_DOUBLE = 10;
+
+  private static final byte EXPRESSION_ARRAY = 11;
+
+  private static final byte EXPRESSION_INVOCATION = 12;
+
+  private static final byte EXPRESSION_OPERATOR = 13;
+
+  /**
+   * @param file the {@link BaseFile} that has been parsed from source-code.
+   * @return the encoded {@link BaseFile} or {@code null} if the {@link BaseFile} contains constructs that are not
+   *         supported by this codec.
+   */
+  public byte[] encode(BaseFile file) {
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      writeFile(file, out);
+    } catch (UnsupportedConstructException e) {
+      LOG.debug("File {} can not be indexed: {}", file.getQualifiedName(), e.getMessage());
+      return null;
+    } catch (IOException e) {
+      // can not happen for in-memory stream
+      throw new IllegalStateException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * @param data the data previously {@link #encode(BaseFile) encoded}.
+   * @param file the new and empty {@link BaseFile} to decode the {@code data} into.
+   * @return {@code true} if successfully decoded, {@code false} if the {@code data} was corrupt. In the latter case the
+   *         {@link BaseFile} may have been modified partially and shall be discarded.
+   */
+  public boolean decode(byte[] data, BaseFile file) {
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+      readFile(in, file);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to decode file {} from index: {}", file.getQualifiedName(), e.toString());
+      return false;
+    }
+  }
+
+  private void writeFile(BaseFile file, DataOutputStream out) throws IOException {
+
+    writeComment(file.getComment(), out);
+    List<? extends CodeImport> imports = file.getImports().getDeclared();
+    out.writeInt(imports.size());
+    for (CodeImport imp : imports) {
+      writeString(imp.getReference(), out);
+      out.writeBoolean(imp.isStatic());
+    }
+    List<BaseType> types = file.getTypes();
+    if (types.size() != 1) {
+      throw new UnsupportedConstructException(types.size() + " top-level types");
+    }
+    writeType(types.get(0), out);
+  }
+
+  private void readFile(DataInputStream in, BaseFile file) throws IOException {
+
+    CodeComment comment = readComment(in);
+    if (comment != null) {
+      file.setComment(comment);
+    }
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String reference = readName(in);
+      file.getImports().add(reference, in.readBoolean());
+    }
+    readType(in, file, null);
+    if (in.read() != -1) {
+      throw new IllegalStateException("Trailing data");
+    }
+  }
+
+  private void writeType(BaseType type, DataOutputStream out) throws IOException {
+
+    writeString(type.getSimpleName(), out);
+    out.writeByte(encodeCategory(type.getCategory()));
+    writeModifiers(type.getModifiers(), out);
+    writeComment(type.getComment(), out);
+    writeTypeVariables(type.getTypeParameters(), out);
+    writeDoc(type, out);
+    writeAnnotations(type, out);
+    List<? extends CodeGenericType> superTypes = type.getSuperTypes().getDeclared();
+    out.writeInt(superTypes.size());
+    for (CodeGenericType superType : superTypes) {
+      writeGenericType(superType, out);
+    }
+    writeStatements(type.getStaticInitializer(), out);
+    writeStatements(type.getNonStaticInitializer(), out);
+    List<? extends CodeType> nestedTypes = type.getNestedTypes().getDeclared();
+    out.writeInt(nestedTypes.size());
+    for (CodeType nestedType : nestedTypes) {
+      writeType((BaseType) nestedType, out);
+    }
+    List<? extends CodeField> fields = type.getFields().getDeclared();
+    out.writeInt(fields.size());
+    for (CodeField codeField : fields) {
+      BaseField field = (BaseField) codeField;
+      writeString(field.getName(), out);
+      writeGenericType(field.getType(), out);
+      writeExpression(field.getInitializer(), out);
+      writeMember(field, out);
+    }
+    List<? extends CodeConstructor> constructors = type.getConstructors().getDeclared();
+    out.writeInt(constructors.size());
+    for (CodeConstructor codeConstructor : constructors) {
+      BaseConstructor constructor = (BaseConstructor) codeConstructor;
+      writeOperationTypeVariables(constructor, out);
+      writeOperation(constructor, out);
+      writeMember(constructor, out);
+    }
+    List<? extends CodeMethod> methods = type.getMethods().getDeclared();
+    out.writeInt(methods.size());
+    for (CodeMethod codeMethod : methods) {
+      BaseMethod method = (BaseMethod) codeMethod;
+      writeString(method.getName(), out);
+      writeOperationTypeVariables(method, out);
+      writeGenericType(method.getReturns().getType(), out);
+      writeDoc(method.getReturns(), out);
+      writeOperation(method, out);
+      writeExpression(method.getDefaultValue(), out);
+      writeMember(method, out);
+    }
+  }
+
+  private void readType(DataInputStream in, BaseFile file, BaseType declaringType) throws IOException {
+
+    String simpleName = readName(in);
+    BaseType type;
+    if (declaringType == null) {
+      type = (BaseType) file.getType(simpleName, false);
+      if (type == null) {
+        throw new IllegalStateException("Type " + simpleName + " does not match " + file.getQualifiedName());
+      }
+    } else {
+      type = (BaseType) declaringType.getNestedTypes().getDeclaredOrCreate(simpleName);
+    }
+    type.setCategory(decodeCategory(in.readByte()));
+    type.setModifiers(readModifiers(in));
+    CodeComment comment = readComment(in);
+    if (comment != null) {
+      type.setComment(comment);
+    }
+    readTypeVariables(in, type.getTypeParameters(), type, file);
+    readDoc(in, type);
+    readAnnotations(in, type, file);
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      type.getSuperTypes().add(readGenericType(in, type, file));
+    }
+    List<CodeStatement> statements = readStatements(in);
+    if (!statements.isEmpty()) {
+      type.setStaticInitializer(new BaseBlockInitializer(type, statements));
+    }
+    statements = readStatements(in);
+    if (!statements.isEmpty()) {
+      type.setNonStaticInitializer(new BaseBlockInitializer(type, statements));
+    }
+    size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      readType(in, file, type);
+    }
+    size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String name = readName(in);
+      BaseField field = type.getFields().add(name);
+      field.setType(readGenericType(in, type, file));
+      CodeExpression initializer = readExpression(in, file);
+      if (initializer != null) {
+        field.setInitializer(initializer);
+      }
+      readMember(in, field, file);
+    }
+    size = in.readInt();
+    BaseConstructors constructors = type.getConstructors();
+    for (int i = 0; i < size; i++) {
+      JavaTypeVariablesFromSource typeVariables = readOperationTypeVariables(in, file);
+      BaseConstructor constructor;
+      if (typeVariables == null) {
+        constructor = new BaseConstructor(constructors);
+      } else {
+        constructor = new BaseConstructor(constructors, typeVariables);
+      }
+      readOperation(in, constructor, file);
+      constructors.add(constructor);
+      readMember(in, constructor, file);
+    }
+    size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String name = readName(in);
+      JavaTypeVariablesFromSource typeVariables = readOperationTypeVariables(in, file);
+      BaseMethod method;
+      CodeElementWithTypeVariables element = type;
+      if (typeVariables == null) {
+        method = new BaseMethod(type.getMethods(), name);
+      } else {
+        method = new BaseMethod(type.getMethods(), name, typeVariables);
+        element = typeVariables;
+      }
+      type.getMethods().add(method);
+      method.getReturns().setType(readGenericType(in, element, file));
+      readDoc(in, method.getReturns());
+      readOperation(in, method, file);
+      CodeExpression defaultValue = readExpression(in, file);
+      if (defaultValue != null) {
+        method.setDefaultValue(defaultValue);
+      }
+      readMember(in, method, file);
+    }
+  }
+
+  private void writeMember(BaseMember member, DataOutputStream out) throws IOException {
+
+    writeModifiers(member.getModifiers(), out);
+    writeComment(member.getComment(), out);
+    writeAnnotations(member, out);
+    writeDoc(member, out);
+  }
+
+  private void readMember(DataInputStream in, BaseMember member, BaseFile file) throws IOException {
+
+    member.setModifiers(readModifiers(in));
+    CodeComment comment = readComment(in);
+    if (comment != null) {
+      member.setComment(comment);
+    }
+    readAnnotations(in, member, file);
+    readDoc(in, member);
+  }
+
+  private void writeOperationTypeVariables(BaseOperation operation, DataOutputStream out) throws IOException {
+
+    BaseTypeVariables typeVariables = operation.getTypeParameters();
+    boolean fromSource = (typeVariables instanceof JavaTypeVariablesFromSource);
+    out.writeBoolean(fromSource);
+    if (fromSource) {
+      writeTypeVariables(typeVariables, out);
+    } else if (!typeVariables.getDeclared().isEmpty()) {
+      throw new UnsupportedConstructException("type variables of " + operation);
+    }
+  }
+
+  private JavaTypeVariablesFromSource readOperationTypeVariables(DataInputStream in, BaseFile file) throws IOException {
+
+    if (!in.readBoolean()) {
+      return null;
+    }
+    JavaTypeVariablesFromSource typeVariables = new JavaTypeVariablesFromSource();
+    readTypeVariables(in, typeVariables, typeVariables, file);
+    return typeVariables;
+  }
+
+  private void writeTypeVariables(BaseTypeVariables typeVariables, DataOutputStream out) throws IOException {
+
+    List<? extends CodeTypeVariable> variables = typeVariables.getDeclared();
+    out.writeInt(variables.size());
+    for (CodeTypeVariable variable : variables) {
+      BaseTypeVariable typeVariable = (BaseTypeVariable) variable;
+      writeString(typeVariable.getName(), out);
+      writeComment(typeVariable.getComment(), out);
+      BaseGenericType bound = typeVariable.getBound();
+      if (bound instanceof JavaGenericTypeFromSource) {
+        out.writeBoolean(true);
+        writeGenericType(bound, out);
+      } else if (bound == typeVariable.getContext().getRootType()) {
+        out.writeBoolean(false);
+      } else {
+        throw new UnsupportedConstructException("bound of type variable " + typeVariable.getName());
+      }
+      writeDoc(typeVariable, out);
+    }
+  }
+
+  private void readTypeVariables(DataInputStream in, BaseTypeVariables typeVariables,
+      CodeElementWithTypeVariables element, BaseFile file) throws IOException {
+
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String name = readName(in);
+      BaseTypeVariable typeVariable = new BaseTypeVariable(typeVariables, name);
+      CodeComment comment = readComment(in);
+      if (comment != null) {
+        typeVariable.setComment(comment);
+      }
+      if (in.readBoolean()) {
+        typeVariable.setBound(readGenericType(in, element, file));
+      }
+      typeVariables.add(typeVariable);
+      readDoc(in, typeVariable);
+    }
+  }
+
+  private void writeOperation(BaseOperation operation, DataOutputStream out) throws IOException {
+
+    List<? extends CodeParameter> parameters = operation.getParameters().getDeclared();
+    out.writeInt(parameters.size());
+    for (CodeParameter parameter : parameters) {
+      writeString(parameter.getName(), out);
+      writeGenericType(parameter.getType(), out);
+      writeDoc(parameter, out);
+    }
+    List<? extends CodeException> exceptions = operation.getExceptions().getDeclared();
+    out.writeInt(exceptions.size());
+    for (CodeException exception : exceptions) {
+      writeGenericType(exception.getType(), out);
+      writeDoc(exception, out);
+    }
+    writeStatements(operation.getBody(), out);
+  }
+
+  private void readOperation(DataInputStream in, BaseOperation operation, BaseFile file) throws IOException {
+
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String name = readName(in);
+      BaseGenericType type = readGenericType(in, operation, file);
+      CodeParameter parameter = operation.getParameters().add(name);
+      parameter.setType(type);
+      readDoc(in, parameter);
+    }
+    size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      BaseGenericType type = readGenericType(in, operation, file);
+      CodeException exception = operation.getExceptions().add(type);
+      readDoc(in, exception);
+    }
+    List<CodeStatement> statements = readStatements(in);
+    if (!statements.isEmpty()) {
+      operation.setBody(new BaseBlockBody(operation, statements));
+    }
+  }
+
+  private void writeStatements(CodeBlock block, DataOutputStream out) throws IOException {
+
+    List<? extends CodeStatement> statements = block.getStatements();
+    out.writeInt(statements.size());
+    for (CodeStatement statement : statements) {
+      if (!(statement instanceof BaseTextStatement)) {
+        throw new UnsupportedConstructException("statement " + statement.getClass().getSimpleName());
+      }
+      writeString(((BaseTextStatement) statement).getCode(), out);
+    }
+  }
+
+  private List<CodeStatement> readStatements(DataInputStream in) throws IOException {
+
+    int size = in.readInt();
+    if (size == 0) {
+      return Collections.emptyList();
+    }
+    List<CodeStatement> statements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      statements.add(new BaseTextStatement(readString(in)));
+    }
+    return statements;
+  }
+
+  private void writeGenericType(CodeGenericType genericType, DataOutputStream out) throws IOException {
+
+    if (!(genericType instanceof JavaGenericTypeFromSource)) {
+      throw new UnsupportedConstructException("type " + genericType);
+    }
+    JavaGenericTypeFromSource type = (JavaGenericTypeFromSource) genericType;
+    if (type.hasComment()) {
+      throw new UnsupportedConstructException("comment on type " + type.getName());
+    }
+    writeString(type.getName(), out);
+    writeGenericTypes(type.getSourceTypeParameters(), out);
+    writeGenericTypes(type.getSourceComposedTypes(), out);
+    writeOptionalGenericType(type.getExtendsBound(), out);
+    writeOptionalGenericType(type.getSuperBound(), out);
+    out.writeInt(type.getArrayCount());
+    writeString(type.getArrayLengthExpression(), out);
+  }
+
+  private void writeOptionalGenericType(BaseGenericType type, DataOutputStream out) throws IOException {
+
+    out.writeBoolean(type != null);
+    if (type != null) {
+      writeGenericType(type, out);
+    }
+  }
+
+  private void writeGenericTypes(List<BaseGenericType> types, DataOutputStream out) throws IOException {
+
+    if (types == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(types.size());
+      for (BaseGenericType type : types) {
+        writeGenericType(type, out);
+      }
+    }
+  }
+
+  private JavaGenericTypeFromSource readGenericType(DataInputStream in, CodeElementWithTypeVariables element,
+      BaseFile file) throws IOException {
+
+    String name = readName(in);
+    JavaGenericTypeFromSource type = new JavaGenericTypeFromSource(element, name, file);
+    int size = in.readInt();
+    if (size >= 0) {
+      type.ensureTypeParameters();
+      for (int i = 0; i < size; i++) {
+        type.addTypeParameter(readGenericType(in, element, file));
+      }
+    }
+    size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      type.addComposedType(readGenericType(in, element, file));
+    }
+    if (in.readBoolean()) {
+      type.setExtendsBound(readGenericType(in, element, file));
+    }
+    if (in.readBoolean()) {
+      type.setSuperBound(readGenericType(in, element, file));
+    }
+    type.setArrayCount(in.readInt());
+    type.setArrayLengthExpression(readString(in));
+    return type;
+  }
+
+  private void writeAnnotations(CodeElement element, DataOutputStream out) throws IOException {
+
+    List<? extends CodeAnnotation> annotations = element.getAnnotations().getDeclared();
+    out.writeInt(annotations.size());
+    for (CodeAnnotation codeAnnotation : annotations) {
+      if (!(codeAnnotation instanceof BaseAnnotation)) {
+        throw new UnsupportedConstructException("annotation " + codeAnnotation);
+      }
+      BaseAnnotation annotation = (BaseAnnotation) codeAnnotation;
+      String typeName = annotation.getSourceTypeName();
+      if (typeName == null) {
+        typeName = annotation.getType().getQualifiedName();
+      }
+      writeString(typeName, out);
+      writeComment(annotation.getComment(), out);
+      Map<String, CodeExpression> parameters = annotation.getParameters();
+      out.writeInt(parameters.size());
+      for (Entry<String, CodeExpression> entry : parameters.entrySet()) {
+        writeString(entry.getKey(), out);
+        writeExpression(entry.getValue(), out);
+      }
+    }
+  }
+
+  private void readAnnotations(DataInputStream in, CodeElement element, BaseFile file) throws IOException {
+
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String typeName = readName(in);
+      String qualifiedName = typeName;
+      if (typeName.indexOf('.') < 0) {
+        qualifiedName = file.getContext().getQualifiedName(typeName, file, false);
+      }
+      BaseAnnotation annotation = new BaseAnnotation(file.getAnnotations(), typeName, qualifiedName);
+      CodeComment comment = readComment(in);
+      if (comment != null) {
+        annotation.setComment(comment);
+      }
+      int parameterCount = in.readInt();
+      Map<String, CodeExpression> parameters = annotation.getParameters();
+      for (int j = 0; j < parameterCount; j++) {
+        String key = readName(in);
+        parameters.put(key, readExpression(in, file));
+      }
+      element.getAnnotations().add(annotation);
+    }
+  }
+
+  private void writeDoc(CodeElement element, DataOutputStream out) throws IOException {
+
+    List<String> lines = element.getDoc().getLines();
+    out.writeInt(lines.size());
+    for (String line : lines) {
+      writeString(line, out);
+    }
+  }
+
+  private void readDoc(DataInputStream in, CodeElement element) throws IOException {
+
+    int size = in.readInt();
+    if (size > 0) {
+      List<String> lines = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        lines.add(readString(in));
+      }
+      element.getDoc().add(lines);
+    }
+  }
+
+  private void writeModifiers(CodeModifiers modifiers, DataOutputStream out) throws IOException {
+
+    writeString(modifiers.getVisibility().toString(), out);
+    Set<String> modifierSet = modifiers.getModifiers();
+    out.writeInt(modifierSet.size());
+    for (String modifier : modifierSet) {
+      writeString(modifier, out);
+    }
+  }
+
+  private CodeModifiers readModifiers(DataInputStream in) throws IOException {
+
+    CodeVisibility visibility = CodeVisibility.of(readString(in));
+    int size = in.readInt();
+    Set<String> modifiers = new HashSet<>(size);
+    for (int i = 0; i < size; i++) {
+      modifiers.add(readString(in));
+    }
+    return CodeModifiers.of(visibility, modifiers);
+  }
+
+  private byte encodeCategory(CodeTypeCategory category) {
+
+    if (category == null) {
+      throw new UnsupportedConstructException("missing category");
+    } else if (category.isClass()) {
+      return CATEGORY_CLASS;
+    } else if (category.isInterface()) {
+      return CATEGORY_INTERFACE;
+    } else if (category.isEnumeration()) {
+      return CATEGORY_ENUMERATION;
+    } else if (category.isAnnotation()) {
+      return CATEGORY_ANNOTATION;
+    }
+    throw new UnsupportedConstructException("category " + category);
+  }
+
+  private CodeTypeCategory decodeCategory(byte category) {
+
+    switch (category) {
+      case CATEGORY_CLASS:
+        return CodeTypeCategory.CLASS;
+      case CATEGORY_INTERFACE:
+        return CodeTypeCategory.INTERFACE;
+      case CATEGORY_ENUMERATION:
+        return CodeTypeCategory.ENUMERAION;
+      case CATEGORY_ANNOTATION:
+        return CodeTypeCategory.ANNOTATION;
+      default:
+        throw new IllegalStateException("Invalid category " + category);
+    }
+  }
+
+  private void writeComment(CodeComment comment, DataOutputStream out) throws IOException {
+
+    if ((comment == null) || (comment == BaseBlockComment.EMPTY_COMMENT)) {
+      out.writeByte(COMMENT_NONE);
+    } else if (comment instanceof BaseComments) {
+      List<? extends CodeComment> blocks = ((BaseComments) comment).getCommentBlocks();
+      out.writeByte(COMMENT_MULTIPLE);
+      out.writeInt(blocks.size());
+      for (CodeComment block : blocks) {
+        writeComment(block, out);
+      }
+    } else if (comment instanceof BaseBlockComment) {
+      List<String> lines = ((BaseBlockComment) comment).getCommentLines();
+      out.writeByte(COMMENT_BLOCK);
+      out.writeInt(lines.size());
+      for (String line : lines) {
+        writeString(line, out);
+      }
+    } else if (comment instanceof BaseSingleLineComment) {
+      out.writeByte(COMMENT_SINGLE_LINE);
+      writeString(((BaseSingleLineComment) comment).getComment(), out);
+    } else if (comment instanceof BaseInlineComment) {
+      out.writeByte(COMMENT_INLINE);
+      writeString(((BaseInlineComment) comment).getComment(), out);
+    } else {
+      throw new UnsupportedConstructException("comment " + comment.getClass().getSimpleName());
+    }
+  }
+
+  private CodeComment readComment(DataInputStream in) throws IOException {
+
+    byte kind = in.readByte();
+    switch (kind) {
+      case COMMENT_NONE:
+        return null;
+      case COMMENT_MULTIPLE:
+        int blockCount = in.readInt();
+        List<CodeComment> blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+          blocks.add(readComment(in));
+        }
+        return new BaseComments(blocks);
+      case COMMENT_BLOCK:
+        int lineCount = in.readInt();
+        List<String> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+          lines.add(readString(in));
+        }
+        return new BaseBlockComment(lines);
+      case COMMENT_SINGLE_LINE:
+        return new BaseSingleLineComment(readString(in));
+      case COMMENT_INLINE:
+        return new BaseInlineComment(readString(in));
+      default:
+        throw new IllegalStateException("Invalid comment " + kind);
+    }
+  }
+
+  private void writeExpression(CodeExpression expression, DataOutputStream out) throws IOException {
+
+    if (expression == null) {
+      out.writeByte(EXPRESSION_NONE);
+    } else if (expression instanceof JavaLiteralNull) {
+      out.writeByte(EXPRESSION_NULL);
+    } else if (expression instanceof JavaLiteral) {
+      writeLiteral(((JavaLiteral<?>) expression).getValue(), out);
+    } else if (expression instanceof BaseArrayInstatiation) {
+      out.writeByte(EXPRESSION_ARRAY);
+      writeExpressions(((BaseArrayInstatiation) expression).getValues(), out);
+    } else if (expression instanceof JavaNAryOperatorExpression) {
+      JavaNAryOperatorExpression operatorExpression = (JavaNAryOperatorExpression) expression;
+      out.writeByte(EXPRESSION_OPERATOR);
+      writeString(operatorExpression.getOperator().getName(), out);
+      writeExpressions(operatorExpression.getArguments(), out);
+    } else if (expression instanceof BaseMethodInvocation) {
+      BaseMethodInvocation invocation = (BaseMethodInvocation) expression;
+      if (invocation.getMember() != null) {
+        throw new UnsupportedConstructException("resolved method invocation");
+      }
+      out.writeByte(EXPRESSION_INVOCATION);
+      writeExpressions(invocation.getArguments(), out);
+    } else {
+      throw new UnsupportedConstructException("expression " + expression.getClass().getSimpleName());
+    }
+  }
+
+  private void writeLiteral(Object value, DataOutputStream out) throws IOException {
+
+    if (value instanceof String) {
+      out.writeByte(EXPRESSION_STRING);
+      writeString((String) value, out);
+    } else if (value instanceof Boolean) {
+      out.writeByte(EXPRESSION_BOOLEAN);
+      out.writeBoolean(((Boolean) value).booleanValue());
+    } else if (value instanceof Character) {
+      out.writeByte(EXPRESSION_CHAR);
+      out.writeChar(((Character) value).charValue());
+    } else if (value instanceof Byte) {
+      out.writeByte(EXPRESSION_BYTE);
+      out.writeByte(((Byte) value).byteValue());
+    } else if (value instanceof Short) {
+      out.writeByte(EXPRESSION_SHORT);
+      out.writeShort(((Short) value).shortValue());
+    } else if (value instanceof Integer) {
+      out.writeByte(EXPRESSION_INT);
+      out.writeInt(((Integer) value).intValue());
+    } else if (value instanceof Long) {
+      out.writeByte(EXPRESSION_LONG);
+      out.writeLong(((Long) value).longValue());
+    } else if (value instanceof Float) {
+      out.writeByte(EXPRESSION_FLOAT);
+      out.writeFloat(((Float) value).floatValue());
+    } else if (value instanceof Double) {
+      out.writeByte(EXPRESSION_DOUBLE);
+      out.writeDouble(((Double) value).doubleValue());
+    } else {
+      throw new UnsupportedConstructException("literal " + value);
+    }
+  }
+
+  private void writeExpressions(List<? extends CodeExpression> expressions, DataOutputStream out) throws IOException {
+
+    out.writeInt(expressions.size());
+    for (CodeExpression expression : expressions) {
+      if (expression == null) {
+        throw new UnsupportedConstructException("missing expression");
+      }
+      writeExpression(expression, out);
+    }
+  }
+
+  private CodeExpression readExpression(DataInputStream in, BaseFile file) throws IOException {
+
+    byte kind = in.readByte();
+    switch (kind) {
+      case EXPRESSION_NONE:
+        return null;
+      case EXPRESSION_NULL:
+        return JavaLiteralNull.NULL;
+      case EXPRESSION_STRING:
+        return JavaLiteral.of(readString(in));
+      case EXPRESSION_BOOLEAN:
+        return JavaLiteral.of(Boolean.valueOf(in.readBoolean()));
+      case EXPRESSION_CHAR:
+        return JavaLiteral.of(Character.valueOf(in.readChar()));
+      case EXPRESSION_BYTE:
+        return JavaLiteral.of(Byte.valueOf(in.readByte()));
+      case EXPRESSION_SHORT:
+        return JavaLiteral.of(Short.valueOf(in.readShort()));
+      case EXPRESSION_INT:
+        return JavaLiteral.of(Integer.valueOf(in.readInt()));
+      case EXPRESSION_LONG:
+        return JavaLiteral.of(Long.valueOf(in.readLong()));
+      case EXPRESSION_FLOAT:
+        return JavaLiteral.of(Float.valueOf(in.readFloat()));
+      case EXPRESSION_DOUBLE:
+        return JavaLiteral.of(Double.valueOf(in.readDouble()));
+      case EXPRESSION_ARRAY:
+        return new BaseArrayInstatiation(readExpressions(in, file));
+      case EXPRESSION_OPERATOR:
+        CodeNAryOperator operator = (CodeNAryOperator) BaseOperator.of(readString(in));
+        return new JavaNAryOperatorExpression(operator, readExpressions(in, file));
+      case EXPRESSION_INVOCATION:
+        return new BaseMethodInvocation(null, readExpressions(in, file));
+      default:
+        throw new IllegalStateException("Invalid expression " + kind);
+    }
+  }
+
+  private List<CodeExpression> readExpressions(DataInputStream in, BaseFile file) throws IOException {
+
+    int size = in.readInt();
+    List<CodeExpression> expressions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      expressions.add(readExpression(in, file));
+    }
+    return expressions;
+  }
+
+  private static void writeString(String string, DataOutputStream out) throws IOException {
+
+    if (string == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * @param in the {@link DataInputStream} to read from.
+   * @return the {@link String#intern() interned} name (e.g. of a type or member) as names are repeated across all
+   *         loaded types.
+   * @throws IOException on I/O error.
+   */
+  private static String readName(DataInputStream in) throws IOException {
+
+    String name = readString(in);
+    if (name == null) {
+      return null;
+    }
+    return name.intern();
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Signals that a {@link BaseFile} contains a construct that can not be {@link JavaTypeIndexCodec#encode(BaseFile)
+   * encoded}.
+   */
+  private static class UnsupportedConstructException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private UnsupportedConstructException(String message) {
+
+      super(message);
+    }
+  }
+
+}
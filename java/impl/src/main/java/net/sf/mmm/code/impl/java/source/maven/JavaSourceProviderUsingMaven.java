@@ -7,6 +7,8 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.CodeSource;
 import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -47,6 +49,8 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
 
   private static final Logger LOG = LoggerFactory.getLogger(JavaSourceProviderUsingMaven.class);
 
+  private Map<File, File> sourceLocations;
+
   /**
    * The constructor.
    */
@@ -64,6 +68,7 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
 
     super();
     this.mavenBridge = mavenBridge;
+    this.sourceLocations = Collections.emptyMap();
   }
 
   @Override
@@ -79,7 +84,12 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
 
   private SourceCodeProvider createSourceCodeProvider(File location, Supplier<Model> supplier) {
 
-    File artifactSources = this.mavenBridge.findArtifactSources(location);
+    File artifactSources;
+    if (this.sourceLocations.containsKey(location)) {
+      artifactSources = this.sourceLocations.get(location);
+    } else {
+      artifactSources = this.mavenBridge.findArtifactSources(location);
+    }
     if (artifactSources != null) {
       return new BaseSourceCodeProviderArchive(artifactSources);
     }
@@ -211,7 +221,8 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
   /**
    * @param location the {@link File} pointing to the Maven project.
    * @param buildClassLoader - {@code true} to build a custom {@link ClassLoader} for the maven project, {@code false}
-   *        to use the existing {@link Thread#getContextClassLoader() CCL}.
+   *        to use the existing {@link Thread#getContextClassLoader() CCL}. The resolved classpath is cached in the
+   *        build directory of the project (see {@link MavenDependencyCollector#setUseCache(boolean)}).
    * @return the {@link JavaContext} for the Maven project at the given {@code location}.
    */
   public static JavaContext createFromLocalMavenProject(File location, boolean buildClassLoader) {
@@ -219,6 +230,7 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
     MavenDependencyCollector dependencyCollector = null;
     if (buildClassLoader) {
       dependencyCollector = new MavenDependencyCollector(true, true, null);
+      dependencyCollector.setUseCache(true);
     }
     return createFromLocalMavenProject(location, dependencyCollector);
   }
@@ -243,6 +255,7 @@ public class JavaSourceProviderUsingMaven extends BaseSourceProviderImpl impleme
       classLoader = Thread.currentThread().getContextClassLoader();
     } else {
       dependencyCollector.collect(source.getModel());
+      provider.sourceLocations = dependencyCollector.getSourceLocations();
       classLoader = dependencyCollector.asClassLoader();
     }
     return new JavaExtendedContext(source, provider, classLoader);
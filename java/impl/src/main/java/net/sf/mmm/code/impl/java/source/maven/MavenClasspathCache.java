@@ -0,0 +1,233 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.source.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache for the result of {@link MavenDependencyCollector#collect(org.apache.maven.model.Model)} on a local
+ * maven project. It contains the reactor modules, the collected dependencies and the locations of their sources
+ * together with the {@link File#lastModified() modification time} of all files that participated in the resolution
+ * (POMs with their parents and imported BOMs as well as the artifacts on the classpath). Missing artifacts and output
+ * directories are recorded with a modification time of {@code 0}. The cache is only used as long as none of these
+ * files has changed or been created.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+class MavenClasspathCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MavenClasspathCache.class);
+
+  private static final int MAGIC = 0x6D6D6D43;
+
+  private static final int VERSION = 1;
+
+  /** The name of the cache file inside the build directory. */
+  static final String FILENAME = "mmm-code-classpath.cache";
+
+  private final Map<File, Long> fileStamps;
+
+  private final Map<String, File> reactorModules;
+
+  private final List<URL> dependencies;
+
+  private final Map<File, File> sourceLocations;
+
+  /**
+   * The constructor.
+   *
+   * @param fileStamps the {@link Map} with the participating files and their {@link File#lastModified() modification
+   *        time}.
+   * @param reactorModules the {@link Map} with the GAV coordinates of the reactor modules and their base directory.
+   * @param dependencies the {@link List} with the collected dependencies.
+   * @param sourceLocations the {@link Map} from the dependency artifacts to their sources. Artifacts without sources
+   *        should be omitted.
+   */
+  MavenClasspathCache(Map<File, Long> fileStamps, Map<String, File> reactorModules, List<URL> dependencies,
+      Map<File, File> sourceLocations) {
+
+    super();
+    this.fileStamps = fileStamps;
+    this.reactorModules = reactorModules;
+    this.dependencies = dependencies;
+    this.sourceLocations = sourceLocations;
+  }
+
+  /**
+   * @return the {@link Map} with the GAV coordinates of the reactor modules and their base directory.
+   */
+  Map<String, File> getReactorModules() {
+
+    return this.reactorModules;
+  }
+
+  /**
+   * @return the {@link List} with the collected dependencies in classpath order.
+   */
+  List<URL> getDependencies() {
+
+    return this.dependencies;
+  }
+
+  /**
+   * @return the {@link Map} from the dependency artifacts to their sources.
+   */
+  Map<File, File> getSourceLocations() {
+
+    return this.sourceLocations;
+  }
+
+  private boolean isUpToDate() {
+
+    for (Entry<File, Long> entry : this.fileStamps.entrySet()) {
+      if (entry.getKey().lastModified() != entry.getValue().longValue()) {
+        LOG.debug("Classpath cache is outdated as {} has changed", entry.getKey());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param file the {@link Path} to the cache file.
+   * @param key the key identifying the configuration the cache has been created with.
+   * @return the {@link MavenClasspathCache} loaded from the given {@link Path} or {@code null} if it does not exist,
+   *         is incompatible or outdated.
+   */
+  static MavenClasspathCache load(Path file, String key) {
+
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (InputStream inStream = Files.newInputStream(file);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inStream))) {
+      if ((in.readInt() != MAGIC) || (in.readInt() != VERSION) || !key.equals(in.readUTF())) {
+        LOG.debug("Ignoring incompatible classpath cache {}", file);
+        return null;
+      }
+      int size = in.readInt();
+      Map<File, Long> fileStamps = new LinkedHashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        File stampFile = new File(in.readUTF());
+        fileStamps.put(stampFile, Long.valueOf(in.readLong()));
+      }
+      size = in.readInt();
+      Map<String, File> reactorModules = new LinkedHashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        String gav = in.readUTF();
+        reactorModules.put(gav, new File(in.readUTF()));
+      }
+      size = in.readInt();
+      List<URL> dependencies = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        dependencies.add(new URL(in.readUTF()));
+      }
+      size = in.readInt();
+      Map<File, File> sourceLocations = new LinkedHashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        File artifact = new File(in.readUTF());
+        String sources = in.readUTF();
+        if (sources.isEmpty()) {
+          sourceLocations.put(artifact, null);
+        } else {
+          sourceLocations.put(artifact, new File(sources));
+        }
+      }
+      MavenClasspathCache cache = new MavenClasspathCache(fileStamps, reactorModules, dependencies, sourceLocations);
+      if (!cache.isUpToDate()) {
+        return null;
+      }
+      LOG.debug("Loaded {} dependencies from classpath cache {}", Integer.valueOf(dependencies.size()), file);
+      return cache;
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Ignoring corrupt classpath cache {}: {}", file, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * @param file the {@link Path} to the cache file to write.
+   * @param key the key identifying the configuration the cache has been created with.
+   */
+  void save(Path file, String key) {
+
+    Path tempFile = null;
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (OutputStream outStream = Files.newOutputStream(tempFile);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outStream))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(key);
+        out.writeInt(this.fileStamps.size());
+        for (Entry<File, Long> entry : this.fileStamps.entrySet()) {
+          out.writeUTF(entry.getKey().getPath());
+          out.writeLong(entry.getValue().longValue());
+        }
+        out.writeInt(this.reactorModules.size());
+        for (Entry<String, File> entry : this.reactorModules.entrySet()) {
+          out.writeUTF(entry.getKey());
+          out.writeUTF(entry.getValue().getPath());
+        }
+        out.writeInt(this.dependencies.size());
+        for (URL dependency : this.dependencies) {
+          out.writeUTF(dependency.toExternalForm());
+        }
+        out.writeInt(this.sourceLocations.size());
+        for (Entry<File, File> entry : this.sourceLocations.entrySet()) {
+          out.writeUTF(entry.getKey().getPath());
+          File sources = entry.getValue();
+          if (sources == null) {
+            out.writeUTF("");
+          } else {
+            out.writeUTF(sources.getPath());
+          }
+        }
+      }
+      try {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      tempFile = null;
+      LOG.debug("Saved {} dependencies to classpath cache {}", Integer.valueOf(this.dependencies.size()), file);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.WRITE);
+    } finally {
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+          LOG.debug("Failed to delete {}", tempFile, e);
+        }
+      }
+    }
+  }
+
+}
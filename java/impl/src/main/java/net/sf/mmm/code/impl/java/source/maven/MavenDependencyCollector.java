@@ -4,13 +4,21 @@ import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import net.sf.mmm.code.base.source.BaseSourceHelper;
 import net.sf.mmm.code.java.maven.api.DependencyHelper;
 import net.sf.mmm.code.java.maven.api.MavenBridge;
 import net.sf.mmm.code.java.maven.api.MavenConstants;
@@ -18,6 +26,8 @@ import net.sf.mmm.code.java.maven.api.ModelHelper;
 import net.sf.mmm.code.java.maven.impl.MavenBridgeImpl;
 
 import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Exclusion;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
 import org.slf4j.Logger;
@@ -51,6 +61,16 @@ public class MavenDependencyCollector {
 
   private final String altBuildDir;
 
+  private final Map<File, Long> fileStamps;
+
+  private final Map<String, File> reactorModules;
+
+  private Map<File, File> sourceLocations;
+
+  private Executor executor;
+
+  private boolean useCache;
+
   /**
    * The constructor.
    *
@@ -90,12 +110,60 @@ public class MavenDependencyCollector {
     }
     this.includeTestDependencies = includeTestDependencies;
     this.altBuildDir = altBuildDir;
+    this.fileStamps = new LinkedHashMap<>();
+    this.reactorModules = new LinkedHashMap<>();
+    this.sourceLocations = Collections.emptyMap();
+    this.executor = ForkJoinPool.commonPool();
+  }
+
+  /**
+   * @param executor the {@link Executor} used to load the POMs of the dependencies concurrently or {@code null} to
+   *        load them from the calling thread. The default is {@link ForkJoinPool#commonPool()}. The
+   *        {@link MavenBridge} has to be thread-safe if an {@link Executor} is used.
+   */
+  public void setExecutor(Executor executor) {
+
+    this.executor = executor;
+  }
+
+  /**
+   * @param useCache - {@code true} to persist the result of {@link #collect(Model)} in the build directory of the
+   *        project and reuse it as long as none of the participating POMs (including parents and imported BOMs) or
+   *        artifacts has changed or been deleted and no missing artifact or output directory has been created,
+   *        {@code false} otherwise (default).
+   *        Only has an effect if the reactor is built (see constructor).
+   */
+  public void setUseCache(boolean useCache) {
+
+    this.useCache = useCache;
+  }
+
+  /**
+   * @return the {@link java.util.Collections#unmodifiableMap(Map) unmodifiable} {@link Map} with the GAV coordinates
+   *         of the modules of the reactor and their base directory. Will be empty if the reactor is not built.
+   */
+  public Map<String, File> getReactorModules() {
+
+    return Collections.unmodifiableMap(this.reactorModules);
+  }
+
+  /**
+   * @return the {@link Map} from the collected dependency artifacts to their sources. Artifacts without sources are
+   *         not contained so their sources are looked up again (e.g. after they have been downloaded). Only available
+   *         if the result of {@link #collect(Model)} has been {@link #setUseCache(boolean) cached}, otherwise empty.
+   */
+  Map<File, File> getSourceLocations() {
+
+    return this.sourceLocations;
   }
 
   private boolean add(File dependencyFile, String source) {
 
     if (!dependencyFile.exists()) {
+      addFileStamp(dependencyFile); // cache gets outdated when created
       return false;
+    } else if (dependencyFile.isFile()) {
+      addFileStamp(dependencyFile); // cache gets outdated when artifact is replaced
     }
     try {
       return add(dependencyFile.toURI().toURL(), source);
@@ -150,7 +218,26 @@ public class MavenDependencyCollector {
     if ((pomFile == null) || !pomFile.isFile()) {
       return null;
     }
-    return this.mavenBridge.readEffectiveModel(pomFile);
+    Model model = this.mavenBridge.readEffectiveModel(pomFile);
+    addModelStamps(pomFile);
+    return model;
+  }
+
+  private void addModelStamps(File pomFile) {
+
+    if (this.useCache) {
+      for (File file : this.mavenBridge.getModelFiles(pomFile)) {
+        addFileStamp(file);
+      }
+    }
+  }
+
+  private void addFileStamp(File stampFile) {
+
+    if (this.useCache) {
+      File file = stampFile.getAbsoluteFile();
+      this.fileStamps.put(file, Long.valueOf(file.lastModified()));
+    }
   }
 
   private void collectWithReactor(Model model, boolean addDependencies) {
@@ -168,6 +255,8 @@ public class MavenDependencyCollector {
     if (duplicate != null) {
       LOG.warn("Duplicate reactor project for basedir " + modelBasedir + ": " + duplicate + " replaced with " + model);
     }
+    this.reactorModules.put(gav, modelBasedir);
+    addModelStamps(model.getPomFile());
     Parent parent = model.getParent();
     if (parent != null) {
       String parentGav = ModelHelper.getGav(parent);
@@ -212,7 +301,7 @@ public class MavenDependencyCollector {
     if (addDependencies) {
       LOG.debug("Collecting dependencies for {}", gav);
       addOutputDirectories(model);
-      collect(model, gav, this.includeTestDependencies, 0);
+      collect(model, gav, this.includeTestDependencies);
     }
   }
 
@@ -220,17 +309,75 @@ public class MavenDependencyCollector {
    * Resolves and collects the dependencies of a local maven project.
    *
    * @param model parsed from the POM of a project
+   * @see #setUseCache(boolean)
    */
   public void collect(Model model) {
 
     if (this.buildReactor) {
+      Path cacheFile = null;
+      if (this.useCache) {
+        cacheFile = ModelHelper.getBuildDirectory(model).toPath().resolve(MavenClasspathCache.FILENAME);
+        MavenClasspathCache cache = MavenClasspathCache.load(cacheFile, getCacheKey());
+        if ((cache != null) && restore(cache)) {
+          return;
+        }
+      }
       collectWithReactor(model, true);
+      if (cacheFile != null) {
+        try {
+          createCache().save(cacheFile, getCacheKey());
+        } catch (RuntimeException e) {
+          LOG.warn("Failed to save classpath cache {}: {}", cacheFile, e.getMessage(), e);
+        }
+      }
     } else {
       addOutputDirectories(model);
-      collect(model, ModelHelper.getGav(model), this.includeTestDependencies, 0);
+      collect(model, ModelHelper.getGav(model), this.includeTestDependencies);
     }
   }
 
+  private String getCacheKey() {
+
+    return this.includeTestDependencies + ":" + this.altBuildDir;
+  }
+
+  private MavenClasspathCache createCache() {
+
+    Map<File, File> sources = new LinkedHashMap<>();
+    for (URL dependency : this.dependencyList) {
+      File artifact = BaseSourceHelper.asFile(dependency);
+      if (artifact.isFile()) {
+        File artifactSources = this.mavenBridge.findArtifactSources(artifact);
+        // missing sources are not persisted as they may be downloaded at any time
+        if (artifactSources != null) {
+          sources.put(artifact, artifactSources);
+        }
+      }
+    }
+    this.sourceLocations = sources;
+    return new MavenClasspathCache(new LinkedHashMap<>(this.fileStamps), new LinkedHashMap<>(this.reactorModules),
+        new ArrayList<>(this.dependencyList), sources);
+  }
+
+  private boolean restore(MavenClasspathCache cache) {
+
+    for (URL dependency : cache.getDependencies()) {
+      File artifact = BaseSourceHelper.asFile(dependency);
+      if (!artifact.exists()) {
+        LOG.debug("Ignoring classpath cache as {} has been deleted", artifact);
+        return false;
+      }
+    }
+    this.reactorModules.putAll(cache.getReactorModules());
+    for (URL dependency : cache.getDependencies()) {
+      add(dependency, null);
+    }
+    Map<File, File> sources = new HashMap<>(this.sourceLocations);
+    sources.putAll(cache.getSourceLocations());
+    this.sourceLocations = sources;
+    return true;
+  }
+
   private void addOutputDirectories(Model model) {
 
     File outputDirectory = ModelHelper.getOutputDirectory(model);
@@ -261,53 +408,203 @@ public class MavenDependencyCollector {
   }
 
   /**
-   * Recursively gets dependencies from the model, and stores them on a list.
+   * Resolves the dependencies of the given {@link Model} breadth-first. The effective POMs of each level of the
+   * dependency tree are loaded concurrently via the {@link #setExecutor(Executor) executor} while the resulting
+   * classpath is built from the calling thread in level and declaration order so it is deterministic. Versions are
+   * mediated like in maven (nearest wins, on the same level the first declaration wins) and the
+   * {@link Model#getDependencyManagement() dependency management} of the given {@link Model} is applied to transitive
+   * dependencies. {@link Dependency#getExclusions() Exclusions} are inherited to all transitive dependencies. The
+   * mediation is done per invocation so each project gets its own dependency tree while the classpath is shared.
    *
    * @param model {@link Model} parsed from the POM of a project.
-   * @param recursiveness level of recursiveness. How deep we get into dependencies.
+   * @param modelGav the GAV coordinates of the {@link Model}.
+   * @param includeTest - {@code true} to include the direct test-dependencies, {@code false} otherwise.
    */
-  private void collect(Model model, String modelGav, boolean includeTest, int recursiveness) {
+  private void collect(Model model, String modelGav, boolean includeTest) {
 
     if (model == null) {
       return;
     }
-    if (recursiveness >= 100) {
-      LOG.warn("Skipping transitive dependency at {} after 100 recursions!", model);
-      return;
-    }
-    recursiveness++;
-    List<Dependency> dependencies = model.getDependencies();
-
     LOG.trace("Start scanning dependencies of {}", model);
-    for (Dependency dependency : dependencies) {
-      boolean isTestDependency = MavenConstants.SCOPE_TEST.equals(dependency.getScope());
-      if (includeTest || !isTestDependency) {
-        if ((recursiveness == 0) || !dependency.isOptional()) {
-          Model dependencyModel = null;
-          String dependencyGav = DependencyHelper.getGav(dependency);
-          if (this.buildReactor) {
-            dependencyModel = this.gav2ProjectMap.get(dependencyGav);
-          }
-          if (dependencyModel == null) {
-            File artifact = this.mavenBridge.findArtifact(dependency);
-            boolean added = add(artifact, modelGav);
-            if (!added) {
-              continue;
-            }
-            File artifactPom = this.mavenBridge.findPom(dependency);
-            dependencyModel = this.mavenBridge.readEffectiveModel(artifactPom);
-          } else {
-            addOutputDirectories(dependencyModel);
-          }
-          collect(dependencyModel, dependencyGav, isTestDependency, recursiveness);
+    Map<String, Dependency> managedDependencies = getManagedDependencies(model);
+    Set<String> mediatedKeys = new HashSet<>();
+    List<DependencyNode> level = new ArrayList<>();
+    addDependencies(level, model, modelGav, Collections.emptyList(), includeTest, managedDependencies, mediatedKeys,
+        true);
+    while (!level.isEmpty()) {
+      // load POMs of current level (concurrently)
+      List<CompletableFuture<Model>> futures = new ArrayList<>(level.size());
+      for (DependencyNode node : level) {
+        if ((node.reactorModel != null) || (this.executor == null)) {
+          futures.add(CompletableFuture.completedFuture(readModel(node)));
+        } else {
+          futures.add(CompletableFuture.supplyAsync(() -> readModel(node), this.executor));
         }
-      } else {
-        LOG.debug("Omitting optional dependency " + dependency);
       }
+      // build classpath and next level (from calling thread only)
+      List<DependencyNode> nextLevel = new ArrayList<>();
+      for (int i = 0; i < level.size(); i++) {
+        DependencyNode node = level.get(i);
+        Model dependencyModel = join(futures.get(i));
+        if (node.pomFile != null) {
+          addModelStamps(node.pomFile);
+        }
+        if (node.reactorModel == null) {
+          add(node.artifact, node.source);
+        } else {
+          addOutputDirectories(node.reactorModel);
+        }
+        addDependencies(nextLevel, dependencyModel, node.gav, node.exclusions, false, managedDependencies,
+            mediatedKeys, false);
+      }
+      level = nextLevel;
     }
     LOG.trace("Done scanning dependencies of {}", model);
   }
 
+  private static Model join(CompletableFuture<Model> future) {
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      // propagate the original error as if the POM had been read from the calling thread
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  private void addDependencies(List<DependencyNode> nodes, Model model, String modelGav, List<Exclusion> exclusions,
+      boolean includeTest, Map<String, Dependency> managedDependencies, Set<String> mediatedKeys, boolean direct) {
+
+    if (model == null) {
+      return;
+    }
+    for (Dependency dependency : model.getDependencies()) {
+      if (direct) {
+        if (!includeTest && MavenConstants.SCOPE_TEST.equals(dependency.getScope())) {
+          continue;
+        }
+      } else if (dependency.isOptional() || !isTransitive(DependencyHelper.getScope(dependency))) {
+        LOG.trace("Omitting dependency {} of {}", dependency, modelGav);
+        continue;
+      }
+      if (isExcluded(dependency, exclusions)) {
+        LOG.debug("Excluding dependency {} of {}", dependency, modelGav);
+        continue;
+      }
+      String key = dependency.getManagementKey();
+      if (!mediatedKeys.add(key)) {
+        LOG.trace("Omitting dependency {} of {} due to version mediation", dependency, modelGav);
+        continue;
+      }
+      Dependency resolved = dependency;
+      if (!direct) {
+        resolved = manage(dependency, managedDependencies.get(key));
+      }
+      DependencyNode node = new DependencyNode(resolved, modelGav, inheritExclusions(exclusions, resolved));
+      if (this.buildReactor) {
+        node.reactorModel = this.gav2ProjectMap.get(node.gav);
+      }
+      if (node.reactorModel == null) {
+        node.artifact = this.mavenBridge.findArtifact(resolved);
+        if (!node.artifact.exists()) {
+          LOG.debug("Omitting missing artifact {} for {}", node.artifact, modelGav);
+          addFileStamp(node.artifact);
+          continue;
+        }
+      }
+      nodes.add(node);
+    }
+  }
+
+  private Model readModel(DependencyNode node) {
+
+    if (node.reactorModel != null) {
+      return node.reactorModel;
+    }
+    File pomFile = this.mavenBridge.findPom(node.dependency);
+    if ((pomFile == null) || !pomFile.isFile()) {
+      LOG.debug("Omitting transitive dependencies of {} as POM is missing", node.gav);
+      return null;
+    }
+    node.pomFile = pomFile;
+    return this.mavenBridge.readEffectiveModel(pomFile);
+  }
+
+  private static boolean isTransitive(String scope) {
+
+    return MavenConstants.SCOPE_COMPILE.equals(scope) || MavenConstants.SCOPE_RUNTIME.equals(scope);
+  }
+
+  private static Map<String, Dependency> getManagedDependencies(Model model) {
+
+    DependencyManagement dependencyManagement = model.getDependencyManagement();
+    if (dependencyManagement == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, Dependency> map = new HashMap<>();
+    for (Dependency dependency : dependencyManagement.getDependencies()) {
+      map.put(dependency.getManagementKey(), dependency);
+    }
+    return map;
+  }
+
+  private static Dependency manage(Dependency dependency, Dependency managedDependency) {
+
+    if (managedDependency == null) {
+      return dependency;
+    }
+    String version = managedDependency.getVersion();
+    List<Exclusion> exclusions = managedDependency.getExclusions();
+    boolean changeVersion = (version != null) && !version.equals(dependency.getVersion());
+    if (!changeVersion && exclusions.isEmpty()) {
+      return dependency;
+    }
+    Dependency managed = dependency.clone();
+    if (changeVersion) {
+      managed.setVersion(version);
+    }
+    for (Exclusion exclusion : exclusions) {
+      managed.addExclusion(exclusion);
+    }
+    return managed;
+  }
+
+  private static boolean isExcluded(Dependency dependency, List<Exclusion> exclusions) {
+
+    for (Exclusion exclusion : exclusions) {
+      if (matches(exclusion.getGroupId(), dependency.getGroupId())
+          && matches(exclusion.getArtifactId(), dependency.getArtifactId())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean matches(String pattern, String value) {
+
+    return "*".equals(pattern) || pattern.equals(value);
+  }
+
+  private static List<Exclusion> inheritExclusions(List<Exclusion> exclusions, Dependency dependency) {
+
+    List<Exclusion> dependencyExclusions = dependency.getExclusions();
+    if (dependencyExclusions.isEmpty()) {
+      return exclusions;
+    } else if (exclusions.isEmpty()) {
+      return dependencyExclusions;
+    }
+    List<Exclusion> result = new ArrayList<>(exclusions.size() + dependencyExclusions.size());
+    result.addAll(exclusions);
+    result.addAll(dependencyExclusions);
+    return result;
+  }
+
   static File normalize(File file) {
 
     try {
@@ -319,4 +616,33 @@ public class MavenDependencyCollector {
     }
   }
 
+  /**
+   * A node of the dependency tree that has won the version mediation.
+   */
+  private static class DependencyNode {
+
+    private final Dependency dependency;
+
+    private final String gav;
+
+    private final String source;
+
+    private final List<Exclusion> exclusions;
+
+    private Model reactorModel;
+
+    private File artifact;
+
+    private File pomFile;
+
+    private DependencyNode(Dependency dependency, String source, List<Exclusion> exclusions) {
+
+      super();
+      this.dependency = dependency;
+      this.gav = DependencyHelper.getGav(dependency);
+      this.source = source;
+      this.exclusions = exclusions;
+    }
+  }
+
 }
@@ -3,7 +3,13 @@
 package net.sf.mmm.code.impl.java;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import net.sf.mmm.code.api.language.CodeLanguage;
 import net.sf.mmm.code.api.member.CodeField;
@@ -16,11 +22,15 @@ import net.sf.mmm.code.api.type.CodeType;
 import net.sf.mmm.code.api.type.CodeTypeCategory;
 import net.sf.mmm.code.api.type.CodeTypeVariable;
 import net.sf.mmm.code.api.type.CodeTypeVariables;
+import net.sf.mmm.code.base.BaseFile;
 import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.imports.BaseImports;
 import net.sf.mmm.code.base.source.BaseSource;
 import net.sf.mmm.code.base.statement.BaseLocalVariable;
 import net.sf.mmm.code.base.type.BaseGenericType;
 import net.sf.mmm.code.base.type.BaseParameterizedType;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.impl.java.loader.JavaSourceCodeProviderJdk;
 
 import org.junit.Test;
 
@@ -57,6 +67,27 @@ public class JavaRootContextTest extends AbstractBaseTypeTest {
     assertThat(context.getQualifiedNameForStandardType("UndefinedBanana", false)).isNull();
   }
 
+  /**
+   * Test that repeated lookups of a non-existing type are answered from the miss cache.
+   */
+  @Test
+  public void testMissingType() {
+
+    // given
+    JavaContext context = getContext();
+    String qualifiedName = "net.sf.mmm.code.impl.java.DoesNotExist";
+    long hits = context.getTypeMissCache().getHitCount();
+
+    // when
+    BaseType type1 = context.getType(qualifiedName);
+    BaseType type2 = context.getType(qualifiedName);
+
+    // then
+    assertThat(type1).isNull();
+    assertThat(type2).isNull();
+    assertThat(context.getTypeMissCache().getHitCount()).isEqualTo(hits + 1);
+  }
+
   /**
    * Test of {@link JavaContext#getLanguage()}.
    */
@@ -120,6 +151,41 @@ public class JavaRootContextTest extends AbstractBaseTypeTest {
     verifyClass(throwable, Throwable.class, context);
   }
 
+  /**
+   * Test of {@link JavaRootContext#getModuleSource(String)} for the types of the JDK.
+   */
+  @Test
+  public void testModuleSource() {
+
+    // given
+    JavaRootContext context = getContext();
+
+    // when
+    BaseType string = (BaseType) context.getType(String.class);
+    BaseType logger = (BaseType) context.getType(java.util.logging.Logger.class);
+
+    // then
+    String moduleName = JavaSourceCodeProviderJdk.getJdkModuleName("java.lang");
+    if (moduleName == null) { // Java 8
+      assertThat(string.getSource()).isSameAs(context.getSource());
+      assertThat(logger.getSource()).isSameAs(context.getSource());
+    } else {
+      assertThat(moduleName).isEqualTo("java.base");
+      BaseSource base = string.getSource();
+      assertThat(base).isSameAs(context.getModuleSource("java.base"));
+      assertThat(base.getId()).isEqualTo(JavaRootContext.MODULE_ID_PREFIX + "java.base");
+      assertThat(base.getContext()).isSameAs(context);
+      assertThat(base.getDescriptor().getArtifactId()).isEqualTo("java.base");
+      assertThat(context.getSource(base.getId())).isSameAs(base);
+      assertThat(string.getParentPackage().getSource()).isSameAs(base);
+      BaseSource logging = logger.getSource();
+      assertThat(logging).isNotSameAs(base).isSameAs(context.getModuleSource("java.logging"));
+      assertThat(logging.getDescriptor().getArtifactId()).isEqualTo("java.logging");
+    }
+    assertThat(context.getType("java.lang.String")).isSameAs(string);
+    assertThat(context.getType(int.class).getSource()).isSameAs(context.getSource());
+  }
+
   /**
    * Test of {@link JavaContext#getRootEnumerationType()}.
    */
@@ -202,6 +268,87 @@ public class JavaRootContextTest extends AbstractBaseTypeTest {
     assertThat(classLoader).isSameAs(ClassLoader.getSystemClassLoader());
   }
 
+  /**
+   * Test of {@link JavaContext#getType(String)} and lazy initialization with concurrent threads sharing the same
+   * context.
+   */
+  @Test
+  public void testConcurrentGetType() throws Exception {
+
+    // given
+    JavaContext context = getContext();
+    String[] qualifiedNames = { "java.util.BitSet", "java.util.concurrent.ConcurrentSkipListMap", "java.time.Duration",
+        "java.util.zip.CRC32", "java.text.DecimalFormat" };
+    int threadCount = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<List<CodeType>>> futures = new ArrayList<>();
+    try {
+      // when
+      for (int i = 0; i < threadCount; i++) {
+        Callable<List<CodeType>> task = () -> {
+          startSignal.await();
+          List<CodeType> types = new ArrayList<>();
+          for (String qualifiedName : qualifiedNames) {
+            CodeType type = context.getType(qualifiedName);
+            type.getMethods().getDeclared();
+            type.getProperties().getDeclared();
+            types.add(type);
+          }
+          return types;
+        };
+        futures.add(executor.submit(task));
+      }
+      startSignal.countDown();
+      List<CodeType> expected = futures.get(0).get();
+
+      // then
+      for (Future<List<CodeType>> future : futures) {
+        List<CodeType> types = future.get();
+        assertThat(types).hasSize(qualifiedNames.length);
+        for (int i = 0; i < qualifiedNames.length; i++) {
+          assertThat(types.get(i)).isSameAs(expected.get(i));
+          assertThat(types.get(i).getQualifiedName()).isEqualTo(qualifiedNames[i]);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test of {@link JavaContext#getQualifiedName(String, net.sf.mmm.code.api.CodeFile, boolean)} with single-type,
+   * nested-type and on-demand imports.
+   */
+  @Test
+  public void testGetQualifiedNameFromImports() {
+
+    // given
+    JavaContext context = getContext();
+    BasePackage pkg = new BasePackage(context.getSource().getRootPackage(), "mypkg");
+    BaseFile file = new BaseFile(pkg, "MyType");
+    BaseImports imports = file.getImports();
+    imports.add("java.util.List", false);
+    imports.add("java.util.Map.Entry", false);
+    imports.add("java.util.concurrent.*", false);
+    imports.add("java.util.Collections.emptyList", true);
+
+    // when + then
+    assertThat(context.getQualifiedName("List", file, false)).isEqualTo("java.util.List");
+    assertThat(context.getQualifiedName("Entry", file, false)).isEqualTo("java.util.Map.Entry");
+    assertThat(context.getQualifiedName("ConcurrentMap", file, false)).isEqualTo("java.util.concurrent.ConcurrentMap");
+    assertThat(context.getQualifiedName("String", file, false)).isEqualTo("java.lang.String");
+    assertThat(context.getQualifiedName("String", file, true)).isEqualTo("String");
+    assertThat(context.getQualifiedName("emptyList", file, false)).isEqualTo("mypkg.emptyList");
+    assertThat(context.getQualifiedName("Set", file, false)).isEqualTo("mypkg.Set");
+
+    // and when (imports changed)
+    imports.add("java.util.Set", false);
+
+    // then
+    assertThat(context.getQualifiedName("Set", file, false)).isEqualTo("java.util.Set");
+  }
+
   private void checkProperty(CodeProperties properties, String name, Class<?> type) {
 
     CodeProperty property = properties.get(name);
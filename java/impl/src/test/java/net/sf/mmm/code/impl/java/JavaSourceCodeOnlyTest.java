@@ -3,10 +3,24 @@
 package net.sf.mmm.code.impl.java;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import net.sf.mmm.code.api.source.CodeSourceDescriptor;
 import net.sf.mmm.code.api.type.CodeType;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.loader.BaseScanResult;
 import net.sf.mmm.code.base.loader.BaseSourceCodeProviderDirectory;
 import net.sf.mmm.code.base.loader.BaseSourceLoader;
 import net.sf.mmm.code.base.loader.SourceCodeProvider;
@@ -14,27 +28,351 @@ import net.sf.mmm.code.base.source.BaseSourceDescriptorType;
 import net.sf.mmm.code.base.source.BaseSourceImpl;
 import net.sf.mmm.code.base.source.BaseSourceProvider;
 import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.base.type.BaseTypeProxy;
 import net.sf.mmm.code.impl.java.loader.JavaSourceLoader;
+import net.sf.mmm.code.impl.java.loader.JavaTypeIndex;
+import net.sf.mmm.code.impl.java.parser.JavaTypeIndexCodec;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test of {@link JavaExtendedContext} with only source code available.
  */
 public class JavaSourceCodeOnlyTest extends AbstractBaseTypeTest {
 
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /** Parse Demo.java where only source-code is available. */
   @Test
   public void testSourceCodeOnly() {
 
+    verifySourceCodeOnly(null);
+  }
+
+  /**
+   * Parse Demo.java where only source-code is available with a persistent {@link JavaTypeIndex} and load it again
+   * from the index in a second context without reading the source-code.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testSourceCodeOnlyWithTypeIndex() throws IOException {
+
+    Path indexDirectory = this.temporaryFolder.newFolder("index").toPath();
+    File sourceLocation = new File("src/test/resources/testdata/sourcecode");
+    // first run parses source-code and writes the index on close
+    CountingSourceCodeProvider provider = new CountingSourceCodeProvider(sourceLocation);
+    verifySourceCodeOnly(provider, indexDirectory);
+    assertThat(provider.openCount).isEqualTo(1);
+    try (Stream<Path> files = Files.list(indexDirectory)) {
+      assertThat(files.count()).isEqualTo(1);
+    }
+    // second run reads from the index
+    provider = new CountingSourceCodeProvider(sourceLocation);
+    verifySourceCodeOnly(provider, indexDirectory);
+    assertThat(provider.openCount).isZero();
+  }
+
+  /**
+   * Modify the source-code of a type after it has been written to the {@link JavaTypeIndex} and verify that the
+   * outdated entry is ignored.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testTypeIndexStale() throws IOException {
+
+    // given
+    Path indexDirectory = this.temporaryFolder.newFolder("index").toPath();
+    Path sourceDirectory = this.temporaryFolder.newFolder("source").toPath();
+    Path demoFile = sourceDirectory.resolve("com/example/demo/Demo.java");
+    Files.createDirectories(demoFile.getParent());
+    Files.copy(Paths.get("src/test/resources/testdata/sourcecode/com/example/demo/Demo.java"), demoFile);
+    File sourceLocation = sourceDirectory.toFile();
+    verifySourceCodeOnly(new CountingSourceCodeProvider(sourceLocation), indexDirectory);
+
+    // when
+    String code = new String(Files.readAllBytes(demoFile), StandardCharsets.UTF_8);
+    String reset = "  public void reset() {\n\n    this.name = null;\n  }\n\n";
+    code = code.replace("  private static class Foo {", reset + "  private static class Foo {");
+    Files.write(demoFile, code.getBytes(StandardCharsets.UTF_8));
+    CountingSourceCodeProvider provider = new CountingSourceCodeProvider(sourceLocation);
+    JavaExtendedContext context = createContext(provider, indexDirectory);
+    BaseType type = context.getType("com.example.demo.Demo");
+    context.close();
+
+    // then
+    assertThat(provider.openCount).isEqualTo(1);
+    assertThat(type.getMethods().getDeclared()).hasSize(3);
+  }
+
+  /**
+   * Corrupt the {@link JavaTypeIndex} and verify that it is ignored and the source-code is parsed again.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testTypeIndexCorrupt() throws IOException {
+
+    // given
+    Path indexDirectory = this.temporaryFolder.newFolder("index").toPath();
+    File sourceLocation = new File("src/test/resources/testdata/sourcecode");
+    verifySourceCodeOnly(new CountingSourceCodeProvider(sourceLocation), indexDirectory);
+    Path indexFile;
+    try (Stream<Path> files = Files.list(indexDirectory)) {
+      indexFile = files.findFirst().get();
+    }
+    byte[] data = Files.readAllBytes(indexFile);
+    Files.write(indexFile, Arrays.copyOf(data, data.length / 2));
+
+    // when
+    CountingSourceCodeProvider provider = new CountingSourceCodeProvider(sourceLocation);
+    verifySourceCodeOnly(provider, indexDirectory);
+
+    // then
+    assertThat(provider.openCount).isEqualTo(1);
+    // index has been rewritten and is used again
+    provider = new CountingSourceCodeProvider(sourceLocation);
+    verifySourceCodeOnly(provider, indexDirectory);
+    assertThat(provider.openCount).isZero();
+  }
+
+  /**
+   * Test of {@link JavaTypeIndexCodec} that encodes a parsed file and decodes it again.
+   */
+  @Test
+  public void testTypeIndexCodec() {
+
+    // given
+    File sourceLocation = new File("src/test/resources/testdata/sourcecode");
+    JavaExtendedContext context = createContext(new CountingSourceCodeProvider(sourceLocation), null);
+    BaseFile file = context.getType("com.example.demo.Demo").getFile();
+    JavaTypeIndexCodec codec = new JavaTypeIndexCodec();
+
+    // when
+    byte[] data = codec.encode(file);
+    BaseFile decoded = file.getParentPackage().getChildren().createFile(file.getSimpleName());
+    boolean success = codec.decode(data, decoded);
+
+    // then
+    assertThat(data).isNotNull();
+    assertThat(success).isTrue();
+    assertThat(decoded.getSourceCode()).isEqualTo(file.getSourceCode());
+    assertThat(codec.decode(Arrays.copyOf(data, data.length / 2),
+        file.getParentPackage().getChildren().createFile(file.getSimpleName()))).isFalse();
+    context.close();
+  }
+
+  /**
+   * Scan the source-code directory recursively and verify that all types are found.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testScan() throws IOException {
+
     File sourceLocation = new File("src/test/resources/testdata/sourcecode");
     SourceCodeProvider sourceCodeProvider = new BaseSourceCodeProviderDirectory(sourceLocation);
+    assertThat(sourceCodeProvider.scanPackage("com.example.demo")).containsExactly("Demo");
+    assertThat(sourceCodeProvider.scanPackage("com.example")).isEmpty();
+    assertThat(sourceCodeProvider.scanSubPackages("com.example")).containsExactly("demo");
+    assertThat(sourceCodeProvider.openType("com.example.demo.Missing")).isNull();
+    assertThat(sourceCodeProvider.getTypeStamp("com.example.demo.Missing")).isNull();
+    BaseSourceLoader loader = new JavaSourceLoader(sourceCodeProvider);
+    String id = "com.example.demo";
+    CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(id);
+    BaseSourceImpl source = new BaseSourceImpl(null, sourceLocation, id, descriptor, loader);
+    BaseSourceProvider sourceProvider = null;
+    JavaExtendedContext context = new JavaExtendedContext(JavaRootContext.get(), source, sourceProvider);
+    BaseScanResult result = loader.scan(source.getRootPackage(), true, null);
+    assertThat(result.getPackageCount()).isEqualTo(4);
+    assertThat(result.getParsedCount()).isEqualTo(1);
+    assertThat(result.getFailedCount()).isZero();
+    BaseType type = context.getType("com.example.demo.Demo");
+    assertThat(type).isNotNull();
+    assertThat(loader.scan(source.getRootPackage(), true, null).getSkippedCount()).isEqualTo(1);
+    context.close();
+  }
+
+  /**
+   * Scan the source-code directory recursively with a real {@link java.util.concurrent.Executor} and verify that all
+   * types are found and registered.
+   *
+   * @throws InterruptedException if interrupted.
+   */
+  @Test
+  public void testScanConcurrent() throws InterruptedException {
+
+    // given
+    File sourceLocation = new File("src/test/resources/testdata/sourcecode");
+    SourceCodeProvider sourceCodeProvider = new BaseSourceCodeProviderDirectory(sourceLocation);
+    BaseSourceLoader loader = new JavaSourceLoader(sourceCodeProvider);
+    String id = "com.example.demo";
+    CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(id);
+    BaseSourceImpl source = new BaseSourceImpl(null, sourceLocation, id, descriptor, loader);
+    BaseSourceProvider sourceProvider = null;
+    JavaExtendedContext context = new JavaExtendedContext(JavaRootContext.get(), source, sourceProvider);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      // when
+      BaseScanResult result = loader.scan(source.getRootPackage(), true, executor);
+
+      // then
+      assertThat(result.getPackageCount()).isEqualTo(4);
+      assertThat(result.getParsedCount()).isEqualTo(1);
+      assertThat(result.getFailedCount()).isZero();
+      BaseType type = context.getType("com.example.demo.Demo");
+      assertThat(type).isNotNull();
+      assertThat(type.getMethods().getDeclared()).hasSize(2);
+      assertThat(source.getRootPackage().getChildren().getFile(context.parseName("com.example.demo.Demo")))
+          .isSameAs(type.getFile());
+      assertThat(loader.scan(source.getRootPackage(), true, executor).getSkippedCount()).isEqualTo(1);
+      // concurrent scan while holding the lock would deadlock and is therefore rejected
+      synchronized (context.getLock()) {
+        assertThatThrownBy(() -> loader.scan(source.getRootPackage(), true, executor))
+            .isInstanceOf(IllegalStateException.class);
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+      context.close();
+    }
+  }
+
+  /**
+   * Modify and delete a source-code file of a live context and {@link JavaSourceLoader#reload(String) reload} it.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testReload() throws IOException {
+
+    // given
+    Path sourceDirectory = this.temporaryFolder.newFolder("reload").toPath();
+    Path demoFile = sourceDirectory.resolve("com/example/demo/Demo.java");
+    Files.createDirectories(demoFile.getParent());
+    Files.copy(Paths.get("src/test/resources/testdata/sourcecode/com/example/demo/Demo.java"), demoFile);
+    File sourceLocation = sourceDirectory.toFile();
+    AtomicBoolean unreadable = new AtomicBoolean();
+    SourceCodeProvider sourceCodeProvider = new BaseSourceCodeProviderDirectory(sourceLocation) {
+
+      @Override
+      public Reader openType(String qualifiedName) throws IOException {
+
+        if (unreadable.get()) {
+          throw new IOException("Simulated read error");
+        }
+        return super.openType(qualifiedName);
+      }
+    };
     BaseSourceLoader loader = new JavaSourceLoader(sourceCodeProvider);
     String id = "com.example.demo";
     CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(id);
     BaseSourceImpl source = new BaseSourceImpl(null, sourceLocation, id, descriptor, loader);
     BaseSourceProvider sourceProvider = null;
     JavaExtendedContext context = new JavaExtendedContext(JavaRootContext.get(), source, sourceProvider);
+    BaseType oldType = context.getType("com.example.demo.Demo");
+    assertThat(oldType.getMethods().getDeclared()).hasSize(2);
+    BaseTypeProxy proxy = new BaseTypeProxy(oldType);
+
+    // when
+    String code = new String(Files.readAllBytes(demoFile), StandardCharsets.UTF_8);
+    String reset = "  public void reset() {\n\n    this.name = null;\n  }\n\n";
+    code = code.replace("  private static class Foo {", reset + "  private static class Foo {");
+    Files.write(demoFile, code.getBytes(StandardCharsets.UTF_8));
+    BaseType newType = loader.reload("com.example.demo.Demo");
+
+    // then
+    assertThat(newType).isNotNull().isNotSameAs(oldType);
+    assertThat(newType.getMethods().getDeclared()).hasSize(3);
+    assertThat(oldType.isStale()).isTrue();
+    assertThat(newType.isStale()).isFalse();
+    assertThat(context.getType("com.example.demo.Demo")).isSameAs(newType);
+    assertThat(context.getType("com.example.demo.Demo.Foo")).isSameAs(newType.getNestedTypes().getDeclared().get(0));
+    assertThat(source.getRootPackage().getChildren().getFile(context.parseName("com.example.demo.Demo")))
+        .isSameAs(newType.getFile());
+    assertThat(proxy.asType()).isSameAs(newType);
+
+    // and when (source-code can not be read)
+    unreadable.set(true);
+    BaseType failedType = loader.reload("com.example.demo.Demo");
+
+    // then
+    assertThat(failedType).isSameAs(newType);
+    assertThat(newType.isStale()).isFalse();
+    assertThat(context.getType("com.example.demo.Demo")).isSameAs(newType);
+
+    // and when (source-code file deleted)
+    unreadable.set(false);
+    Files.delete(demoFile);
+
+    // then
+    assertThat(loader.reload("com.example.demo.Demo")).isNull();
+    assertThat(newType.isStale()).isTrue();
+    assertThat(context.getType("com.example.demo.Demo")).isNull();
+    context.close();
+  }
+
+
+  /**
+   * Resolve simple names used in source-code files where types of the file and of the same package shadow standard
+   * types and types referencing each other are resolved without endless recursion.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testResolveSimpleNames() throws IOException {
+
+    // given
+    Path sourceDirectory = this.temporaryFolder.newFolder("resolve").toPath();
+    Path pkgDirectory = sourceDirectory.resolve("com/example/demo");
+    Files.createDirectories(pkgDirectory);
+    write(pkgDirectory.resolve("String.java"), "package com.example.demo;\n\npublic class String {\n}\n");
+    write(pkgDirectory.resolve("Names.java"),
+        "package com.example.demo;\n\nimport java.util.*;\n\npublic class Names {\n\n  private String name;\n\n"
+            + "  private List<Entry> entries;\n\n  public static class Entry {\n  }\n}\n");
+    write(pkgDirectory.resolve("First.java"),
+        "package com.example.demo;\n\nimport java.util.*;\n\n@Second\npublic @interface First {\n}\n");
+    write(pkgDirectory.resolve("Second.java"),
+        "package com.example.demo;\n\nimport java.util.*;\n\n@First\npublic @interface Second {\n}\n");
+    JavaExtendedContext context = createContext(new CountingSourceCodeProvider(sourceDirectory.toFile()), null);
+
+    // when
+    BaseType names = context.getType("com.example.demo.Names");
+    BaseType first = context.getType("com.example.demo.First");
+    BaseFile file = names.getFile();
+
+    // then
+    assertThat(context.getQualifiedName("String", file, false)).isEqualTo("com.example.demo.String");
+    assertThat(context.getQualifiedName("String", file, true)).isEqualTo("com.example.demo.String");
+    assertThat(context.getQualifiedName("Entry", file, false)).isEqualTo("com.example.demo.Names.Entry");
+    assertThat(context.getQualifiedName("List", file, false)).isEqualTo("java.util.List");
+    assertThat(context.getQualifiedName("Object", file, false)).isEqualTo("java.lang.Object");
+    assertThat(context.getQualifiedName("Object", file, true)).isEqualTo("Object");
+    assertThat(context.getQualifiedName("Missing", file, false)).isEqualTo("com.example.demo.Missing");
+    assertThat(names.getFields().getDeclared("name").getType().getQualifiedName())
+        .isEqualTo("com.example.demo.String");
+    assertThat(first.getAnnotations().getDeclared().get(0).getType().getQualifiedName())
+        .isEqualTo("com.example.demo.Second");
+    BaseType second = context.getType("com.example.demo.Second");
+    assertThat(second.getAnnotations().getDeclared().get(0).getType().getQualifiedName())
+        .isEqualTo("com.example.demo.First");
+    context.close();
+  }
+
+  private void verifySourceCodeOnly(Path indexDirectory) {
+
+    File sourceLocation = new File("src/test/resources/testdata/sourcecode");
+    verifySourceCodeOnly(new CountingSourceCodeProvider(sourceLocation), indexDirectory);
+  }
+
+  private void verifySourceCodeOnly(CountingSourceCodeProvider sourceCodeProvider, Path indexDirectory) {
+
+    JavaExtendedContext context = createContext(sourceCodeProvider, indexDirectory);
     BaseType type = context.getType("com.example.demo.Demo");
     assertThat(type.getQualifiedName().equals("com.example.demo.Demo"));
     assertThat(type.getDoc().getLines())
@@ -49,4 +387,41 @@ public class JavaSourceCodeOnlyTest extends AbstractBaseTypeTest {
     context.close();
   }
 
+  private static JavaExtendedContext createContext(CountingSourceCodeProvider sourceCodeProvider,
+      Path indexDirectory) {
+
+    File sourceLocation = sourceCodeProvider.sourceDirectory;
+    BaseSourceLoader loader = new JavaSourceLoader(sourceCodeProvider, indexDirectory);
+    String id = "com.example.demo";
+    CodeSourceDescriptor descriptor = new BaseSourceDescriptorType(id);
+    BaseSourceImpl source = new BaseSourceImpl(null, sourceLocation, id, descriptor, loader);
+    BaseSourceProvider sourceProvider = null;
+    return new JavaExtendedContext(JavaRootContext.get(), source, sourceProvider);
+  }
+
+  private static void write(Path file, String code) throws IOException {
+
+    Files.write(file, code.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class CountingSourceCodeProvider extends BaseSourceCodeProviderDirectory {
+
+    private final File sourceDirectory;
+
+    private int openCount;
+
+    private CountingSourceCodeProvider(File sourceDirectory) {
+
+      super(sourceDirectory);
+      this.sourceDirectory = sourceDirectory;
+    }
+
+    @Override
+    public Reader openType(String qualifiedName) throws IOException {
+
+      this.openCount++;
+      return super.openType(qualifiedName);
+    }
+  }
+
 }
@@ -0,0 +1,173 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.loader;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import net.sf.mmm.code.base.loader.SourceCodeProvider;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of {@link JavaSourceCodeProviderJdk}.
+ */
+public class JavaSourceCodeProviderJdkTest extends Assertions {
+
+  private static final String FOO = "package com.example;\n\npublic class Foo {\n}\n";
+
+  private static final String BAR = "package com.example.bar;\n\npublic interface Bar {\n}\n";
+
+  private static final String MODULE_INFO = "module com.example {\n}\n";
+
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test of {@link JavaSourceCodeProviderJdk} with the modular layout of Java 9+.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testModularArchive() throws IOException {
+
+    // given
+    File archive = this.temporaryFolder.newFile("src.zip");
+    try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+      addEntry(zip, "com.example/module-info.java", MODULE_INFO);
+      addEntry(zip, "com.example/com/example/Foo.java", FOO);
+      addEntry(zip, "com.example.bar/com/example/bar/Bar.java", BAR);
+    }
+
+    // when
+    JavaSourceCodeProviderJdk provider = new JavaSourceCodeProviderJdk(archive);
+
+    // then
+    assertThat(read(provider.openType("com.example.Foo"))).isEqualTo(FOO);
+    assertThat(read(provider.openType("com.example.bar.Bar"))).isEqualTo(BAR);
+    assertThat(provider.scanSubPackages("")).containsExactly("com");
+    assertThat(provider.scanPackage("")).isEmpty();
+    assertThat(provider.getModuleName("com.example")).isEqualTo("com.example");
+    assertThat(provider.getModuleName("com.example.bar")).isEqualTo("com.example.bar");
+    assertThat(provider.getModuleName("com.missing")).isNull();
+    provider.close();
+  }
+
+  /**
+   * Test of {@link JavaSourceCodeProviderJdk#getModule(String)}.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testModule() throws IOException {
+
+    // given
+    File archive = this.temporaryFolder.newFile("src.zip");
+    try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+      addEntry(zip, "com.example/module-info.java", MODULE_INFO);
+      addEntry(zip, "com.example/com/example/Foo.java", FOO);
+      addEntry(zip, "com.example.bar/com/example/bar/Bar.java", BAR);
+    }
+    JavaSourceCodeProviderJdk provider = new JavaSourceCodeProviderJdk(archive);
+
+    // when
+    SourceCodeProvider example = provider.getModule("com.example");
+    SourceCodeProvider bar = provider.getModule("com.example.bar");
+
+    // then
+    assertThat(read(example.openType("com.example.Foo"))).isEqualTo(FOO);
+    assertThat(example.openType("com.example.bar.Bar")).isNull();
+    assertThat(example.getTypeStamp("com.example.Foo")).isNotNull();
+    assertThat(example.getTypeStamp("com.example.bar.Bar")).isNull();
+    assertThat(example.scanSubPackages("")).containsExactly("com");
+    assertThat(example.scanSubPackages("com.example")).isEmpty();
+    assertThat(example.scanPackage("com.example")).containsExactly("Foo");
+    assertThat(example.scanPackage("com.example.bar")).isEmpty();
+    assertThat(read(bar.openType("com.example.bar.Bar"))).isEqualTo(BAR);
+    assertThat(bar.openType("com.example.Foo")).isNull();
+    assertThat(bar.scanSubPackages("com")).containsExactly("example");
+    assertThat(bar.scanSubPackages("com.example")).containsExactly("bar");
+    assertThat(bar.scanPackage("com.example")).isEmpty();
+    assertThat(bar.scanPackage("com.example.bar")).containsExactly("Bar");
+
+    // and when
+    bar.close();
+
+    // then (archive is shared and still open)
+    assertThat(read(example.openType("com.example.Foo"))).isEqualTo(FOO);
+    provider.close();
+  }
+
+  /**
+   * Test of {@link JavaSourceCodeProviderJdk} with the flat layout of Java 8.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testFlatArchive() throws IOException {
+
+    // given
+    File archive = this.temporaryFolder.newFile("src.zip");
+    try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+      addEntry(zip, "com/example/Foo.java", FOO);
+    }
+
+    // when
+    JavaSourceCodeProviderJdk provider = new JavaSourceCodeProviderJdk(archive);
+
+    // then
+    assertThat(read(provider.openType("com.example.Foo"))).isEqualTo(FOO);
+    assertThat(provider.getModuleName("com.example")).isNull();
+    provider.close();
+  }
+
+  /**
+   * Test of {@link JavaSourceCodeProviderJdk#findSourceArchive(File)}.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testFindSourceArchive() throws IOException {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("jdk").toPath();
+    File jdk = directory.toFile();
+    File lib = new File(jdk, "lib");
+    assertThat(lib.mkdir()).isTrue();
+    File srcZip = new File(lib, "src.zip");
+    assertThat(srcZip.createNewFile()).isTrue();
+
+    // when + then
+    assertThat(JavaSourceCodeProviderJdk.findSourceArchive(jdk)).isEqualTo(srcZip);
+    assertThat(JavaSourceCodeProviderJdk.findSourceArchive(new File(jdk, "jre"))).isNull();
+  }
+
+  private static void addEntry(ZipOutputStream zip, String path, String content) throws IOException {
+
+    zip.putNextEntry(new ZipEntry(path));
+    zip.write(content.getBytes(StandardCharsets.UTF_8));
+    zip.closeEntry();
+  }
+
+  private static String read(Reader reader) throws IOException {
+
+    assertThat(reader).isNotNull();
+    try (BufferedReader in = new BufferedReader(reader)) {
+      return in.lines().collect(Collectors.joining("\n", "", "\n"));
+    }
+  }
+
+}
@@ -0,0 +1,122 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.operator;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * Test of {@link JavaConstantFolder}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+@SuppressWarnings("javadoc")
+public class JavaConstantFolderTest extends Assertions {
+
+  private static Object fold(JavaOperator operator, Object... values) {
+
+    JavaConstantFolder folder = new JavaConstantFolder(operator);
+    for (Object value : values) {
+      if (!folder.fold(value)) {
+        return null;
+      }
+    }
+    return folder.getValue();
+  }
+
+  /** Test of numeric operators with binary numeric promotion as in Java. */
+  @Test
+  public void testNumeric() {
+
+    assertThat(fold(JavaOperator.ADD, 1, 2, 3)).isEqualTo(Integer.valueOf(6));
+    assertThat(fold(JavaOperator.ADD, (byte) 1, (short) 2)).isEqualTo(Integer.valueOf(3));
+    assertThat(fold(JavaOperator.ADD, 'a', 1)).isEqualTo(Integer.valueOf('a' + 1));
+    assertThat(fold(JavaOperator.ADD, 'a')).isEqualTo(Character.valueOf('a'));
+    assertThat(fold(JavaOperator.MUL, Integer.MAX_VALUE, 2)).isEqualTo(Integer.valueOf(Integer.MAX_VALUE * 2));
+    assertThat(fold(JavaOperator.MUL, Integer.MAX_VALUE, 2L)).isEqualTo(Long.valueOf(Integer.MAX_VALUE * 2L));
+    assertThat(fold(JavaOperator.DIV, 7, 2, 2.0f)).isEqualTo(Float.valueOf(7 / 2 / 2.0f));
+    assertThat(fold(JavaOperator.SUB, 1.5f, 0.5)).isEqualTo(Double.valueOf(1.5f - 0.5));
+    assertThat(fold(JavaOperator.MOD, 7L, 3)).isEqualTo(Long.valueOf(1));
+    assertThat(fold(JavaOperator.SHIFT_LEFT, 1, 33L)).isEqualTo(Integer.valueOf(1 << 33L));
+    assertThat(fold(JavaOperator.SHIFT_RIGHT_UNSIGNED, -1L, 60)).isEqualTo(Long.valueOf(-1L >>> 60));
+    assertThat(fold(JavaOperator.XOR, 5, 3)).isEqualTo(Integer.valueOf(5 ^ 3));
+    assertThat(fold(JavaOperator.SHIFT_LEFT, 1.0, 1)).isNull();
+    assertThat(fold(JavaOperator.DIV, 1, 0)).isNull();
+    assertThat(fold(JavaOperator.MOD, 1L, 0L)).isNull();
+    assertThat(fold(JavaOperator.DIV, 1.0, 0)).isEqualTo(Double.valueOf(Double.POSITIVE_INFINITY));
+  }
+
+  /** Test of string concatenation that is evaluated from left to right. */
+  @Test
+  public void testString() {
+
+    assertThat(fold(JavaOperator.ADD, "a", 1, 2)).isEqualTo("a" + 1 + 2);
+    assertThat(fold(JavaOperator.ADD, 1, 2, "a")).isEqualTo(1 + 2 + "a");
+    assertThat(fold(JavaOperator.ADD, 'x', "y", 1.5f, true)).isEqualTo('x' + "y" + 1.5f + true);
+    assertThat(fold(JavaOperator.SUB, "a", 1)).isNull();
+  }
+
+  /** Test of boolean operators. */
+  @Test
+  public void testBoolean() {
+
+    assertThat(fold(JavaOperator.AND, true, true, false)).isEqualTo(Boolean.FALSE);
+    assertThat(fold(JavaOperator.OR, false, true)).isEqualTo(Boolean.TRUE);
+    assertThat(fold(JavaOperator.XOR, true, true)).isEqualTo(Boolean.FALSE);
+    assertThat(fold(JavaOperator.AND, 1, 2)).isNull();
+    assertThat(fold(JavaOperator.ADD, true, false)).isNull();
+    assertThat(fold(JavaOperator.BIT_AND, true, 1)).isNull();
+  }
+
+  /** Test of {@link JavaConstantFolder#evaluateUnary(JavaOperator, Object)}. */
+  @Test
+  public void testUnary() {
+
+    assertThat(JavaConstantFolder.evaluateUnary(JavaOperator.NOT, Boolean.TRUE)).isEqualTo(Boolean.FALSE);
+    assertThat(JavaConstantFolder.evaluateUnary(JavaOperator.BIT_NOT, Byte.valueOf((byte) 5))).isEqualTo(Integer.valueOf(~5));
+    assertThat(JavaConstantFolder.evaluateUnary(JavaOperator.BIT_NOT, Long.valueOf(5))).isEqualTo(Long.valueOf(~5L));
+    assertThat(JavaConstantFolder.evaluateUnary(JavaOperator.BIT_NOT, Double.valueOf(5))).isNull();
+    assertThat(JavaConstantFolder.evaluateUnary(JavaOperator.NOT, Integer.valueOf(1))).isNull();
+  }
+
+  /** Test of {@link JavaConstantFolder#compare(JavaOperator, Object, Object)}. */
+  @Test
+  public void testCompare() {
+
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, 1, 1L)).isEqualTo(Boolean.TRUE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.LT, 'a', 98)).isEqualTo(Boolean.TRUE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.GE, 1.5, 2)).isEqualTo(Boolean.FALSE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, Double.NaN, Double.NaN)).isEqualTo(Boolean.FALSE);
+    // binary numeric promotion to float
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, 16777217L, 16777216f)).isEqualTo(Boolean.valueOf(16777217L == 16777216f))
+        .isEqualTo(Boolean.TRUE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.LT, 16777216, 16777217f)).isEqualTo(Boolean.FALSE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, 16777217L, 16777216.0)).isEqualTo(Boolean.FALSE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.NEQ, true, false)).isEqualTo(Boolean.TRUE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, "a", "a")).isEqualTo(Boolean.TRUE);
+    assertThat(JavaConstantFolder.compare(JavaOperator.LT, "a", "b")).isNull();
+    assertThat(JavaConstantFolder.compare(JavaOperator.EQ, "1", 1)).isNull();
+  }
+
+  /** Test of {@link JavaConstantFolder#select(Object, Object, Object)}. */
+  @Test
+  public void testSelect() {
+
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, 1, 2L)).isEqualTo(Long.valueOf(1));
+    assertThat(JavaConstantFolder.select(Boolean.FALSE, 1.5, 2)).isEqualTo(Integer.valueOf(2).doubleValue());
+    assertThat(JavaConstantFolder.select(Boolean.FALSE, "a", "b")).isEqualTo("b");
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, 16777217L, 1f)).isEqualTo(Float.valueOf(16777217L));
+    // assignment narrowing of constants
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, 'a', 0)).isEqualTo(Character.valueOf('a'));
+    assertThat(JavaConstantFolder.select(Boolean.FALSE, 'a', 98)).isEqualTo(Character.valueOf('b'));
+    assertThat(JavaConstantFolder.select(Boolean.FALSE, 'a', -1)).isEqualTo(Integer.valueOf(-1));
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, 'a', -1)).isEqualTo(Integer.valueOf('a'));
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, (byte) 1, 2)).isEqualTo(Byte.valueOf((byte) 1));
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, (byte) 1, 200)).isEqualTo(Integer.valueOf(1));
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, (byte) 1, (short) 2)).isEqualTo(Short.valueOf((short) 1));
+    assertThat(JavaConstantFolder.select(Boolean.FALSE, (short) 1, 1000)).isEqualTo(Short.valueOf((short) 1000));
+    assertThat(JavaConstantFolder.select(Boolean.TRUE, 'a', (byte) 1)).isEqualTo(Integer.valueOf('a'));
+    assertThat(JavaConstantFolder.select(Integer.valueOf(1), "a", "b")).isNull();
+  }
+
+}
@@ -0,0 +1,128 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.parser;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.mmm.code.api.arg.CodeParameter;
+import net.sf.mmm.code.api.member.CodeField;
+import net.sf.mmm.code.api.member.CodeMethod;
+import net.sf.mmm.code.api.modifier.CodeVisibility;
+import net.sf.mmm.code.api.type.CodeTypeCategory;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.parser.SourceCodeParser;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.impl.java.expression.literal.JavaLiteralInt;
+
+/**
+ * Test of {@link JavaSourceCodeParserAntlr}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class JavaSourceCodeParserAntlrTest extends JavaSourceCodeParserImplTest {
+
+  @Override
+  SourceCodeParser getParser() {
+
+    return JavaSourceCodeParserAntlr.get();
+  }
+
+  /**
+   * Test parsing source code that does not follow any formatting conventions.
+   */
+  @Test
+  public void testUnformatted() {
+
+    // given
+    String source = "package com.example;import java.util.List;/** Doc. */public class Foo<T extends Number>{"
+        + "private static final int MAX=-1;protected List<T> get(int[] a,String...b)throws Exception{int x=a[0];"
+        + "if(x>MAX){return null;}return null;}}";
+    BaseFile file = createFile("com.example.Foo");
+    // when
+    BaseType type = getParser().parseType(new StringReader(source), file);
+    // then
+    assertThat(type).isNotNull();
+    assertThat(type.getSimpleName()).isEqualTo("Foo");
+    assertThat(type.getCategory()).isSameAs(CodeTypeCategory.CLASS);
+    assertThat(type.getModifiers().getVisibility()).isSameAs(CodeVisibility.PUBLIC);
+    assertThat(type.getDoc().getLines()).containsExactly("Doc.");
+    assertThat(type.getTypeParameters().getDeclared()).hasSize(1);
+    CodeField field = type.getFields().getDeclared("MAX");
+    assertThat(field).isNotNull();
+    assertThat(field.getModifiers().getVisibility()).isSameAs(CodeVisibility.PRIVATE);
+    assertThat(field.getModifiers().getModifiers()).containsExactlyInAnyOrder("static", "final");
+    assertThat(field.getInitializer()).isInstanceOf(JavaLiteralInt.class);
+    assertThat(((JavaLiteralInt) field.getInitializer()).getValue()).isEqualTo(-1);
+    List<? extends CodeMethod> methods = type.getMethods().getDeclared();
+    assertThat(methods).hasSize(1);
+    CodeMethod method = methods.get(0);
+    assertThat(method.getName()).isEqualTo("get");
+    assertThat(method.getModifiers().getVisibility()).isSameAs(CodeVisibility.PROTECTED);
+    assertThat(method.getExceptions().getDeclared()).hasSize(1);
+    List<? extends CodeParameter> parameters = method.getParameters().getDeclared();
+    assertThat(parameters).hasSize(2);
+    assertThat(parameters.get(0).getName()).isEqualTo("a");
+    assertThat(parameters.get(0).isVarArgs()).isFalse();
+    assertThat(parameters.get(1).getName()).isEqualTo("b");
+    assertThat(parameters.get(1).isVarArgs()).isTrue();
+    assertThat(method.getBody().getStatements().stream().map(x -> x.toString())).containsExactly("int x=a[0];",
+        "if(x>MAX){return null;}", "return null;");
+  }
+
+  /**
+   * Test parsing a file with a secondary top-level type that is ignored including its nested types.
+   */
+  @Test
+  public void testSecondaryTopLevelType() {
+
+    // given
+    String source = "package com.example;\n\npublic class Foo {\n  private int foo;\n}\n\n"
+        + "class Secondary {\n  private int secondary;\n  static class Nested {\n    private int nested;\n  }\n"
+        + "  void run() {\n  }\n}\n";
+    BaseFile file = createFile("com.example.Foo");
+    // when
+    BaseType type = getParser().parseType(new StringReader(source), file);
+    // then
+    assertThat(type).isNotNull();
+    assertThat(type.getSimpleName()).isEqualTo("Foo");
+    assertThat(file.getTypes()).containsExactly(type);
+    assertThat(type.getFields().getDeclared()).extracting(CodeField::getName).containsExactly("foo");
+    assertThat(type.getMethods().getDeclared()).isEmpty();
+    assertThat(type.getNestedTypes().getDeclared()).isEmpty();
+  }
+
+  /**
+   * Test parsing an enum with constants that are modeled as fields.
+   */
+  @Test
+  public void testEnumConstants() {
+
+    // given
+    String source = "package com.example;\n\npublic enum Color {\n  // the first\n  RED(1),\n  @Deprecated\n  GREEN(2) {\n"
+        + "    @Override\n    int code() {\n      return 0;\n    }\n  },\n  BLUE(3);\n\n  private final int code;\n\n"
+        + "  private Color(int code) {\n    this.code = code;\n  }\n\n  int code() {\n    return this.code;\n  }\n}\n";
+    BaseFile file = createFile("com.example.Color");
+    // when
+    BaseType type = getParser().parseType(new StringReader(source), file);
+    // then
+    assertThat(type).isNotNull();
+    assertThat(type.getCategory()).isSameAs(CodeTypeCategory.ENUMERAION);
+    assertThat(type.getFields().getDeclared()).extracting(CodeField::getName).containsExactly("RED", "GREEN", "BLUE",
+        "code");
+    CodeField red = type.getFields().getDeclared("RED");
+    assertThat(red.getType()).isSameAs(type);
+    assertThat(red.getModifiers().getVisibility()).isSameAs(CodeVisibility.PUBLIC);
+    assertThat(red.getModifiers().getModifiers()).containsExactlyInAnyOrder("static", "final");
+    assertThat(red.getComment()).isNotNull();
+    CodeField green = type.getFields().getDeclared("GREEN");
+    assertThat(green.getAnnotations().getDeclared()).hasSize(1);
+    assertThat(green.getAnnotations().getDeclared().get(0).toString()).isEqualTo("@Deprecated");
+    assertThat(type.getMethods().getDeclared()).extracting(CodeMethod::getName).containsExactly("code");
+    assertThat(type.getConstructors().getDeclared()).hasSize(1);
+    assertThat(type.getNestedTypes().getDeclared()).isEmpty();
+  }
+
+}
@@ -0,0 +1,174 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.parser;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.code.api.member.CodeMethod;
+import net.sf.mmm.code.base.BaseFile;
+import net.sf.mmm.code.base.BasePackage;
+import net.sf.mmm.code.base.type.BaseType;
+import net.sf.mmm.code.impl.java.JavaRootContext;
+
+/**
+ * Test of the reader pool of {@link JavaSourceCodeParserImpl}.
+ */
+public class JavaSourceCodeParserImplPoolTest extends Assertions {
+
+  private static final int MAX_IDLE = 2;
+
+  private static final String OUTER_PREFIX = "Outer";
+
+  /**
+   * Test of {@link JavaSourceCodeParserImpl#parseType(Reader, BaseFile)} invoked concurrently and reentrantly (a
+   * nested parse while a reader is still in use).
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testParseConcurrentAndReentrant() throws Exception {
+
+    // given
+    BasePackage pkg = createPackage();
+    PoolParser parser = new PoolParser(pkg);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<BaseType>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        String simpleName = OUTER_PREFIX + i;
+        futures.add(executor.submit(() -> parse(parser, pkg, simpleName)));
+      }
+
+      // when
+      List<BaseType> types = new ArrayList<>();
+      for (Future<BaseType> future : futures) {
+        types.add(future.get());
+      }
+
+      // then
+      for (int i = 0; i < types.size(); i++) {
+        verifyType(types.get(i), OUTER_PREFIX + i);
+      }
+      for (int i = 0; i < types.size(); i++) {
+        verifyType(parser.innerTypes.get(OUTER_PREFIX + i), "Inner" + i);
+      }
+      assertThat(parser.maxIdleObserved.get()).isLessThanOrEqualTo(MAX_IDLE);
+      assertThat(parser.getIdleCount()).isBetween(1, MAX_IDLE);
+      // readers are reused: fewer readers created than files parsed
+      assertThat(parser.createdCount.get()).isLessThan(200);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test of {@link JavaSourceCodeParserImpl} with pooling disabled.
+   */
+  @Test
+  public void testParseWithoutPool() {
+
+    // given
+    BasePackage pkg = createPackage();
+    JavaSourceCodeParserImpl parser = new JavaSourceCodeParserImpl(0);
+
+    // when
+    BaseType type = parser.parseType(new StringReader(source("Foo", 42)), new BaseFile(pkg, "Foo"));
+
+    // then
+    verifyType(type, "Foo");
+    assertThat(parser.getIdleCount()).isZero();
+  }
+
+  private static BasePackage createPackage() {
+
+    BasePackage root = JavaRootContext.get().getSource().getRootPackage();
+    BasePackage com = new BasePackage(root, "com", null, null, false);
+    return new BasePackage(com, "example", null, null, false);
+  }
+
+  private static BaseType parse(JavaSourceCodeParserImpl parser, BasePackage pkg, String simpleName) {
+
+    int number = Integer.parseInt(simpleName.substring(OUTER_PREFIX.length()));
+    return parser.parseType(new StringReader(source(simpleName, number)), new BaseFile(pkg, simpleName));
+  }
+
+  private static String source(String simpleName, int number) {
+
+    return "package com.example;\n\npublic class " + simpleName + " {\n\n  public int get" + simpleName
+        + "() {\n\n    return " + number + ";\n  }\n}\n";
+  }
+
+  private static void verifyType(BaseType type, String simpleName) {
+
+    assertThat(type).isNotNull();
+    assertThat(type.getQualifiedName()).isEqualTo("com.example." + simpleName);
+    List<? extends CodeMethod> methods = type.getMethods().getDeclared();
+    assertThat(methods).hasSize(1);
+    assertThat(methods.get(0).getName()).isEqualTo("get" + simpleName);
+  }
+
+  /**
+   * {@link JavaSourceCodeParserImpl} that parses an inner file while parsing each outer file and tracks its pool.
+   */
+  private static class PoolParser extends JavaSourceCodeParserImpl {
+
+    private final BasePackage pkg;
+
+    private final Map<String, BaseType> innerTypes;
+
+    private final AtomicInteger createdCount;
+
+    private final AtomicInteger maxIdleObserved;
+
+    private PoolParser(BasePackage pkg) {
+
+      super(MAX_IDLE);
+      this.pkg = pkg;
+      this.innerTypes = new ConcurrentHashMap<>();
+      this.createdCount = new AtomicInteger();
+      this.maxIdleObserved = new AtomicInteger();
+    }
+
+    @Override
+    protected JavaSourceCodeReaderHighlevel createReader() {
+
+      this.createdCount.incrementAndGet();
+      return new JavaSourceCodeReaderHighlevel() {
+
+        @Override
+        public BaseType parse(Reader reader, BaseFile javaFile) {
+
+          String simpleName = javaFile.getSimpleName();
+          if (simpleName.startsWith(OUTER_PREFIX)) {
+            // reentrant parse while this reader is in use
+            String innerName = "Inner" + simpleName.substring(OUTER_PREFIX.length());
+            BaseType innerType = parseType(new StringReader(source(innerName, 0)), new BaseFile(PoolParser.this.pkg,
+                innerName));
+            PoolParser.this.innerTypes.put(simpleName, innerType);
+          }
+          return super.parse(reader, javaFile);
+        }
+      };
+    }
+
+    @Override
+    protected void releaseReader(JavaSourceCodeReaderHighlevel codeReader) {
+
+      super.releaseReader(codeReader);
+      this.maxIdleObserved.accumulateAndGet(getIdleCount(), Math::max);
+    }
+  }
+
+}
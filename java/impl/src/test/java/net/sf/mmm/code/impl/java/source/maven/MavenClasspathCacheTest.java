@@ -0,0 +1,68 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.source.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of {@link MavenClasspathCache}.
+ */
+public class MavenClasspathCacheTest extends Assertions {
+
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test of {@link MavenClasspathCache#save(Path, String)} and {@link MavenClasspathCache#load(Path, String)}.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testSaveAndLoad() throws IOException {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("cache").toPath();
+    Path pom = Files.createFile(directory.resolve("pom.xml"));
+    File pomFile = pom.toFile();
+    Map<File, Long> fileStamps = new LinkedHashMap<>();
+    fileStamps.put(pomFile, Long.valueOf(pomFile.lastModified()));
+    Map<String, File> reactorModules = new LinkedHashMap<>();
+    reactorModules.put("com.example:example:1.0", directory.toFile());
+    List<URL> dependencies = new ArrayList<>();
+    dependencies.add(new File(directory.toFile(), "target/classes").toURI().toURL());
+    dependencies.add(new File(directory.toFile(), "lib.jar").toURI().toURL());
+    Map<File, File> sourceLocations = new LinkedHashMap<>();
+    sourceLocations.put(new File(directory.toFile(), "lib.jar"), new File(directory.toFile(), "lib-sources.jar"));
+    sourceLocations.put(new File(directory.toFile(), "other.jar"), null);
+    MavenClasspathCache cache = new MavenClasspathCache(fileStamps, reactorModules, dependencies, sourceLocations);
+    Path cacheFile = directory.resolve("target").resolve(MavenClasspathCache.FILENAME);
+
+    // when
+    cache.save(cacheFile, "true:null");
+    MavenClasspathCache loaded = MavenClasspathCache.load(cacheFile, "true:null");
+
+    // then
+    assertThat(loaded).isNotNull();
+    assertThat(loaded.getReactorModules()).isEqualTo(reactorModules);
+    assertThat(loaded.getDependencies()).isEqualTo(dependencies);
+    assertThat(loaded.getSourceLocations()).isEqualTo(sourceLocations);
+    assertThat(MavenClasspathCache.load(cacheFile, "false:null")).isNull();
+    assertThat(pomFile.setLastModified(pomFile.lastModified() - 10000)).isTrue();
+    assertThat(MavenClasspathCache.load(cacheFile, "true:null")).isNull();
+  }
+
+}
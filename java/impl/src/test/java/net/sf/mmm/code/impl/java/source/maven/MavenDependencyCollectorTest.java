@@ -0,0 +1,459 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.impl.java.source.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.mmm.code.java.maven.api.DependencyHelper;
+import net.sf.mmm.code.java.maven.api.MavenBridge;
+import net.sf.mmm.code.java.maven.api.MavenConstants;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.model.Model;
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of {@link MavenDependencyCollector}.
+ */
+public class MavenDependencyCollectorTest extends Assertions {
+
+  private static final String GROUP_ID = "com.example";
+
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test of {@link MavenDependencyCollector#collect(Model)} with version mediation, dependency management, exclusions
+   * and pruning of optional and test dependencies while the POMs are loaded concurrently.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCollect() throws Exception {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("collector").toPath();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      StubMavenBridge bridge = createRepository(directory);
+      // a:1 is loaded slowly so the POMs of a level complete out of order
+      bridge.delayedPom = "a-1.pom";
+      Dependency b = DependencyHelper.create(GROUP_ID, "b", "1");
+      b.addExclusion(exclusion("f"));
+      Model project = bridge.createProject(directory, dependency("a", "1"), b,
+          DependencyHelper.create(GROUP_ID, "j", "1", MavenConstants.SCOPE_TEST));
+      DependencyManagement dependencyManagement = new DependencyManagement();
+      dependencyManagement.addDependency(dependency("g", "3"));
+      project.setDependencyManagement(dependencyManagement);
+      MavenDependencyCollector collector = new MavenDependencyCollector(bridge, false, false, null);
+      collector.setExecutor(executor);
+
+      // when
+      collector.collect(project);
+
+      // then
+      // c:1 is nearer than c:2, e:1 is declared before e:2, g is managed, f is excluded, h is optional, i and j are
+      // test dependencies
+      assertThat(collector.asUrls()).containsExactly(bridge.url("a-1.jar"), bridge.url("b-1.jar"),
+          bridge.url("c-1.jar"), bridge.url("e-1.jar"), bridge.url("g-3.jar"), bridge.url("d-1.jar"));
+
+      // and when
+      collector = new MavenDependencyCollector(bridge, true, false, null);
+      collector.setExecutor(executor);
+      collector.collect(project);
+
+      // then
+      // only the direct test dependency j is included but not the transitive test dependency i
+      assertThat(collector.asUrls()).containsExactly(bridge.url("a-1.jar"), bridge.url("b-1.jar"),
+          bridge.url("j-1.jar"), bridge.url("c-1.jar"), bridge.url("e-1.jar"), bridge.url("g-3.jar"),
+          bridge.url("d-1.jar"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test of {@link MavenDependencyCollector#collect(Model)} invoked for multiple projects that share the classpath but
+   * not the version mediation.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCollectMultipleProjects() throws Exception {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("collector").toPath();
+    StubMavenBridge bridge = createRepository(directory);
+    Dependency a = dependency("a", "1");
+    a.addExclusion(exclusion("c"));
+    Model project1 = bridge.createProject(directory.resolve("project1"), a);
+    Model project2 = bridge.createProject(directory.resolve("project2"), dependency("a", "1"));
+    MavenDependencyCollector collector = new MavenDependencyCollector(bridge, false, false, null);
+    collector.setExecutor(null);
+
+    // when
+    collector.collect(project1);
+    collector.collect(project2);
+
+    // then
+    assertThat(collector.asUrls()).containsExactly(bridge.url("a-1.jar"), bridge.url("e-1.jar"),
+        bridge.url("g-1.jar"), bridge.url("c-1.jar"));
+  }
+
+  /**
+   * Test of {@link MavenDependencyCollector#collect(Model)} if a POM can not be read concurrently.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCollectFailure() throws Exception {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("collector").toPath();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      StubMavenBridge bridge = createRepository(directory);
+      bridge.models.remove("b-1.pom");
+      Model project = bridge.createProject(directory, dependency("a", "1"), dependency("b", "1"));
+      MavenDependencyCollector collector = new MavenDependencyCollector(bridge, false, false, null);
+      collector.setExecutor(executor);
+
+      // when + then
+      assertThatThrownBy(() -> collector.collect(project)).isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("b-1.pom");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test of {@link MavenDependencyCollector#collect(Model)} with {@link MavenDependencyCollector#setUseCache(boolean)
+   * cache}.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCollectWithCache() throws Exception {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("collector").toPath();
+    StubMavenBridge bridge = createRepository(directory);
+    bridge.bom = new File(bridge.repository, "bom-1.pom");
+    Files.write(bridge.bom.toPath(), new byte[0]);
+    Model project = bridge.createProject(directory.resolve("project"), dependency("a", "1"), dependency("b", "1"));
+    URL[] expected = new URL[] { bridge.url("a-1.jar"), bridge.url("b-1.jar"), bridge.url("c-1.jar"),
+        bridge.url("e-1.jar"), bridge.url("g-1.jar"), bridge.url("d-1.jar"), bridge.url("f-1.jar") };
+
+    // when
+    URL[] urls = collectWithCache(bridge, project);
+
+    // then
+    assertThat(urls).containsExactly(expected);
+    int count = bridge.effectiveModelCount.get();
+    assertThat(count).isGreaterThan(0);
+    assertThat(directory.resolve("project/target").resolve(MavenClasspathCache.FILENAME)).isRegularFile();
+
+    // and when (cache hit)
+    urls = collectWithCache(bridge, project);
+
+    // then
+    assertThat(urls).containsExactly(expected);
+    assertThat(bridge.effectiveModelCount.get()).isEqualTo(count);
+
+    // and when (POM of dependency touched)
+    touch(new File(bridge.repository, "a-1.pom"));
+    urls = collectWithCache(bridge, project);
+
+    // then
+    assertThat(urls).containsExactly(expected);
+    assertThat(bridge.effectiveModelCount.get()).isGreaterThan(count);
+    count = bridge.effectiveModelCount.get();
+
+    // and when (imported BOM touched)
+    touch(bridge.bom);
+    urls = collectWithCache(bridge, project);
+
+    // then
+    assertThat(urls).containsExactly(expected);
+    assertThat(bridge.effectiveModelCount.get()).isGreaterThan(count);
+    count = bridge.effectiveModelCount.get();
+
+    // and when (artifact deleted)
+    Files.delete(directory.resolve("repository/e-1.jar"));
+    urls = collectWithCache(bridge, project);
+
+    // then
+    assertThat(urls).containsExactly(bridge.url("a-1.jar"), bridge.url("b-1.jar"), bridge.url("c-1.jar"),
+        bridge.url("g-1.jar"), bridge.url("d-1.jar"), bridge.url("f-1.jar"));
+    assertThat(bridge.effectiveModelCount.get()).isGreaterThan(count);
+  }
+
+  /**
+   * Test of {@link MavenDependencyCollector#getSourceLocations()} with
+   * {@link MavenDependencyCollector#setUseCache(boolean) cache} that artifacts without sources are not cached.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCollectWithCacheSources() throws Exception {
+
+    // given
+    Path directory = this.temporaryFolder.newFolder("collector").toPath();
+    StubMavenBridge bridge = createRepository(directory);
+    File artifactA = new File(bridge.repository, "a-1.jar");
+    File sourcesA = new File(bridge.repository, "a-1-sources.jar");
+    Files.write(sourcesA.toPath(), new byte[0]);
+    File artifactB = new File(bridge.repository, "b-1.jar");
+    Model project = bridge.createProject(directory.resolve("project"), dependency("a", "1"), dependency("b", "1"));
+
+    // when
+    Map<File, File> sourceLocations = collectorWithCache(bridge, project).getSourceLocations();
+
+    // then
+    assertThat(sourceLocations).containsEntry(artifactA, sourcesA).doesNotContainKey(artifactB);
+    int count = bridge.effectiveModelCount.get();
+
+    // and when (sources downloaded later, cache hit)
+    Files.write(new File(bridge.repository, "b-1-sources.jar").toPath(), new byte[0]);
+    sourceLocations = collectorWithCache(bridge, project).getSourceLocations();
+
+    // then
+    assertThat(bridge.effectiveModelCount.get()).isEqualTo(count);
+    assertThat(sourceLocations).containsEntry(artifactA, sourcesA).doesNotContainKey(artifactB);
+  }
+
+  private static URL[] collectWithCache(StubMavenBridge bridge, Model project) {
+
+    return collectorWithCache(bridge, project).asUrls();
+  }
+
+  private static MavenDependencyCollector collectorWithCache(StubMavenBridge bridge, Model project) {
+
+    MavenDependencyCollector collector = new MavenDependencyCollector(bridge, false, true, null);
+    collector.setExecutor(null);
+    collector.setUseCache(true);
+    collector.collect(project);
+    return collector;
+  }
+
+  private static void touch(File file) {
+
+    assertThat(file.setLastModified(file.lastModified() - 10000)).isTrue();
+  }
+
+  private static StubMavenBridge createRepository(Path directory) throws IOException {
+
+    StubMavenBridge bridge = new StubMavenBridge(directory.resolve("repository").toFile());
+    bridge.add("a", "1", dependency("c", "1"), dependency("e", "1"), dependency("g", "1"), optional("h", "1"),
+        DependencyHelper.create(GROUP_ID, "i", "1", MavenConstants.SCOPE_TEST));
+    bridge.add("b", "1", dependency("d", "1"), dependency("e", "2"), dependency("f", "1"));
+    bridge.add("c", "1");
+    bridge.add("c", "2");
+    bridge.add("d", "1", dependency("c", "2"));
+    bridge.add("e", "1");
+    bridge.add("e", "2");
+    bridge.add("f", "1");
+    bridge.add("g", "1");
+    bridge.add("g", "3");
+    bridge.add("h", "1");
+    bridge.add("i", "1");
+    bridge.add("j", "1");
+    return bridge;
+  }
+
+  private static Dependency dependency(String artifactId, String version) {
+
+    return DependencyHelper.create(GROUP_ID, artifactId, version);
+  }
+
+  private static Dependency optional(String artifactId, String version) {
+
+    Dependency dependency = dependency(artifactId, version);
+    dependency.setOptional(true);
+    return dependency;
+  }
+
+  private static Exclusion exclusion(String artifactId) {
+
+    Exclusion exclusion = new Exclusion();
+    exclusion.setGroupId(GROUP_ID);
+    exclusion.setArtifactId(artifactId);
+    return exclusion;
+  }
+
+  /**
+   * Implementation of {@link MavenBridge} for a flat local repository with in-memory {@link Model}s.
+   */
+  static class StubMavenBridge implements MavenBridge {
+
+    final File repository;
+
+    final Map<String, Model> models;
+
+    final AtomicInteger effectiveModelCount;
+
+    volatile String delayedPom;
+
+    volatile File bom;
+
+    /**
+     * The constructor.
+     *
+     * @param repository the directory of the local repository.
+     */
+    StubMavenBridge(File repository) {
+
+      super();
+      this.repository = repository;
+      this.models = new ConcurrentHashMap<>();
+      this.effectiveModelCount = new AtomicInteger();
+      repository.mkdirs();
+    }
+
+    /**
+     * Adds an artifact with its POM to the repository.
+     *
+     * @param artifactId the {@link Model#getArtifactId() artifactId}.
+     * @param version the {@link Model#getVersion() version}.
+     * @param dependencies the {@link Model#getDependencies() dependencies}.
+     * @return the {@link Model} of the artifact.
+     * @throws IOException on error.
+     */
+    Model add(String artifactId, String version, Dependency... dependencies) throws IOException {
+
+      Model model = createModel(artifactId, version, dependencies);
+      String name = artifactId + "-" + version;
+      File pomFile = new File(this.repository, name + ".pom");
+      Files.write(pomFile.toPath(), new byte[0]);
+      Files.write(new File(this.repository, name + ".jar").toPath(), new byte[0]);
+      model.setPomFile(pomFile);
+      this.models.put(pomFile.getName(), model);
+      return model;
+    }
+
+    /**
+     * @param directory the base directory of the project.
+     * @param dependencies the {@link Model#getDependencies() dependencies}.
+     * @return the {@link Model} of the project.
+     * @throws IOException on error.
+     */
+    Model createProject(Path directory, Dependency... dependencies) throws IOException {
+
+      Files.createDirectories(directory);
+      Path pomFile = directory.resolve("pom.xml");
+      if (!Files.exists(pomFile)) {
+        Files.createFile(pomFile);
+      }
+      Model model = createModel(directory.getFileName().toString(), "1", dependencies);
+      model.setPomFile(pomFile.toFile());
+      return model;
+    }
+
+    private static Model createModel(String artifactId, String version, Dependency... dependencies) {
+
+      Model model = new Model();
+      model.setGroupId(GROUP_ID);
+      model.setArtifactId(artifactId);
+      model.setVersion(version);
+      for (Dependency dependency : dependencies) {
+        model.addDependency(dependency);
+      }
+      return model;
+    }
+
+    /**
+     * @param name the name of a file in the repository.
+     * @return the {@link URL} of the file.
+     * @throws IOException on error.
+     */
+    URL url(String name) throws IOException {
+
+      return new File(this.repository, name).toURI().toURL();
+    }
+
+    @Override
+    public File findPom(File source) {
+
+      if (source.isDirectory()) {
+        return new File(source, "pom.xml");
+      }
+      return source;
+    }
+
+    @Override
+    public File findPom(Dependency dependency) {
+
+      return new File(this.repository, dependency.getArtifactId() + "-" + dependency.getVersion() + ".pom");
+    }
+
+    @Override
+    public File findArtifact(Dependency dependency) {
+
+      return new File(this.repository, dependency.getArtifactId() + "-" + dependency.getVersion() + ".jar");
+    }
+
+    @Override
+    public File findArtifactSources(File artifact) {
+
+      String name = artifact.getName();
+      File sources = new File(artifact.getParentFile(), name.substring(0, name.lastIndexOf('.')) + "-sources.jar");
+      if (sources.isFile()) {
+        return sources;
+      }
+      return null;
+    }
+
+    @Override
+    public Model readModel(File pomFile) {
+
+      Model model = this.models.get(pomFile.getName());
+      if (model == null) {
+        throw new IllegalStateException("Failed to read " + pomFile);
+      }
+      return model;
+    }
+
+    @Override
+    public Model readEffectiveModel(File pomFile) {
+
+      this.effectiveModelCount.incrementAndGet();
+      if (pomFile.getName().equals(this.delayedPom)) {
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return readModel(pomFile);
+    }
+
+    @Override
+    public Collection<File> getModelFiles(File pomFile) {
+
+      if (this.bom == null) {
+        return Collections.singleton(pomFile);
+      }
+      // every POM imports the BOM
+      return Arrays.asList(pomFile, this.bom);
+    }
+  }
+
+}
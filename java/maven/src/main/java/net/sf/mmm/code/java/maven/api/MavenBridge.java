@@ -3,6 +3,8 @@
 package net.sf.mmm.code.java.maven.api;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
@@ -51,9 +53,23 @@ public interface MavenBridge {
 
   /**
    * @param pomFile the {@link File} pointing to the maven {@code pom.xml} file to parse.
-   * @return the effective {@link Model} of the parsed POM with variables resolved and parent inheritance.
+   * @return the effective {@link Model} of the parsed POM with variables resolved and parent inheritance or
+   *         {@code null} if the POM could not be built. Implementations may cache and share the result so it must
+   *         not be modified.
    * @see #readModel(File)
    */
   Model readEffectiveModel(File pomFile);
 
+  /**
+   * @param pomFile the {@link File} pointing to the maven {@code pom.xml} file of an {@link #readEffectiveModel(File)
+   *        effective model}.
+   * @return the {@link Collection} of {@link File}s the effective {@link Model} has been built from. Besides the given
+   *         POM these are its parent POMs, imported BOMs and configuration files if known (the default is only the
+   *         given POM). Used to detect when the effective {@link Model} gets outdated.
+   */
+  default Collection<File> getModelFiles(File pomFile) {
+
+    return Collections.singleton(pomFile);
+  }
+
 }
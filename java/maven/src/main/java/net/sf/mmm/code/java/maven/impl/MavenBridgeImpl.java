@@ -7,8 +7,14 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,19 +26,25 @@ import net.sf.mmm.util.xml.base.XmlInvalidException;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
-import org.apache.maven.model.building.DefaultModelBuilder;
 import org.apache.maven.model.building.DefaultModelBuilderFactory;
 import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuilder;
 import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.model.building.ModelBuildingResult;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implementation of {@link MavenBridge}.
+ * Implementation of {@link MavenBridge}. It uses a single {@link ModelBuilder} for all builds and caches
+ * {@link #readEffectiveModel(File) effective models} by the path of the POM. A cached model is reused as long as the
+ * {@link File#lastModified() modification time} of its POM, of all its parent POMs, of the imported BOMs and of the
+ * {@code .mvn/maven.config} files is unchanged. Released parent POMs and imported BOMs from the local repository as
+ * well as the {@code .mvn/maven.config} files are also only read once.
+ * The instance is thread-safe.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -46,10 +58,21 @@ public class MavenBridgeImpl implements MavenBridge, MavenConstants {
 
   private static final MavenBridgeImpl INSTANCE = new MavenBridgeImpl();
 
+  /** The tag of the {@link ModelCache} for imported BOMs. */
+  private static final String TAG_IMPORT = "import";
+
   private final MavenXpp3Reader pomReader;
 
   private final MavenResolver resolver;
 
+  private final ModelBuilder modelBuilder;
+
+  private final MavenModelCache modelCache;
+
+  private final Map<File, EffectiveModel> effectiveModelCache;
+
+  private final Map<File, MavenConfig> configCache;
+
   /**
    * The constructor.
    */
@@ -72,6 +95,10 @@ public class MavenBridgeImpl implements MavenBridge, MavenConstants {
       localRepo = MavenLocalRepositoryLocator.getLocalRepository(this);
     }
     this.resolver = new MavenResolver(localRepo);
+    this.modelBuilder = new DefaultModelBuilderFactory().newInstance();
+    this.modelCache = new MavenModelCache();
+    this.effectiveModelCache = new ConcurrentHashMap<>();
+    this.configCache = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -175,42 +202,109 @@ public class MavenBridgeImpl implements MavenBridge, MavenConstants {
   @Override
   public Model readEffectiveModel(File pomFile) {
 
+    File pom = pomFile.getAbsoluteFile();
+    EffectiveModel cached = this.effectiveModelCache.get(pom);
+    if ((cached != null) && cached.isUpToDate()) {
+      LOG.trace("Using cached effective model of {}", pom);
+      return cached.model;
+    }
+    Map<File, Long> stamps = new LinkedHashMap<>();
+    stamps.put(pom, Long.valueOf(pom.lastModified()));
     LOG.debug("Reading effective model of {}", pomFile);
+    Model model;
     try {
       Properties properties = System.getProperties();
-      properties = resolveProperties(properties, pomFile.getAbsoluteFile().getParentFile());
+      properties = resolveProperties(properties, pom.getParentFile(), stamps);
       ModelBuildingRequest buildingRequest = new DefaultModelBuildingRequest().setSystemProperties(properties)
-          .setPomFile(pomFile).setModelResolver(this.resolver);
-      DefaultModelBuilder defaultModelBuilder = new DefaultModelBuilderFactory().newInstance();
-      ModelBuildingResult buildingResult = defaultModelBuilder.build(buildingRequest);
-      return buildingResult.getEffectiveModel();
+          .setPomFile(pomFile).setModelResolver(this.resolver).setModelCache(new BuildModelCache(stamps));
+      ModelBuildingResult buildingResult = this.modelBuilder.build(buildingRequest);
+      model = buildingResult.getEffectiveModel();
+      addParents(buildingResult, stamps);
     } catch (ModelBuildingException e) {
       LOG.error("Failed to parse POM {}", pomFile, e);
+      // failures are not cached as e.g. a missing parent may be installed at any time
+      this.effectiveModelCache.remove(pom);
       return null;
     }
+    EffectiveModel effectiveModel = new EffectiveModel(model, stamps);
+    this.effectiveModelCache.put(pom, effectiveModel);
+    return model;
   }
 
-  private Properties resolveProperties(Properties properties, File projectBaseDir) {
+  @Override
+  public Collection<File> getModelFiles(File pomFile) {
 
-    try {
-      File mvnDir = new File(projectBaseDir, ".mvn");
-      if (mvnDir.isDirectory()) {
-        File mvnConfig = new File(mvnDir, "maven.config");
-        if (mvnConfig.isFile()) {
-          properties = new Properties(properties);
-          List<String> lines = Files.readAllLines(mvnConfig.toPath());
-          for (String line : lines) {
-            resolveProperties(properties, line.trim());
+    EffectiveModel cached = this.effectiveModelCache.get(pomFile.getAbsoluteFile());
+    if (cached == null) {
+      return Collections.singleton(pomFile);
+    }
+    return Collections.unmodifiableList(Arrays.asList(cached.files));
+  }
+
+  private void addParents(ModelBuildingResult buildingResult, Map<File, Long> stamps) {
+
+    List<String> modelIds = buildingResult.getModelIds();
+    // first is the project itself, last the super POM
+    for (int i = 1; i < modelIds.size(); i++) {
+      String modelId = modelIds.get(i);
+      Model rawModel = buildingResult.getRawModel(modelId);
+      if (rawModel != null) {
+        File parentPom = rawModel.getPomFile();
+        if (parentPom != null) {
+          stamps.put(parentPom, Long.valueOf(parentPom.lastModified()));
+          if (!this.resolver.isInLocalRepository(parentPom)) {
+            // a local parent may be edited at any time so it must not be reused by other builds
+            this.modelCache.evict(modelId);
           }
         }
       }
-      File parent = projectBaseDir.getParentFile();
-      if (parent != null) {
-        return resolveProperties(properties, parent);
+    }
+  }
+
+  /**
+   * Clears all cached models so that subsequent calls of {@link #readEffectiveModel(File)} will read all POMs again.
+   * Only required if artifacts in the local repository have been replaced (e.g. for a new {@code SNAPSHOT} build).
+   */
+  public void clearCache() {
+
+    this.effectiveModelCache.clear();
+    this.modelCache.clear();
+    this.configCache.clear();
+  }
+
+  private Properties resolveProperties(Properties properties, File projectBaseDir, Map<File, Long> stamps) {
+
+    File mvnConfig = new File(new File(projectBaseDir, ".mvn"), "maven.config");
+    long lastModified = mvnConfig.lastModified();
+    // also stamp missing config so its creation is detected
+    stamps.put(mvnConfig, Long.valueOf(lastModified));
+    if (lastModified != 0) {
+      MavenConfig config = this.configCache.get(mvnConfig);
+      if ((config == null) || (config.lastModified != lastModified)) {
+        config = readConfig(mvnConfig, lastModified);
+        this.configCache.put(mvnConfig, config);
+      }
+      properties = new Properties(properties);
+      properties.putAll(config.properties);
+    }
+    File parent = projectBaseDir.getParentFile();
+    if (parent != null) {
+      return resolveProperties(properties, parent, stamps);
+    }
+    return properties;
+  }
+
+  private MavenConfig readConfig(File mvnConfig, long lastModified) {
+
+    try {
+      Properties properties = new Properties();
+      List<String> lines = Files.readAllLines(mvnConfig.toPath());
+      for (String line : lines) {
+        resolveProperties(properties, line.trim());
       }
-      return properties;
+      return new MavenConfig(properties, lastModified);
     } catch (IOException e) {
-      throw new IllegalStateException("Error reading maven.config from " + projectBaseDir, e);
+      throw new IllegalStateException("Error reading " + mvnConfig, e);
     }
   }
 
@@ -232,4 +326,90 @@ public class MavenBridgeImpl implements MavenBridge, MavenConstants {
     return INSTANCE;
   }
 
+  /**
+   * Container for a cached effective {@link Model} together with the POM and {@code maven.config} files it has been
+   * built from.
+   */
+  private static class EffectiveModel {
+
+    private final Model model;
+
+    private final File[] files;
+
+    private final long[] lastModified;
+
+    private EffectiveModel(Model model, Map<File, Long> stamps) {
+
+      super();
+      this.model = model;
+      int size = stamps.size();
+      this.files = new File[size];
+      this.lastModified = new long[size];
+      int i = 0;
+      for (Map.Entry<File, Long> entry : stamps.entrySet()) {
+        this.files[i] = entry.getKey();
+        this.lastModified[i] = entry.getValue().longValue();
+        i++;
+      }
+    }
+
+    private boolean isUpToDate() {
+
+      for (int i = 0; i < this.files.length; i++) {
+        if (this.files[i].lastModified() != this.lastModified[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * View on the shared {@link MavenModelCache} for a single build that records the POMs of the imported BOMs. They
+   * are always looked up in the cache before they are resolved so they are also recorded for cache hits.
+   */
+  private class BuildModelCache implements ModelCache {
+
+    private final Map<File, Long> stamps;
+
+    private BuildModelCache(Map<File, Long> stamps) {
+
+      super();
+      this.stamps = stamps;
+    }
+
+    @Override
+    public void put(String groupId, String artifactId, String version, String tag, Object data) {
+
+      MavenBridgeImpl.this.modelCache.put(groupId, artifactId, version, tag, data);
+    }
+
+    @Override
+    public Object get(String groupId, String artifactId, String version, String tag) {
+
+      if (TAG_IMPORT.equals(tag)) {
+        File bom = MavenBridgeImpl.this.resolver.resolvePom(groupId, artifactId, version);
+        this.stamps.put(bom, Long.valueOf(bom.lastModified()));
+      }
+      return MavenBridgeImpl.this.modelCache.get(groupId, artifactId, version, tag);
+    }
+  }
+
+  /**
+   * Container for the cached {@link Properties} of a {@code .mvn/maven.config} file.
+   */
+  private static class MavenConfig {
+
+    private final Properties properties;
+
+    private final long lastModified;
+
+    private MavenConfig(Properties properties, long lastModified) {
+
+      super();
+      this.properties = properties;
+      this.lastModified = lastModified;
+    }
+  }
+
 }
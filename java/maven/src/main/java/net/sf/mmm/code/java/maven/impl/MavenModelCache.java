@@ -0,0 +1,75 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.code.java.maven.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.model.building.ModelCache;
+
+/**
+ * Implementation of {@link ModelCache} based on a {@link ConcurrentHashMap}. It is shared by all builds of a
+ * {@link MavenBridgeImpl} so parent POMs and imported BOMs from the local repository are only read and resolved once.
+ * Entries of {@code SNAPSHOT} versions are not cached as they may be replaced by a new build. Parent POMs read from
+ * the local file system (e.g. the parent of a reactor) may also change at any time and are therefore
+ * {@link #evict(String) evicted} by {@link MavenBridgeImpl} after each build.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 1.0.0
+ */
+class MavenModelCache implements ModelCache {
+
+  private static final String SNAPSHOT = "SNAPSHOT";
+
+  private final Map<String, Object> map;
+
+  /**
+   * The constructor.
+   */
+  MavenModelCache() {
+
+    super();
+    this.map = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void put(String groupId, String artifactId, String version, String tag, Object data) {
+
+    if ((version == null) || version.endsWith(SNAPSHOT)) {
+      return;
+    }
+    this.map.put(getKey(groupId, artifactId, version, tag), data);
+  }
+
+  @Override
+  public Object get(String groupId, String artifactId, String version, String tag) {
+
+    return this.map.get(getKey(groupId, artifactId, version, tag));
+  }
+
+  /**
+   * Removes the entries of the given model for all tags.
+   *
+   * @param modelId the ID of the model in the form "«groupId»:«artifactId»:«version»" as in
+   *        {@link org.apache.maven.model.building.ModelBuildingResult#getModelIds()}.
+   */
+  void evict(String modelId) {
+
+    String prefix = modelId + ':';
+    this.map.keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  /**
+   * Removes all cached entries.
+   */
+  void clear() {
+
+    this.map.clear();
+  }
+
+  private static String getKey(String groupId, String artifactId, String version, String tag) {
+
+    return groupId + ':' + artifactId + ':' + version + ':' + tag;
+  }
+
+}
@@ -50,15 +50,30 @@ public class MavenResolver implements ModelResolver, MavenConstants {
   @Override
   public ModelSource resolveModel(String groupId, String artifactId, String version) {
 
-    File pomFile = resolveFile(groupId, artifactId, version, null, TYPE_POM);
+    File pomFile = resolvePom(groupId, artifactId, version);
     return new FileModelSource(pomFile);
   }
 
+  /**
+   * @param file the {@link File} to check.
+   * @return {@code true} if the given {@link File} is located in the local repository, {@code false} otherwise (e.g.
+   *         a POM of a local project).
+   */
+  boolean isInLocalRepository(File file) {
+
+    return file.getAbsolutePath().startsWith(this.localRepository.getAbsolutePath() + File.separator);
+  }
+
   File resolveArtifact(Dependency dependency) {
 
     return resolveFile(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getClassifier(), dependency.getType());
   }
 
+  File resolvePom(String groupId, String artifactId, String version) {
+
+    return resolveFile(groupId, artifactId, version, null, TYPE_POM);
+  }
+
   File resolvePom(Dependency dependency) {
 
     return resolveFile(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getClassifier(), TYPE_POM);
@@ -3,6 +3,10 @@
 package net.sf.mmm.code.java.maven.impl;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -15,7 +19,9 @@ import net.sf.mmm.code.java.maven.api.MavenConstants;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.assertj.core.api.Assertions;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test of {@link MavenBridgeImpl}.
@@ -26,6 +32,10 @@ public class MavenBridgeImplTest extends Assertions implements MavenConstants {
 
   private static final Pattern VERSION_PATTERN = Pattern.compile("[0-9]+(\\.[0-9]+)*(-beta[0-9]+)?(-SNAPSHOT)?");
 
+  /** The {@link TemporaryFolder} for the files created by the tests. */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /**
    * Test of {@link MavenBridgeImpl#readModel(File)}
    */
@@ -72,6 +82,113 @@ public class MavenBridgeImplTest extends Assertions implements MavenConstants {
         DependencyHelper.create("org.apache.maven", "maven-core", "3.6.1"));
   }
 
+  /**
+   * Test of {@link MavenBridgeImpl#readEffectiveModel(File)} that the effective model is cached.
+   */
+  @Test
+  public void testReadEffectiveModelCached() {
+
+    // given
+    MavenBridgeImpl reader = new MavenBridgeImpl();
+
+    // when
+    Model model = reader.readEffectiveModel(POM_XML);
+
+    // then
+    assertThat(model).isNotNull();
+    assertThat(reader.readEffectiveModel(POM_XML.getAbsoluteFile())).isSameAs(model);
+    reader.clearCache();
+    Model rebuilt = reader.readEffectiveModel(POM_XML);
+    assertThat(rebuilt).isNotSameAs(model);
+    assertThat(rebuilt.getVersion()).isEqualTo(model.getVersion());
+  }
+
+  /**
+   * Test of {@link MavenBridgeImpl#readEffectiveModel(File)} that a cached effective model is rebuilt with the new
+   * content of a local parent POM or {@code maven.config} after it has been edited.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testReadEffectiveModelAfterParentChange() throws IOException {
+
+    // given
+    Path root = this.temporaryFolder.newFolder("maven").toPath();
+    Path repository = Files.createDirectory(root.resolve("repository"));
+    Path parentPom = root.resolve(POM_XML.getName());
+    writeParentPom(parentPom, "1");
+    Path childDirectory = Files.createDirectory(root.resolve("child"));
+    File childPom = childDirectory.resolve(POM_XML.getName()).toFile();
+    write(childPom.toPath(), "<project>\n  <modelVersion>4.0.0</modelVersion>\n  <parent>\n"
+        + "    <groupId>com.example</groupId>\n    <artifactId>parent</artifactId>\n    <version>1.0</version>\n"
+        + "  </parent>\n  <artifactId>child</artifactId>\n  <name>${bar}</name>\n</project>\n");
+    MavenBridgeImpl reader = new MavenBridgeImpl(repository.toFile());
+    Model model = reader.readEffectiveModel(childPom);
+    assertThat(model.getProperties().getProperty("foo")).isEqualTo("1");
+    assertThat(reader.readEffectiveModel(childPom)).isSameAs(model);
+
+    // when
+    long lastModified = parentPom.toFile().lastModified();
+    writeParentPom(parentPom, "2");
+    assertThat(parentPom.toFile().setLastModified(lastModified + 2000)).isTrue();
+    Model rebuilt = reader.readEffectiveModel(childPom);
+
+    // then
+    assertThat(rebuilt).isNotSameAs(model);
+    assertThat(rebuilt.getProperties().getProperty("foo")).isEqualTo("2");
+
+    // and when
+    Path mvnConfig = Files.createDirectory(childDirectory.resolve(".mvn")).resolve("maven.config");
+    write(mvnConfig, "-Dbar=configured\n");
+    Model configured = reader.readEffectiveModel(childPom);
+
+    // then
+    assertThat(configured).isNotSameAs(rebuilt);
+    assertThat(configured.getName()).isEqualTo("configured");
+  }
+
+  /**
+   * Test of {@link MavenBridgeImpl#readEffectiveModel(File)} that a POM whose parent is missing is built again after
+   * the parent has been installed.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testReadEffectiveModelAfterParentInstalled() throws IOException {
+
+    // given
+    Path root = this.temporaryFolder.newFolder("maven").toPath();
+    Path repository = Files.createDirectory(root.resolve("repository"));
+    Path childDirectory = Files.createDirectory(root.resolve("child"));
+    File childPom = childDirectory.resolve(POM_XML.getName()).toFile();
+    write(childPom.toPath(), "<project>\n  <modelVersion>4.0.0</modelVersion>\n  <parent>\n"
+        + "    <groupId>com.example</groupId>\n    <artifactId>parent</artifactId>\n    <version>1.0</version>\n"
+        + "  </parent>\n  <artifactId>child</artifactId>\n</project>\n");
+    MavenBridgeImpl reader = new MavenBridgeImpl(repository.toFile());
+    assertThat(reader.readEffectiveModel(childPom)).isNull();
+
+    // when
+    Path parentFolder = Files.createDirectories(repository.resolve("com/example/parent/1.0"));
+    writeParentPom(parentFolder.resolve("parent-1.0.pom"), "installed");
+    Model model = reader.readEffectiveModel(childPom);
+
+    // then
+    assertThat(model).isNotNull();
+    assertThat(model.getProperties().getProperty("foo")).isEqualTo("installed");
+  }
+
+  private static void writeParentPom(Path pom, String foo) throws IOException {
+
+    write(pom, "<project>\n  <modelVersion>4.0.0</modelVersion>\n  <groupId>com.example</groupId>\n"
+        + "  <artifactId>parent</artifactId>\n  <version>1.0</version>\n  <packaging>pom</packaging>\n"
+        + "  <properties>\n    <foo>" + foo + "</foo>\n  </properties>\n</project>\n");
+  }
+
+  private static void write(Path file, String content) throws IOException {
+
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
   private void verifyDependencies(Model model, Dependency... dependencies) {
 
     List<Dependency> dependenciesList = Arrays.asList(dependencies);
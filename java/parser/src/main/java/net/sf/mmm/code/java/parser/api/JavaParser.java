@@ -6,28 +6,41 @@ import java.io.IOException;
 import java.io.Reader;
 import java.nio.file.Path;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import net.sf.mmm.code.java.parser.base.JavaSourceCodeLexer;
 import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser;
 import net.sf.mmm.code.java.parser.base.JavaSourceCodeParser.CompilationUnitContext;
-import net.sf.mmm.code.java.parser.base.JavaSourceCodeParserListenerImpl;
 import net.sf.mmm.util.io.api.IoMode;
 import net.sf.mmm.util.io.api.RuntimeIoException;
 
 /**
  * This is the front-end (API entry point) for a parser that can read Java source code and return it as
  * abstract syntax tree. Unlike many other existing parsers it also includes JavaDoc. For a high-level API you
- * most probably want to use {@code net.sf.mmm.code.impl.java.JavaContext} instead.
+ * most probably want to use {@code net.sf.mmm.code.impl.java.JavaContext} instead.<br>
+ * Parsing is done in two stages: First the fast {@link PredictionMode#SLL SLL} prediction is used that bails
+ * out on the first syntax error. Only in that case the input is parsed again with full {@link PredictionMode#LL
+ * LL} prediction and error recovery so errors are reported precisely and a (partial) tree is still returned. As
+ * the DFA cache of {@link JavaSourceCodeParser} is static, it is shared by all parsers across all threads and
+ * warms up with every parsed file.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class JavaParser {
 
+  /**
+   * @param filename the path to the file to parse.
+   * @return the parsed {@link CompilationUnitContext}.
+   */
   public static CompilationUnitContext parse(String filename) {
 
     try {
@@ -38,6 +51,10 @@ public class JavaParser {
     }
   }
 
+  /**
+   * @param file the {@link Path} to the file to parse.
+   * @return the parsed {@link CompilationUnitContext}.
+   */
   public static CompilationUnitContext parse(Path file) {
 
     try {
@@ -48,6 +65,11 @@ public class JavaParser {
     }
   }
 
+  /**
+   * @param reader the {@link Reader} to read the source code from.
+   * @param sourceName the name of the source (e.g. the filename) used for error reporting.
+   * @return the parsed {@link CompilationUnitContext}.
+   */
   public static CompilationUnitContext parse(Reader reader, String sourceName) {
 
     try {
@@ -58,13 +80,51 @@ public class JavaParser {
     }
   }
 
+  /**
+   * @param charStream the {@link CharStream} to parse.
+   * @return the parsed {@link CompilationUnitContext}. Syntax errors are reported to the console.
+   */
   public static CompilationUnitContext parse(CharStream charStream) {
 
+    return parse(charStream, ConsoleErrorListener.INSTANCE);
+  }
+
+  /**
+   * @param charStream the {@link CharStream} to parse.
+   * @param errorListener the {@link ANTLRErrorListener} that receives syntax errors.
+   * @return the parsed {@link CompilationUnitContext}. In case of syntax errors it may be incomplete.
+   */
+  public static CompilationUnitContext parse(CharStream charStream, ANTLRErrorListener errorListener) {
+
     JavaSourceCodeLexer lexer = new JavaSourceCodeLexer(charStream);
-    JavaSourceCodeParser parser = new JavaSourceCodeParser(new CommonTokenStream(lexer));
-    CompilationUnitContext compilationUnit = parser.compilationUnit();
-    ParseTreeWalker.DEFAULT.walk(new JavaSourceCodeParserListenerImpl(), compilationUnit);
-    return compilationUnit;
+    lexer.removeErrorListeners();
+    lexer.addErrorListener(errorListener);
+    return parse(new CommonTokenStream(lexer), errorListener);
+  }
+
+  /**
+   * @param tokens the {@link CommonTokenStream} to parse. Use this method if you need access to the hidden tokens
+   *        (comments) after parsing.
+   * @param errorListener the {@link ANTLRErrorListener} that receives syntax errors.
+   * @return the parsed {@link CompilationUnitContext}. In case of syntax errors it may be incomplete.
+   */
+  public static CompilationUnitContext parse(CommonTokenStream tokens, ANTLRErrorListener errorListener) {
+
+    JavaSourceCodeParser parser = new JavaSourceCodeParser(tokens);
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      return parser.compilationUnit();
+    } catch (ParseCancellationException e) {
+      // SLL is not sufficient or the input is invalid, retry with full LL
+      tokens.seek(0);
+      parser.reset();
+      parser.addErrorListener(errorListener);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return parser.compilationUnit();
+    }
   }
 
 }